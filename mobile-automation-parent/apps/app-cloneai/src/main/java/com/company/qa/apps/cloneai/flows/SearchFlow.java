@@ -4,28 +4,26 @@ import com.company.qa.apps.cloneai.screens.HomeScreen;
 import com.company.qa.apps.cloneai.screens.SearchResultsScreen;
 import com.company.qa.core.base.BaseFlow;
 
+import java.util.Collections;
+
 public class SearchFlow extends BaseFlow {
 
     private final HomeScreen homeScreen;
-    private final SearchResultsScreen searchResultsScreen;
 
     public SearchFlow() {
         this.homeScreen = new HomeScreen();
-        this.searchResultsScreen = new SearchResultsScreen();
     }
 
     public SearchResultsScreen searchFor(String query) {
-        homeScreen.search(query);
-        return searchResultsScreen;
+        return navigateTo(SearchResultsScreen.class, Collections.singletonMap("query", query),
+                () -> homeScreen.search(query));
     }
 
     public boolean searchAndVerifyResults(String query) {
-        searchFor(query);
-        return searchResultsScreen.isResultsDisplayed();
+        return searchFor(query).isResultsDisplayed();
     }
 
     public int searchAndCountResults(String query) {
-        searchFor(query);
-        return searchResultsScreen.getResultCount();
+        return searchFor(query).getResultCount();
     }
 }
@@ -4,6 +4,9 @@ import com.company.qa.core.base.BaseScreen;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class HomeScreen extends BaseScreen {
 
     // Locators
@@ -12,6 +15,11 @@ public class HomeScreen extends BaseScreen {
     private static final By MENU_BUTTON = By.id("com.cloneai.app:id/menuButton");
     private static final By SETTINGS_BUTTON = By.id("com.cloneai.app:id/settingsButton");
 
+    @Override
+    protected List<By> readyMarkers() {
+        return Arrays.asList(SEARCH_FIELD, MENU_BUTTON);
+    }
+
     public WebElement getSearchField() {
         return find(SEARCH_FIELD);
     }
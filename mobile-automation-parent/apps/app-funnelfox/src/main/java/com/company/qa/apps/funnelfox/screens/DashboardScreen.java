@@ -4,6 +4,9 @@ import com.company.qa.core.base.BaseScreen;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class DashboardScreen extends BaseScreen {
 
     // Locators
@@ -13,6 +16,11 @@ public class DashboardScreen extends BaseScreen {
     private static final By SETTINGS_ICON = By.id("com.funnelfox.app:id/settingsIcon");
     private static final By USER_AVATAR = By.id("com.funnelfox.app:id/userAvatar");
 
+    @Override
+    protected List<By> readyMarkers() {
+        return Arrays.asList(ANALYTICS_CARD, FUNNELS_TAB);
+    }
+
     public WebElement getAnalyticsCard() {
         return find(ANALYTICS_CARD);
     }
@@ -4,6 +4,7 @@ import com.company.qa.core.base.BaseScreen;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class FunnelDetailScreen extends BaseScreen {
@@ -14,6 +15,11 @@ public class FunnelDetailScreen extends BaseScreen {
     private static final By CONVERSION_RATE = By.id("com.funnelfox.app:id/conversionRate");
     private static final By BACK_BUTTON = By.id("com.funnelfox.app:id/backButton");
 
+    @Override
+    protected List<By> readyMarkers() {
+        return Arrays.asList(FUNNEL_NAME, STEP_LIST);
+    }
+
     public String getFunnelName() {
         return find(FUNNEL_NAME).getText();
     }
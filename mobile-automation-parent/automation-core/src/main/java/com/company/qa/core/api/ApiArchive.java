@@ -0,0 +1,255 @@
+package com.company.qa.core.api;
+
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.exception.ConfigurationException;
+import com.company.qa.core.exception.FrameworkException;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * On-disk archive of recorded API request/response pairs, stored as
+ * gzip-compressed JSON.
+ *
+ * <p>In {@link ApiMode#RECORD} mode every {@link ApiClient} targeting the same
+ * base URL appends to one shared archive, saved when a client is closed and
+ * again on JVM shutdown. In {@link ApiMode#REPLAY} mode the archive is loaded
+ * and served by a {@link ReplayServer}.</p>
+ *
+ * <p>Archives live in {@code api.recording.dir} (default
+ * {@code src/test/resources/api-recordings}), one file per base URL.</p>
+ */
+public class ApiArchive {
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+    private static final Type INTERACTION_LIST = new TypeToken<List<Interaction>>() { }.getType();
+    private static final Map<Path, ApiArchive> RECORDINGS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final List<Interaction> interactions = new ArrayList<>();
+    private final Map<String, List<Interaction>> byRequest = new HashMap<>();
+    private final Map<String, Integer> replayCursors = new HashMap<>();
+
+    private ApiArchive(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the archive file used for a base URL.
+     *
+     * @param baseUrl the client's base URL
+     * @return the archive path inside the configured recording directory
+     */
+    public static Path fileFor(String baseUrl) {
+        String name = baseUrl.replaceFirst("^[a-zA-Z]+://", "").replaceAll("[^A-Za-z0-9.-]+", "_");
+        return Paths.get(EnvironmentConfig.getInstance().getApiRecordingDir(), name + ".json.gz");
+    }
+
+    /**
+     * Returns the shared archive that records into {@code file}, starting a new
+     * (empty) one on first use in this JVM.
+     *
+     * @param file the archive path
+     * @return the recording archive
+     */
+    public static ApiArchive forRecording(Path file) {
+        return RECORDINGS.computeIfAbsent(file.toAbsolutePath(), path -> {
+            ApiArchive archive = new ApiArchive(path);
+            Runtime.getRuntime().addShutdownHook(new Thread(archive::save, "api-archive-save"));
+            return archive;
+        });
+    }
+
+    /**
+     * Loads a previously recorded archive.
+     *
+     * @param file the archive path
+     * @return the loaded archive
+     * @throws ConfigurationException if the archive does not exist or cannot be read
+     */
+    public static ApiArchive load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            throw new ConfigurationException("No API recording found at " + file.toAbsolutePath()
+                    + "; run once with api.mode=record first");
+        }
+        ApiArchive archive = new ApiArchive(file);
+        try (Reader reader = new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8)) {
+            List<Interaction> loaded = GSON.fromJson(reader, INTERACTION_LIST);
+            if (loaded != null) {
+                loaded.forEach(archive::add);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new ConfigurationException("Failed to read API recording: " + file, e);
+        }
+        LOGGER.info("Loaded {} recorded API interactions from [{}]", archive.size(), file);
+        return archive;
+    }
+
+    /**
+     * Adds a recorded interaction.
+     *
+     * @param interaction the request/response pair
+     */
+    public synchronized void add(Interaction interaction) {
+        interactions.add(interaction);
+        byRequest.computeIfAbsent(interaction.requestKey(), key -> new ArrayList<>()).add(interaction);
+    }
+
+    /**
+     * Finds the recorded response for a request.
+     *
+     * <p>An interaction with the same method, path and body is preferred. Otherwise
+     * interactions for the same method and path are served in recorded order,
+     * repeating the last one once all have been served.</p>
+     *
+     * @param method the HTTP method
+     * @param path   the request path including the query string
+     * @param body   the request body, or {@code null}/empty for none
+     * @return the matching interaction, or {@code null} if none was recorded
+     */
+    public synchronized Interaction match(String method, String path, String body) {
+        String key = Interaction.requestKey(method, path);
+        List<Interaction> candidates = byRequest.get(key);
+        if (candidates == null) {
+            return null;
+        }
+        if (body != null && !body.isEmpty()) {
+            for (Interaction candidate : candidates) {
+                if (body.equals(candidate.requestBody)) {
+                    return candidate;
+                }
+            }
+        }
+        int cursor = replayCursors.merge(key, 1, Integer::sum) - 1;
+        return candidates.get(Math.min(cursor, candidates.size() - 1));
+    }
+
+    /**
+     * Returns the number of recorded interactions.
+     *
+     * @return the interaction count
+     */
+    public synchronized int size() {
+        return interactions.size();
+    }
+
+    /**
+     * Returns the archive path.
+     *
+     * @return the file this archive is loaded from or saved to
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes all interactions to the archive file, replacing its previous content.
+     *
+     * @throws FrameworkException if the file cannot be written
+     */
+    public synchronized void save() {
+        if (interactions.isEmpty()) {
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8)) {
+                GSON.toJson(interactions, INTERACTION_LIST, writer);
+            }
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to write API recording: " + file, e);
+        }
+        LOGGER.info("Saved {} recorded API interactions to [{}]", interactions.size(), file);
+    }
+
+    /**
+     * A single recorded request/response pair.
+     */
+    public static final class Interaction {
+
+        private final String method;
+        private final String path;
+        private final String requestBody;
+        private final int status;
+        private final Map<String, String> responseHeaders;
+        private final String responseBody;
+
+        /**
+         * Creates an interaction.
+         *
+         * @param method          the HTTP method
+         * @param path            the request path including the query string
+         * @param requestBody     the request body, or {@code null} for none
+         * @param status          the response status code
+         * @param responseHeaders the response headers to replay
+         * @param responseBody    the response body
+         */
+        public Interaction(String method, String path, String requestBody, int status,
+                           Map<String, String> responseHeaders, String responseBody) {
+            this.method = method;
+            this.path = path;
+            this.requestBody = requestBody;
+            this.status = status;
+            this.responseHeaders = new LinkedHashMap<>(responseHeaders);
+            this.responseBody = responseBody;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getRequestBody() {
+            return requestBody;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public Map<String, String> getResponseHeaders() {
+            return responseHeaders;
+        }
+
+        public String getResponseBody() {
+            return responseBody;
+        }
+
+        private String requestKey() {
+            return requestKey(method, path);
+        }
+
+        private static String requestKey(String method, String path) {
+            return method.toUpperCase(Locale.ROOT) + " " + path;
+        }
+    }
+}
@@ -1,9 +1,46 @@
 package com.company.qa.core.api;
 
+import com.company.qa.core.concurrent.ContextPropagatingExecutor;
+import com.company.qa.core.concurrent.VirtualThreads;
+import com.company.qa.core.config.ConfigChangeListener;
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.config.PoolConfig;
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.metrics.FrameworkMetrics;
+import com.google.gson.stream.JsonReader;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * REST API client wrapping RestAssured for JSON-based HTTP communication.
@@ -11,15 +48,59 @@ import io.restassured.specification.RequestSpecification;
  * <p>All requests are sent with {@code Content-Type: application/json} and
  * {@code Accept: application/json} headers by default.</p>
  *
+ * <p>Each client builds its base {@link RequestSpecification} once and sends
+ * every request through its own pooled, keep-alive HTTP connection manager, so
+ * high-volume callers do not pay connection setup per call. Pool size,
+ * keep-alive and timeouts come from {@link EnvironmentConfig}; the pool size
+ * follows configuration reloads. Call
+ * {@link #close()} to release pooled connections when the client is no longer
+ * needed; the reload listener only holds the client weakly, so a client that
+ * is never closed can still be garbage collected.</p>
+ *
+ * <p>The {@code *Async} methods and {@link #batch(List, int)} run requests on an
+ * executor: the one passed to the constructor, or a shared executor that uses
+ * virtual threads on JDK 21+ (see {@link VirtualThreads}) and carries the
+ * caller's scenario scope and log context to each request.</p>
+ *
+ * <p>{@code GET} responses can be cached client-side with a {@link ResponseCache},
+ * either per client via {@link #withResponseCache(ResponseCache)} or for every
+ * client by setting {@code api.cache.enabled}.</p>
+ *
+ * <p>With {@code api.mode=record} every exchange is saved to an {@link ApiArchive};
+ * with {@code api.mode=replay} requests are answered from that archive by a local
+ * {@link ReplayServer} instead of the real base URL, so suites run hermetically.</p>
+ *
+ * <p>For very large payloads, {@link #stream(String, ResponseStreamHandler)} and
+ * {@link #streamItems(String, String, Class, Consumer)} read the body straight
+ * from the connection instead of buffering it, so memory stays flat regardless
+ * of response size.</p>
+ *
  * <p><b>Usage:</b></p>
  * <pre>{@code
- * ApiClient client = new ApiClient("https://api.example.com");
- * Response response = client.get("/users/1");
+ * try (ApiClient client = new ApiClient("https://api.example.com")) {
+ *     Response response = client.get("/users/1");
+ *
+ *     List<Response> created = client.batch(users.stream()
+ *             .map(user -> (Function<ApiClient, Response>) c -> c.post("/users", user))
+ *             .collect(Collectors.toList()), 16);
+ *
+ *     int count = client.streamItems("/products", "data.items", Product.class, catalog::add);
+ * }
  * }</pre>
  */
-public class ApiClient {
+public class ApiClient implements AutoCloseable {
 
     private final String baseUrl;
+    private final String requestUrl;
+    private final ExecutorService executor;
+    private final RestAssuredHttpClient restAssuredClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RequestSpecification baseSpec;
+    private final ReplayServer replayServer;
+    private final ApiArchive recording;
+    private final ConfigChangeListener poolResizer;
+    private volatile ResponseCache responseCache;
 
     /**
      * Creates a new API client with the specified base URL.
@@ -27,7 +108,74 @@ public class ApiClient {
      * @param baseUrl the base URL for all requests (e.g. {@code "https://api.example.com"})
      */
     public ApiClient(String baseUrl) {
+        this(baseUrl, DefaultExecutor.INSTANCE);
+    }
+
+    /**
+     * Creates a new API client that runs asynchronous requests on the given executor.
+     *
+     * <p>The caller keeps ownership of the executor; {@link #close()} does not shut it down.</p>
+     *
+     * @param baseUrl  the base URL for all requests (e.g. {@code "https://api.example.com"})
+     * @param executor the executor for {@code *Async} and {@code batch} requests
+     */
+    public ApiClient(String baseUrl, ExecutorService executor) {
+        EnvironmentConfig config = EnvironmentConfig.getInstance();
+        ApiMode mode = ApiMode.from(config.getApiMode());
         this.baseUrl = baseUrl;
+        this.executor = executor;
+        this.recording = mode == ApiMode.RECORD ? ApiArchive.forRecording(ApiArchive.fileFor(baseUrl)) : null;
+        this.replayServer = mode == ApiMode.REPLAY
+                ? ReplayServer.start(ApiArchive.load(ApiArchive.fileFor(baseUrl)), config.getApiReplayLatencyMs())
+                : null;
+        this.requestUrl = replayServer != null ? replayServer.getBaseUrl() + basePathOf(baseUrl) : baseUrl;
+        this.restAssuredClient = new RestAssuredHttpClient(config.getApiPool(),
+                config.getApiConnectTimeoutMs(), config.getApiReadTimeoutMs());
+        this.connectionManager = createConnectionManager(config);
+        this.httpClient = createHttpClient(config);
+        this.baseSpec = new RequestSpecBuilder()
+                .setBaseUri(requestUrl)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .setConfig(RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                        .reuseHttpClientInstance()
+                        .httpClientFactory(restAssuredClient::client)))
+                .build();
+        this.responseCache = config.isApiCacheEnabled() ? ResponseCache.shared() : null;
+        this.poolResizer = new PoolResizer(this);
+        config.addChangeListener(poolResizer);
+    }
+
+    /**
+     * Returns the base URL this client was created for. In replay mode requests
+     * are actually sent to a local {@link ReplayServer}.
+     *
+     * @return the base URL
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Caches {@code GET} responses of this client in the given cache.
+     *
+     * <p>Streaming requests are never cached.</p>
+     *
+     * @param cache the cache to use, or {@code null} to disable caching
+     * @return this client for chaining
+     */
+    public ApiClient withResponseCache(ResponseCache cache) {
+        this.responseCache = cache;
+        return this;
+    }
+
+    /**
+     * Returns the response cache used by this client.
+     *
+     * @return the cache, or {@code null} if caching is disabled
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
     }
 
     /**
@@ -37,8 +185,7 @@ public class ApiClient {
      * @return the HTTP {@link Response}
      */
     public Response get(String path) {
-        return baseRequest()
-                .get(path);
+        return send(Method.GET, path, null);
     }
 
     /**
@@ -49,9 +196,7 @@ public class ApiClient {
      * @return the HTTP {@link Response}
      */
     public Response post(String path, Object body) {
-        return baseRequest()
-                .body(body)
-                .post(path);
+        return send(Method.POST, path, body);
     }
 
     /**
@@ -62,9 +207,7 @@ public class ApiClient {
      * @return the HTTP {@link Response}
      */
     public Response put(String path, Object body) {
-        return baseRequest()
-                .body(body)
-                .put(path);
+        return send(Method.PUT, path, body);
     }
 
     /**
@@ -74,20 +217,366 @@ public class ApiClient {
      * @return the HTTP {@link Response}
      */
     public Response delete(String path) {
-        return baseRequest()
-                .delete(path);
+        return send(Method.DELETE, path, null);
     }
 
     /**
-     * Creates a base request specification with the configured base URL,
-     * JSON content type, and JSON accept header.
+     * Sends an HTTP GET request asynchronously.
+     *
+     * @param path the request path relative to the base URL
+     * @return a future completed with the HTTP {@link Response}
+     */
+    public CompletableFuture<Response> getAsync(String path) {
+        return sendAsync(Method.GET, path, null);
+    }
+
+    /**
+     * Sends an HTTP POST request asynchronously.
+     *
+     * @param path the request path relative to the base URL
+     * @param body the request body (serialized to JSON automatically)
+     * @return a future completed with the HTTP {@link Response}
+     */
+    public CompletableFuture<Response> postAsync(String path, Object body) {
+        return sendAsync(Method.POST, path, body);
+    }
+
+    /**
+     * Sends an HTTP PUT request asynchronously.
+     *
+     * @param path the request path relative to the base URL
+     * @param body the request body (serialized to JSON automatically)
+     * @return a future completed with the HTTP {@link Response}
+     */
+    public CompletableFuture<Response> putAsync(String path, Object body) {
+        return sendAsync(Method.PUT, path, body);
+    }
+
+    /**
+     * Sends an HTTP DELETE request asynchronously.
+     *
+     * @param path the request path relative to the base URL
+     * @return a future completed with the HTTP {@link Response}
+     */
+    public CompletableFuture<Response> deleteAsync(String path) {
+        return sendAsync(Method.DELETE, path, null);
+    }
+
+    /**
+     * Runs many requests concurrently, bounded by the configured connection pool size.
+     *
+     * @param calls the requests to run, each receiving this client
+     * @return the responses, in the same order as {@code calls}
+     * @throws FrameworkException if any call throws
+     * @see #batch(List, int)
+     */
+    public List<Response> batch(List<Function<ApiClient, Response>> calls) {
+        return batch(calls, EnvironmentConfig.getInstance().getApiMaxConnections());
+    }
+
+    /**
+     * Runs many requests concurrently with at most {@code maxConcurrency} in flight.
+     *
+     * <p>Blocks until every call has completed. If any call throws, the remaining
+     * calls still run and the first failure is rethrown afterwards.</p>
+     *
+     * @param calls          the requests to run, each receiving this client
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @return the responses, in the same order as {@code calls}
+     * @throws FrameworkException if any call throws or the caller is interrupted
+     */
+    public List<Response> batch(List<Function<ApiClient, Response>> calls, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1: " + maxConcurrency);
+        }
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<CompletableFuture<Response>> futures = new ArrayList<>(calls.size());
+        try {
+            for (Function<ApiClient, Response> call : calls) {
+                permits.acquire();
+                CompletableFuture<Response> future;
+                try {
+                    future = CompletableFuture.supplyAsync(() -> call.apply(this), executor);
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                futures.add(future.whenComplete((response, error) -> permits.release()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while dispatching API batch", e);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            throw new FrameworkException("API batch request failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        List<Response> responses = new ArrayList<>(futures.size());
+        for (CompletableFuture<Response> future : futures) {
+            responses.add(future.join());
+        }
+        return responses;
+    }
+
+    /**
+     * Sends an HTTP GET request and hands the unbuffered response body to {@code handler}.
+     *
+     * <p>The body is read directly from the pooled connection while the handler
+     * runs; the connection is returned to the pool once the handler returns. The
+     * stream must not be used after that. On an error status, or if the handler
+     * throws, the request is aborted and the connection closed instead of reading
+     * the rest of the body.</p>
      *
-     * @return a pre-configured {@link RequestSpecification}
+     * @param path    the request path relative to the base URL
+     * @param handler the handler consuming the response body
+     * @param <T>     the handler result type
+     * @return the value returned by the handler
+     * @throws FrameworkException if the response status is not 2xx or reading the body fails
+     */
+    public <T> T stream(String path, ResponseStreamHandler<T> handler) {
+        HttpGet request = new HttpGet(requestUrl + path);
+        request.setHeader("Accept", ContentType.JSON.toString());
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            int status = response.getStatusLine().getStatusCode();
+            FrameworkMetrics.apiCalls("GET", status).increment();
+            if (status < 200 || status >= 300) {
+                request.abort();
+                throw new FrameworkException("Streaming GET [" + path + "] failed with status " + status);
+            }
+            HttpEntity entity = response.getEntity();
+            T result;
+            try {
+                result = handler.handle(new RetainedStream(entity.getContent()));
+            } catch (IOException | RuntimeException e) {
+                request.abort();
+                throw e;
+            }
+            EntityUtils.consume(entity);
+            return result;
+        } catch (IOException e) {
+            request.abort();
+            throw new FrameworkException("Streaming GET [" + path + "] failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Streams a JSON array from an HTTP GET response, deserializing and passing
+     * each element to {@code consumer} as it is read.
+     *
+     * <p>Only one element is held in memory at a time.</p>
+     *
+     * @param path      the request path relative to the base URL
+     * @param itemsPath dot-separated path to the array within the body (e.g.
+     *                  {@code "data.items"}), or {@code null}/empty if the body is the array
+     * @param type      the element type
+     * @param consumer  receives each element in order
+     * @param <T>       the element type
+     * @return the number of elements streamed
+     * @throws FrameworkException if the request fails or the body does not contain
+     *                            an array at {@code itemsPath}
+     * @see JsonStreamExtractor
+     */
+    public <T> int streamItems(String path, String itemsPath, Class<T> type, Consumer<? super T> consumer) {
+        return stream(path, body -> {
+            try (JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                return JsonStreamExtractor.forEach(reader, itemsPath, type, consumer);
+            }
+        });
+    }
+
+    /**
+     * Shuts down the connection pool, closing all pooled connections. In record
+     * mode the archive is saved; in replay mode the replay server is stopped.
+     */
+    @Override
+    public void close() {
+        EnvironmentConfig.getInstance().removeChangeListener(poolResizer);
+        restAssuredClient.close();
+        connectionManager.shutdown();
+        if (recording != null) {
+            recording.save();
+        }
+        if (replayServer != null) {
+            replayServer.close();
+        }
+    }
+
+    /**
+     * Sends a request through the shared base specification.
+     *
+     * <p>The response body is read before returning so the pooled connection is
+     * released immediately, even if the caller never reads the body.</p>
+     *
+     * @param method the HTTP method
+     * @param path   the request path relative to the base URL
+     * @param body   the request body, or {@code null} for none
+     * @return the HTTP {@link Response} with a fully buffered body
+     */
+    private Response send(Method method, String path, Object body) {
+        RequestSpecification request = baseRequest();
+        if (body != null) {
+            request.body(body);
+        }
+        long start = System.nanoTime();
+        Response response = request.request(method, path);
+        response.asByteArray();
+        FrameworkMetrics.apiLatency(method.name()).recordNanos(System.nanoTime() - start);
+        FrameworkMetrics.apiCalls(method.name(), response.getStatusCode()).increment();
+        return response;
+    }
+
+    /**
+     * Sends a request on this client's executor.
+     *
+     * @param method the HTTP method
+     * @param path   the request path relative to the base URL
+     * @param body   the request body, or {@code null} for none
+     * @return a future completed with the HTTP {@link Response}
+     */
+    private CompletableFuture<Response> sendAsync(Method method, String path, Object body) {
+        return CompletableFuture.supplyAsync(() -> send(method, path, body), executor);
+    }
+
+    /**
+     * Creates a request from the pre-built base specification carrying the
+     * base URL, JSON content type, JSON accept header and pooled HTTP client,
+     * plus the response cache and recording filters when enabled.
+     *
+     * @return a new {@link RequestSpecification} derived from the base specification
      */
     private RequestSpecification baseRequest() {
-        return RestAssured.given()
-                .baseUri(baseUrl)
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON);
+        RequestSpecification request = RestAssured.given(baseSpec);
+        ResponseCache cache = responseCache;
+        if (cache != null) {
+            request.filter(cache);
+        }
+        if (recording != null) {
+            request.filter(new RecordingFilter(recording));
+        }
+        return request;
+    }
+
+    /**
+     * Returns the path component of a base URL, so replayed requests keep the
+     * same paths as recorded ones.
+     *
+     * @param url the base URL
+     * @return the raw path without a trailing slash, or an empty string
+     */
+    private static String basePathOf(String url) {
+        String path = URI.create(url).getRawPath();
+        if (path == null || path.equals("/")) {
+            return "";
+        }
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    /**
+     * Creates the connection manager backing this client's streaming connections.
+     *
+     * @param config the environment configuration supplying pool settings
+     * @return a pooling connection manager sized from the configuration
+     */
+    private static PoolingHttpClientConnectionManager createConnectionManager(EnvironmentConfig config) {
+        PoolConfig pool = config.getApiPool();
+        PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(
+                pool.getKeepAliveMs(), TimeUnit.MILLISECONDS);
+        resizePool(manager, pool.getMaxConnections());
+        return manager;
+    }
+
+    /**
+     * Applies a connection limit to a pool, both in total and per route. Called
+     * again when the configuration is reloaded; leased connections are unaffected.
+     *
+     * @param manager        the connection manager
+     * @param maxConnections the new connection limit
+     */
+    private static void resizePool(PoolingHttpClientConnectionManager manager, int maxConnections) {
+        manager.setMaxTotal(maxConnections);
+        manager.setDefaultMaxPerRoute(maxConnections);
+    }
+
+    /**
+     * Creates the HTTP client for streaming requests, backed by this client's
+     * streaming connection pool and configured with the keep-alive and timeout
+     * settings.
+     *
+     * @param config the environment configuration supplying timeout settings
+     * @return the pooled HTTP client
+     */
+    private CloseableHttpClient createHttpClient(EnvironmentConfig config) {
+        long keepAliveMs = config.getApiKeepAliveMs();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(config.getApiConnectTimeoutMs())
+                .setSocketTimeout(config.getApiReadTimeoutMs())
+                .setConnectionRequestTimeout(config.getApiConnectTimeoutMs())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> keepAliveMs)
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+    }
+
+    /**
+     * Response body handed to stream handlers. Closing it does not close the
+     * underlying stream, which would read the rest of the body first; {@link #stream}
+     * instead consumes the body after a handler succeeds and aborts the request
+     * after it fails.
+     */
+    private static final class RetainedStream extends FilterInputStream {
+
+        RetainedStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Applies a new connection limit to both of this client's pools.
+     *
+     * @param maxConnections the new connection limit
+     */
+    private void resizePools(int maxConnections) {
+        restAssuredClient.resize(maxConnections);
+        resizePool(connectionManager, maxConnections);
+    }
+
+    /**
+     * Reload listener resizing a client's pools. It holds the client weakly so
+     * that registering it does not keep an unclosed client alive, and removes
+     * itself on the first reload after the client was collected.
+     */
+    private static final class PoolResizer implements ConfigChangeListener {
+
+        private final WeakReference<ApiClient> client;
+
+        PoolResizer(ApiClient client) {
+            this.client = new WeakReference<>(client);
+        }
+
+        @Override
+        public void onConfigChange(EnvironmentConfig config) {
+            ApiClient target = client.get();
+            if (target == null) {
+                config.removeChangeListener(this);
+                return;
+            }
+            target.resizePools(config.getApiPool().getMaxConnections());
+        }
+    }
+
+    /**
+     * Lazily created executor shared by clients constructed without one.
+     */
+    private static final class DefaultExecutor {
+        private static final ExecutorService INSTANCE =
+                new ContextPropagatingExecutor(VirtualThreads.newExecutor("api-client"));
     }
 }
@@ -0,0 +1,38 @@
+package com.company.qa.core.api;
+
+import com.company.qa.core.exception.ConfigurationException;
+
+import java.util.Locale;
+
+/**
+ * How {@link ApiClient} reaches its backend, selected with {@code api.mode}.
+ */
+public enum ApiMode {
+
+    /** Requests go to the real base URL. */
+    LIVE,
+
+    /** Requests go to the real base URL and every exchange is saved to an {@link ApiArchive}. */
+    RECORD,
+
+    /** Requests are answered from a previously recorded {@link ApiArchive} by a local {@link ReplayServer}. */
+    REPLAY;
+
+    /**
+     * Parses a mode name case-insensitively.
+     *
+     * @param value the mode name; {@code null} or empty means {@link #LIVE}
+     * @return the matching mode
+     * @throws ConfigurationException if the value is not a known mode
+     */
+    public static ApiMode from(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return LIVE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ConfigurationException("Unknown api.mode '" + value + "'; expected live, record or replay", e);
+        }
+    }
+}
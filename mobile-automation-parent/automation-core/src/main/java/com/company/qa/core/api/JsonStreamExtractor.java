@@ -0,0 +1,91 @@
+package com.company.qa.core.api;
+
+import com.company.qa.core.exception.FrameworkException;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Incremental extractor for JSON arrays read through a Gson {@link JsonReader}.
+ *
+ * <p>Walks the document to the array at a dot-separated path, skipping unrelated
+ * fields without materializing them, then deserializes one element at a time.
+ * Memory use depends on the size of a single element, not the whole document.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * try (JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+ *     int count = JsonStreamExtractor.forEach(reader, "data.items", Product.class, products::add);
+ * }
+ * }</pre>
+ */
+public class JsonStreamExtractor {
+
+    private static final Gson GSON = new Gson();
+
+    /**
+     * Deserializes each element of the array at {@code itemsPath} and passes it to {@code consumer}.
+     *
+     * @param reader    the reader positioned at the start of the document
+     * @param itemsPath dot-separated path of object fields leading to the array
+     *                  (e.g. {@code "data.items"}), or {@code null}/empty if the
+     *                  document itself is the array
+     * @param type      the element type
+     * @param consumer  receives each element in order
+     * @param <T>       the element type
+     * @return the number of elements read
+     * @throws IOException        if reading from the underlying stream fails
+     * @throws FrameworkException if no array exists at {@code itemsPath}
+     */
+    public static <T> int forEach(JsonReader reader, String itemsPath, Class<T> type,
+                                  Consumer<? super T> consumer) throws IOException {
+        String[] fields = itemsPath == null || itemsPath.trim().isEmpty()
+                ? new String[0]
+                : itemsPath.trim().split("\\.");
+        for (String field : fields) {
+            if (!advanceTo(reader, field)) {
+                throw new FrameworkException("JSON path '" + itemsPath + "' not found in response");
+            }
+        }
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            throw new FrameworkException("Expected a JSON array at '" + displayPath(itemsPath)
+                    + "' but found " + reader.peek());
+        }
+
+        int count = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            T item = GSON.fromJson(reader, type);
+            consumer.accept(item);
+            count++;
+        }
+        reader.endArray();
+        return count;
+    }
+
+    /**
+     * Enters the object at the reader's position and skips fields until {@code field}.
+     *
+     * @return {@code true} if the reader is now positioned at the field's value
+     */
+    private static boolean advanceTo(JsonReader reader, String field) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return false;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(field)) {
+                return true;
+            }
+            reader.skipValue();
+        }
+        return false;
+    }
+
+    private static String displayPath(String itemsPath) {
+        return itemsPath == null || itemsPath.trim().isEmpty() ? "$" : itemsPath;
+    }
+}
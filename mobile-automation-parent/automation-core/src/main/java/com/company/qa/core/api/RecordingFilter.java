@@ -0,0 +1,70 @@
+package com.company.qa.core.api;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RestAssured filter that passes requests through unchanged and adds every
+ * exchange to an {@link ApiArchive}. Used by {@link ApiClient} in
+ * {@link ApiMode#RECORD} mode.
+ */
+public class RecordingFilter implements Filter {
+
+    /** Hop-by-hop, encoding and per-response headers the replay server recomputes. */
+    private static final Set<String> SKIPPED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-encoding", "content-length", "date", "keep-alive", "transfer-encoding"));
+
+    private final ApiArchive archive;
+
+    /**
+     * Creates a filter recording into the given archive.
+     *
+     * @param archive the archive receiving the exchanges
+     */
+    public RecordingFilter(ApiArchive archive) {
+        this.archive = archive;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            if (!SKIPPED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                headers.put(header.getName(), header.getValue());
+            }
+        }
+        archive.add(new ApiArchive.Interaction(requestSpec.getMethod(), pathOf(requestSpec.getURI()),
+                bodyOf(requestSpec.getBody()), response.getStatusCode(), headers, response.asString()));
+        return response;
+    }
+
+    static String pathOf(String uri) {
+        URI parsed = URI.create(uri);
+        String path = parsed.getRawPath() == null || parsed.getRawPath().isEmpty() ? "/" : parsed.getRawPath();
+        return parsed.getRawQuery() != null ? path + "?" + parsed.getRawQuery() : path;
+    }
+
+    private static String bodyOf(Object body) {
+        if (body == null) {
+            return null;
+        }
+        return body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package com.company.qa.core.api;
+
+import com.company.qa.core.concurrent.VirtualThreads;
+import com.company.qa.core.exception.FrameworkException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * In-process HTTP stand-in that answers requests from an {@link ApiArchive}.
+ * Used by {@link ApiClient} in {@link ApiMode#REPLAY} mode so API-backed suites
+ * run without network access.
+ *
+ * <p>Listens on a random loopback port. Each response can be delayed by a fixed
+ * latency to approximate the real backend. Requests without a recording are
+ * answered with {@code 501 Not Implemented}.</p>
+ */
+public class ReplayServer implements AutoCloseable {
+
+    private static final int NOT_RECORDED = 501;
+
+    private final ApiArchive archive;
+    private final long latencyMs;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private ReplayServer(ApiArchive archive, long latencyMs) throws IOException {
+        this.archive = archive;
+        this.latencyMs = latencyMs;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = VirtualThreads.newExecutor("api-replay");
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Starts a replay server for the given archive.
+     *
+     * @param archive   the recorded interactions to serve
+     * @param latencyMs delay added before each response, in milliseconds
+     * @return the running server
+     * @throws FrameworkException if the server cannot be started
+     */
+    public static ReplayServer start(ApiArchive archive, long latencyMs) {
+        try {
+            ReplayServer replayServer = new ReplayServer(archive, latencyMs);
+            LOGGER.info("API replay server for [{}] listening on {}", archive.getFile(), replayServer.getBaseUrl());
+            return replayServer;
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to start API replay server", e);
+        }
+    }
+
+    /**
+     * Returns the URL the server listens on.
+     *
+     * @return the base URL, e.g. {@code "http://127.0.0.1:54321"}
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            String method = exchange.getRequestMethod();
+            String path = RecordingFilter.pathOf(exchange.getRequestURI().toString());
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+
+            ApiArchive.Interaction interaction = archive.match(method, path,
+                    new String(requestBody, StandardCharsets.UTF_8));
+            if (interaction == null) {
+                LOGGER.warn("No recorded API response for {} {}", method, path);
+                byte[] body = ("{\"error\":\"No recorded response for " + method + " " + path + "\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(NOT_RECORDED, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+                return;
+            }
+
+            for (Map.Entry<String, String> header : interaction.getResponseHeaders().entrySet()) {
+                exchange.getResponseHeaders().add(header.getKey(), header.getValue());
+            }
+            byte[] body = interaction.getResponseBody() == null
+                    ? new byte[0]
+                    : interaction.getResponseBody().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(interaction.getStatus(), body.length > 0 ? body.length : -1);
+            if (body.length > 0) {
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
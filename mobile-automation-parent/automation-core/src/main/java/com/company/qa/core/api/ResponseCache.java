@@ -0,0 +1,332 @@
+package com.company.qa.core.api;
+
+import com.company.qa.core.config.EnvironmentConfig;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side cache for {@code GET} responses, applied to {@link ApiClient}
+ * requests as a RestAssured {@link Filter}.
+ *
+ * <p>Entries are keyed by method, URI and the values of a configurable set of
+ * request headers. Freshness follows the response's {@code Cache-Control}
+ * header ({@code max-age}, {@code no-cache}, {@code no-store}) unless a max-age
+ * override is configured. Stale entries carrying an {@code ETag} are
+ * revalidated with {@code If-None-Match}; a {@code 304} response refreshes the
+ * entry and returns the cached body.</p>
+ *
+ * <p>The cache is bounded by entry count and evicts the least recently used
+ * entry first. It is safe to share across threads; concurrent misses for the
+ * same key may each reach the server, and the last response wins.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * ApiClient client = new ApiClient(apiUrl).withResponseCache(ResponseCache.shared());
+ * client.get("/catalog");   // miss, fetched from the server
+ * client.get("/catalog");   // hit while fresh
+ * LOGGER.info("API cache: {}", ResponseCache.shared().getStats());
+ * }</pre>
+ */
+public class ResponseCache implements Filter {
+
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final int NOT_MODIFIED = 304;
+
+    private final int maxEntries;
+    private final long maxAgeOverrideMs;
+    private final List<String> keyHeaders;
+    private final Map<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries        the maximum number of cached responses
+     * @param maxAgeOverrideMs  freshness lifetime applied to every cacheable response
+     *                          in milliseconds, or a negative value to honor
+     *                          {@code Cache-Control: max-age}
+     * @param keyHeaders        request header names whose values are part of the cache key
+     */
+    public ResponseCache(int maxEntries, long maxAgeOverrideMs, List<String> keyHeaders) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.maxAgeOverrideMs = maxAgeOverrideMs;
+        this.keyHeaders = Collections.unmodifiableList(new ArrayList<>(keyHeaders));
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResponseCache.Entry> eldest) {
+                if (size() > ResponseCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the process-wide cache configured from the {@code api.cache} section
+     * of {@link EnvironmentConfig}.
+     *
+     * @return the shared cache instance
+     */
+    public static ResponseCache shared() {
+        return Shared.INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        String key = keyFor(requestSpec);
+        long now = System.currentTimeMillis();
+        Entry cached = lookup(key);
+        if (cached != null && cached.expiresAt > now) {
+            hits.increment();
+            return cached.toResponse();
+        }
+        if (cached != null && cached.etag != null) {
+            requestSpec.header(IF_NONE_MATCH, cached.etag);
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (cached != null && response.getStatusCode() == NOT_MODIFIED) {
+            revalidations.increment();
+            Long expiresAt = expiryFor(response, now);
+            Entry refreshed = cached.refreshedUntil(expiresAt != null ? expiresAt : now);
+            store(key, refreshed);
+            return refreshed.toResponse();
+        }
+
+        misses.increment();
+        if (response.getStatusCode() == 200) {
+            Long expiresAt = expiryFor(response, now);
+            String etag = response.getHeader("ETag");
+            if (expiresAt != null && (expiresAt > now || etag != null)) {
+                store(key, new Entry(response, etag, expiresAt));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the current hit, miss, revalidation and eviction counts
+     */
+    public Stats getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), revalidations.sum(), evictions.sum(), size);
+    }
+
+    /**
+     * Removes all cached responses. Statistics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private Entry lookup(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void store(String key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    private String keyFor(FilterableRequestSpecification requestSpec) {
+        StringBuilder key = new StringBuilder("GET ").append(requestSpec.getURI());
+        Headers headers = requestSpec.getHeaders();
+        for (String name : keyHeaders) {
+            key.append('|').append(name).append('=').append(headers.getValue(name));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Resolves when a response stops being fresh.
+     *
+     * @return the expiry timestamp in epoch milliseconds, or {@code null} if the
+     *         response must not be stored
+     */
+    private Long expiryFor(Response response, long now) {
+        String cacheControl = response.getHeader("Cache-Control");
+        long maxAgeMs = 0;
+        boolean noCache = false;
+        if (cacheControl != null) {
+            for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+                String value = directive.trim();
+                if (value.equals("no-store")) {
+                    return null;
+                } else if (value.equals("no-cache")) {
+                    noCache = true;
+                } else if (value.startsWith("max-age=")) {
+                    try {
+                        maxAgeMs = Long.parseLong(value.substring("max-age=".length())) * 1000L;
+                    } catch (NumberFormatException e) {
+                        maxAgeMs = 0;
+                    }
+                }
+            }
+        }
+        if (maxAgeOverrideMs >= 0) {
+            return now + maxAgeOverrideMs;
+        }
+        return noCache ? now : now + maxAgeMs;
+    }
+
+    /**
+     * Immutable cached response. A fresh {@link Response} is built for every hit so
+     * callers on different threads never share response state.
+     */
+    private static final class Entry {
+
+        private final int statusCode;
+        private final String statusLine;
+        private final Headers headers;
+        private final String contentType;
+        private final byte[] body;
+        private final String etag;
+        private final long expiresAt;
+
+        private Entry(Response response, String etag, long expiresAt) {
+            this(response.getStatusCode(), response.getStatusLine(), response.getHeaders(),
+                    response.getContentType(), response.asByteArray(), etag, expiresAt);
+        }
+
+        private Entry(int statusCode, String statusLine, Headers headers, String contentType,
+                      byte[] body, String etag, long expiresAt) {
+            this.statusCode = statusCode;
+            this.statusLine = statusLine;
+            this.headers = headers;
+            this.contentType = contentType;
+            this.body = body;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+
+        private Entry refreshedUntil(long newExpiresAt) {
+            return new Entry(statusCode, statusLine, headers, contentType, body, etag, newExpiresAt);
+        }
+
+        private Response toResponse() {
+            return new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setStatusLine(statusLine)
+                    .setHeaders(headers)
+                    .setContentType(contentType)
+                    .setBody(body)
+                    .build();
+        }
+    }
+
+    /**
+     * Point-in-time cache statistics.
+     */
+    public static final class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long revalidations;
+        private final long evictions;
+        private final int size;
+
+        private Stats(long hits, long misses, long revalidations, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.revalidations = revalidations;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getRevalidations() {
+            return revalidations;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the share of lookups served without a full download.
+         *
+         * @return {@code (hits + revalidations) / (hits + revalidations + misses)},
+         *         or {@code 0} if nothing was looked up
+         */
+        public double getHitRate() {
+            long served = hits + revalidations;
+            long total = served + misses;
+            return total == 0 ? 0 : (double) served / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, revalidations=%d, misses=%d, evictions=%d, entries=%d, hitRate=%.1f%%",
+                    hits, revalidations, misses, evictions, size, getHitRate() * 100);
+        }
+    }
+
+    /**
+     * Lazily created cache shared by all clients that enable caching from configuration.
+     */
+    private static final class Shared {
+        private static final ResponseCache INSTANCE = createFromConfig();
+
+        private static ResponseCache createFromConfig() {
+            EnvironmentConfig config = EnvironmentConfig.getInstance();
+            long maxAgeSeconds = config.getApiCacheMaxAgeSeconds();
+            List<String> keyHeaders = new ArrayList<>();
+            for (String name : config.getApiCacheKeyHeaders().split(",")) {
+                if (!name.trim().isEmpty()) {
+                    keyHeaders.add(name.trim());
+                }
+            }
+            return new ResponseCache(config.getApiCacheMaxEntries(),
+                    maxAgeSeconds >= 0 ? maxAgeSeconds * 1000L : -1L, keyHeaders);
+        }
+    }
+}
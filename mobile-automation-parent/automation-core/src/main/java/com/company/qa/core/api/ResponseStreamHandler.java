@@ -0,0 +1,23 @@
+package com.company.qa.core.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Callback that consumes an unbuffered HTTP response body.
+ *
+ * @param <T> the type of value produced from the body
+ * @see ApiClient#stream(String, ResponseStreamHandler)
+ */
+@FunctionalInterface
+public interface ResponseStreamHandler<T> {
+
+    /**
+     * Reads the response body.
+     *
+     * @param body the response body stream; closed by the caller once this method returns
+     * @return the value produced from the body
+     * @throws IOException if reading the body fails
+     */
+    T handle(InputStream body) throws IOException;
+}
@@ -0,0 +1,75 @@
+package com.company.qa.core.api;
+
+import com.company.qa.core.config.PoolConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled keep-alive HTTP client in the form RestAssured accepts.
+ *
+ * <p>RestAssured 5 rejects every client that is not an {@code AbstractHttpClient},
+ * and that type only exists in the deprecated HttpClient 4 API. The deprecated
+ * classes are confined to this class so the rest of {@link ApiClient} compiles
+ * without deprecation warnings.</p>
+ */
+@SuppressWarnings("deprecation")
+final class RestAssuredHttpClient implements AutoCloseable {
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final DefaultHttpClient client;
+
+    /**
+     * Creates a client backed by its own connection pool.
+     *
+     * @param pool             pool size and keep-alive settings
+     * @param connectTimeoutMs connect timeout, also the wait for a free pooled connection
+     * @param readTimeoutMs    socket read timeout
+     */
+    RestAssuredHttpClient(PoolConfig pool, int connectTimeoutMs, int readTimeoutMs) {
+        this.connectionManager = new PoolingClientConnectionManager(
+                SchemeRegistryFactory.createDefault(), pool.getKeepAliveMs(), TimeUnit.MILLISECONDS);
+        resize(pool.getMaxConnections());
+        long keepAliveMs = pool.getKeepAliveMs();
+        this.client = new DefaultHttpClient(connectionManager);
+        client.setKeepAliveStrategy((response, context) -> keepAliveMs);
+        HttpParams params = client.getParams();
+        params.setIntParameter(CoreConnectionPNames.CONNECTION_TIMEOUT, connectTimeoutMs);
+        params.setIntParameter(CoreConnectionPNames.SO_TIMEOUT, readTimeoutMs);
+        params.setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, connectTimeoutMs);
+    }
+
+    /**
+     * Returns the client to hand to RestAssured's {@code httpClientFactory}.
+     *
+     * @return the pooled client
+     */
+    HttpClient client() {
+        return client;
+    }
+
+    /**
+     * Applies a connection limit to the pool, both in total and per route;
+     * leased connections are unaffected.
+     *
+     * @param maxConnections the new connection limit
+     */
+    void resize(int maxConnections) {
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+    }
+
+    /**
+     * Closes all pooled connections.
+     */
+    @Override
+    public void close() {
+        connectionManager.shutdown();
+    }
+}
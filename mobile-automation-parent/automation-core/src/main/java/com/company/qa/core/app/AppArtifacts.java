@@ -0,0 +1,380 @@
+package com.company.qa.core.app;
+
+import com.company.qa.core.config.ArtifactsConfig;
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.exception.ConfigurationException;
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.metrics.FrameworkMetrics;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Installs app builds onto devices once per device and build.
+ *
+ * <p>A build is identified by the SHA-256 hash of its binary ({@code .apk},
+ * {@code .ipa}, or an {@code .app} bundle directory). Hashes are cached by file
+ * size and modification time, so an unchanged binary is read only once per run.
+ * Before installing, the manager checks which build the device already holds,
+ * first in its own record and then through the {@link AppInstaller}, which keeps
+ * the hash on the device across runs; a device that already has the build is
+ * skipped.</p>
+ *
+ * <p>With {@code artifacts.manage} enabled, {@code MobileDriverManager} installs
+ * the app onto all configured devices in parallel at suite start and then
+ * creates sessions without the {@code app} capability, so Appium only launches
+ * the installed build.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * AppArtifacts.shared().installAll(devices.getUdids(), target);
+ * boolean installed = AppArtifacts.shared().ensureInstalled(udid, target);
+ * }</pre>
+ */
+public class AppArtifacts {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AppInstaller installer;
+    private final int parallelInstalls;
+    private final Map<Path, HashedBinary> hashes = new ConcurrentHashMap<>();
+    private final Map<String, String> installed = new ConcurrentHashMap<>();
+    private final Map<String, Object> deviceLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a manager.
+     *
+     * @param installer        installs binaries onto devices outside of a session
+     * @param parallelInstalls how many devices {@link #installAll} installs onto at once
+     */
+    public AppArtifacts(AppInstaller installer, int parallelInstalls) {
+        this.installer = installer;
+        this.parallelInstalls = parallelInstalls;
+    }
+
+    /**
+     * Returns the process-wide manager configured from the {@code artifacts}
+     * section of {@link EnvironmentConfig}.
+     *
+     * @return the shared manager
+     */
+    public static AppArtifacts shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Returns the hash identifying a build.
+     *
+     * @param binary the {@code .apk} or {@code .ipa} file, or {@code .app} directory
+     * @return the SHA-256 hex digest of the binary's content
+     * @throws ConfigurationException if the binary does not exist
+     * @throws FrameworkException     if the binary cannot be read
+     */
+    public String hash(Path binary) {
+        Path path = binary.toAbsolutePath().normalize();
+        if (!Files.exists(path)) {
+            throw new ConfigurationException("App binary not found: " + path);
+        }
+        String stamp = stamp(path);
+        HashedBinary cached = hashes.get(path);
+        if (cached != null && cached.stamp.equals(stamp)) {
+            return cached.hash;
+        }
+        String hash = digest(path);
+        hashes.put(path, new HashedBinary(stamp, hash));
+        return hash;
+    }
+
+    /**
+     * Installs the target's binary onto a device unless the device already holds that build.
+     *
+     * <p>Calls for the same device are serialized; different devices install concurrently.</p>
+     *
+     * @param udid   the device UDID
+     * @param target the app, with a local {@link AppTarget#getAppPath() app path}
+     * @return {@code true} if the build was installed, {@code false} if the device already had it
+     * @throws ConfigurationException if the target has no local binary
+     * @throws RuntimeException       if the install failed
+     */
+    public boolean ensureInstalled(String udid, AppTarget target) {
+        Path binary = binaryOf(target);
+        String hash = hash(binary);
+        String key = installKey(udid, target.getAppId());
+        synchronized (deviceLocks.computeIfAbsent(udid, id -> new Object())) {
+            if (hash.equals(installed.get(key)) || hash.equals(installer.installedHash(udid, target))) {
+                installed.put(key, hash);
+                FrameworkMetrics.appInstallsSkipped(target.getName()).increment();
+                LOGGER.debug("App [{}] build {} already on [{}]", target.getName(), shortHash(hash), udid);
+                return false;
+            }
+            long start = System.nanoTime();
+            installer.install(udid, target, binary, hash);
+            installed.put(key, hash);
+            FrameworkMetrics.appInstall(target.getName()).recordNanos(System.nanoTime() - start);
+            LOGGER.info("Installed app [{}] build {} on [{}] in {} ms", target.getName(), shortHash(hash), udid,
+                    (System.nanoTime() - start) / 1_000_000);
+            return true;
+        }
+    }
+
+    /**
+     * Installs the target's binary onto several devices in parallel, skipping
+     * devices that already hold the build. Returns once every device is done.
+     *
+     * @param udids  the device UDIDs
+     * @param target the app, with a local {@link AppTarget#getAppPath() app path}
+     * @throws ConfigurationException if the target has no local binary
+     * @throws FrameworkException     if the install failed on any device; the
+     *                                other devices are still installed
+     */
+    public void installAll(Collection<String> udids, AppTarget target) {
+        if (udids.isEmpty()) {
+            return;
+        }
+        // Hash once up front rather than racing every worker to read the same binary
+        hash(binaryOf(target));
+        long start = System.nanoTime();
+        AtomicLong counter = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelInstalls, udids.size()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "app-install-" + counter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            Map<String, Future<Boolean>> futures = new LinkedHashMap<>();
+            for (String udid : udids) {
+                futures.put(udid, executor.submit(() -> ensureInstalled(udid, target)));
+            }
+            int installs = 0;
+            Map<String, Throwable> failures = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<Boolean>> entry : futures.entrySet()) {
+                try {
+                    if (entry.getValue().get()) {
+                        installs++;
+                    }
+                } catch (ExecutionException e) {
+                    failures.put(entry.getKey(), e.getCause());
+                    LOGGER.error("Installing app [{}] on [{}] failed: {}", target.getName(), entry.getKey(),
+                            e.getCause().toString());
+                }
+            }
+            LOGGER.info("App [{}] ready on {} devices in {} ms ({} installed, {} up to date, {} failed)",
+                    target.getName(), udids.size(), (System.nanoTime() - start) / 1_000_000,
+                    installs, udids.size() - installs - failures.size(), failures.size());
+            if (!failures.isEmpty()) {
+                Iterator<Throwable> causes = failures.values().iterator();
+                FrameworkException error = new FrameworkException("App [" + target.getName()
+                        + "] failed to install on " + failures.keySet(), causes.next());
+                causes.forEachRemaining(error::addSuppressed);
+                throw error;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while installing app [" + target.getName() + "]", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Installs a binary through an open session unless that session's device
+     * already received the same build from this manager.
+     *
+     * @param driver  the session
+     * @param appPath the local binary
+     * @return {@code true} if the build was installed, {@code false} if it was already there
+     */
+    public boolean ensureInstalled(AppiumDriver driver, String appPath) {
+        return ensureInstalled(driver, driver.getCapabilities(), appPath);
+    }
+
+    /**
+     * Installs a binary with {@code mobile: installApp} unless the session's
+     * device already received the same build from this manager, either through
+     * an earlier session or through {@link #ensureInstalled(String, AppTarget)}.
+     *
+     * <p>Devices are told apart by the session's {@code udid} capability and apps
+     * by its {@code appPackage} or {@code bundleId}; without both the binary is
+     * always installed.</p>
+     *
+     * @param driver       the session, used to execute {@code mobile:} commands
+     * @param capabilities the session capabilities
+     * @param appPath      the local binary
+     * @return {@code true} if the build was installed, {@code false} if it was already there
+     */
+    public boolean ensureInstalled(JavascriptExecutor driver, Capabilities capabilities, String appPath) {
+        Path binary = Paths.get(appPath);
+        String hash = hash(binary);
+        boolean ios = "ios".equalsIgnoreCase(String.valueOf(capabilities.getCapability("platformName")));
+        Object udid = capability(capabilities, "udid");
+        Object appId = capability(capabilities, ios ? "bundleId" : "appPackage");
+        String key = udid != null && appId != null ? installKey(udid.toString(), appId.toString()) : null;
+        if (key != null && hash.equals(installed.get(key))) {
+            FrameworkMetrics.appInstallsSkipped(binary.getFileName().toString()).increment();
+            return false;
+        }
+        Map<String, Object> args = new HashMap<>();
+        args.put(ios ? "app" : "appPath", binary.toAbsolutePath().toString());
+        long start = System.nanoTime();
+        driver.executeScript("mobile: installApp", args);
+        FrameworkMetrics.appInstall(binary.getFileName().toString()).recordNanos(System.nanoTime() - start);
+        if (key != null) {
+            installed.put(key, hash);
+        }
+        return true;
+    }
+
+    /**
+     * Forgets every build recorded as installed on a device, e.g. after the device
+     * was wiped or restored from a snapshot, so the next
+     * {@link #ensureInstalled(String, AppTarget)} checks the device again.
+     *
+     * @param udid the device whose install records to drop
+     */
+    public void forget(String udid) {
+        String prefix = installKey(udid, "");
+        installed.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Returns the key under which the build installed for an app on a device is
+     * recorded; shared by the session and the command-line install paths.
+     */
+    private static String installKey(String udid, String appId) {
+        return udid + "|" + appId;
+    }
+
+    /**
+     * Reads an Appium capability under its {@code appium:} name or, as Appium
+     * returns session capabilities, without the prefix.
+     */
+    static Object capability(Capabilities capabilities, String name) {
+        Object value = capabilities.getCapability("appium:" + name);
+        return value != null ? value : capabilities.getCapability(name);
+    }
+
+    private static Path binaryOf(AppTarget target) {
+        String appPath = target.getAppPath();
+        if (appPath == null || appPath.contains("://")) {
+            throw new ConfigurationException("App [" + target.getName() + "] needs a local binary in its \"app\""
+                    + " entry to have its installs managed, got: " + appPath);
+        }
+        return Paths.get(appPath);
+    }
+
+    /**
+     * Returns the size and latest modification time of a file or directory tree;
+     * the hash is recomputed only when this changes.
+     */
+    private static String stamp(Path path) {
+        try (Stream<Path> files = Files.walk(path)) {
+            long size = 0;
+            long modified = 0;
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                size += Files.size(file);
+                modified = Math.max(modified, Files.getLastModifiedTime(file).toMillis());
+            }
+            return size + ":" + modified;
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to read app binary " + path, e);
+        }
+    }
+
+    /**
+     * Hashes a file, or every file of a directory in path order together with
+     * its relative path, so renaming a file inside an {@code .app} bundle changes
+     * the hash too.
+     */
+    private static String digest(Path path) {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (Stream<Path> walk = Files.walk(path)) {
+            List<Path> files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            for (Path file : files) {
+                if (Files.isDirectory(path)) {
+                    digest.update(path.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                }
+                try (InputStream in = Files.newInputStream(file)) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to hash app binary " + path, e);
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String shortHash(String hash) {
+        return hash.substring(0, 12);
+    }
+
+    /**
+     * Hash of a binary together with the size and modification stamp it was computed for.
+     */
+    private static final class HashedBinary {
+
+        private final String stamp;
+        private final String hash;
+
+        HashedBinary(String stamp, String hash) {
+            this.stamp = stamp;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Lazily created manager shared by the framework.
+     */
+    private static final class Shared {
+        private static final AppArtifacts INSTANCE = createFromConfig();
+
+        private static AppArtifacts createFromConfig() {
+            ArtifactsConfig config = EnvironmentConfig.getInstance().getArtifacts();
+            long installTimeoutMs = TimeUnit.SECONDS.toMillis(config.getInstallTimeoutSeconds());
+            return new AppArtifacts(new CommandLineInstaller(installTimeoutMs), config.getParallelInstalls());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.company.qa.core.app;
+
+import java.nio.file.Path;
+
+/**
+ * Installs app binaries onto devices outside of an Appium session and tells
+ * which build a device already holds.
+ *
+ * <p>Used by {@link AppArtifacts} to install once per device and build. The
+ * build is identified by the hash of its binary, which the installer stores
+ * next to the app on the device so it survives across runs.</p>
+ */
+public interface AppInstaller {
+
+    /**
+     * Returns the hash of the build of an app installed on a device.
+     *
+     * @param udid   the device UDID
+     * @param target the app
+     * @return the hash recorded at install time, or {@code null} if the app is
+     *         not installed or was installed without a recorded hash
+     */
+    String installedHash(String udid, AppTarget target);
+
+    /**
+     * Installs a binary onto a device, replacing any installed build, and
+     * records its hash.
+     *
+     * @param udid   the device UDID
+     * @param target the app
+     * @param binary the local {@code .apk}, {@code .ipa} or {@code .app}
+     * @param hash   the binary's hash, as returned by {@link AppArtifacts#hash(Path)}
+     * @throws RuntimeException if the install failed
+     */
+    void install(String udid, AppTarget target, Path binary, String hash);
+}
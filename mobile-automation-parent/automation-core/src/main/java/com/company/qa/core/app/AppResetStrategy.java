@@ -0,0 +1,62 @@
+package com.company.qa.core.app;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+
+/**
+ * One way of returning the app under test to a clean start state between scenarios.
+ *
+ * <p>Strategies are registered with an {@link AppResetter} under their
+ * {@link #getName() name}; each app lists the names it accepts in
+ * {@code apps.json}. The resetter tries the accepted strategies that
+ * {@link #supports(AppTarget, Capabilities) support} the session in order of
+ * {@link #getCost() cost}. Commands are sent as Appium {@code mobile:} scripts,
+ * so strategies work with any {@code AppiumDriver}.</p>
+ *
+ * @see ResetStrategies
+ */
+public interface AppResetStrategy {
+
+    /**
+     * Returns the name the strategy is configured under in {@code apps.json}.
+     *
+     * @return the strategy name, e.g. {@code "clearApp"}
+     */
+    String getName();
+
+    /**
+     * Returns the relative cost of a reset; cheaper strategies are tried first.
+     *
+     * @return the cost, roughly the typical duration in hundreds of milliseconds
+     */
+    int getCost();
+
+    /**
+     * Returns whether a reset with this strategy deletes the app's stored data.
+     * Strategies that only restart the app are skipped when the caller asks for
+     * a clean state.
+     *
+     * @return {@code true} (default) if the app starts without stored data afterwards
+     */
+    default boolean clearsAppData() {
+        return true;
+    }
+
+    /**
+     * Returns whether the strategy can reset this app in this session.
+     *
+     * @param target       the app under test
+     * @param capabilities the session capabilities
+     * @return {@code true} if {@link #reset} may be attempted
+     */
+    boolean supports(AppTarget target, Capabilities capabilities);
+
+    /**
+     * Resets the app and leaves it running in the foreground.
+     *
+     * @param driver the session, used to execute {@code mobile:} commands
+     * @param target the app under test
+     * @throws RuntimeException if the reset failed; the resetter then tries the next strategy
+     */
+    void reset(JavascriptExecutor driver, AppTarget target);
+}
@@ -0,0 +1,185 @@
+package com.company.qa.core.app;
+
+import com.company.qa.core.base.BaseScreen;
+import com.company.qa.core.exception.ConfigurationException;
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.metrics.FrameworkMetrics;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Resets the app under test with the cheapest strategy that works.
+ *
+ * <p>The strategies an app accepts are listed in its {@code apps.json} entry
+ * (see {@link AppTarget}). On each reset the resetter keeps the accepted
+ * strategies that {@link AppResetStrategy#supports support} the session, sorts
+ * them by {@link AppResetStrategy#getCost() cost} and tries them in turn: if
+ * the cheapest one fails, the next one runs, so a full reinstall only happens
+ * when nothing cheaper succeeded. A clean-state reset only considers
+ * strategies that {@link AppResetStrategy#clearsAppData() clear app data}.</p>
+ *
+ * <p>The built-in {@link ResetStrategies} are registered by default; custom
+ * strategies can be added with {@link #register(AppResetStrategy)}.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * AppResetStrategy used = AppResetter.shared()
+ *         .reset(MobileDriverManager.getDriver(), MobileDriverManager.getAppTarget());
+ * }</pre>
+ */
+public class AppResetter {
+
+    private final Map<String, AppResetStrategy> strategies = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a resetter with the built-in strategies registered.
+     */
+    public AppResetter() {
+        for (ResetStrategies strategy : ResetStrategies.values()) {
+            register(strategy);
+        }
+    }
+
+    /**
+     * Returns the process-wide resetter used by the driver manager and steps.
+     *
+     * @return the shared resetter
+     */
+    public static AppResetter shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Registers a strategy, replacing any strategy with the same name.
+     *
+     * @param strategy the strategy to register
+     * @return this resetter for method chaining
+     */
+    public AppResetter register(AppResetStrategy strategy) {
+        strategies.put(strategy.getName(), strategy);
+        return this;
+    }
+
+    /**
+     * Returns the strategies that would be tried for a target, cheapest first.
+     *
+     * @param target       the app under test
+     * @param capabilities the session capabilities
+     * @return the accepted and supported strategies, ordered by cost
+     * @throws ConfigurationException if the app lists a strategy that is not registered
+     */
+    public List<AppResetStrategy> candidates(AppTarget target, Capabilities capabilities) {
+        return candidates(target, capabilities, false);
+    }
+
+    /**
+     * Returns the strategies that would be tried for a target, cheapest first.
+     *
+     * @param target       the app under test
+     * @param capabilities the session capabilities
+     * @param cleanState   {@code true} to keep only strategies that clear app data
+     * @return the accepted and supported strategies, ordered by cost
+     * @throws ConfigurationException if the app lists a strategy that is not registered
+     */
+    public List<AppResetStrategy> candidates(AppTarget target, Capabilities capabilities, boolean cleanState) {
+        List<AppResetStrategy> candidates = new ArrayList<>();
+        for (String name : target.getResetStrategies()) {
+            AppResetStrategy strategy = strategies.get(name);
+            if (strategy == null) {
+                throw new ConfigurationException("Unknown reset strategy [" + name + "] for app ["
+                        + target.getName() + "]. Available: " + strategies.keySet());
+            }
+            if (strategy.supports(target, capabilities) && (!cleanState || strategy.clearsAppData())) {
+                candidates.add(strategy);
+            }
+        }
+        candidates.sort(Comparator.comparingInt(AppResetStrategy::getCost));
+        return candidates;
+    }
+
+    /**
+     * Resets the app in the given session.
+     *
+     * @param driver the session
+     * @param target the app under test
+     * @return the strategy that succeeded
+     * @throws FrameworkException if no strategy applies or every applicable one failed
+     */
+    public AppResetStrategy reset(AppiumDriver driver, AppTarget target) {
+        return reset(driver, driver.getCapabilities(), target);
+    }
+
+    /**
+     * Resets the app through a script executor, for sessions not held as an {@link AppiumDriver}.
+     *
+     * @param driver       the session, used to execute {@code mobile:} commands
+     * @param capabilities the session capabilities
+     * @param target       the app under test
+     * @return the strategy that succeeded
+     * @throws FrameworkException if the target is {@code null}, no strategy applies
+     *                            or every applicable one failed
+     */
+    public AppResetStrategy reset(JavascriptExecutor driver, Capabilities capabilities, AppTarget target) {
+        return reset(driver, capabilities, target, false);
+    }
+
+    /**
+     * Resets the app through a script executor, optionally requiring that its
+     * stored data is gone afterwards.
+     *
+     * @param driver       the session, used to execute {@code mobile:} commands
+     * @param capabilities the session capabilities
+     * @param target       the app under test
+     * @param cleanState   {@code true} to use only strategies that clear app data,
+     *                     skipping e.g. {@link ResetStrategies#DEEP_LINK}
+     * @return the strategy that succeeded
+     * @throws FrameworkException if the target is {@code null}, no strategy applies
+     *                            or every applicable one failed
+     */
+    public AppResetStrategy reset(JavascriptExecutor driver, Capabilities capabilities, AppTarget target,
+                                  boolean cleanState) {
+        if (target == null) {
+            throw new FrameworkException("No app target to reset; create the driver from apps.json config");
+        }
+        List<AppResetStrategy> candidates = candidates(target, capabilities, cleanState);
+        if (candidates.isEmpty()) {
+            throw new FrameworkException("No " + (cleanState ? "clean-state " : "") + "reset strategy applies to app ["
+                    + target.getName() + "] on " + target.getPlatform() + "; configured: "
+                    + target.getResetStrategies());
+        }
+        RuntimeException lastFailure = null;
+        for (AppResetStrategy strategy : candidates) {
+            long start = System.nanoTime();
+            try {
+                strategy.reset(driver, target);
+                BaseScreen.navigated();
+                FrameworkMetrics.appReset(strategy.getName()).recordNanos(System.nanoTime() - start);
+                LOGGER.info("App [{}] reset with [{}] in {} ms", target.getName(), strategy.getName(),
+                        (System.nanoTime() - start) / 1_000_000);
+                return strategy;
+            } catch (RuntimeException e) {
+                FrameworkMetrics.appResetFailures(strategy.getName()).increment();
+                LOGGER.warn("Reset strategy [{}] failed for app [{}]: {}",
+                        strategy.getName(), target.getName(), e.toString());
+                lastFailure = e;
+            }
+        }
+        throw new FrameworkException("Every reset strategy failed for app [" + target.getName() + "]", lastFailure);
+    }
+
+    /**
+     * Lazily created resetter shared by the framework.
+     */
+    private static final class Shared {
+        private static final AppResetter INSTANCE = new AppResetter();
+    }
+}
@@ -0,0 +1,183 @@
+package com.company.qa.core.app;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable description of the app under test on one platform, resolved from an
+ * app entry in {@code apps.json}.
+ *
+ * <p>Besides the per-platform capability blocks, an app entry may carry a
+ * {@code reset} block that lists the reset strategies acceptable for the app
+ * and the settings they need:</p>
+ * <pre>{@code
+ * "cloneai": {
+ *   "reset": {
+ *     "strategies": ["deepLink", "clearApp", "reinstall"],
+ *     "deepLink": "cloneai://home",
+ *     "snapshot": "qa-clean"
+ *   },
+ *   "android": { "appPackage": "com.cloneai.app", "app": "/path/to/cloneai.apk" },
+ *   "ios": { "bundleId": "com.cloneai.app", "app": "/path/to/cloneai.ipa" }
+ * }
+ * }</pre>
+ *
+ * <p>Without a {@code reset} block the app allows {@code clearApp} and
+ * {@code reinstall}.</p>
+ */
+public final class AppTarget {
+
+    static final List<String> DEFAULT_RESET_STRATEGIES =
+            Collections.unmodifiableList(Arrays.asList("clearApp", "reinstall"));
+
+    private final String name;
+    private final String platform;
+    private final String appId;
+    private final String appPath;
+    private final String deepLink;
+    private final String snapshot;
+    private final List<String> resetStrategies;
+
+    private AppTarget(String name, String platform, String appId, String appPath, String deepLink,
+                      String snapshot, List<String> resetStrategies) {
+        this.name = name;
+        this.platform = platform;
+        this.appId = appId;
+        this.appPath = appPath;
+        this.deepLink = deepLink;
+        this.snapshot = snapshot;
+        this.resetStrategies = Collections.unmodifiableList(new ArrayList<>(resetStrategies));
+    }
+
+    /**
+     * Resolves the target from an {@code apps.json} app entry.
+     *
+     * @param name      the app key in {@code apps.json}
+     * @param platform  {@code "android"} or {@code "ios"}
+     * @param appConfig the app entry holding the platform blocks and optional {@code reset} block
+     * @return the resolved target; fields missing from the config are {@code null}
+     */
+    public static AppTarget from(String name, String platform, JsonObject appConfig) {
+        String platformName = platform.toLowerCase(Locale.ROOT);
+        JsonObject platformConfig = objectOrEmpty(appConfig, platformName);
+        JsonObject reset = objectOrEmpty(appConfig, "reset");
+
+        String appId = string(platformConfig, platformName.equals("ios") ? "bundleId" : "appPackage");
+        List<String> strategies = new ArrayList<>();
+        if (reset.has("strategies") && reset.get("strategies").isJsonArray()) {
+            for (JsonElement strategy : reset.getAsJsonArray("strategies")) {
+                strategies.add(strategy.getAsString());
+            }
+        } else {
+            strategies.addAll(DEFAULT_RESET_STRATEGIES);
+        }
+        return new AppTarget(name, platformName, appId, string(platformConfig, "app"),
+                string(reset, "deepLink"), string(reset, "snapshot"), strategies);
+    }
+
+    /**
+     * Returns a copy of this target with another app binary, e.g. from {@code -DappPath}.
+     *
+     * @param appPath the path or URL of the app binary
+     * @return the new target
+     */
+    public AppTarget withAppPath(String appPath) {
+        return new AppTarget(name, platform, appId, appPath, deepLink, snapshot, resetStrategies);
+    }
+
+    /**
+     * Returns the app key in {@code apps.json}.
+     *
+     * @return the app name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the platform the target was resolved for.
+     *
+     * @return {@code "android"} or {@code "ios"}
+     */
+    public String getPlatform() {
+        return platform;
+    }
+
+    /**
+     * Returns whether the target is an Android app.
+     *
+     * @return {@code true} for Android, {@code false} for iOS
+     */
+    public boolean isAndroid() {
+        return "android".equals(platform);
+    }
+
+    /**
+     * Returns the app package (Android) or bundle ID (iOS).
+     *
+     * @return the app identifier, or {@code null} if not configured
+     */
+    public String getAppId() {
+        return appId;
+    }
+
+    /**
+     * Returns the path or URL of the app binary.
+     *
+     * @return the {@code app} capability, or {@code null} if not configured
+     */
+    public String getAppPath() {
+        return appPath;
+    }
+
+    /**
+     * Returns the deep link that opens the app in its start state.
+     *
+     * @return the URL, or {@code null} if not configured
+     */
+    public String getDeepLink() {
+        return deepLink;
+    }
+
+    /**
+     * Returns the name of the emulator snapshot holding a clean install of the app.
+     *
+     * @return the snapshot name, or {@code null} if not configured
+     */
+    public String getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the names of the reset strategies acceptable for this app.
+     *
+     * @return the strategy names, in configured order
+     */
+    public List<String> getResetStrategies() {
+        return resetStrategies;
+    }
+
+    @Override
+    public String toString() {
+        return "AppTarget{name=" + name + ", platform=" + platform + ", appId=" + appId
+                + ", resetStrategies=" + resetStrategies + "}";
+    }
+
+    private static JsonObject objectOrEmpty(JsonObject parent, String key) {
+        if (parent != null && parent.has(key) && parent.get(key).isJsonObject()) {
+            return parent.getAsJsonObject(key);
+        }
+        return new JsonObject();
+    }
+
+    private static String string(JsonObject parent, String key) {
+        JsonElement value = parent.get(key);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+}
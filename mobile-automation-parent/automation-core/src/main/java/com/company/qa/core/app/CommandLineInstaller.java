@@ -0,0 +1,135 @@
+package com.company.qa.core.app;
+
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.util.CommandLine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link AppInstaller} that drives {@code adb} for Android devices and
+ * emulators and {@code xcrun simctl} for iOS simulators.
+ *
+ * <p>The build hash is kept on the device. On iOS simulators it sits in the
+ * app's data container, which {@code simctl} exposes as a host directory, so
+ * uninstalling the app also forgets it. On Android it sits in
+ * {@code /data/local/tmp/qa-artifacts}, which outlives the app, so it is
+ * stored together with the package's {@code lastUpdateTime} from
+ * {@code dumpsys package} and only trusted while that is unchanged; a build
+ * installed by hand, or after an uninstall, is never mistaken for the
+ * recorded one.</p>
+ */
+final class CommandLineInstaller implements AppInstaller {
+
+    private static final String ANDROID_MARKER_DIR = "/data/local/tmp/qa-artifacts";
+    private static final String IOS_MARKER_FILE = "Library/qa-artifact.sha256";
+    private static final long QUERY_TIMEOUT_MS = 30_000;
+    private static final Pattern LAST_UPDATE_TIME = Pattern.compile("lastUpdateTime=([^\\r\\n]+)");
+
+    private final String adb = CommandLine.androidTool("platform-tools", "adb");
+    private final long installTimeoutMs;
+
+    /**
+     * Creates an installer.
+     *
+     * @param installTimeoutMs how long one install command may run
+     */
+    CommandLineInstaller(long installTimeoutMs) {
+        this.installTimeoutMs = installTimeoutMs;
+    }
+
+    @Override
+    public String installedHash(String udid, AppTarget target) {
+        if (target.isAndroid()) {
+            String updated = lastUpdateTime(udid, target);
+            if (updated == null) {
+                return null;
+            }
+            CommandLine.Result marker = CommandLine.run(QUERY_TIMEOUT_MS, adb, "-s", udid, "shell",
+                    "cat", androidMarker(target));
+            if (!marker.isSuccess()) {
+                return null;
+            }
+            // "<hash> <lastUpdateTime>": the hash only describes the package it was written for
+            String[] recorded = marker.getOutput().trim().split(" ", 2);
+            return recorded.length == 2 && recorded[1].equals(updated) ? emptyToNull(recorded[0]) : null;
+        }
+        Path marker = iosMarker(udid, target);
+        try {
+            return marker != null && Files.isRegularFile(marker)
+                    ? emptyToNull(new String(Files.readAllBytes(marker), StandardCharsets.UTF_8).trim())
+                    : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void install(String udid, AppTarget target, Path binary, String hash) {
+        if (target.isAndroid()) {
+            // -r replaces an installed build, -t allows debug builds marked testOnly
+            String output = CommandLine.check(installTimeoutMs, adb, "-s", udid, "install", "-r", "-t",
+                    binary.toString());
+            if (!output.contains("Success")) {
+                throw new FrameworkException("adb install failed on [" + udid + "]: " + output.trim());
+            }
+            String updated = lastUpdateTime(udid, target);
+            if (updated == null) {
+                throw new FrameworkException("adb install reported success on [" + udid + "] but package ["
+                        + target.getAppId() + "] is not installed");
+            }
+            CommandLine.check(QUERY_TIMEOUT_MS, adb, "-s", udid, "shell", "mkdir -p " + ANDROID_MARKER_DIR
+                    + " && echo '" + hash + " " + updated + "' > " + androidMarker(target));
+            return;
+        }
+        CommandLine.check(installTimeoutMs, "xcrun", "simctl", "install", udid, binary.toString());
+        Path marker = iosMarker(udid, target);
+        if (marker == null) {
+            throw new FrameworkException("Installed " + binary + " on [" + udid + "] but cannot find the data"
+                    + " container of [" + target.getAppId() + "]; only iOS simulators are supported");
+        }
+        try {
+            Files.createDirectories(marker.getParent());
+            Files.write(marker, hash.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to record the installed build in " + marker, e);
+        }
+    }
+
+    /**
+     * Returns when the package was last installed or updated, or {@code null}
+     * if it is not installed on the device.
+     */
+    private String lastUpdateTime(String udid, AppTarget target) {
+        CommandLine.Result dump = CommandLine.run(QUERY_TIMEOUT_MS, adb, "-s", udid, "shell",
+                "dumpsys", "package", target.getAppId());
+        if (!dump.isSuccess()) {
+            return null;
+        }
+        Matcher matcher = LAST_UPDATE_TIME.matcher(dump.getOutput());
+        return matcher.find() ? matcher.group(1).trim() : null;
+    }
+
+    private static String androidMarker(AppTarget target) {
+        return ANDROID_MARKER_DIR + "/" + target.getAppId() + ".sha256";
+    }
+
+    /**
+     * Returns the marker file inside the app's simulator data container, or
+     * {@code null} if the app is not installed on a simulator with this UDID.
+     */
+    private static Path iosMarker(String udid, AppTarget target) {
+        CommandLine.Result container = CommandLine.run(QUERY_TIMEOUT_MS, "xcrun", "simctl",
+                "get_app_container", udid, target.getAppId(), "data");
+        return container.isSuccess() ? Paths.get(container.getOutput().trim(), IOS_MARKER_FILE) : null;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
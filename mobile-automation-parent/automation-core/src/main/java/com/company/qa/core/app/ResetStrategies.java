@@ -0,0 +1,147 @@
+package com.company.qa.core.app;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Built-in {@link AppResetStrategy reset strategies}, from cheapest to most expensive.
+ * Only {@code deepLink} keeps app data, so it is never chosen for a
+ * {@linkplain AppResetter#reset(JavascriptExecutor, Capabilities, AppTarget, boolean) clean-state} reset.
+ *
+ * <table>
+ *   <caption>Built-in strategies</caption>
+ *   <tr><td>{@code deepLink}</td><td>Restart the app through its start-state deep link; keeps app data</td></tr>
+ *   <tr><td>{@code clearApp}</td><td>Clear app data ({@code pm clear} on Android) and relaunch</td></tr>
+ *   <tr><td>{@code snapshot}</td><td>Load a pre-captured emulator snapshot (Android emulators only; needs
+ *       the Appium server's {@code emulator_console} insecure feature)</td></tr>
+ *   <tr><td>{@code reinstall}</td><td>Uninstall, install and launch the app binary; last resort</td></tr>
+ * </table>
+ */
+public enum ResetStrategies implements AppResetStrategy {
+
+    /**
+     * Terminates the app and reopens it through {@link AppTarget#getDeepLink()}.
+     * Keeps app data, so logins and other stored state survive; it is skipped
+     * when a clean state is required.
+     */
+    DEEP_LINK("deepLink", 10) {
+        @Override
+        public boolean clearsAppData() {
+            return false;
+        }
+
+        @Override
+        public boolean supports(AppTarget target, Capabilities capabilities) {
+            return target.getAppId() != null && target.getDeepLink() != null;
+        }
+
+        @Override
+        public void reset(JavascriptExecutor driver, AppTarget target) {
+            execute(driver, "mobile: terminateApp", appArgs(target));
+            Map<String, Object> args = new HashMap<>();
+            args.put("url", target.getDeepLink());
+            args.put(target.isAndroid() ? "package" : "bundleId", target.getAppId());
+            execute(driver, "mobile: deepLink", args);
+        }
+    },
+
+    /**
+     * Terminates the app, deletes its data and relaunches it. On iOS this works
+     * on simulators only.
+     */
+    CLEAR_APP("clearApp", 20) {
+        @Override
+        public boolean supports(AppTarget target, Capabilities capabilities) {
+            return target.getAppId() != null;
+        }
+
+        @Override
+        public void reset(JavascriptExecutor driver, AppTarget target) {
+            execute(driver, "mobile: terminateApp", appArgs(target));
+            execute(driver, "mobile: clearApp", appArgs(target));
+            execute(driver, "mobile: activateApp", appArgs(target));
+        }
+    },
+
+    /**
+     * Loads the emulator snapshot named by {@link AppTarget#getSnapshot()} and
+     * relaunches the app. The snapshot must have been saved with the app
+     * installed and the session's UiAutomator2 server running, e.g. with
+     * {@code adb emu avd snapshot save qa-clean} right after the first session
+     * started. The load goes through {@code mobile: execEmuConsoleCommand}, which
+     * Appium only allows with the {@code emulator_console} insecure feature, e.g.
+     * {@code appium --allow-insecure=uiautomator2:emulator_console}.
+     */
+    SNAPSHOT("snapshot", 50) {
+        @Override
+        public boolean supports(AppTarget target, Capabilities capabilities) {
+            if (!target.isAndroid() || target.getSnapshot() == null || target.getAppId() == null) {
+                return false;
+            }
+            Object udid = AppArtifacts.capability(capabilities, "udid");
+            return udid == null || String.valueOf(udid).startsWith("emulator-");
+        }
+
+        @Override
+        public void reset(JavascriptExecutor driver, AppTarget target) {
+            Map<String, Object> args = new HashMap<>();
+            args.put("command", "avd snapshot load " + target.getSnapshot());
+            execute(driver, "mobile: execEmuConsoleCommand", args);
+            execute(driver, "mobile: activateApp", appArgs(target));
+        }
+    },
+
+    /**
+     * Removes the app, installs {@link AppTarget#getAppPath()} and launches it.
+     */
+    REINSTALL("reinstall", 200) {
+        @Override
+        public boolean supports(AppTarget target, Capabilities capabilities) {
+            return target.getAppId() != null && target.getAppPath() != null;
+        }
+
+        @Override
+        public void reset(JavascriptExecutor driver, AppTarget target) {
+            execute(driver, "mobile: removeApp", appArgs(target));
+            Map<String, Object> args = new HashMap<>();
+            args.put(target.isAndroid() ? "appPath" : "app", target.getAppPath());
+            execute(driver, "mobile: installApp", args);
+            execute(driver, "mobile: activateApp", appArgs(target));
+        }
+    };
+
+    private final String name;
+    private final int cost;
+
+    ResetStrategies(String name, int cost) {
+        this.name = name;
+        this.cost = cost;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Builds the argument map identifying the app: {@code appId} on Android,
+     * {@code bundleId} on iOS.
+     */
+    static Map<String, Object> appArgs(AppTarget target) {
+        Map<String, Object> args = new HashMap<>();
+        args.put(target.isAndroid() ? "appId" : "bundleId", target.getAppId());
+        return args;
+    }
+
+    private static void execute(JavascriptExecutor driver, String command, Map<String, Object> args) {
+        driver.executeScript(command, args);
+    }
+}
@@ -1,8 +1,16 @@
 package com.company.qa.core.base;
 
 import com.company.qa.core.driver.MobileDriverManager;
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.metrics.FrameworkMetrics;
 import io.appium.java_client.AppiumDriver;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriverException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Abstract base class for flow (business-logic) classes in mobile automation.
@@ -11,6 +19,13 @@ import org.apache.logging.log4j.Logger;
  * and a Log4j2 {@link Logger} scoped to the concrete subclass. Flow classes
  * typically orchestrate interactions across multiple screen objects to implement
  * end-to-end user journeys.</p>
+ *
+ * <p>{@link #navigateTo(Class, Map, Runnable)} opens a screen through its
+ * {@link DeepLink} in a single command and waits for its
+ * {@link BaseScreen#readyMarkers() ready markers}; the UI route passed by the
+ * flow is walked when the screen declares no deep link, or when opening the link
+ * fails or the markers do not appear after it. Either way, screen objects
+ * created earlier check their ready markers again on next use.</p>
  */
 public abstract class BaseFlow {
 
@@ -25,4 +40,100 @@ public abstract class BaseFlow {
     protected AppiumDriver getDriver() {
         return MobileDriverManager.getDriver();
     }
+
+    /**
+     * Opens a screen through its deep link.
+     *
+     * @param screen the screen class, annotated with {@link DeepLink}
+     * @param <S>    the screen type
+     * @return the ready screen
+     * @throws FrameworkException if the screen declares no deep link
+     */
+    protected <S extends BaseScreen> S navigateTo(Class<S> screen) {
+        return navigateTo(screen, Collections.emptyMap(), null);
+    }
+
+    /**
+     * Opens a screen through its deep link, or through the UI if it declares none.
+     *
+     * @param screen       the screen class
+     * @param params       values for the deep link's {@code {name}} placeholders
+     * @param uiNavigation taps through the UI to the screen; used without a deep
+     *                     link or when the deep link fails, may be {@code null}
+     * @param <S>          the screen type
+     * @return the screen, after its ready markers are visible
+     * @throws FrameworkException if the screen has neither a deep link nor a UI route,
+     *                            or a deep link parameter is missing
+     * @throws RuntimeException   if the deep link fails and there is no UI route to fall back to
+     */
+    protected <S extends BaseScreen> S navigateTo(Class<S> screen, Map<String, String> params,
+                                                  Runnable uiNavigation) {
+        String url = DeepLinks.resolve(screen, MobileDriverManager.getPlatform(), params);
+        if (url == null && uiNavigation == null) {
+            throw new FrameworkException(screen.getSimpleName()
+                    + " has no @DeepLink and no UI route was given to reach it");
+        }
+
+        long start = System.nanoTime();
+        String via = "ui";
+        S target = null;
+        if (url != null) {
+            try {
+                openDeepLink(url);
+                BaseScreen.navigated();
+                target = newScreen(screen);
+                target.waitUntilReady();
+                via = "deeplink";
+            } catch (RuntimeException e) {
+                if (uiNavigation == null) {
+                    throw e;
+                }
+                logger.warn("Deep link [{}] did not open {} ({}); navigating through the UI",
+                        url, screen.getSimpleName(), e.getMessage());
+                target = null;
+            }
+        }
+        if (target == null) {
+            uiNavigation.run();
+            BaseScreen.navigated();
+            target = newScreen(screen);
+            target.waitUntilReady();
+        }
+        FrameworkMetrics.navigation(via).recordNanos(System.nanoTime() - start);
+        logger.info("Navigated to {} via {} in {} ms", screen.getSimpleName(), via,
+                (System.nanoTime() - start) / 1_000_000);
+        return target;
+    }
+
+    /**
+     * Opens a URL in the app under test with {@code mobile: deepLink}, falling
+     * back to {@code driver.get} for drivers without that extension.
+     *
+     * @param url the deep link or intent URL
+     */
+    protected void openDeepLink(String url) {
+        AppiumDriver driver = getDriver();
+        Map<String, Object> args = new HashMap<>();
+        args.put("url", url);
+        String appId = MobileDriverManager.getAppId();
+        if (appId != null) {
+            args.put("ios".equalsIgnoreCase(MobileDriverManager.getPlatform()) ? "bundleId" : "package", appId);
+        }
+        try {
+            driver.executeScript("mobile: deepLink", args);
+        } catch (WebDriverException e) {
+            logger.debug("mobile: deepLink unavailable ({}); opening [{}] with driver.get", e.getMessage(), url);
+            driver.get(url);
+        }
+    }
+
+    private static <S extends BaseScreen> S newScreen(Class<S> screen) {
+        try {
+            return screen.getDeclaredConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            throw new FrameworkException("Failed to create " + screen.getSimpleName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new FrameworkException(screen.getSimpleName() + " needs an accessible no-arg constructor", e);
+        }
+    }
 }
@@ -1,12 +1,16 @@
 package com.company.qa.core.base;
 
+import com.company.qa.core.context.ScenarioLocal;
 import com.company.qa.core.driver.MobileDriverManager;
 import com.company.qa.core.wait.WaitHelper;
 import io.appium.java_client.AppiumDriver;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract base class for screen (page) objects in mobile automation.
@@ -16,16 +20,32 @@ import java.util.List;
  * such as tapping, typing, and reading text.</p>
  *
  * <p>Subclasses should define locators and higher-level actions specific to a
- * single screen of the application under test.</p>
+ * single screen of the application under test. A screen that can be opened
+ * directly declares its URL with {@link DeepLink} and the elements that prove
+ * it has loaded with {@link #readyMarkers()}.</p>
+ *
+ * <p>The ready markers are awaited together, in one polling loop, the first
+ * time the screen is used; the element helpers that act on an element do this
+ * before their own lookup, while {@link #findAll(By)} and
+ * {@link #isDisplayed(By)} skip it, so a check for an absent element never
+ * adds the marker wait to its own. The result, success or timeout, is kept
+ * until the next {@link #navigated() navigation}, so later calls on the same
+ * screen do not wait again.</p>
  */
 public abstract class BaseScreen {
 
+    /** Navigations in the current scenario; a screen is ready for the count it was checked at. */
+    private static final ScenarioLocal<AtomicLong> NAVIGATIONS = ScenarioLocal.withInitial(AtomicLong::new);
+
     /** The Appium driver for the current thread. */
     protected final AppiumDriver driver;
 
     /** Helper for explicit waits using timeouts from {@link com.company.qa.core.config.EnvironmentConfig}. */
     protected final WaitHelper waitHelper;
 
+    private long checkedAt = -1;
+    private TimeoutException notReady;
+
     /**
      * Initializes the screen with the current thread's driver and a default
      * {@link WaitHelper}.
@@ -35,6 +55,56 @@ public abstract class BaseScreen {
         this.waitHelper = new WaitHelper(driver);
     }
 
+    /**
+     * Returns the locators of elements that are visible once this screen has loaded.
+     *
+     * @return the ready markers; empty (the default) if the screen declares none
+     */
+    protected List<By> readyMarkers() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Waits until every {@link #readyMarkers() ready marker} is visible, unless
+     * that was already checked since the last {@link #navigated() navigation}.
+     *
+     * @return this screen, for chaining
+     * @throws TimeoutException if a marker did not appear in time; repeated
+     *                          without waiting again until the next navigation
+     */
+    public BaseScreen waitUntilReady() {
+        long navigation = NAVIGATIONS.get().get();
+        if (checkedAt != navigation) {
+            notReady = null;
+            List<By> markers = readyMarkers();
+            if (!markers.isEmpty()) {
+                try {
+                    waitHelper.waitForAllVisible(markers);
+                } catch (TimeoutException e) {
+                    notReady = e;
+                }
+            }
+            checkedAt = navigation;
+        }
+        if (notReady != null) {
+            throw new TimeoutException(getClass().getSimpleName() + " is not ready: " + notReady.getMessage(),
+                    notReady);
+        }
+        return this;
+    }
+
+    /**
+     * Records that the app has moved to another screen, so every screen of the
+     * current scenario checks its ready markers again on next use.
+     *
+     * <p>Called by {@link BaseFlow#navigateTo(Class, java.util.Map, Runnable)} and after an
+     * app reset; call it after any other action that leaves the current screen
+     * but keeps using existing screen objects.</p>
+     */
+    public static void navigated() {
+        NAVIGATIONS.get().incrementAndGet();
+    }
+
     /**
      * Finds a single element after waiting for it to become visible.
      *
@@ -42,6 +112,7 @@ public abstract class BaseScreen {
      * @return the visible {@link WebElement}
      */
     protected WebElement find(By locator) {
+        waitUntilReady();
         return waitHelper.waitForVisible(locator);
     }
 
@@ -61,6 +132,7 @@ public abstract class BaseScreen {
      * @param locator the element locator
      */
     protected void tap(By locator) {
+        waitUntilReady();
         waitHelper.waitForClickable(locator).click();
     }
 
@@ -71,6 +143,7 @@ public abstract class BaseScreen {
      * @param text    the text to enter
      */
     protected void type(By locator, String text) {
+        waitUntilReady();
         WebElement element = waitHelper.waitForVisible(locator);
         element.clear();
         element.sendKeys(text);
@@ -83,6 +156,7 @@ public abstract class BaseScreen {
      * @return the element's visible text
      */
     protected String getText(By locator) {
+        waitUntilReady();
         return waitHelper.waitForVisible(locator).getText();
     }
 
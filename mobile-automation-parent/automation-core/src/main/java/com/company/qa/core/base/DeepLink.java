@@ -0,0 +1,48 @@
+package com.company.qa.core.base;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the deep link (or Android intent URL) that opens a {@link BaseScreen}
+ * directly, so {@link BaseFlow#navigateTo(Class)} can skip tapping through the UI.
+ *
+ * <p>URLs may contain {@code {name}} placeholders, filled from the parameters
+ * passed to {@link BaseFlow#navigateTo(Class, java.util.Map, Runnable)} and
+ * percent-encoded, so they are safe in path segments and queries alike.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * @DeepLink(value = "shop://search?q={query}", ios = "shop://search/{query}")
+ * public class SearchResultsScreen extends BaseScreen { ... }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DeepLink {
+
+    /**
+     * Returns the URL used on every platform without its own override.
+     *
+     * @return the deep link URL
+     */
+    String value();
+
+    /**
+     * Returns the URL used on Android instead of {@link #value()}.
+     *
+     * @return the Android URL, or an empty string to use {@link #value()}
+     */
+    String android() default "";
+
+    /**
+     * Returns the URL used on iOS instead of {@link #value()}.
+     *
+     * @return the iOS URL, or an empty string to use {@link #value()}
+     */
+    String ios() default "";
+}
@@ -0,0 +1,75 @@
+package com.company.qa.core.base;
+
+import com.company.qa.core.exception.FrameworkException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the {@link DeepLink} URL of a screen class for a platform.
+ */
+final class DeepLinks {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Za-z0-9_]+)}");
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private DeepLinks() {
+    }
+
+    /**
+     * Returns the deep link that opens a screen.
+     *
+     * @param screen   the screen class
+     * @param platform {@code "android"} or {@code "ios"}; {@code null} uses the default URL
+     * @param params   values for the URL's {@code {name}} placeholders
+     * @return the URL with placeholders filled in, or {@code null} if the screen
+     *         declares no deep link
+     * @throws FrameworkException if a placeholder has no value
+     */
+    static String resolve(Class<?> screen, String platform, Map<String, String> params) {
+        DeepLink link = screen.getAnnotation(DeepLink.class);
+        if (link == null) {
+            return null;
+        }
+        String template = link.value();
+        if ("android".equalsIgnoreCase(platform) && !link.android().isEmpty()) {
+            template = link.android();
+        } else if ("ios".equalsIgnoreCase(platform) && !link.ios().isEmpty()) {
+            template = link.ios();
+        }
+
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuffer url = new StringBuffer();
+        while (matcher.find()) {
+            String value = params.get(matcher.group(1));
+            if (value == null) {
+                throw new FrameworkException("Deep link of " + screen.getSimpleName()
+                        + " needs parameter [" + matcher.group(1) + "]: " + template);
+            }
+            matcher.appendReplacement(url, Matcher.quoteReplacement(encode(value)));
+        }
+        matcher.appendTail(url);
+        return url.toString();
+    }
+
+    /**
+     * Percent-encodes everything except RFC 3986 unreserved characters, so a
+     * value is safe in a path segment as well as a query ({@code ' '} becomes
+     * {@code %20}, never {@code +}).
+     */
+    static String encode(String value) {
+        StringBuilder encoded = new StringBuilder();
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '~') {
+                encoded.append(c);
+            } else {
+                encoded.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+        }
+        return encoded.toString();
+    }
+}
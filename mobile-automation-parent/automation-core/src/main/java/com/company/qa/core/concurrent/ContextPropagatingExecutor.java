@@ -0,0 +1,96 @@
+package com.company.qa.core.concurrent;
+
+import com.company.qa.core.context.ScenarioScope;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExecutorService} decorator that runs each task with the submitting
+ * thread's {@link ScenarioScope} and Log4j {@link ThreadContext} attached.
+ *
+ * <p>Both are captured when the task is submitted and restored to the worker's
+ * previous values when it finishes, so pooled threads never leak one
+ * scenario's bindings into the next task. Tasks therefore see the scenario's
+ * driver and {@code TestContext} values, and their log events carry the
+ * scenario and step.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * ExecutorService executor = new ContextPropagatingExecutor(VirtualThreads.newExecutor("scenario-io"));
+ * executor.submit(() -> ScreenshotHelper.takeScreenshot(MobileDriverManager.getDriver()));
+ * }</pre>
+ */
+public class ContextPropagatingExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    /**
+     * Creates an executor that propagates context to tasks run by {@code delegate}.
+     *
+     * @param delegate the executor that runs the tasks
+     */
+    public ContextPropagatingExecutor(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps a task so it runs with the current thread's scope and log context.
+     *
+     * @param task the task
+     * @return the wrapped task, to be run on any thread
+     */
+    public static Runnable propagate(Runnable task) {
+        ScenarioScope scope = ScenarioScope.current();
+        Map<String, String> logContext = ThreadContext.getImmutableContext();
+        Runnable scoped = scope != null ? scope.wrap(task) : task;
+        if (logContext.isEmpty()) {
+            return scoped;
+        }
+        return () -> {
+            Map<String, String> previous = ThreadContext.getImmutableContext();
+            ThreadContext.clearMap();
+            ThreadContext.putAll(logContext);
+            try {
+                scoped.run();
+            } finally {
+                ThreadContext.clearMap();
+                ThreadContext.putAll(previous);
+            }
+        };
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(propagate(command));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.qa.core.concurrent;
+
+/**
+ * Brings up the device behind a {@link DeviceSlot} when the slot is leased.
+ *
+ * <p>The {@link DeviceSlotAllocator} calls {@link #prepare(DeviceSlot)} on every
+ * lease, before the scenario creates its session, so implementations must
+ * return quickly for a device that is already up. Devices that are not theirs
+ * to manage are left alone.</p>
+ *
+ * @see EmulatorProvisioner
+ */
+public interface DeviceProvisioner {
+
+    /** Provisioner for slots backed by devices that are always available. */
+    DeviceProvisioner NONE = slot -> {
+    };
+
+    /**
+     * Makes the slot's device ready for a session.
+     *
+     * @param slot the slot being leased
+     * @throws RuntimeException if the device could not be brought up; the slot
+     *                          is then returned to the pool
+     */
+    void prepare(DeviceSlot slot);
+
+    /**
+     * Releases the provisioned devices after the last scenario. No-op by default.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,74 @@
+package com.company.qa.core.concurrent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One device (or emulator/simulator) that runs at most one Appium session at a time.
+ *
+ * <p>Each slot carries the capabilities that keep parallel sessions apart: the
+ * device UDID, if known, and unique local ports for the UiAutomator2 server
+ * ({@code systemPort}) and WebDriverAgent ({@code wdaLocalPort}).</p>
+ */
+public final class DeviceSlot {
+
+    private final int index;
+    private final String udid;
+    private final int systemPort;
+    private final int wdaLocalPort;
+
+    /**
+     * Creates a slot.
+     *
+     * @param index        the slot number, starting at {@code 0}
+     * @param udid         the device UDID, or {@code null} to use the device from {@code apps.json}
+     * @param systemPort   the UiAutomator2 system port for this slot
+     * @param wdaLocalPort the WebDriverAgent port for this slot
+     */
+    public DeviceSlot(int index, String udid, int systemPort, int wdaLocalPort) {
+        this.index = index;
+        this.udid = udid;
+        this.systemPort = systemPort;
+        this.wdaLocalPort = wdaLocalPort;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getUdid() {
+        return udid;
+    }
+
+    public int getSystemPort() {
+        return systemPort;
+    }
+
+    public int getWdaLocalPort() {
+        return wdaLocalPort;
+    }
+
+    /**
+     * Returns the capabilities binding a session to this slot.
+     *
+     * @param platform {@code "android"} or {@code "ios"}
+     * @return capability names (without the {@code appium:} prefix) to values
+     */
+    public Map<String, Object> capabilities(String platform) {
+        Map<String, Object> capabilities = new LinkedHashMap<>();
+        if (udid != null) {
+            capabilities.put("udid", udid);
+        }
+        if ("ios".equalsIgnoreCase(platform)) {
+            capabilities.put("wdaLocalPort", wdaLocalPort);
+        } else {
+            capabilities.put("systemPort", systemPort);
+        }
+        return capabilities;
+    }
+
+    @Override
+    public String toString() {
+        return "DeviceSlot[" + index + (udid != null ? ", " + udid : "") + "]";
+    }
+}
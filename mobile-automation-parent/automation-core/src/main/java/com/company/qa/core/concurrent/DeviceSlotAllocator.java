@@ -0,0 +1,223 @@
+package com.company.qa.core.concurrent;
+
+import com.company.qa.core.app.AppArtifacts;
+import com.company.qa.core.config.DevicesConfig;
+import com.company.qa.core.config.EmulatorConfig;
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.context.ScenarioLocal;
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.metrics.FrameworkMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Leases {@link DeviceSlot}s to mobile scenarios, capping concurrency by the
+ * number of devices instead of the number of threads.
+ *
+ * <p>A scenario acquires a slot before it creates its driver and releases it
+ * when it ends; {@code MobileDriverManager} applies the leased slot's
+ * capabilities to the session. When more scenarios run than there are slots,
+ * the extra ones block in {@link #acquire()}. Blocking is cheap on virtual
+ * threads, so a {@link ScenarioExecutor} in virtual mode can start every
+ * scenario at once and let the slots decide how many actually run.</p>
+ *
+ * <p>A {@link DeviceProvisioner} brings up the slot's device when it is
+ * leased; with {@code devices.emulators} configured, slots beyond the listed
+ * UDIDs are backed by emulators that {@link EmulatorProvisioner} boots from a
+ * snapshot on first use.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * @Before("@mobile")
+ * public void leaseDevice() { DeviceSlotAllocator.shared().acquire(); }
+ *
+ * @After("@mobile")
+ * public void releaseDevice() { DeviceSlotAllocator.shared().releaseCurrent(); }
+ * }</pre>
+ */
+public class DeviceSlotAllocator {
+
+    private static final ScenarioLocal<DeviceSlot> currentSlot = ScenarioLocal.create();
+
+    private final List<DeviceSlot> slots;
+    private final BlockingQueue<DeviceSlot> free;
+    private final long acquireTimeoutMs;
+    private final DeviceProvisioner provisioner;
+
+    /**
+     * Creates an allocator over a fixed set of slots whose devices are always available.
+     *
+     * @param slots            the slots to lease; must not be empty
+     * @param acquireTimeoutMs how long {@link #acquire()} waits for a free slot
+     */
+    public DeviceSlotAllocator(List<DeviceSlot> slots, long acquireTimeoutMs) {
+        this(slots, acquireTimeoutMs, DeviceProvisioner.NONE);
+    }
+
+    /**
+     * Creates an allocator over a fixed set of slots.
+     *
+     * @param slots            the slots to lease; must not be empty
+     * @param acquireTimeoutMs how long {@link #acquire()} waits for a free slot
+     * @param provisioner      brings up a slot's device when it is leased
+     */
+    public DeviceSlotAllocator(List<DeviceSlot> slots, long acquireTimeoutMs, DeviceProvisioner provisioner) {
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("At least one device slot is required");
+        }
+        this.slots = Collections.unmodifiableList(new ArrayList<>(slots));
+        this.free = new LinkedBlockingQueue<>(slots);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.provisioner = provisioner;
+    }
+
+    /**
+     * Returns the process-wide allocator configured from the {@code devices}
+     * section of {@link EnvironmentConfig}.
+     *
+     * @return the shared allocator
+     */
+    public static DeviceSlotAllocator shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Creates the slots described by a {@code devices} config section.
+     *
+     * @param config the device settings
+     * @return one slot per configured device, with consecutive ports; slots
+     *         beyond the listed UDIDs get emulator UDIDs if emulators are enabled
+     */
+    public static List<DeviceSlot> slotsFrom(DevicesConfig config) {
+        List<DeviceSlot> slots = new ArrayList<>(config.getSlots());
+        List<String> udids = config.getUdids();
+        EmulatorConfig emulators = config.getEmulators();
+        for (int i = 0; i < config.getSlots(); i++) {
+            String udid = i < udids.size() ? udids.get(i)
+                    : emulators.isEnabled() ? EmulatorProvisioner.udidFor(emulators, i - udids.size()) : null;
+            slots.add(new DeviceSlot(i, udid, config.getSystemPortBase() + i, config.getWdaPortBase() + i));
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the slot leased by the current scenario.
+     *
+     * @return the slot, or {@code null} if the scenario holds none
+     */
+    public static DeviceSlot current() {
+        return currentSlot.get();
+    }
+
+    /**
+     * Leases a free slot to the current scenario, waiting until one is released.
+     *
+     * <p>Calling this again while the scenario already holds a slot returns that slot.</p>
+     *
+     * @return the leased slot
+     * @throws FrameworkException if no slot becomes free within the acquire timeout,
+     *                            or the thread is interrupted while waiting
+     * @throws RuntimeException   if the slot's device could not be provisioned;
+     *                            the slot is returned to the pool
+     */
+    public DeviceSlot acquire() {
+        DeviceSlot held = currentSlot.get();
+        if (held != null) {
+            return held;
+        }
+        long start = System.nanoTime();
+        DeviceSlot slot;
+        try {
+            slot = free.poll(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for a device slot", e);
+        }
+        FrameworkMetrics.deviceSlotWait().recordNanos(System.nanoTime() - start);
+        if (slot == null) {
+            throw new FrameworkException("No device slot became free within " + acquireTimeoutMs
+                    + " ms; all " + slots.size() + " slots are leased");
+        }
+        try {
+            provisioner.prepare(slot);
+        } catch (RuntimeException e) {
+            free.offer(slot);
+            throw e;
+        }
+        FrameworkMetrics.deviceSlotsInUse().increment();
+        currentSlot.set(slot);
+        LOGGER.debug("Leased {}", slot);
+        return slot;
+    }
+
+    /**
+     * Returns the current scenario's slot to the pool. No-op if it holds none.
+     */
+    public void releaseCurrent() {
+        DeviceSlot slot = currentSlot.get();
+        if (slot == null) {
+            return;
+        }
+        currentSlot.remove();
+        FrameworkMetrics.deviceSlotsInUse().decrement();
+        free.offer(slot);
+        LOGGER.debug("Released {}", slot);
+    }
+
+    /**
+     * Releases the provisioned devices. Call once after the last scenario.
+     */
+    public void close() {
+        provisioner.close();
+    }
+
+    /**
+     * Returns the total number of slots.
+     *
+     * @return the slot count
+     */
+    public int capacity() {
+        return slots.size();
+    }
+
+    /**
+     * Returns the number of slots currently free.
+     *
+     * @return the free slot count
+     */
+    public int available() {
+        return free.size();
+    }
+
+    /**
+     * Lazily created allocator shared by all scenarios.
+     */
+    private static final class Shared {
+        private static final DeviceSlotAllocator INSTANCE = createFromConfig();
+
+        private static DeviceSlotAllocator createFromConfig() {
+            DevicesConfig config = EnvironmentConfig.getInstance().getDevices();
+            LOGGER.info("Device slots: {}", config);
+            List<DeviceSlot> slots = slotsFrom(config);
+            DeviceProvisioner provisioner = DeviceProvisioner.NONE;
+            if (config.getEmulators().isEnabled()) {
+                List<String> emulatorUdids = new ArrayList<>();
+                for (DeviceSlot slot : slots.subList(Math.min(config.getUdids().size(), slots.size()), slots.size())) {
+                    emulatorUdids.add(slot.getUdid());
+                }
+                // A booted or reset emulator is back on its snapshot, without the apps installed this run
+                provisioner = new EmulatorProvisioner(config.getEmulators(), emulatorUdids,
+                        udid -> AppArtifacts.shared().forget(udid));
+            }
+            return new DeviceSlotAllocator(slots, TimeUnit.SECONDS.toMillis(config.getAcquireTimeoutSeconds()),
+                    provisioner);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.company.qa.core.concurrent;
+
+import com.company.qa.core.config.EmulatorConfig;
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.metrics.FrameworkMetrics;
+import com.company.qa.core.util.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * {@link DeviceProvisioner} that runs Android emulators for device slots on the
+ * local machine.
+ *
+ * <p>Each managed slot has a UDID of the form {@code emulator-<port>}, where
+ * the console port is unique per slot (see {@link #udidFor(EmulatorConfig, int)}),
+ * so several instances of the same AVD run side by side. An emulator is started
+ * on the first lease of its slot, read-only and from the configured quick-boot
+ * snapshot, which takes seconds instead of the minutes of a cold boot; the slot
+ * is handed out once the emulator reports {@code sys.boot_completed}.</p>
+ *
+ * <p>Emulators are recycled rather than rebooted: an emulator already running on
+ * a slot's port, for example one left up by the previous shard on the same CI
+ * box, is reset by loading the snapshot again. Unless
+ * {@link EmulatorConfig#isKeepRunning() keepRunning} is disabled, emulators stay
+ * up when the run ends for the next shard to reuse.</p>
+ *
+ * <p>Booting or resetting an emulator restores the snapshot, which drops every
+ * app installed since; the optional reset callback is told the UDID so records
+ * of those installs can be forgotten.</p>
+ */
+public class EmulatorProvisioner implements DeviceProvisioner {
+
+    private static final long ADB_TIMEOUT_MS = 15_000;
+    private static final Path LOG_DIR = Paths.get("target", "emulators");
+
+    private final EmulatorConfig config;
+    private final Set<String> managed;
+    private final long pollIntervalMs;
+    private final Consumer<String> onReset;
+    private final String adb = CommandLine.androidTool("platform-tools", "adb");
+    private final String emulator = CommandLine.androidTool("emulator", "emulator");
+    private final Set<String> ready = ConcurrentHashMap.newKeySet();
+    private final Map<String, Process> launched = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a provisioner for the emulators with the given UDIDs.
+     *
+     * @param config the emulator settings
+     * @param udids  the {@code emulator-<port>} UDIDs of the slots to manage
+     */
+    public EmulatorProvisioner(EmulatorConfig config, Collection<String> udids) {
+        this(config, udids, udid -> {
+        });
+    }
+
+    /**
+     * Creates a provisioner that reports every emulator it restores to the snapshot.
+     *
+     * @param config  the emulator settings
+     * @param udids   the {@code emulator-<port>} UDIDs of the slots to manage
+     * @param onReset called with the UDID before an emulator is booted or reset
+     *                from the snapshot, i.e. whenever its installed apps are lost
+     */
+    public EmulatorProvisioner(EmulatorConfig config, Collection<String> udids, Consumer<String> onReset) {
+        this(config, udids, 1000, onReset);
+    }
+
+    EmulatorProvisioner(EmulatorConfig config, Collection<String> udids, long pollIntervalMs,
+                        Consumer<String> onReset) {
+        this.config = config;
+        this.managed = new LinkedHashSet<>(udids);
+        this.pollIntervalMs = pollIntervalMs;
+        this.onReset = onReset;
+    }
+
+    /**
+     * Returns the UDID adb gives the {@code n}-th provisioned emulator.
+     *
+     * @param config the emulator settings
+     * @param n      the emulator number, starting at {@code 0}
+     * @return {@code emulator-<console port>}
+     */
+    public static String udidFor(EmulatorConfig config, int n) {
+        return "emulator-" + (config.getConsolePortBase() + 2 * n);
+    }
+
+    @Override
+    public void prepare(DeviceSlot slot) {
+        String udid = slot.getUdid();
+        if (udid == null || !managed.contains(udid)) {
+            return;
+        }
+        // A lock rather than a monitor: the boot wait sleeps, and would pin a virtual thread's carrier
+        ReentrantLock lock = locks.computeIfAbsent(udid, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            if (ready.contains(udid)) {
+                if (isBooted(udid)) {
+                    return;
+                }
+                LOGGER.warn("Emulator [{}] stopped responding; starting it again", udid);
+                ready.remove(udid);
+                stop(udid);
+            }
+            onReset.accept(udid);
+            long start = System.nanoTime();
+            String mode;
+            if (isBooted(udid)) {
+                // Left running by an earlier shard: reset it to the snapshot instead of booting another
+                CommandLine.Result reset = exec(Arrays.asList(adb, "-s", udid, "emu", "avd", "snapshot", "load",
+                        config.getSnapshot()));
+                if (!reset.isSuccess() || reset.getOutput().contains("KO")) {
+                    throw new FrameworkException("Failed to load snapshot [" + config.getSnapshot() + "] on ["
+                            + udid + "]: " + reset.getOutput().trim());
+                }
+                mode = "reuse";
+            } else {
+                launch(udid);
+                mode = "boot";
+            }
+            awaitBoot(udid);
+            ready.add(udid);
+            FrameworkMetrics.deviceProvisioning(mode).recordNanos(System.nanoTime() - start);
+            LOGGER.info("Emulator [{}] ready from snapshot [{}] ({}) in {} ms", udid, config.getSnapshot(), mode,
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Kills the managed emulators unless they are kept for the next shard.
+     */
+    @Override
+    public void close() {
+        if (config.isKeepRunning()) {
+            LOGGER.info("Leaving emulators {} running for the next shard", ready);
+            return;
+        }
+        for (String udid : managed) {
+            if (ready.contains(udid) || launched.containsKey(udid)) {
+                stop(udid);
+            }
+        }
+        ready.clear();
+    }
+
+    /**
+     * Returns the command that starts the emulator for a UDID.
+     *
+     * @param udid the {@code emulator-<port>} UDID
+     * @return the {@code emulator} command line
+     */
+    List<String> emulatorCommand(String udid) {
+        List<String> command = new ArrayList<>(Arrays.asList(emulator,
+                "-avd", config.getAvd(),
+                "-port", udid.substring("emulator-".length()),
+                "-snapshot", config.getSnapshot(),
+                // -read-only lets several instances share one AVD; snapshots are loaded, never saved
+                "-read-only", "-no-snapshot-save",
+                "-no-boot-anim", "-no-audio"));
+        if (config.isHeadless()) {
+            command.add("-no-window");
+        }
+        return command;
+    }
+
+    /**
+     * Runs a short adb command. Overridden in tests.
+     */
+    CommandLine.Result exec(List<String> command) {
+        return CommandLine.run(ADB_TIMEOUT_MS, command);
+    }
+
+    /**
+     * Starts a long-running process with its output sent to a log file. Overridden in tests.
+     */
+    Process start(List<String> command, Path log) throws IOException {
+        Files.createDirectories(log.getParent());
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private void launch(String udid) {
+        List<String> command = emulatorCommand(udid);
+        Path log = LOG_DIR.resolve(udid + ".log");
+        try {
+            launched.put(udid, start(command, log));
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to start emulator [" + udid + "]: " + command, e);
+        }
+        LOGGER.info("Starting emulator [{}] from AVD [{}], output in {}", udid, config.getAvd(), log);
+    }
+
+    private void awaitBoot(String udid) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getBootTimeoutSeconds());
+        while (!isBooted(udid)) {
+            Process process = launched.get(udid);
+            if (process != null && !process.isAlive()) {
+                launched.remove(udid);
+                throw new FrameworkException("Emulator [" + udid + "] exited with " + process.exitValue()
+                        + " while booting; see " + LOG_DIR.resolve(udid + ".log"));
+            }
+            if (System.nanoTime() > deadline) {
+                stop(udid);
+                throw new FrameworkException("Emulator [" + udid + "] did not report sys.boot_completed within "
+                        + config.getBootTimeoutSeconds() + " s");
+            }
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FrameworkException("Interrupted while waiting for emulator [" + udid + "]", e);
+            }
+        }
+    }
+
+    private boolean isBooted(String udid) {
+        CommandLine.Result result = exec(Arrays.asList(adb, "-s", udid, "shell", "getprop", "sys.boot_completed"));
+        return result.isSuccess() && "1".equals(result.getOutput().trim());
+    }
+
+    private void stop(String udid) {
+        try {
+            exec(Arrays.asList(adb, "-s", udid, "emu", "kill"));
+        } catch (FrameworkException e) {
+            LOGGER.warn("Failed to kill emulator [{}]: {}", udid, e.getMessage());
+        }
+        Process process = launched.remove(udid);
+        if (process != null) {
+            process.destroy();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.company.qa.core.concurrent;
+
+import com.company.qa.core.config.DevicesConfig;
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.metrics.FrameworkMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Runs a batch of scenarios concurrently, either on a fixed pool of platform
+ * threads or on one virtual thread per scenario.
+ *
+ * <p>Mobile scenarios spend almost all of their time blocked on HTTP calls to
+ * Appium. In {@link Mode#VIRTUAL virtual} mode every scenario gets its own
+ * virtual thread and concurrency is capped only by the
+ * {@link DeviceSlotAllocator}: scenarios beyond the available device slots park
+ * cheaply until a slot is released. In {@link Mode#PLATFORM platform} mode the
+ * pool size equals the slot count, which matches the classic TestNG setup.</p>
+ *
+ * <p>Virtual mode needs JDK 21 or newer at runtime (the framework itself still
+ * targets Java 11); on older JDKs it falls back to platform threads with a
+ * warning.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * List<ScenarioExecutor.Task> tasks = ...;
+ * List<Throwable> failures = ScenarioExecutor.fromConfig().runAll(tasks);
+ * }</pre>
+ */
+public class ScenarioExecutor {
+
+    /**
+     * Thread model used to run scenarios.
+     */
+    public enum Mode {
+
+        /** A fixed pool of platform threads, one per device slot. */
+        PLATFORM,
+
+        /** One virtual thread per scenario, capped by device slots. */
+        VIRTUAL;
+
+        /**
+         * Parses a mode name.
+         *
+         * @param name {@code "platform"} or {@code "virtual"}, case-insensitive
+         * @return the mode
+         * @throws IllegalArgumentException if the name is unknown
+         */
+        public static Mode from(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * One scenario execution.
+     */
+    @FunctionalInterface
+    public interface Task {
+
+        /**
+         * Runs the scenario.
+         *
+         * @throws Throwable if the scenario fails
+         */
+        void run() throws Throwable;
+    }
+
+    private final Mode mode;
+    private final int parallelism;
+
+    /**
+     * Creates an executor.
+     *
+     * @param mode        the requested mode; {@link Mode#VIRTUAL} falls back to
+     *                    {@link Mode#PLATFORM} when virtual threads are unavailable
+     * @param parallelism the platform pool size; ignored in virtual mode
+     */
+    public ScenarioExecutor(Mode mode, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        if (mode == Mode.VIRTUAL && !VirtualThreads.isAvailable()) {
+            LOGGER.warn("Virtual threads need JDK 21+; running scenarios on {} platform threads", parallelism);
+            mode = Mode.PLATFORM;
+        }
+        this.mode = mode;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates an executor from the {@code devices} section of {@link EnvironmentConfig}:
+     * the mode from {@code devices.executor} and the pool size from {@code devices.slots}.
+     *
+     * @return the configured executor
+     */
+    public static ScenarioExecutor fromConfig() {
+        DevicesConfig config = EnvironmentConfig.getInstance().getDevices();
+        return new ScenarioExecutor(Mode.from(config.getExecutor()), config.getSlots());
+    }
+
+    /**
+     * Returns the mode scenarios actually run in.
+     *
+     * @return the effective mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Runs all tasks once and waits for them to finish.
+     *
+     * <p>A failing task does not stop the others.</p>
+     *
+     * @param tasks the scenarios to run
+     * @return the failures, in task order; empty if every task passed
+     * @throws FrameworkException if the calling thread is interrupted while waiting
+     */
+    public List<Throwable> runAll(List<? extends Task> tasks) {
+        return runAll(tasks, 0);
+    }
+
+    /**
+     * Runs all tasks and waits for them to finish, running a failed task again
+     * up to {@code maxRetries} times.
+     *
+     * <p>Retries are per task, on the task's own thread: a failure never reruns
+     * tasks that passed. A failing task does not stop the others.</p>
+     *
+     * @param tasks      the scenarios to run
+     * @param maxRetries how many times a failed task is run again, {@code 0} for none
+     * @return the last failure of each task that never passed, in task order;
+     *         empty if every task passed
+     * @throws FrameworkException if the calling thread is interrupted while waiting
+     */
+    public List<Throwable> runAll(List<? extends Task> tasks, int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative: " + maxRetries);
+        }
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ExecutorService executor = newExecutor();
+        try {
+            List<Future<Throwable>> futures = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                futures.add(executor.submit(() -> runWithRetries(task, maxRetries)));
+            }
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Throwable> future : futures) {
+                Throwable failure = future.get();
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+            return failures;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for scenarios", e);
+        } catch (ExecutionException e) {
+            throw new FrameworkException("Scenario task failed unexpectedly", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Throwable runWithRetries(Task task, int maxRetries) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                task.run();
+                return null;
+            } catch (Throwable t) {
+                if (attempt >= maxRetries) {
+                    return t;
+                }
+                FrameworkMetrics.testRetries().increment();
+                LOGGER.warn("Scenario failed ({}); retry {} of {}", t.getMessage(), attempt + 1, maxRetries);
+            }
+        }
+    }
+
+    private ExecutorService newExecutor() {
+        if (mode == Mode.VIRTUAL) {
+            return VirtualThreads.newExecutor("scenario");
+        }
+        AtomicLong counter = new AtomicLong();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "scenario-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.company.qa.core.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Factory for executors that run each task on a virtual thread when the
+ * running JDK supports them (21+), and on daemon platform threads otherwise.
+ *
+ * <p>The framework compiles against Java 11, so virtual threads are created
+ * reflectively. Callers get the same {@link ExecutorService} contract on every
+ * JDK and automatically benefit from cheap blocking on newer runtimes.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * ExecutorService executor = VirtualThreads.newExecutor("api-client");
+ * executor.submit(() -> client.get("/users"));
+ * }</pre>
+ */
+public class VirtualThreads {
+
+    private static final Method OF_VIRTUAL = findOfVirtual();
+
+    /**
+     * Returns whether the running JDK supports virtual threads.
+     *
+     * @return {@code true} on JDK 21 or newer, {@code false} otherwise
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a thread factory producing named virtual threads, or named daemon
+     * platform threads when virtual threads are unavailable.
+     *
+     * @param namePrefix the thread name prefix; a sequence number is appended
+     * @return a new {@link ThreadFactory}
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        if (OF_VIRTUAL != null) {
+            try {
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                Object builder = OF_VIRTUAL.invoke(null);
+                builder = builderType.getMethod("name", String.class, long.class)
+                        .invoke(builder, namePrefix + "-", 0L);
+                return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.warn("Virtual thread factory unavailable, using platform threads: {}", e.getMessage());
+            }
+        }
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Creates an executor that starts a new thread per task: a virtual thread
+     * when available, otherwise a cached pool of daemon platform threads.
+     *
+     * @param namePrefix the thread name prefix
+     * @return a new unbounded {@link ExecutorService}; bound concurrency at the call site
+     */
+    public static ExecutorService newExecutor(String namePrefix) {
+        ThreadFactory factory = newThreadFactory(namePrefix);
+        if (OF_VIRTUAL != null) {
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                        .invoke(null, factory);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.warn("Virtual thread executor unavailable, using platform threads: {}", e.getMessage());
+            }
+        }
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    private static Method findOfVirtual() {
+        try {
+            return Thread.class.getMethod("ofVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.qa.core.config;
+
+/**
+ * Immutable Appium server settings bound from the {@code appium} config section.
+ *
+ * <p>Obtained via {@link EnvironmentConfig#getAppium()}.</p>
+ */
+public final class AppiumConfig {
+
+    private final String url;
+
+    private AppiumConfig(String url) {
+        this.url = url;
+    }
+
+    /**
+     * Binds {@code appium.url}, which must be an absolute {@code http(s)} URL.
+     *
+     * @param binder the binder collecting validation errors
+     * @return the bound Appium settings
+     */
+    static AppiumConfig bind(ConfigBinder binder) {
+        return new AppiumConfig(binder.urlValue("appium.url", "http://127.0.0.1:4723"));
+    }
+
+    /**
+     * Returns the Appium server URL.
+     *
+     * @return the server URL, {@code "http://127.0.0.1:4723"} by default
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public String toString() {
+        return "AppiumConfig{url=" + url + "}";
+    }
+}
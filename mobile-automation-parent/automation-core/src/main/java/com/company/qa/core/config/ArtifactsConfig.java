@@ -0,0 +1,70 @@
+package com.company.qa.core.config;
+
+/**
+ * Immutable app artifact settings bound from the {@code artifacts} config section.
+ *
+ * <p>With {@code artifacts.manage} enabled the framework installs the app
+ * binary itself, once per device and build, instead of letting every Appium
+ * session install it. Obtained via {@link EnvironmentConfig#getArtifacts()}.</p>
+ */
+public final class ArtifactsConfig {
+
+    private final boolean manage;
+    private final int parallelInstalls;
+    private final int installTimeoutSeconds;
+
+    private ArtifactsConfig(boolean manage, int parallelInstalls, int installTimeoutSeconds) {
+        this.manage = manage;
+        this.parallelInstalls = parallelInstalls;
+        this.installTimeoutSeconds = installTimeoutSeconds;
+    }
+
+    /**
+     * Binds {@code artifacts.manage}, {@code artifacts.parallelInstalls} and
+     * {@code artifacts.installTimeoutSeconds}.
+     *
+     * @param binder the binder collecting validation errors
+     * @return the bound artifact settings
+     */
+    static ArtifactsConfig bind(ConfigBinder binder) {
+        return new ArtifactsConfig(
+                binder.booleanValue("artifacts.manage", false),
+                binder.intValue("artifacts.parallelInstalls", 4, 1),
+                binder.intValue("artifacts.installTimeoutSeconds", 300, 1));
+    }
+
+    /**
+     * Returns whether the framework installs app binaries onto devices itself,
+     * skipping devices that already hold the same build.
+     *
+     * @return {@code true} to manage installs, {@code false} (default) to leave
+     *         them to Appium's {@code app} capability
+     */
+    public boolean isManage() {
+        return manage;
+    }
+
+    /**
+     * Returns how many devices are installed onto at the same time at suite start.
+     *
+     * @return the install parallelism, {@code 4} by default
+     */
+    public int getParallelInstalls() {
+        return parallelInstalls;
+    }
+
+    /**
+     * Returns how long one install command may run before it is abandoned.
+     *
+     * @return the timeout in seconds, {@code 300} by default
+     */
+    public int getInstallTimeoutSeconds() {
+        return installTimeoutSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return "ArtifactsConfig{manage=" + manage + ", parallelInstalls=" + parallelInstalls
+                + ", installTimeoutSeconds=" + installTimeoutSeconds + "}";
+    }
+}
@@ -0,0 +1,203 @@
+package com.company.qa.core.config;
+
+import com.company.qa.core.exception.ConfigurationException;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads and validates values from resolved configuration while binding the
+ * typed config classes ({@link TimeoutConfig}, {@link RetryConfig},
+ * {@link AppiumConfig}, {@link PoolConfig}, {@link DevicesConfig},
+ * {@link SessionConfig}, {@link ArtifactsConfig}, {@link EmulatorConfig}).
+ *
+ * <p>Invalid values do not fall back to defaults. Each problem is recorded,
+ * the default is returned so binding can continue, and {@link #validate()}
+ * then reports every problem in one {@link ConfigurationException}.</p>
+ */
+final class ConfigBinder {
+
+    private final Map<String, String> values;
+    private final List<String> errors = new ArrayList<>();
+
+    /**
+     * Creates a binder over resolved values.
+     *
+     * @param values the resolved values keyed by dotted path
+     */
+    ConfigBinder(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Reads an integer setting.
+     *
+     * @param key          the dotted key
+     * @param defaultValue the value used when the key is absent
+     * @param min          the smallest accepted value
+     * @return the configured value, or {@code defaultValue} if absent or invalid
+     */
+    int intValue(String key, int defaultValue, int min) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            int value = Integer.parseInt(raw.trim());
+            if (value < min) {
+                errors.add(key + ": must be at least " + min + " but was " + value);
+                return defaultValue;
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            errors.add(key + ": expected an integer but was '" + raw + "'");
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads a long setting.
+     *
+     * @param key          the dotted key
+     * @param defaultValue the value used when the key is absent
+     * @param min          the smallest accepted value
+     * @return the configured value, or {@code defaultValue} if absent or invalid
+     */
+    long longValue(String key, long defaultValue, long min) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            long value = Long.parseLong(raw.trim());
+            if (value < min) {
+                errors.add(key + ": must be at least " + min + " but was " + value);
+                return defaultValue;
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            errors.add(key + ": expected an integer but was '" + raw + "'");
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads a boolean setting, accepting only {@code true} or {@code false}.
+     *
+     * @param key          the dotted key
+     * @param defaultValue the value used when the key is absent
+     * @return the configured value, or {@code defaultValue} if absent or invalid
+     */
+    boolean booleanValue(String key, boolean defaultValue) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        String value = raw.trim().toLowerCase(Locale.ROOT);
+        if (value.equals("true") || value.equals("false")) {
+            return Boolean.parseBoolean(value);
+        }
+        errors.add(key + ": expected true or false but was '" + raw + "'");
+        return defaultValue;
+    }
+
+    /**
+     * Reads a free-form string setting.
+     *
+     * @param key          the dotted key
+     * @param defaultValue the value used when the key is absent or blank
+     * @return the trimmed configured value, or {@code defaultValue}
+     */
+    String stringValue(String key, String defaultValue) {
+        String raw = values.get(key);
+        return raw == null || raw.trim().isEmpty() ? defaultValue : raw.trim();
+    }
+
+    /**
+     * Reads an absolute {@code http} or {@code https} URL.
+     *
+     * @param key          the dotted key
+     * @param defaultValue the value used when the key is absent
+     * @return the configured URL, or {@code defaultValue} if absent or invalid
+     */
+    String urlValue(String key, String defaultValue) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        String value = raw.trim();
+        try {
+            URI uri = new URI(value);
+            String scheme = uri.getScheme();
+            if (("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme)) && uri.getHost() != null) {
+                return value;
+            }
+        } catch (URISyntaxException e) {
+            // reported below
+        }
+        errors.add(key + ": expected an http(s) URL but was '" + raw + "'");
+        return defaultValue;
+    }
+
+    /**
+     * Reads one of a fixed set of values, compared case-insensitively.
+     *
+     * @param key          the dotted key
+     * @param defaultValue the value used when the key is absent
+     * @param allowed      the accepted values, in lowercase
+     * @return the configured value in lowercase, or {@code defaultValue} if absent or invalid
+     */
+    String choiceValue(String key, String defaultValue, String... allowed) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        String value = raw.trim().toLowerCase(Locale.ROOT);
+        for (String candidate : allowed) {
+            if (candidate.equals(value)) {
+                return value;
+            }
+        }
+        errors.add(key + ": expected one of " + String.join(", ", allowed) + " but was '" + raw + "'");
+        return defaultValue;
+    }
+
+    /**
+     * Reads a list given either as a YAML sequence or as a comma-separated string.
+     *
+     * @param key the dotted key
+     * @return the trimmed, non-empty items; empty if the key is absent
+     */
+    List<String> listValue(String key) {
+        String raw = values.get(key);
+        List<String> items = new ArrayList<>();
+        if (raw == null) {
+            return items;
+        }
+        String value = raw.trim();
+        if (value.startsWith("[") && value.endsWith("]")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        for (String item : value.split(",")) {
+            if (!item.trim().isEmpty()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Fails if any value read so far was invalid.
+     *
+     * @throws ConfigurationException listing every invalid key
+     */
+    void validate() {
+        if (!errors.isEmpty()) {
+            throw new ConfigurationException("Invalid configuration:\n  - " + String.join("\n  - ", errors));
+        }
+    }
+}
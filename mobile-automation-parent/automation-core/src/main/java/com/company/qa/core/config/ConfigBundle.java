@@ -0,0 +1,346 @@
+package com.company.qa.core.config;
+
+import com.company.qa.core.exception.ConfigurationException;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Precompiled binary form of the {@code config/*.yaml} and {@code dictionary/*.json}
+ * resources, produced at build time by {@link ConfigBundleCompiler}.
+ *
+ * <p>Loading the bundle is a single read (a memory map when it is a plain file)
+ * instead of one SnakeYAML or Gson parse per file and per lookup.
+ * {@link EnvironmentConfig} and {@link com.company.qa.core.util.JsonParser}
+ * consult it first and fall back to the source files when:</p>
+ * <ul>
+ *   <li>no {@value #RESOURCE} is on the classpath (e.g. an IDE run without the build step),</li>
+ *   <li>the resource is not in the bundle,</li>
+ *   <li>the source file on disk no longer matches the size and modification
+ *       time recorded at build time (edited since), or</li>
+ *   <li>{@code -Dconfig.bundle=false} is set.</li>
+ * </ul>
+ *
+ * <p>Entries are decoded on each lookup, so callers always get their own mutable copy.</p>
+ */
+public final class ConfigBundle {
+
+    /** Classpath location of the bundle. */
+    public static final String RESOURCE = "qa-bundle.bin";
+
+    static final int MAGIC = 0x51414231;
+
+    static final byte NULL = 0;
+    static final byte STRING = 1;
+    static final byte NUMBER = 2;
+    static final byte TRUE = 3;
+    static final byte FALSE = 4;
+    static final byte LIST = 5;
+    static final byte MAP = 6;
+
+    private static final String ENABLED_PROPERTY = "config.bundle";
+    private static final ConfigBundle EMPTY = new ConfigBundle(ByteBuffer.allocate(0), Collections.emptyMap(), false);
+
+    private final ByteBuffer data;
+    private final Map<String, Entry> entries;
+    private final boolean checkSources;
+
+    private ConfigBundle(ByteBuffer data, Map<String, Entry> entries, boolean checkSources) {
+        this.data = data;
+        this.entries = entries;
+        this.checkSources = checkSources;
+    }
+
+    /**
+     * Returns the bundle found on the classpath, loaded once per JVM.
+     *
+     * @return the classpath bundle, or an empty bundle if none exists or bundles are disabled
+     */
+    public static ConfigBundle classpath() {
+        return Classpath.INSTANCE;
+    }
+
+    /**
+     * Reads a bundle file. Entries are not checked against source files.
+     *
+     * @param file the bundle file
+     * @return the bundle
+     * @throws ConfigurationException if the file cannot be read or is not a bundle
+     */
+    public static ConfigBundle load(Path file) {
+        return parse(map(file), file.toString(), false);
+    }
+
+    /**
+     * Returns the names of all bundled resources.
+     *
+     * @return classpath-relative resource paths such as {@code "config/default.yaml"}
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns a bundled YAML resource as SnakeYAML would load it.
+     *
+     * @param resourcePath the classpath-relative path, e.g. {@code "config/default.yaml"}
+     * @return a fresh mutable map, or {@code null} if the resource is not bundled or stale
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> yaml(String resourcePath) {
+        Entry entry = current(resourcePath);
+        if (entry == null) {
+            return null;
+        }
+        Object value = readJava(entry.reader());
+        return value instanceof Map ? (Map<String, Object>) value : new HashMap<>();
+    }
+
+    /**
+     * Returns a bundled JSON resource as Gson would parse it.
+     *
+     * @param resourcePath the classpath-relative path, e.g. {@code "dictionary/pages.json"}
+     * @return a fresh JSON tree, or {@code null} if the resource is not bundled or stale
+     */
+    public JsonElement json(String resourcePath) {
+        Entry entry = current(resourcePath);
+        return entry != null ? readJson(entry.reader()) : null;
+    }
+
+    private Entry current(String resourcePath) {
+        Entry entry = entries.get(resourcePath);
+        if (entry == null || !checkSources) {
+            return entry;
+        }
+        Path source = ConfigReader.locate(resourcePath);
+        if (source != null) {
+            try {
+                if (Files.size(source) != entry.sourceLength
+                        || Files.getLastModifiedTime(source).toMillis() != entry.sourceModified) {
+                    LOGGER.debug("Bundled [{}] is older than {}, using the source file", resourcePath, source);
+                    return null;
+                }
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return entry;
+    }
+
+    private static ConfigBundle parse(ByteBuffer data, String origin, boolean checkSources) {
+        try {
+            ByteBuffer in = data.duplicate();
+            if (in.getInt() != MAGIC) {
+                throw new ConfigurationException("Not a config bundle: " + origin);
+            }
+            int count = in.getInt();
+            Map<String, Entry> entries = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = readString(in);
+                long sourceLength = in.getLong();
+                long sourceModified = in.getLong();
+                int length = in.getInt();
+                entries.put(name, new Entry(data, in.position(), length, sourceLength, sourceModified));
+                in.position(in.position() + length);
+            }
+            return new ConfigBundle(data, entries, checkSources);
+        } catch (RuntimeException e) {
+            if (e instanceof ConfigurationException) {
+                throw e;
+            }
+            throw new ConfigurationException("Corrupt config bundle: " + origin, e);
+        }
+    }
+
+    private static ByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to read config bundle: " + file, e);
+        }
+    }
+
+    private static Object readJava(ByteBuffer in) {
+        byte tag = in.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case NUMBER:
+                return toJavaNumber(readString(in));
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case LIST: {
+                int size = in.getInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readJava(in));
+                }
+                return list;
+            }
+            case MAP: {
+                int size = in.getInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(in);
+                    map.put(key, readJava(in));
+                }
+                return map;
+            }
+            default:
+                throw new IllegalStateException("Unknown bundle value tag: " + tag);
+        }
+    }
+
+    private static JsonElement readJson(ByteBuffer in) {
+        byte tag = in.get();
+        switch (tag) {
+            case NULL:
+                return JsonNull.INSTANCE;
+            case STRING:
+                return new JsonPrimitive(readString(in));
+            case NUMBER:
+                return new JsonPrimitive(new LazilyParsedNumber(readString(in)));
+            case TRUE:
+                return new JsonPrimitive(true);
+            case FALSE:
+                return new JsonPrimitive(false);
+            case LIST: {
+                int size = in.getInt();
+                JsonArray array = new JsonArray(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(readJson(in));
+                }
+                return array;
+            }
+            case MAP: {
+                int size = in.getInt();
+                JsonObject object = new JsonObject();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(in);
+                    object.add(key, readJson(in));
+                }
+                return object;
+            }
+            default:
+                throw new IllegalStateException("Unknown bundle value tag: " + tag);
+        }
+    }
+
+    /**
+     * Converts number text back to the type SnakeYAML produces for it.
+     */
+    private static Number toJavaNumber(String text) {
+        try {
+            long value = Long.parseLong(text);
+            if (value == (int) value) {
+                return (int) value;
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            return Double.valueOf(text);
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Location of one encoded resource inside the bundle, with the size and
+     * modification time its source file had when the bundle was built.
+     */
+    private static final class Entry {
+
+        private final ByteBuffer data;
+        private final int offset;
+        private final int length;
+        private final long sourceLength;
+        private final long sourceModified;
+
+        private Entry(ByteBuffer data, int offset, int length, long sourceLength, long sourceModified) {
+            this.data = data;
+            this.offset = offset;
+            this.length = length;
+            this.sourceLength = sourceLength;
+            this.sourceModified = sourceModified;
+        }
+
+        private ByteBuffer reader() {
+            ByteBuffer reader = data.duplicate();
+            reader.position(offset);
+            reader.limit(offset + length);
+            return reader;
+        }
+    }
+
+    /**
+     * Lazily loaded classpath bundle.
+     */
+    private static final class Classpath {
+
+        private static final ConfigBundle INSTANCE = loadFromClasspath();
+
+        private static ConfigBundle loadFromClasspath() {
+            if ("false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY))) {
+                return EMPTY;
+            }
+            URL url = ConfigBundle.class.getClassLoader().getResource(RESOURCE);
+            if (url == null) {
+                return EMPTY;
+            }
+            try {
+                ByteBuffer data;
+                if ("file".equals(url.getProtocol())) {
+                    data = map(Paths.get(url.toURI()));
+                } else {
+                    try (InputStream is = url.openStream()) {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        byte[] buffer = new byte[8192];
+                        int read;
+                        while ((read = is.read(buffer)) != -1) {
+                            out.write(buffer, 0, read);
+                        }
+                        data = ByteBuffer.wrap(out.toByteArray());
+                    }
+                }
+                ConfigBundle bundle = parse(data, url.toString(), true);
+                LOGGER.debug("Loaded config bundle [{}] with {} resources", url, bundle.entries.size());
+                return bundle;
+            } catch (Exception e) {
+                LOGGER.warn("Ignoring unreadable config bundle [{}]: {}", url, e.getMessage());
+                return EMPTY;
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.company.qa.core.config;
+
+import com.company.qa.core.exception.ConfigurationException;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Build step compiling {@code config/*.yaml} and {@code dictionary/*.json} under a
+ * resource directory into a {@link ConfigBundle}.
+ *
+ * <p>Runs from Maven in the {@code process-test-resources} phase of
+ * {@code automation-tests}, after resources are copied, so the bundle lands
+ * next to them on the test classpath:</p>
+ * <pre>{@code
+ * java com.company.qa.core.config.ConfigBundleCompiler target/test-classes
+ * }</pre>
+ *
+ * <p>Sources are parsed with the same libraries used at runtime, so a
+ * malformed file fails the build instead of the first test that reads it.</p>
+ */
+public final class ConfigBundleCompiler {
+
+    private ConfigBundleCompiler() {
+    }
+
+    /**
+     * Compiles the bundle.
+     *
+     * @param args the resource directory, and optionally the output file
+     *             (defaults to {@value ConfigBundle#RESOURCE} inside the resource directory)
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: ConfigBundleCompiler <resourceDir> [outputFile]");
+        }
+        Path resourceDir = Paths.get(args[0]);
+        Path output = args.length > 1 ? Paths.get(args[1]) : resourceDir.resolve(ConfigBundle.RESOURCE);
+        try {
+            List<String> names = compile(resourceDir, output);
+            LOGGER.info("Compiled {} config resources into {}", names.size(), output);
+        } finally {
+            // exec:java closes the class loader when main returns; stop the async logger first
+            org.apache.logging.log4j.LogManager.shutdown();
+        }
+    }
+
+    /**
+     * Compiles every {@code config/*.yaml}, {@code config/*.yml} and
+     * {@code dictionary/*.json} file under {@code resourceDir} into {@code output}.
+     *
+     * @param resourceDir the resource root, e.g. {@code target/test-classes}
+     * @param output      the bundle file to write
+     * @return the bundled resource names
+     * @throws ConfigurationException if a source cannot be read or parsed, or the bundle cannot be written
+     */
+    public static List<String> compile(Path resourceDir, Path output) {
+        List<Path> sources = new ArrayList<>();
+        sources.addAll(list(resourceDir.resolve("config"), ".yaml", ".yml"));
+        sources.addAll(list(resourceDir.resolve("dictionary"), ".json"));
+
+        List<String> names = new ArrayList<>();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(ConfigBundle.MAGIC);
+            out.writeInt(sources.size());
+            for (Path source : sources) {
+                String name = resourceDir.relativize(source).toString().replace('\\', '/');
+                byte[] encoded = encode(source);
+                writeString(out, name);
+                out.writeLong(Files.size(source));
+                out.writeLong(Files.getLastModifiedTime(source).toMillis());
+                out.writeInt(encoded.length);
+                out.write(encoded);
+                names.add(name);
+            }
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to compile config bundle from " + resourceDir, e);
+        }
+
+        try {
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(output))) {
+                buffer.writeTo(os);
+            }
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to write config bundle: " + output, e);
+        }
+        return names;
+    }
+
+    private static List<Path> list(Path directory, String... extensions) {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> {
+                        String fileName = file.getFileName().toString();
+                        for (String extension : extensions) {
+                            if (fileName.endsWith(extension)) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to list config sources in " + directory, e);
+        }
+    }
+
+    private static byte[] encode(Path source) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (source.getFileName().toString().endsWith(".json")) {
+                JsonElement element;
+                try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+                    element = com.google.gson.JsonParser.parseReader(reader);
+                } catch (RuntimeException e) {
+                    throw new ConfigurationException("Malformed JSON in " + source, e);
+                }
+                writeJson(out, element);
+            } else {
+                writeJava(out, ConfigReader.load(source));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeJava(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(ConfigBundle.NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? ConfigBundle.TRUE : ConfigBundle.FALSE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Double) {
+            out.writeByte(ConfigBundle.NUMBER);
+            writeString(out, value.toString());
+        } else if (value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            out.writeByte(ConfigBundle.LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeJava(out, item);
+            }
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            out.writeByte(ConfigBundle.MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeJava(out, entry.getValue());
+            }
+        } else {
+            out.writeByte(ConfigBundle.STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    private static void writeJson(DataOutputStream out, JsonElement element) throws IOException {
+        if (element.isJsonNull()) {
+            out.writeByte(ConfigBundle.NULL);
+        } else if (element.isJsonObject()) {
+            Map<String, JsonElement> members = element.getAsJsonObject().asMap();
+            out.writeByte(ConfigBundle.MAP);
+            out.writeInt(members.size());
+            for (Map.Entry<String, JsonElement> member : members.entrySet()) {
+                writeString(out, member.getKey());
+                writeJson(out, member.getValue());
+            }
+        } else if (element.isJsonArray()) {
+            out.writeByte(ConfigBundle.LIST);
+            out.writeInt(element.getAsJsonArray().size());
+            for (JsonElement item : element.getAsJsonArray()) {
+                writeJson(out, item);
+            }
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                out.writeByte(primitive.getAsBoolean() ? ConfigBundle.TRUE : ConfigBundle.FALSE);
+            } else if (primitive.isNumber()) {
+                out.writeByte(ConfigBundle.NUMBER);
+                writeString(out, primitive.getAsString());
+            } else {
+                out.writeByte(ConfigBundle.STRING);
+                writeString(out, primitive.getAsString());
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
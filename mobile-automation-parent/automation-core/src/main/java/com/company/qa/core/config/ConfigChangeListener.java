@@ -0,0 +1,26 @@
+package com.company.qa.core.config;
+
+/**
+ * Callback notified after {@link EnvironmentConfig} has swapped in a reloaded
+ * configuration snapshot.
+ *
+ * <p>Listeners run on the thread that performed the reload (the config watcher
+ * thread for file-triggered reloads) and should only copy the values they need.
+ * Exceptions thrown by a listener are logged and do not affect other listeners.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * EnvironmentConfig.getInstance().addChangeListener(config ->
+ *         pool.resize(config.getApiMaxConnections()));
+ * }</pre>
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called after a new configuration snapshot became visible to readers.
+     *
+     * @param config the configuration, already serving the new values
+     */
+    void onConfigChange(EnvironmentConfig config);
+}
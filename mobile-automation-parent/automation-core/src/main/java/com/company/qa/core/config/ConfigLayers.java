@@ -0,0 +1,130 @@
+package com.company.qa.core.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Resolves the configuration layers into one flat key/value map.
+ *
+ * <p>Precedence, lowest to highest:</p>
+ * <ol>
+ *   <li>{@code config/default.yaml}</li>
+ *   <li>{@code config/{env}.yaml}</li>
+ *   <li>environment variables prefixed with {@value #ENV_PREFIX}</li>
+ *   <li>JVM system properties ({@code -Dkey=value})</li>
+ * </ol>
+ *
+ * <p>Nested YAML keys are flattened to dot notation ({@code api.pool.maxConnections}).
+ * An environment variable matches a key when both are equal after dropping
+ * dots, underscores and case, so {@code QA_API_POOL_MAX_CONNECTIONS} overrides
+ * {@code api.pool.maxConnections}; variables matching no known key become
+ * lower-case dotted keys ({@code QA_METRICS_PORT} → {@code metrics.port}).
+ * System properties override by exact key; a few legacy flat property names
+ * such as {@code appiumUrl} are accepted as aliases. Only properties naming a
+ * known key, or a key inside a known section ({@code retry.*}, {@code data.*}
+ * and the other framework sections, or any top-level section of the YAML), are
+ * copied, so the JVM's own {@code java.*}, {@code os.*} or {@code user.*}
+ * properties never enter the configuration.</p>
+ *
+ * <p>Blank environment variables and system properties are ignored, since
+ * build tools forward unset properties (e.g. surefire's
+ * {@code <appiumUrl>${appiumUrl}</appiumUrl>}) as empty strings.</p>
+ */
+final class ConfigLayers {
+
+    /** Prefix marking environment variables as configuration overrides. */
+    static final String ENV_PREFIX = "QA_";
+
+    private static final Map<String, String> PROPERTY_ALIASES =
+            Collections.singletonMap("appiumUrl", "appium.url");
+
+    /** Sections the framework reads even when no YAML file declares them. */
+    private static final Set<String> FRAMEWORK_SECTIONS = new HashSet<>(Arrays.asList(
+            "api", "appium", "artifacts", "config", "data", "devices", "locator", "metrics",
+            "retry", "screenshot", "session", "timeout"));
+
+    private ConfigLayers() {
+    }
+
+    /**
+     * Flattens the merged YAML tree and applies environment and system property overrides.
+     *
+     * @param yaml             the merged default and environment YAML tree
+     * @param environment      the process environment
+     * @param systemProperties the JVM system properties
+     * @return the resolved values keyed by dotted path
+     */
+    static Map<String, String> resolve(Map<String, Object> yaml, Map<String, String> environment,
+                                       Properties systemProperties) {
+        Map<String, String> values = new HashMap<>();
+        flatten("", yaml, values);
+
+        Map<String, String> keysByNormalizedName = new HashMap<>();
+        for (String key : values.keySet()) {
+            keysByNormalizedName.put(normalize(key), key);
+        }
+        for (Map.Entry<String, String> variable : environment.entrySet()) {
+            String name = variable.getKey();
+            if (name.startsWith(ENV_PREFIX) && name.length() > ENV_PREFIX.length()
+                    && !isBlank(variable.getValue())) {
+                String bare = name.substring(ENV_PREFIX.length());
+                String key = keysByNormalizedName.get(normalize(bare));
+                values.put(key != null ? key : bare.toLowerCase(Locale.ROOT).replace('_', '.'),
+                        variable.getValue());
+            }
+        }
+
+        Set<String> sections = new HashSet<>(FRAMEWORK_SECTIONS);
+        for (String key : values.keySet()) {
+            int dot = key.indexOf('.');
+            if (dot > 0) {
+                sections.add(key.substring(0, dot));
+            }
+        }
+        for (String name : systemProperties.stringPropertyNames()) {
+            String value = systemProperties.getProperty(name);
+            if (isBlank(value)) {
+                continue;
+            }
+            String alias = PROPERTY_ALIASES.get(name);
+            if (alias != null) {
+                values.put(alias, value);
+            } else if (values.containsKey(name) || isInSection(name, sections)) {
+                values.put(name, value);
+            }
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void flatten(String prefix, Map<String, Object> tree, Map<String, String> values) {
+        for (Map.Entry<String, Object> entry : tree.entrySet()) {
+            String key = prefix + entry.getKey();
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                flatten(key + ".", (Map<String, Object>) value, values);
+            } else if (value != null) {
+                values.put(key, value.toString());
+            }
+        }
+    }
+
+    private static boolean isInSection(String key, Set<String> sections) {
+        int dot = key.indexOf('.');
+        return dot > 0 && dot < key.length() - 1 && sections.contains(key.substring(0, dot));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static String normalize(String name) {
+        return name.replace(".", "").replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
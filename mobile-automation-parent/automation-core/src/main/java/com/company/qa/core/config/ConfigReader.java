@@ -2,8 +2,16 @@ package com.company.qa.core.config;
 
 import com.company.qa.core.exception.ConfigurationException;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -38,6 +46,52 @@ public class ConfigReader {
         return yaml.load(is);
     }
 
+    /**
+     * Loads a YAML configuration file from the filesystem.
+     *
+     * <p>An empty file yields an empty map.</p>
+     *
+     * @param file the path to the YAML file
+     * @return a map representing the YAML document's top-level keys and values
+     * @throws ConfigurationException if the file cannot be read or is not valid YAML
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> load(Path file) {
+        try (InputStream is = Files.newInputStream(file)) {
+            Object document = new Yaml().load(is);
+            if (document == null) {
+                return new HashMap<>();
+            }
+            if (!(document instanceof Map)) {
+                throw new ConfigurationException("Config file is not a YAML mapping: " + file);
+            }
+            return (Map<String, Object>) document;
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to read config file: " + file, e);
+        } catch (YAMLException e) {
+            throw new ConfigurationException("Malformed YAML in config file: " + file, e);
+        }
+    }
+
+    /**
+     * Resolves a classpath resource to a filesystem path, if it is backed by a
+     * plain file (e.g. {@code target/test-classes}) rather than a JAR entry.
+     *
+     * @param resourcePath the classpath-relative path to the resource
+     * @return the file path, or {@code null} if the resource is missing or not file-backed
+     */
+    public static Path locate(String resourcePath) {
+        URL url = ConfigReader.class.getClassLoader().getResource(resourcePath);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Retrieves a string value from the configuration map.
      *
@@ -0,0 +1,120 @@
+package com.company.qa.core.config;
+
+import com.company.qa.core.exception.ConfigurationException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, flattened view of the resolved configuration at one point in time.
+ *
+ * <p>All layers (see {@link ConfigLayers}) are resolved once into dotted keys,
+ * so a lookup is a single hash map read: no key splitting, no tree walk and no
+ * system property access. {@link EnvironmentConfig} publishes snapshots through
+ * a {@code volatile} field, so readers always see one complete configuration
+ * without locking, and a reload never mutates a snapshot another thread is
+ * reading.</p>
+ *
+ * <p>The typed sections are bound when the snapshot is created, so invalid
+ * values are rejected before the snapshot is ever published.</p>
+ */
+final class ConfigSnapshot {
+
+    private final Map<String, String> values;
+    private final long version;
+    private final TimeoutConfig timeouts;
+    private final RetryConfig retry;
+    private final AppiumConfig appium;
+    private final PoolConfig apiPool;
+    private final DevicesConfig devices;
+    private final SessionConfig session;
+    private final ArtifactsConfig artifacts;
+
+    /**
+     * Creates a snapshot from resolved values and binds the typed sections.
+     *
+     * @param values  the resolved values keyed by dotted path; copied
+     * @param version the reload generation, starting at {@code 1}
+     * @throws ConfigurationException if a typed section holds invalid values
+     */
+    ConfigSnapshot(Map<String, String> values, long version) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        this.version = version;
+        ConfigBinder binder = new ConfigBinder(this.values);
+        this.timeouts = TimeoutConfig.bind(binder);
+        this.retry = RetryConfig.bind(binder);
+        this.appium = AppiumConfig.bind(binder);
+        this.apiPool = PoolConfig.bind(binder);
+        this.devices = DevicesConfig.bind(binder);
+        this.session = SessionConfig.bind(binder);
+        this.artifacts = ArtifactsConfig.bind(binder);
+        binder.validate();
+    }
+
+    /**
+     * Returns the value at a dot-separated key.
+     *
+     * @param key the dot-separated key path
+     * @return the value, or {@code null} if not found
+     */
+    String get(String key) {
+        return values.get(key);
+    }
+
+    TimeoutConfig timeouts() {
+        return timeouts;
+    }
+
+    RetryConfig retry() {
+        return retry;
+    }
+
+    AppiumConfig appium() {
+        return appium;
+    }
+
+    PoolConfig apiPool() {
+        return apiPool;
+    }
+
+    DevicesConfig devices() {
+        return devices;
+    }
+
+    SessionConfig session() {
+        return session;
+    }
+
+    ArtifactsConfig artifacts() {
+        return artifacts;
+    }
+
+    /**
+     * Returns all resolved values.
+     *
+     * @return an unmodifiable map of dotted keys to values
+     */
+    Map<String, String> values() {
+        return values;
+    }
+
+    /**
+     * Returns the reload generation of this snapshot.
+     *
+     * @return {@code 1} for the initial load, incremented by every applied reload
+     */
+    long version() {
+        return version;
+    }
+
+    /**
+     * Returns whether this snapshot holds the same values as a freshly resolved map.
+     *
+     * @param other the freshly resolved values
+     * @return {@code true} if nothing changed
+     */
+    boolean sameContentAs(Map<String, String> other) {
+        return values.equals(other);
+    }
+}
@@ -0,0 +1,132 @@
+package com.company.qa.core.config;
+
+import com.company.qa.core.exception.ConfigurationException;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Watches configuration files with a {@link WatchService} and runs a callback
+ * when any of them is created, modified or deleted.
+ *
+ * <p>Directories rather than files are registered, so editors that save by
+ * writing a temporary file and renaming it are detected too. Bursts of events
+ * are coalesced: the callback runs once the directory has been quiet for
+ * {@value #DEBOUNCE_MS} ms.</p>
+ */
+final class ConfigWatcher implements AutoCloseable {
+
+    private static final long DEBOUNCE_MS = 200;
+
+    private final WatchService watchService;
+    private final Set<Path> files;
+    private final Runnable onChange;
+    private final Thread thread;
+
+    private ConfigWatcher(WatchService watchService, Set<Path> files, Runnable onChange) {
+        this.watchService = watchService;
+        this.files = files;
+        this.onChange = onChange;
+        this.thread = new Thread(this::run, "config-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the given files on a daemon thread.
+     *
+     * @param files    the files to watch; they need not exist yet, but their directories must
+     * @param onChange the callback run after a change
+     * @return the running watcher
+     * @throws ConfigurationException if a directory cannot be watched
+     */
+    static ConfigWatcher start(Collection<Path> files, Runnable onChange) {
+        Set<Path> watched = new HashSet<>();
+        Set<Path> directories = new HashSet<>();
+        for (Path file : files) {
+            Path absolute = file.toAbsolutePath().normalize();
+            watched.add(absolute);
+            directories.add(absolute.getParent());
+        }
+
+        WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            for (Path directory : directories) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to watch config directories " + directories, e);
+        }
+
+        ConfigWatcher watcher = new ConfigWatcher(watchService, watched, onChange);
+        watcher.thread.start();
+        LOGGER.info("Watching config files for changes: {}", watched);
+        return watcher;
+    }
+
+    /**
+     * Stops watching and ends the watcher thread.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close config watcher: {}", e.getMessage());
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                boolean changed = collect(watchService.take());
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= collect(next);
+                }
+                if (changed) {
+                    try {
+                        onChange.run();
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Config reload failed: {}", e.getMessage());
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            LOGGER.debug("Config watcher stopped");
+        }
+    }
+
+    /**
+     * Drains a watch key and re-arms it.
+     *
+     * @param key the signalled key
+     * @return {@code true} if any event concerns a watched file
+     */
+    private boolean collect(WatchKey key) {
+        boolean relevant = false;
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+            } else if (files.contains(directory.resolve((Path) event.context()))) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+}
@@ -0,0 +1,125 @@
+package com.company.qa.core.config;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable device slot settings bound from the {@code devices} config section.
+ *
+ * <p>Each slot is one device (or emulator/simulator) that can run one Appium
+ * session at a time; the slot count caps how many mobile scenarios run
+ * concurrently. Obtained via {@link EnvironmentConfig#getDevices()}.</p>
+ */
+public final class DevicesConfig {
+
+    private final int slots;
+    private final List<String> udids;
+    private final int systemPortBase;
+    private final int wdaPortBase;
+    private final int acquireTimeoutSeconds;
+    private final String executor;
+    private final EmulatorConfig emulators;
+
+    private DevicesConfig(int slots, List<String> udids, int systemPortBase, int wdaPortBase,
+                          int acquireTimeoutSeconds, String executor, EmulatorConfig emulators) {
+        this.slots = slots;
+        this.udids = Collections.unmodifiableList(udids);
+        this.systemPortBase = systemPortBase;
+        this.wdaPortBase = wdaPortBase;
+        this.acquireTimeoutSeconds = acquireTimeoutSeconds;
+        this.executor = executor;
+        this.emulators = emulators;
+    }
+
+    /**
+     * Binds {@code devices.slots}, {@code devices.udids}, {@code devices.systemPortBase},
+     * {@code devices.wdaPortBase}, {@code devices.acquireTimeoutSeconds} and
+     * {@code devices.executor}, and the {@code devices.emulators} section.
+     *
+     * @param binder the binder collecting validation errors
+     * @return the bound device settings
+     */
+    static DevicesConfig bind(ConfigBinder binder) {
+        List<String> udids = binder.listValue("devices.udids");
+        return new DevicesConfig(
+                binder.intValue("devices.slots", Math.max(1, udids.size()), 1),
+                udids,
+                binder.intValue("devices.systemPortBase", 8200, 1024),
+                binder.intValue("devices.wdaPortBase", 8100, 1024),
+                binder.intValue("devices.acquireTimeoutSeconds", 600, 1),
+                binder.choiceValue("devices.executor", "platform", "platform", "virtual"),
+                EmulatorConfig.bind(binder));
+    }
+
+    /**
+     * Returns the number of device slots.
+     *
+     * @return the slot count; defaults to the number of UDIDs, or {@code 1}
+     */
+    public int getSlots() {
+        return slots;
+    }
+
+    /**
+     * Returns the device UDIDs assigned to slots in order; slots beyond the list
+     * use a provisioned emulator if {@link #getEmulators() emulators} are enabled,
+     * otherwise the device from {@code apps.json}.
+     *
+     * @return the UDIDs, empty by default
+     */
+    public List<String> getUdids() {
+        return udids;
+    }
+
+    /**
+     * Returns the first UiAutomator2 {@code systemPort}; slot {@code n} uses {@code base + n}.
+     *
+     * @return the base port, {@code 8200} by default
+     */
+    public int getSystemPortBase() {
+        return systemPortBase;
+    }
+
+    /**
+     * Returns the first XCUITest {@code wdaLocalPort}; slot {@code n} uses {@code base + n}.
+     *
+     * @return the base port, {@code 8100} by default
+     */
+    public int getWdaPortBase() {
+        return wdaPortBase;
+    }
+
+    /**
+     * Returns how long a scenario waits for a free slot before failing.
+     *
+     * @return the timeout in seconds, {@code 600} by default
+     */
+    public int getAcquireTimeoutSeconds() {
+        return acquireTimeoutSeconds;
+    }
+
+    /**
+     * Returns the scenario executor mode.
+     *
+     * @return {@code "platform"} (default) or {@code "virtual"}
+     */
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns the settings of emulators provisioned for slots beyond {@link #getUdids()}.
+     *
+     * @return the emulator settings; {@linkplain EmulatorConfig#isEnabled() disabled} by default
+     */
+    public EmulatorConfig getEmulators() {
+        return emulators;
+    }
+
+    @Override
+    public String toString() {
+        return "DevicesConfig{slots=" + slots + ", udids=" + udids + ", systemPortBase=" + systemPortBase
+                + ", wdaPortBase=" + wdaPortBase + ", acquireTimeoutSeconds=" + acquireTimeoutSeconds
+                + ", executor=" + executor + ", emulators=" + emulators + "}";
+    }
+}
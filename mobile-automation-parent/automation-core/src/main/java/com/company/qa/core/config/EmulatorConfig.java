@@ -0,0 +1,121 @@
+package com.company.qa.core.config;
+
+/**
+ * Immutable Android emulator provisioning settings bound from the
+ * {@code devices.emulators} config section.
+ *
+ * <p>When an AVD is configured, device slots beyond the listed
+ * {@code devices.udids} are backed by emulators that the framework boots from a
+ * quick-boot snapshot on demand. Obtained via {@link DevicesConfig#getEmulators()}.</p>
+ */
+public final class EmulatorConfig {
+
+    private final String avd;
+    private final String snapshot;
+    private final int consolePortBase;
+    private final boolean headless;
+    private final int bootTimeoutSeconds;
+    private final boolean keepRunning;
+
+    private EmulatorConfig(String avd, String snapshot, int consolePortBase, boolean headless,
+                           int bootTimeoutSeconds, boolean keepRunning) {
+        this.avd = avd;
+        this.snapshot = snapshot;
+        this.consolePortBase = consolePortBase;
+        this.headless = headless;
+        this.bootTimeoutSeconds = bootTimeoutSeconds;
+        this.keepRunning = keepRunning;
+    }
+
+    /**
+     * Binds {@code devices.emulators.avd}, {@code devices.emulators.snapshot},
+     * {@code devices.emulators.consolePortBase}, {@code devices.emulators.headless},
+     * {@code devices.emulators.bootTimeoutSeconds} and {@code devices.emulators.keepRunning}.
+     *
+     * @param binder the binder collecting validation errors
+     * @return the bound emulator settings
+     */
+    static EmulatorConfig bind(ConfigBinder binder) {
+        return new EmulatorConfig(
+                binder.stringValue("devices.emulators.avd", null),
+                binder.stringValue("devices.emulators.snapshot", "default_boot"),
+                binder.intValue("devices.emulators.consolePortBase", 5554, 5554),
+                binder.booleanValue("devices.emulators.headless", true),
+                binder.intValue("devices.emulators.bootTimeoutSeconds", 180, 1),
+                binder.booleanValue("devices.emulators.keepRunning", true));
+    }
+
+    /**
+     * Returns whether emulators are provisioned by the framework.
+     *
+     * @return {@code true} if an AVD is configured
+     */
+    public boolean isEnabled() {
+        return avd != null;
+    }
+
+    /**
+     * Returns the AVD every provisioned emulator runs.
+     *
+     * @return the AVD name, or {@code null} (default) to provision no emulators
+     */
+    public String getAvd() {
+        return avd;
+    }
+
+    /**
+     * Returns the snapshot emulators boot from and are reset to when reused.
+     *
+     * @return the snapshot name, {@code "default_boot"} (the quick-boot snapshot) by default
+     */
+    public String getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the console port of the first emulator; emulator {@code n} uses
+     * {@code base + 2n} and its adb port is one higher. adb discovers emulators
+     * on console ports 5554 to 5584 by itself, which allows 16 emulators from
+     * the default base.
+     *
+     * @return the even base port, {@code 5554} by default
+     */
+    public int getConsolePortBase() {
+        return consolePortBase;
+    }
+
+    /**
+     * Returns whether emulators run without a window, as on a CI box.
+     *
+     * @return {@code true} by default
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Returns how long an emulator may take to report {@code sys.boot_completed}.
+     *
+     * @return the timeout in seconds, {@code 180} by default
+     */
+    public int getBootTimeoutSeconds() {
+        return bootTimeoutSeconds;
+    }
+
+    /**
+     * Returns whether emulators stay up when the run ends, so the next shard on
+     * the same machine reuses them instead of booting its own.
+     *
+     * @return {@code true} (default) to leave them running, {@code false} to kill them
+     */
+    public boolean isKeepRunning() {
+        return keepRunning;
+    }
+
+    @Override
+    public String toString() {
+        return "EmulatorConfig{avd=" + avd + ", snapshot=" + snapshot + ", consolePortBase=" + consolePortBase
+                + ", headless=" + headless + ", bootTimeoutSeconds=" + bootTimeoutSeconds
+                + ", keepRunning=" + keepRunning + "}";
+    }
+}
@@ -1,16 +1,50 @@
 package com.company.qa.core.config;
 
+import com.company.qa.core.exception.ConfigurationException;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
 
 /**
  * Singleton environment configuration providing typed access to framework settings.
  *
- * <p>Merges {@code config/default.yaml} with {@code config/{env}.yaml}, where
+ * <p>Resolves settings from four layers, each overriding the previous one:
+ * {@code config/default.yaml}, {@code config/{env}.yaml}, {@code QA_*} environment
+ * variables, and {@code -D} system properties (see {@link ConfigLayers}).
  * {@code env} is resolved from the {@code -Denv} system property (defaults to
- * {@code "dev"}). Environment-specific values override defaults.</p>
+ * {@code "dev"}). The layers are flattened once per load, so getters are plain
+ * map lookups and never consult system properties themselves. Files are read
+ * from the classpath, or from the directory named by {@code -Dconfig.dir} when set
+ * (e.g. {@code src/test/resources/config}, so edits apply without a rebuild).
+ * Classpath files are taken from the precompiled {@link ConfigBundle} when it
+ * is present and up to date.</p>
  *
  * <p>Thread-safe lazy initialization is achieved via the double-checked locking
- * pattern with a {@code volatile} instance field.</p>
+ * pattern with a {@code volatile} instance field. The resolved values live in an
+ * immutable snapshot published through a {@code volatile} field: getters never
+ * lock, and {@link #reload()} swaps in a complete new snapshot atomically.</p>
+ *
+ * <p>The {@code timeout}, {@code retry}, {@code appium} and {@code api.pool} sections
+ * are bound to immutable typed objects ({@link #getTimeouts()}, {@link #getRetry()},
+ * {@link #getAppium()}, {@link #getApiPool()}) when a snapshot is built. Invalid
+ * values fail startup with a {@link ConfigurationException} listing every bad key
+ * instead of silently falling back to defaults.</p>
+ *
+ * <p>With {@code config.reload.enabled: true} (or after {@link #enableHotReload()})
+ * file-backed configs are watched and reloaded on change, and registered
+ * {@link ConfigChangeListener}s are notified. Long-running suites can retune
+ * timeouts or pool sizes without a restart.</p>
  *
  * <p><b>Usage:</b></p>
  * <pre>{@code
@@ -21,35 +55,52 @@ import java.util.Map;
  */
 public class EnvironmentConfig {
 
+    private static final String CONFIG_DIR_PROPERTY = "config.dir";
+    private static final String DEFAULT_FILE = "default.yaml";
+
     private static volatile EnvironmentConfig instance;
 
-    private final Map<String, Object> mergedConfig;
+    private final String env;
+    private final Path configDir;
+    private final Supplier<Map<String, String>> environment;
+    private final Supplier<Properties> systemProperties;
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile ConfigSnapshot snapshot;
+    private ConfigWatcher watcher;
 
     /**
      * Private constructor that loads and merges configuration files.
      */
     private EnvironmentConfig() {
-        String env = System.getProperty("env", "dev");
-
-        // Load default config
-        Map<String, Object> defaultConfig;
-        try {
-            defaultConfig = ConfigReader.load("config/default.yaml");
-        } catch (RuntimeException e) {
-            defaultConfig = new java.util.HashMap<>();
-        }
+        this(System.getProperty("env", "dev"), configDirFromProperty());
+    }
 
-        // Load environment-specific config
-        Map<String, Object> envConfig;
-        try {
-            envConfig = ConfigReader.load("config/" + env + ".yaml");
-        } catch (RuntimeException e) {
-            envConfig = new java.util.HashMap<>();
-        }
+    /**
+     * Creates a configuration for an explicit environment and source directory.
+     *
+     * @param env       the environment name selecting {@code {env}.yaml}
+     * @param configDir the directory holding the YAML files, or {@code null} for the classpath
+     */
+    EnvironmentConfig(String env, Path configDir) {
+        this(env, configDir, System::getenv, System::getProperties);
+    }
 
-        // Merge: env overrides default
-        mergedConfig = new java.util.HashMap<>(defaultConfig);
-        deepMerge(mergedConfig, envConfig);
+    /**
+     * Creates a configuration with explicit override sources.
+     *
+     * @param env              the environment name selecting {@code {env}.yaml}
+     * @param configDir        the directory holding the YAML files, or {@code null} for the classpath
+     * @param environment      supplies the environment variables, re-read on every reload
+     * @param systemProperties supplies the system properties, re-read on every reload
+     * @throws ConfigurationException if a setting holds an invalid value
+     */
+    EnvironmentConfig(String env, Path configDir, Supplier<Map<String, String>> environment,
+                      Supplier<Properties> systemProperties) {
+        this.env = env;
+        this.configDir = configDir;
+        this.environment = environment;
+        this.systemProperties = systemProperties;
+        this.snapshot = new ConfigSnapshot(resolve(true), 1);
     }
 
     /**
@@ -61,20 +112,352 @@ public class EnvironmentConfig {
         if (instance == null) {
             synchronized (EnvironmentConfig.class) {
                 if (instance == null) {
-                    instance = new EnvironmentConfig();
+                    EnvironmentConfig config = new EnvironmentConfig();
+                    if (config.isConfigReloadEnabled()) {
+                        config.enableHotReload();
+                    }
+                    instance = config;
                 }
             }
         }
         return instance;
     }
 
+    /**
+     * Re-resolves all layers and, if any value changed, atomically
+     * publishes the new values and notifies the registered listeners.
+     *
+     * <p>A file that fails to parse (for example while it is still being saved)
+     * or holds invalid values leaves the current values in place.</p>
+     *
+     * @return {@code true} if a new snapshot was published
+     */
+    public boolean reload() {
+        synchronized (this) {
+            ConfigSnapshot current = snapshot;
+            try {
+                Map<String, String> values = resolve(false);
+                if (current.sameContentAs(values)) {
+                    return false;
+                }
+                snapshot = new ConfigSnapshot(values, current.version() + 1);
+            } catch (ConfigurationException e) {
+                LOGGER.warn("Config reload skipped, keeping current values: {}", e.getMessage());
+                return false;
+            }
+        }
+        LOGGER.info("Configuration reloaded for env [{}] (version {})", env, snapshot.version());
+
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.onConfigChange(this);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Config change listener {} failed: {}", listener, e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registers a listener notified after every applied {@link #reload()}.
+     *
+     * @param listener the listener to add
+     */
+    public void addChangeListener(ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeChangeListener(ConfigChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Starts watching the filesystem-backed config files and reloading on change.
+     *
+     * <p>Has no effect if the configuration is already watched, or if it is read
+     * from a JAR rather than from plain files.</p>
+     */
+    public synchronized void enableHotReload() {
+        if (watcher != null) {
+            return;
+        }
+        List<Path> files = watchableFiles();
+        if (files.isEmpty()) {
+            LOGGER.warn("Config hot reload requested, but config/{} is not a file on disk", DEFAULT_FILE);
+            return;
+        }
+        watcher = ConfigWatcher.start(files, this::reload);
+    }
+
+    /**
+     * Stops watching the config files.
+     */
+    public synchronized void disableHotReload() {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Returns how many times the configuration has been loaded.
+     *
+     * @return {@code 1} after startup, incremented by every applied reload
+     */
+    public long getVersion() {
+        return snapshot.version();
+    }
+
+    /**
+     * Returns the wait timeouts.
+     *
+     * @return the timeouts bound from the {@code timeout} section
+     */
+    public TimeoutConfig getTimeouts() {
+        return snapshot.timeouts();
+    }
+
+    /**
+     * Returns the test retry settings.
+     *
+     * @return the settings bound from the {@code retry} section
+     */
+    public RetryConfig getRetry() {
+        return snapshot.retry();
+    }
+
+    /**
+     * Returns the Appium server settings.
+     *
+     * @return the settings bound from the {@code appium} section
+     */
+    public AppiumConfig getAppium() {
+        return snapshot.appium();
+    }
+
+    /**
+     * Returns the API connection pool settings.
+     *
+     * @return the settings bound from the {@code api.pool} section
+     */
+    public PoolConfig getApiPool() {
+        return snapshot.apiPool();
+    }
+
+    /**
+     * Returns the device slot and scenario executor settings.
+     *
+     * @return the settings bound from the {@code devices} section
+     */
+    public DevicesConfig getDevices() {
+        return snapshot.devices();
+    }
+
+    /**
+     * Returns the session reuse and health check settings.
+     *
+     * @return the settings bound from the {@code session} section
+     */
+    public SessionConfig getSession() {
+        return snapshot.session();
+    }
+
+    /**
+     * Returns the app artifact install settings.
+     *
+     * @return the settings bound from the {@code artifacts} section
+     */
+    public ArtifactsConfig getArtifacts() {
+        return snapshot.artifacts();
+    }
+
     /**
      * Returns the Appium server URL.
      *
      * @return the configured Appium URL, or {@code "http://127.0.0.1:4723"} if not set
      */
     public String getAppiumUrl() {
-        return getStringValue("appium.url", "http://127.0.0.1:4723");
+        return snapshot.appium().getUrl();
+    }
+
+    /**
+     * Returns the base URL of the backend API used for test data setup.
+     *
+     * @return the configured API URL, or {@code null} if not set or blank
+     */
+    public String getApiUrl() {
+        String url = get("api.url");
+        return url != null && !url.trim().isEmpty() ? url.trim() : null;
+    }
+
+    /**
+     * Returns the maximum number of pooled HTTP connections per {@code ApiClient}.
+     *
+     * @return the connection pool size, or {@code 20} if not configured
+     */
+    public int getApiMaxConnections() {
+        return snapshot.apiPool().getMaxConnections();
+    }
+
+    /**
+     * Returns how long idle API connections are kept alive for reuse, in milliseconds.
+     *
+     * @return the keep-alive duration in ms, or {@code 30000L} if not configured
+     */
+    public long getApiKeepAliveMs() {
+        return snapshot.apiPool().getKeepAliveMs();
+    }
+
+    /**
+     * Returns the API connect timeout in milliseconds.
+     *
+     * @return the connect timeout in ms, or {@code 5000} if not configured
+     */
+    public int getApiConnectTimeoutMs() {
+        return getIntValue("api.timeout.connectMs", 5000);
+    }
+
+    /**
+     * Returns the API read (socket) timeout in milliseconds.
+     *
+     * @return the read timeout in ms, or {@code 30000} if not configured
+     */
+    public int getApiReadTimeoutMs() {
+        return getIntValue("api.timeout.readMs", 30000);
+    }
+
+    /**
+     * Returns whether {@code ApiClient} instances cache {@code GET} responses by default.
+     *
+     * @return {@code true} if {@code api.cache.enabled} is set, {@code false} otherwise (default)
+     */
+    public boolean isApiCacheEnabled() {
+        return getBooleanValue("api.cache.enabled", false);
+    }
+
+    /**
+     * Returns the maximum number of responses held by the shared API response cache.
+     *
+     * @return the cache capacity, or {@code 256} if not configured
+     */
+    public int getApiCacheMaxEntries() {
+        return getIntValue("api.cache.maxEntries", 256);
+    }
+
+    /**
+     * Returns the freshness lifetime forced onto every cacheable API response, in seconds.
+     *
+     * @return the max-age override, or {@code -1} to honor the server's {@code Cache-Control}
+     */
+    public long getApiCacheMaxAgeSeconds() {
+        return getLongValue("api.cache.maxAgeSeconds", -1L);
+    }
+
+    /**
+     * Returns the comma-separated request header names included in API cache keys.
+     *
+     * @return the key header names, or {@code "Accept,Accept-Language,Authorization"} if not configured
+     */
+    public String getApiCacheKeyHeaders() {
+        return getStringValue("api.cache.keyHeaders", "Accept,Accept-Language,Authorization");
+    }
+
+    /**
+     * Returns whether {@code ApiClient} talks to the live backend, records it, or replays a recording.
+     *
+     * @return the configured {@code api.mode}, or {@code "live"} if not set
+     */
+    public String getApiMode() {
+        return getStringValue("api.mode", "live");
+    }
+
+    /**
+     * Returns the directory holding recorded API archives.
+     *
+     * @return the recording directory, or {@code "src/test/resources/api-recordings"} if not configured
+     */
+    public String getApiRecordingDir() {
+        return getStringValue("api.recording.dir", "src/test/resources/api-recordings");
+    }
+
+    /**
+     * Returns the artificial latency added to each replayed API response, in milliseconds.
+     *
+     * @return the replay latency in ms, or {@code 0} if not configured
+     */
+    public long getApiReplayLatencyMs() {
+        return getLongValue("api.replay.latencyMs", 0L);
+    }
+
+    /**
+     * Returns the file the suite's metrics are written to in OpenMetrics format when it ends.
+     *
+     * @return the metrics file path, or {@code "target/metrics/openmetrics.txt"} if not
+     *         configured; an empty value disables the export
+     */
+    public String getMetricsFile() {
+        return getStringValue("metrics.file", "target/metrics/openmetrics.txt");
+    }
+
+    /**
+     * Returns the port of the local HTTP endpoint serving metrics while the suite runs.
+     *
+     * @return the metrics port, or {@code 0} if the endpoint is disabled (default)
+     */
+    public int getMetricsPort() {
+        return getIntValue("metrics.port", 0);
+    }
+
+    /**
+     * Returns the address the metrics endpoint listens on.
+     *
+     * @return the bind address, e.g. {@code "0.0.0.0"} to accept scrapes from other
+     *         machines, or an empty string (default) for the loopback interface only
+     */
+    public String getMetricsBindAddress() {
+        return getStringValue("metrics.bindAddress", "");
+    }
+
+    /**
+     * Returns the seed that makes generated test data reproducible.
+     *
+     * @return the {@code data.seed} value, or {@code null} if data generation is not seeded (default)
+     */
+    public String getDataSeed() {
+        return getStringValue("data.seed", null);
+    }
+
+    /**
+     * Returns how many values each pooled test data generator prepares.
+     *
+     * @return the {@code data.poolSize} value, or {@code 256} if not configured
+     */
+    public int getDataPoolSize() {
+        return getIntValue("data.poolSize", 256);
+    }
+
+    /**
+     * Returns whether simple XPath locators are rewritten to equivalent native
+     * strategies for the current platform.
+     *
+     * @return {@code true} if XPath rewriting is enabled (default), {@code false} otherwise
+     */
+    public boolean isLocatorRewriteEnabled() {
+        return getBooleanValue("locator.rewriteXpath", true);
+    }
+
+    /**
+     * Returns whether config files are watched and reloaded on change.
+     *
+     * @return {@code true} if {@code config.reload.enabled} is set, {@code false} otherwise (default)
+     */
+    public boolean isConfigReloadEnabled() {
+        return getBooleanValue("config.reload.enabled", false);
     }
 
     /**
@@ -83,7 +466,7 @@ public class EnvironmentConfig {
      * @return the implicit timeout, or {@code 10} if not configured
      */
     public int getImplicitTimeout() {
-        return getIntValue("timeout.implicit", 10);
+        return snapshot.timeouts().getImplicitSeconds();
     }
 
     /**
@@ -92,7 +475,7 @@ public class EnvironmentConfig {
      * @return the explicit timeout, or {@code 15} if not configured
      */
     public int getExplicitTimeout() {
-        return getIntValue("timeout.explicit", 15);
+        return snapshot.timeouts().getExplicitSeconds();
     }
 
     /**
@@ -101,7 +484,7 @@ public class EnvironmentConfig {
      * @return the max retry count, or {@code 2} if not configured
      */
     public int getRetryMax() {
-        return getIntValue("retry.max", 2);
+        return snapshot.retry().getMax();
     }
 
     /**
@@ -110,7 +493,7 @@ public class EnvironmentConfig {
      * @return the retry delay in ms, or {@code 1000L} if not configured
      */
     public long getRetryDelayMs() {
-        return getLongValue("retry.delayMs", 1000L);
+        return snapshot.retry().getDelayMs();
     }
 
     /**
@@ -130,7 +513,7 @@ public class EnvironmentConfig {
      * @return the value as a string, or {@code null} if not found
      */
     public String get(String key) {
-        return ConfigReader.getString(mergedConfig, key);
+        return snapshot.get(key);
     }
 
     /**
@@ -141,7 +524,8 @@ public class EnvironmentConfig {
      * @return the value as a string, or {@code defaultValue} if not found
      */
     public String get(String key, String defaultValue) {
-        return ConfigReader.getString(mergedConfig, key, defaultValue);
+        String val = snapshot.get(key);
+        return val != null ? val : defaultValue;
     }
 
     /**
@@ -152,24 +536,27 @@ public class EnvironmentConfig {
      * @return the resolved value or the default
      */
     private String getStringValue(String key, String defaultValue) {
-        String val = ConfigReader.getString(mergedConfig, key);
+        String val = snapshot.get(key);
         return val != null ? val : defaultValue;
     }
 
     /**
-     * Retrieves an integer value with a fallback default.
+     * Retrieves an integer value with a fallback default, for keys outside the
+     * typed sections.
      *
-     * @param key          the configuration key
+     * @param key          the dot-separated configuration key
      * @param defaultValue the fallback value
      * @return the resolved integer or the default
+     * @throws ConfigurationException if the value is not an integer
      */
-    private int getIntValue(String key, int defaultValue) {
-        String val = ConfigReader.getString(mergedConfig, key);
+    public int getIntValue(String key, int defaultValue) {
+        String val = snapshot.get(key);
         if (val != null) {
             try {
-                return Integer.parseInt(val);
+                return Integer.parseInt(val.trim());
             } catch (NumberFormatException e) {
-                return defaultValue;
+                throw new ConfigurationException("Invalid configuration: " + key
+                        + ": expected an integer but was '" + val + "'", e);
             }
         }
         return defaultValue;
@@ -181,14 +568,16 @@ public class EnvironmentConfig {
      * @param key          the configuration key
      * @param defaultValue the fallback value
      * @return the resolved long or the default
+     * @throws ConfigurationException if the value is not an integer
      */
     private long getLongValue(String key, long defaultValue) {
-        String val = ConfigReader.getString(mergedConfig, key);
+        String val = snapshot.get(key);
         if (val != null) {
             try {
-                return Long.parseLong(val);
+                return Long.parseLong(val.trim());
             } catch (NumberFormatException e) {
-                return defaultValue;
+                throw new ConfigurationException("Invalid configuration: " + key
+                        + ": expected an integer but was '" + val + "'", e);
             }
         }
         return defaultValue;
@@ -200,15 +589,109 @@ public class EnvironmentConfig {
      * @param key          the configuration key
      * @param defaultValue the fallback value
      * @return the resolved boolean or the default
+     * @throws ConfigurationException if the value is neither {@code true} nor {@code false}
      */
     private boolean getBooleanValue(String key, boolean defaultValue) {
-        String val = ConfigReader.getString(mergedConfig, key);
+        String val = snapshot.get(key);
         if (val != null) {
-            return Boolean.parseBoolean(val);
+            String normalized = val.trim();
+            if (normalized.equalsIgnoreCase("true") || normalized.equalsIgnoreCase("false")) {
+                return Boolean.parseBoolean(normalized);
+            }
+            throw new ConfigurationException("Invalid configuration: " + key
+                    + ": expected true or false but was '" + val + "'");
         }
         return defaultValue;
     }
 
+    /**
+     * Resolves all configuration layers into flat values.
+     *
+     * @param lenient whether unreadable or malformed files count as empty
+     * @return the resolved values keyed by dotted path
+     * @throws ConfigurationException if {@code lenient} is {@code false} and a file is malformed
+     */
+    private Map<String, String> resolve(boolean lenient) {
+        return ConfigLayers.resolve(loadTree(lenient), environment.get(), systemProperties.get());
+    }
+
+    /**
+     * Loads and merges the default and environment-specific files.
+     *
+     * @param lenient whether unreadable or malformed files count as empty
+     *                (startup) instead of failing the load (reload)
+     * @return the merged configuration tree
+     * @throws ConfigurationException if {@code lenient} is {@code false} and a file is malformed
+     */
+    private Map<String, Object> loadTree(boolean lenient) {
+        Map<String, Object> merged = loadLayer(DEFAULT_FILE, lenient);
+        deepMerge(merged, loadLayer(env + ".yaml", lenient));
+        return merged;
+    }
+
+    /**
+     * Loads one config file from {@code configDir} or the classpath, preferring
+     * the precompiled {@link ConfigBundle} for classpath files.
+     *
+     * @param fileName the file name inside the config directory
+     * @param lenient  whether errors yield an empty map instead of an exception
+     * @return the file's contents, or an empty map if the file does not exist
+     */
+    private Map<String, Object> loadLayer(String fileName, boolean lenient) {
+        try {
+            if (configDir != null) {
+                Path file = configDir.resolve(fileName);
+                return Files.isRegularFile(file) ? ConfigReader.load(file) : new HashMap<>();
+            }
+            String resource = "config/" + fileName;
+            Map<String, Object> bundled = ConfigBundle.classpath().yaml(resource);
+            if (bundled != null) {
+                return bundled;
+            }
+            if (ConfigReader.class.getClassLoader().getResource(resource) == null) {
+                return new HashMap<>();
+            }
+            Map<String, Object> layer = ConfigReader.load(resource);
+            return layer != null ? layer : new HashMap<>();
+        } catch (YAMLException e) {
+            if (lenient) {
+                return new HashMap<>();
+            }
+            throw new ConfigurationException("Malformed YAML in config/" + fileName, e);
+        } catch (ConfigurationException e) {
+            if (lenient) {
+                return new HashMap<>();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the files a watcher should observe: both layers inside the config
+     * directory, which is {@code configDir} or the directory {@code config/default.yaml}
+     * was found in on the classpath.
+     *
+     * @return the files to watch, or an empty list if the config is not file-backed
+     */
+    private List<Path> watchableFiles() {
+        Path directory = configDir;
+        if (directory == null) {
+            Path defaultFile = ConfigReader.locate("config/" + DEFAULT_FILE);
+            directory = defaultFile != null ? defaultFile.getParent() : null;
+        }
+        List<Path> files = new ArrayList<>();
+        if (directory != null && Files.isDirectory(directory)) {
+            files.add(directory.resolve(DEFAULT_FILE));
+            files.add(directory.resolve(env + ".yaml"));
+        }
+        return files;
+    }
+
+    private static Path configDirFromProperty() {
+        String dir = System.getProperty(CONFIG_DIR_PROPERTY);
+        return dir != null && !dir.trim().isEmpty() ? Paths.get(dir.trim()) : null;
+    }
+
     /**
      * Recursively merges the override map into the base map. Nested maps are
      * merged rather than replaced.
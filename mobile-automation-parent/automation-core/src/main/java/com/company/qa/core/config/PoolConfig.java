@@ -0,0 +1,52 @@
+package com.company.qa.core.config;
+
+/**
+ * Immutable API connection pool settings bound from the {@code api.pool} config section.
+ *
+ * <p>Obtained via {@link EnvironmentConfig#getApiPool()}.</p>
+ */
+public final class PoolConfig {
+
+    private final int maxConnections;
+    private final long keepAliveMs;
+
+    private PoolConfig(int maxConnections, long keepAliveMs) {
+        this.maxConnections = maxConnections;
+        this.keepAliveMs = keepAliveMs;
+    }
+
+    /**
+     * Binds {@code api.pool.maxConnections} and {@code api.pool.keepAliveMs}.
+     *
+     * @param binder the binder collecting validation errors
+     * @return the bound pool settings
+     */
+    static PoolConfig bind(ConfigBinder binder) {
+        return new PoolConfig(
+                binder.intValue("api.pool.maxConnections", 20, 1),
+                binder.longValue("api.pool.keepAliveMs", 30000L, 0L));
+    }
+
+    /**
+     * Returns the maximum number of pooled connections, in total and per route.
+     *
+     * @return the connection limit, {@code 20} by default
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Returns how long idle connections are kept alive for reuse.
+     *
+     * @return the keep-alive duration in milliseconds, {@code 30000} by default
+     */
+    public long getKeepAliveMs() {
+        return keepAliveMs;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolConfig{maxConnections=" + maxConnections + ", keepAliveMs=" + keepAliveMs + "}";
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.qa.core.config;
+
+/**
+ * Immutable test retry settings bound from the {@code retry} config section.
+ *
+ * <p>Obtained via {@link EnvironmentConfig#getRetry()}.</p>
+ */
+public final class RetryConfig {
+
+    private final int max;
+    private final long delayMs;
+
+    private RetryConfig(int max, long delayMs) {
+        this.max = max;
+        this.delayMs = delayMs;
+    }
+
+    /**
+     * Binds {@code retry.max} and {@code retry.delayMs}.
+     *
+     * @param binder the binder collecting validation errors
+     * @return the bound retry settings
+     */
+    static RetryConfig bind(ConfigBinder binder) {
+        return new RetryConfig(
+                binder.intValue("retry.max", 2, 0),
+                binder.longValue("retry.delayMs", 1000L, 0L));
+    }
+
+    /**
+     * Returns the maximum number of retries of a failed test.
+     *
+     * @return the retry count, {@code 2} by default
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the delay between retries.
+     *
+     * @return the delay in milliseconds, {@code 1000} by default
+     */
+    public long getDelayMs() {
+        return delayMs;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryConfig{max=" + max + ", delayMs=" + delayMs + "}";
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.qa.core.config;
+
+/**
+ * Immutable Appium session reuse and health check settings bound from the
+ * {@code session} config section.
+ *
+ * <p>Obtained via {@link EnvironmentConfig#getSession()}.</p>
+ */
+public final class SessionConfig {
+
+    private final boolean reuse;
+    private final int healthCheckIntervalSeconds;
+    private final long healthCheckTimeoutMs;
+    private final long slowThresholdMs;
+
+    private SessionConfig(boolean reuse, int healthCheckIntervalSeconds, long healthCheckTimeoutMs,
+                          long slowThresholdMs) {
+        this.reuse = reuse;
+        this.healthCheckIntervalSeconds = healthCheckIntervalSeconds;
+        this.healthCheckTimeoutMs = healthCheckTimeoutMs;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    /**
+     * Binds {@code session.reuse}, {@code session.healthCheck.intervalSeconds},
+     * {@code session.healthCheck.timeoutMs} and {@code session.healthCheck.slowMs}.
+     *
+     * @param binder the binder collecting validation errors
+     * @return the bound session settings
+     */
+    static SessionConfig bind(ConfigBinder binder) {
+        return new SessionConfig(
+                binder.booleanValue("session.reuse", false),
+                binder.intValue("session.healthCheck.intervalSeconds", 30, 0),
+                binder.longValue("session.healthCheck.timeoutMs", 5000L, 1L),
+                binder.longValue("session.healthCheck.slowMs", 2000L, 1L));
+    }
+
+    /**
+     * Returns whether sessions are kept open after a scenario and handed to the
+     * next scenario with the same capabilities.
+     *
+     * @return {@code true} to pool sessions, {@code false} (default) to quit them
+     */
+    public boolean isReuse() {
+        return reuse;
+    }
+
+    /**
+     * Returns how often idle sessions are pinged in the background.
+     *
+     * @return the interval in seconds, {@code 30} by default; {@code 0} disables
+     *         background checks, so sessions are checked only when leased
+     */
+    public int getHealthCheckIntervalSeconds() {
+        return healthCheckIntervalSeconds;
+    }
+
+    /**
+     * Returns how long a ping may take before the session counts as unresponsive.
+     *
+     * @return the timeout in milliseconds, {@code 5000} by default
+     */
+    public long getHealthCheckTimeoutMs() {
+        return healthCheckTimeoutMs;
+    }
+
+    /**
+     * Returns the ping latency above which a session counts as slow.
+     *
+     * @return the threshold in milliseconds, {@code 2000} by default
+     */
+    public long getSlowThresholdMs() {
+        return slowThresholdMs;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionConfig{reuse=" + reuse + ", healthCheckIntervalSeconds=" + healthCheckIntervalSeconds
+                + ", healthCheckTimeoutMs=" + healthCheckTimeoutMs + ", slowThresholdMs=" + slowThresholdMs + "}";
+    }
+}
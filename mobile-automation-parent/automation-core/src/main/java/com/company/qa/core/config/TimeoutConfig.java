@@ -0,0 +1,52 @@
+package com.company.qa.core.config;
+
+/**
+ * Immutable wait timeouts bound from the {@code timeout} config section.
+ *
+ * <p>Obtained via {@link EnvironmentConfig#getTimeouts()}.</p>
+ */
+public final class TimeoutConfig {
+
+    private final int implicitSeconds;
+    private final int explicitSeconds;
+
+    private TimeoutConfig(int implicitSeconds, int explicitSeconds) {
+        this.implicitSeconds = implicitSeconds;
+        this.explicitSeconds = explicitSeconds;
+    }
+
+    /**
+     * Binds {@code timeout.implicit} and {@code timeout.explicit}.
+     *
+     * @param binder the binder collecting validation errors
+     * @return the bound timeouts
+     */
+    static TimeoutConfig bind(ConfigBinder binder) {
+        return new TimeoutConfig(
+                binder.intValue("timeout.implicit", 10, 0),
+                binder.intValue("timeout.explicit", 15, 0));
+    }
+
+    /**
+     * Returns the implicit wait timeout.
+     *
+     * @return the implicit timeout in seconds, {@code 10} by default
+     */
+    public int getImplicitSeconds() {
+        return implicitSeconds;
+    }
+
+    /**
+     * Returns the default explicit wait timeout.
+     *
+     * @return the explicit timeout in seconds, {@code 15} by default
+     */
+    public int getExplicitSeconds() {
+        return explicitSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeoutConfig{implicit=" + implicitSeconds + "s, explicit=" + explicitSeconds + "s}";
+    }
+}
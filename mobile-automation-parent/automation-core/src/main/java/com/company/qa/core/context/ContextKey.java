@@ -0,0 +1,105 @@
+package com.company.qa.core.context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Typed handle for a {@link TestContext} entry.
+ *
+ * <p>Each key is registered once, usually as a {@code static final} constant,
+ * and receives a fixed slot index. Typed reads and writes go straight to that
+ * slot in the current thread's context: no string hashing, no boxing of the
+ * key and no casts at the call site.</p>
+ *
+ * <p>A key's name is shared with the string API, so {@code TestContext.get("userId")}
+ * and {@code TestContext.get(USER_ID)} see the same value.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * public static final ContextKey<Integer> USER_ID = ContextKey.of("userId", Integer.class);
+ *
+ * TestContext.put(USER_ID, 42);
+ * int userId = TestContext.get(USER_ID);
+ * }</pre>
+ *
+ * @param <T> the value type
+ */
+public final class ContextKey<T> {
+
+    private static final Map<String, ContextKey<?>> REGISTRY = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private final String name;
+    private final Class<T> type;
+    private final int index;
+
+    private ContextKey(String name, Class<T> type, int index) {
+        this.name = name;
+        this.type = type;
+        this.index = index;
+    }
+
+    /**
+     * Registers a key, or returns the key already registered under {@code name}.
+     *
+     * @param name the key name, shared with the string API
+     * @param type the value type
+     * @param <T>  the value type
+     * @return the key for {@code name}
+     * @throws IllegalArgumentException if {@code type} is primitive (use the wrapper class) or
+     *                                  {@code name} is already registered with another type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ContextKey<T> of(String name, Class<T> type) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Context key name must not be null or empty");
+        }
+        if (type.isPrimitive()) {
+            throw new IllegalArgumentException("Context key [" + name + "] must use a wrapper type, not " + type);
+        }
+        ContextKey<?> key = REGISTRY.computeIfAbsent(name,
+                n -> new ContextKey<>(n, type, NEXT_INDEX.getAndIncrement()));
+        if (key.type != type) {
+            throw new IllegalArgumentException("Context key [" + name + "] is already registered as "
+                    + key.type.getSimpleName() + ", not " + type.getSimpleName());
+        }
+        return (ContextKey<T>) key;
+    }
+
+    /**
+     * Returns the key registered under {@code name}.
+     *
+     * @param name the key name
+     * @return the key, or {@code null} if no key has that name
+     */
+    static ContextKey<?> lookup(String name) {
+        return REGISTRY.get(name);
+    }
+
+    /**
+     * Returns the number of registered keys, i.e. the slot count a context needs.
+     *
+     * @return the registered key count
+     */
+    static int registeredCount() {
+        return NEXT_INDEX.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    int index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "ContextKey[" + name + ": " + type.getSimpleName() + "]";
+    }
+}
@@ -0,0 +1,97 @@
+package com.company.qa.core.context;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Storage behind one {@link TestContext}: an array indexed by {@link ContextKey}
+ * slot, plus a map for string keys that were never registered as typed keys.
+ *
+ * <p>A value put by name before a {@link ContextKey} with that name was
+ * registered lands in the map. It moves into the key's slot the first time
+ * the key is used on this store, so typed and string lookups keep seeing the
+ * same value.</p>
+ *
+ * <p>Methods synchronize on the store, since a scenario's helper threads may
+ * share it with the scenario thread; the lock is uncontended in the common
+ * single-threaded case.</p>
+ */
+final class ContextStore {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] slots = EMPTY;
+    private Map<String, Object> untyped;
+
+    @SuppressWarnings("unchecked")
+    synchronized <T> T get(ContextKey<T> key) {
+        int index = key.index();
+        Object value = index < slots.length ? slots[index] : null;
+        // put(key, ...) drops the name from the map, so only an empty slot can have an untyped value waiting
+        if (value == null && untyped != null && untyped.containsKey(key.getName())) {
+            value = key.getType().cast(untyped.get(key.getName()));
+            put(key, (T) value);
+        }
+        return (T) value;
+    }
+
+    synchronized <T> void put(ContextKey<T> key, T value) {
+        if (untyped != null) {
+            untyped.remove(key.getName());
+        }
+        int index = key.index();
+        if (index >= slots.length) {
+            if (value == null) {
+                return;
+            }
+            slots = Arrays.copyOf(slots, Math.max(ContextKey.registeredCount(), index + 1));
+        }
+        slots[index] = value;
+    }
+
+    synchronized Object get(String name) {
+        ContextKey<?> key = ContextKey.lookup(name);
+        if (key != null) {
+            return get(key);
+        }
+        return untyped != null ? untyped.get(name) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized void put(String name, Object value) {
+        ContextKey<Object> key = (ContextKey<Object>) ContextKey.lookup(name);
+        if (key != null) {
+            put(key, key.getType().cast(value));
+            return;
+        }
+        if (untyped == null) {
+            untyped = new HashMap<>();
+        }
+        untyped.put(name, value);
+    }
+
+    synchronized boolean containsKey(String name) {
+        ContextKey<?> key = ContextKey.lookup(name);
+        if (key != null) {
+            return get(key) != null;
+        }
+        return untyped != null && untyped.containsKey(name);
+    }
+
+    synchronized void remove(String name) {
+        ContextKey<?> key = ContextKey.lookup(name);
+        if (key != null) {
+            put(key, null);
+        } else if (untyped != null) {
+            untyped.remove(name);
+        }
+    }
+
+    synchronized void clear() {
+        Arrays.fill(slots, null);
+        if (untyped != null) {
+            untyped.clear();
+        }
+    }
+}
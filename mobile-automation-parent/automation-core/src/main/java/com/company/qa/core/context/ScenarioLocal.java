@@ -0,0 +1,82 @@
+package com.company.qa.core.context;
+
+import java.util.function.Supplier;
+
+/**
+ * Variable bound to the current {@link ScenarioScope}, falling back to a plain
+ * {@link ThreadLocal} on threads that have no scope attached.
+ *
+ * <p>Drop-in replacement for framework {@code ThreadLocal}s: inside a scenario
+ * the value lives in the scope, so every thread the scope is propagated to
+ * (see {@link com.company.qa.core.concurrent.ContextPropagatingExecutor}) sees
+ * and updates the same value. Outside a scenario, for example in unit tests,
+ * it behaves exactly like a {@code ThreadLocal}.</p>
+ *
+ * <p>{@code null} values are not stored; setting {@code null} removes the value.</p>
+ *
+ * @param <T> the value type
+ */
+public final class ScenarioLocal<T> {
+
+    private final Supplier<? extends T> initial;
+    private final ThreadLocal<T> fallback;
+
+    private ScenarioLocal(Supplier<? extends T> initial) {
+        this.initial = initial;
+        this.fallback = initial != null ? ThreadLocal.withInitial(initial) : new ThreadLocal<>();
+    }
+
+    /**
+     * Creates a variable without an initial value.
+     *
+     * @param <T> the value type
+     * @return a new variable
+     */
+    public static <T> ScenarioLocal<T> create() {
+        return new ScenarioLocal<>(null);
+    }
+
+    /**
+     * Creates a variable whose value is created on first access in each scope or thread.
+     *
+     * @param initial the supplier of the initial value
+     * @param <T>     the value type
+     * @return a new variable
+     */
+    public static <T> ScenarioLocal<T> withInitial(Supplier<? extends T> initial) {
+        return new ScenarioLocal<>(initial);
+    }
+
+    /**
+     * Returns the value in the current scope, or in the current thread if no scope is attached.
+     *
+     * @return the value, or {@code null} if none is set and there is no initial value
+     */
+    public T get() {
+        ScenarioScope scope = ScenarioScope.current();
+        return scope != null ? scope.get(this, initial) : fallback.get();
+    }
+
+    /**
+     * Sets the value in the current scope, or in the current thread if no scope is attached.
+     *
+     * @param value the value, or {@code null} to remove it
+     */
+    public void set(T value) {
+        ScenarioScope scope = ScenarioScope.current();
+        if (scope != null) {
+            scope.set(this, value);
+        } else if (value != null) {
+            fallback.set(value);
+        } else {
+            fallback.remove();
+        }
+    }
+
+    /**
+     * Removes the value from the current scope, or from the current thread if no scope is attached.
+     */
+    public void remove() {
+        set(null);
+    }
+}
@@ -0,0 +1,126 @@
+package com.company.qa.core.context;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Explicit holder of one scenario's state: the {@link TestContext} values, the
+ * drivers and every other {@link ScenarioLocal}.
+ *
+ * <p>PicoContainer creates one scope per scenario and injects it into hooks and
+ * step definitions. The scenario thread attaches it in a {@code @Before} hook;
+ * tasks submitted through a
+ * {@link com.company.qa.core.concurrent.ContextPropagatingExecutor} (or wrapped
+ * with {@link #wrap(Runnable)}) run with the same scope attached, so background
+ * work inside a scenario keeps its driver and context bindings.</p>
+ *
+ * <p>State is held in a concurrent map, so the scenario thread and its helper
+ * threads may read and write it at the same time.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * public ScenarioHooks(ScenarioScope scope) { this.scope = scope; }
+ *
+ * @Before(order = 0)
+ * public void attachScope() { scope.attach(); }
+ *
+ * @After(order = 0)
+ * public void detachScope() { scope.detach(); }
+ * }</pre>
+ */
+public class ScenarioScope {
+
+    private static final ThreadLocal<ScenarioScope> currentScope = new ThreadLocal<>();
+
+    private final Map<ScenarioLocal<?>, Object> values = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the scope attached to the current thread.
+     *
+     * @return the current scope, or {@code null} if none is attached
+     */
+    public static ScenarioScope current() {
+        return currentScope.get();
+    }
+
+    /**
+     * Attaches this scope to the current thread, replacing any scope attached before.
+     */
+    public void attach() {
+        currentScope.set(this);
+    }
+
+    /**
+     * Detaches this scope from the current thread if it is attached.
+     */
+    public void detach() {
+        if (currentScope.get() == this) {
+            currentScope.remove();
+        }
+    }
+
+    /**
+     * Wraps a task so it runs with this scope attached, restoring the executing
+     * thread's previous scope afterwards.
+     *
+     * @param task the task
+     * @return the wrapped task
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            ScenarioScope previous = currentScope.get();
+            currentScope.set(this);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps a task so it runs with this scope attached, restoring the executing
+     * thread's previous scope afterwards.
+     *
+     * @param task the task
+     * @param <T>  the result type
+     * @return the wrapped task
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            ScenarioScope previous = currentScope.get();
+            currentScope.set(this);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(ScenarioLocal<T> local, Supplier<? extends T> initial) {
+        if (initial == null) {
+            return (T) values.get(local);
+        }
+        return (T) values.computeIfAbsent(local, l -> initial.get());
+    }
+
+    <T> void set(ScenarioLocal<T> local, T value) {
+        if (value != null) {
+            values.put(local, value);
+        } else {
+            values.remove(local);
+        }
+    }
+
+    private static void restore(ScenarioScope previous) {
+        if (previous != null) {
+            currentScope.set(previous);
+        } else {
+            currentScope.remove();
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.company.qa.core.context;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Thread-safe test context for sharing state between step definitions within a scenario.
  *
- * <p>Uses {@link ThreadLocal} storage so that each test thread maintains its own
- * isolated key-value map. Provides both static methods (for direct use) and
+ * <p>Uses {@link ScenarioLocal} storage so that each scenario maintains its own
+ * isolated context, shared with the helper threads its {@link ScenarioScope} is
+ * propagated to; without a scope, each test thread has its own context. Provides both static methods (for direct use) and
  * instance methods (for dependency injection frameworks like PicoContainer).</p>
  *
+ * <p>Values are best accessed through typed {@link ContextKey} handles, which
+ * index an array slot in the current context directly. The string API is kept for
+ * compatibility: a name registered as a {@code ContextKey} resolves to the same
+ * slot, any other name is stored in a map allocated on first use. For
+ * registered names, storing {@code null} removes the value.</p>
+ *
  * <p><b>Usage (static):</b></p>
  * <pre>{@code
- * TestContext.put("userId", 42);
- * int userId = TestContext.get("userId");
+ * static final ContextKey<Integer> USER_ID = ContextKey.of("userId", Integer.class);
+ *
+ * TestContext.put(USER_ID, 42);
+ * int userId = TestContext.get(USER_ID);
+ * String legacy = TestContext.get("someKey");
  * }</pre>
  *
  * <p><b>Usage (injected instance):</b></p>
@@ -25,16 +32,75 @@ import java.util.Map;
  */
 public class TestContext {
 
-    private static final ThreadLocal<Map<String, Object>> contextThread =
-            ThreadLocal.withInitial(HashMap::new);
+    private static final ScenarioLocal<ContextStore> contextThread =
+            ScenarioLocal.withInitial(ContextStore::new);
+
+    // ---- Static methods: typed keys ----
+
+    /**
+     * Stores a value under a typed key in the current thread's context.
+     *
+     * @param key   the key
+     * @param value the value to store, or {@code null} to remove it
+     * @param <T>   the value type
+     */
+    public static <T> void put(ContextKey<T> key, T value) {
+        contextThread.get().put(key, value);
+    }
+
+    /**
+     * Retrieves the value of a typed key from the current thread's context.
+     *
+     * @param key the key
+     * @param <T> the value type
+     * @return the value, or {@code null} if none is stored
+     * @throws ClassCastException if a value of another type was put under the key's
+     *                            name before the key was registered
+     */
+    public static <T> T get(ContextKey<T> key) {
+        return contextThread.get().get(key);
+    }
 
-    // ---- Static methods ----
+    /**
+     * Retrieves the value of a typed key, returning a default if none is stored.
+     *
+     * @param key          the key
+     * @param defaultValue the value to return if the key has no value
+     * @param <T>          the value type
+     * @return the stored value, or {@code defaultValue}
+     */
+    public static <T> T get(ContextKey<T> key, T defaultValue) {
+        T value = contextThread.get().get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Checks whether a typed key has a value in the current thread's context.
+     *
+     * @param key the key
+     * @return {@code true} if a value is stored
+     */
+    public static boolean containsKey(ContextKey<?> key) {
+        return contextThread.get().get(key) != null;
+    }
+
+    /**
+     * Removes the value of a typed key from the current thread's context.
+     *
+     * @param key the key
+     */
+    public static void remove(ContextKey<?> key) {
+        contextThread.get().put(key, null);
+    }
+
+    // ---- Static methods: string keys ----
 
     /**
      * Stores a value in the current thread's context.
      *
      * @param key   the key to associate the value with
      * @param value the value to store
+     * @throws ClassCastException if {@code key} names a {@link ContextKey} of another type
      */
     public static void put(String key, Object value) {
         contextThread.get().put(key, value);
@@ -86,24 +152,46 @@ public class TestContext {
     }
 
     /**
-     * Clears all entries from the current thread's context map.
+     * Clears all entries from the current thread's context.
      *
-     * <p>The underlying map is retained (emptied, not removed).</p>
+     * <p>The underlying storage is retained (emptied, not removed).</p>
      */
     public static void clear() {
         contextThread.get().clear();
     }
 
     /**
-     * Fully removes the current thread's context map from the {@link ThreadLocal}.
+     * Fully removes the current scenario's (or thread's) context.
      *
-     * <p>A subsequent call to any accessor will create a fresh empty map.</p>
+     * <p>A subsequent call to any accessor will create a fresh empty context.</p>
      */
     public static void reset() {
         contextThread.remove();
     }
 
-    // ---- Instance methods (delegate to ThreadLocal for PicoContainer injection) ----
+    // ---- Instance methods (delegate to static storage for PicoContainer injection) ----
+
+    /**
+     * Stores a value under a typed key (instance method).
+     *
+     * @param key   the key
+     * @param value the value to store, or {@code null} to remove it
+     * @param <T>   the value type
+     */
+    public <T> void setValue(ContextKey<T> key, T value) {
+        put(key, value);
+    }
+
+    /**
+     * Retrieves the value of a typed key (instance method).
+     *
+     * @param key the key
+     * @param <T> the value type
+     * @return the value, or {@code null} if none is stored
+     */
+    public <T> T getValue(ContextKey<T> key) {
+        return get(key);
+    }
 
     /**
      * Stores a value in the current thread's context (instance method).
@@ -0,0 +1,42 @@
+package com.company.qa.core.data;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable funnel record used for API-based test data seeding.
+ *
+ * <p>Field names match the JSON body sent to the funnel creation endpoint.</p>
+ *
+ * @see TestDataFactory#randomFunnel()
+ * @see TestDataSeeder
+ */
+public class FunnelRecord {
+
+    private final String name;
+    private final List<String> steps;
+
+    /**
+     * Creates a new funnel record.
+     *
+     * @param name  the funnel name
+     * @param steps the ordered funnel step names
+     */
+    public FunnelRecord(String name, List<String> steps) {
+        this.name = name;
+        this.steps = Collections.unmodifiableList(steps);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getSteps() {
+        return steps;
+    }
+
+    @Override
+    public String toString() {
+        return "FunnelRecord[" + name + "]";
+    }
+}
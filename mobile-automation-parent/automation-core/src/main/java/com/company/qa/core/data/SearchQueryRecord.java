@@ -0,0 +1,32 @@
+package com.company.qa.core.data;
+
+/**
+ * Immutable search query record used for API-based test data seeding.
+ *
+ * <p>Field names match the JSON body sent to the search query endpoint.</p>
+ *
+ * @see TestDataFactory#randomSearchQuery()
+ * @see TestDataSeeder
+ */
+public class SearchQueryRecord {
+
+    private final String query;
+
+    /**
+     * Creates a new search query record.
+     *
+     * @param query the search term
+     */
+    public SearchQueryRecord(String query) {
+        this.query = query;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchQueryRecord[" + query + "]";
+    }
+}
@@ -1,17 +1,43 @@
 package com.company.qa.core.data;
 
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.context.ScenarioLocal;
 import com.github.javafaker.Faker;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Factory for generating random test data using JavaFaker.
  *
  * <p>Provides convenient static methods for creating realistic random data
  * suitable for test scenarios such as user registration, form filling, and
  * data-driven testing.</p>
+ *
+ * <p>Each scenario (or, outside a {@code ScenarioScope}, each thread) owns its
+ * own {@link Faker} and {@link Random}, so parallel scenarios never contend on a
+ * shared generator. Seeds are split from a root {@link SplittableRandom};
+ * setting {@code data.seed} (in YAML, as {@code QA_DATA_SEED} or
+ * {@code -Ddata.seed=<long>}) makes the root deterministic so a failed
+ * run can be replayed. For replays that must not depend on thread scheduling,
+ * call {@link #reseed(long)} at the start of each scenario.</p>
+ *
+ * <p>The {@code pooled*} methods draw from values generated once per JVM
+ * (size controlled by {@code data.poolSize}, default {@code 256}). Draws are
+ * lock-free and allocation-free, which suits scenarios that only need a
+ * plausible value rather than a unique one.</p>
  */
 public class TestDataFactory {
 
-    private static final Faker FAKER = new Faker();
+    private static final int DEFAULT_POOL_SIZE = 256;
+
+    private static final SplittableRandom ROOT_SEEDS = createRootSeeds();
+
+    private static final ScenarioLocal<Generator> GENERATOR =
+            ScenarioLocal.withInitial(() -> new Generator(nextThreadSeed()));
 
     /**
      * Generates a random email address.
@@ -19,7 +45,7 @@ public class TestDataFactory {
      * @return a random email address string (e.g. {@code "john.doe@example.com"})
      */
     public static String randomEmail() {
-        return FAKER.internet().emailAddress();
+        return faker().internet().emailAddress();
     }
 
     /**
@@ -28,7 +54,7 @@ public class TestDataFactory {
      * @return a random full name string (e.g. {@code "Jane Smith"})
      */
     public static String randomName() {
-        return FAKER.name().fullName();
+        return faker().name().fullName();
     }
 
     /**
@@ -37,7 +63,7 @@ public class TestDataFactory {
      * @return a random phone number string
      */
     public static String randomPhone() {
-        return FAKER.phoneNumber().cellPhone();
+        return faker().phoneNumber().cellPhone();
     }
 
     /**
@@ -46,7 +72,7 @@ public class TestDataFactory {
      * @return a random password string between 8 and 20 characters
      */
     public static String randomPassword() {
-        return FAKER.internet().password(8, 20, true, true, true);
+        return faker().internet().password(8, 20, true, true, true);
     }
 
     /**
@@ -56,17 +82,210 @@ public class TestDataFactory {
      * @return a random text string of exactly {@code length} characters
      */
     public static String randomText(int length) {
-        return FAKER.lorem().characters(length);
+        return faker().lorem().characters(length);
     }
 
     /**
      * Generates a random integer between {@code min} (inclusive) and {@code max} (exclusive).
      *
+     * <p>The range may span the whole {@code int} domain. As with the Faker method
+     * this replaced, {@code min == max} is allowed and returns {@code min}.</p>
+     *
      * @param min the lower bound (inclusive)
      * @param max the upper bound (exclusive)
-     * @return a random integer in the range {@code [min, max)}
+     * @return a random integer in the range {@code [min, max)}, or {@code min} if both are equal
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
      */
     public static int randomNumber(int min, int max) {
-        return FAKER.number().numberBetween(min, max);
+        if (min > max) {
+            throw new IllegalArgumentException("min must not be greater than max: " + min + " > " + max);
+        }
+        if (min == max) {
+            return min;
+        }
+        Random random = GENERATOR.get().random;
+        long range = (long) max - min;
+        long offset = range <= Integer.MAX_VALUE
+                ? random.nextInt((int) range)
+                : Math.floorMod(random.nextLong(), range);
+        return (int) (min + offset);
+    }
+
+    /**
+     * Generates a random user record with name, email, phone, and password.
+     *
+     * @return a new {@link UserRecord}
+     */
+    public static UserRecord randomUser() {
+        return new UserRecord(randomName(), randomEmail(), randomPhone(), randomPassword());
+    }
+
+    /**
+     * Generates a random funnel record with three to five named steps.
+     *
+     * @return a new {@link FunnelRecord}
+     */
+    public static FunnelRecord randomFunnel() {
+        Faker faker = faker();
+        int stepCount = randomNumber(3, 6);
+        List<String> steps = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            steps.add(faker.app().name());
+        }
+        return new FunnelRecord(faker.commerce().productName() + " Funnel", steps);
+    }
+
+    /**
+     * Generates a random search query record.
+     *
+     * @return a new {@link SearchQueryRecord}
+     */
+    public static SearchQueryRecord randomSearchQuery() {
+        return new SearchQueryRecord(faker().commerce().productName());
+    }
+
+    /**
+     * Returns an email address from the pre-generated pool.
+     *
+     * @return a pooled email address; values repeat once the pool wraps around
+     */
+    public static String pooledEmail() {
+        return Pools.INSTANCE.emails.next();
+    }
+
+    /**
+     * Returns a full name from the pre-generated pool.
+     *
+     * @return a pooled full name; values repeat once the pool wraps around
+     */
+    public static String pooledName() {
+        return Pools.INSTANCE.names.next();
+    }
+
+    /**
+     * Returns a cell phone number from the pre-generated pool.
+     *
+     * @return a pooled phone number; values repeat once the pool wraps around
+     */
+    public static String pooledPhone() {
+        return Pools.INSTANCE.phones.next();
+    }
+
+    /**
+     * Replaces the current scenario's generator with one seeded from {@code seed}.
+     *
+     * <p>Subsequent {@code random*} calls in this scenario produce the same sequence
+     * for the same seed, regardless of which worker thread runs the scenario.</p>
+     *
+     * @param seed the seed for the current scenario's generator
+     */
+    public static void reseed(long seed) {
+        GENERATOR.set(new Generator(seed));
+    }
+
+    /**
+     * Returns the seed configured as {@code data.seed} in {@link EnvironmentConfig}.
+     *
+     * @return the configured seed, or {@code null} if data generation is not seeded
+     */
+    public static Long configuredSeed() {
+        String value = EnvironmentConfig.getInstance().getDataSeed();
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return (long) value.trim().hashCode();
+        }
+    }
+
+    /**
+     * Returns the {@link Faker} bound to the current scenario.
+     *
+     * @return the current scenario's faker instance
+     */
+    static Faker faker() {
+        return GENERATOR.get().faker;
+    }
+
+    private static SplittableRandom createRootSeeds() {
+        Long seed = configuredSeed();
+        return seed != null ? new SplittableRandom(seed) : new SplittableRandom();
+    }
+
+    /**
+     * Derives a seed for a new generator. {@link SplittableRandom} is not
+     * thread-safe, but this only runs once per generator.
+     *
+     * @return a seed independent of the seeds handed to other generators
+     */
+    private static long nextThreadSeed() {
+        synchronized (ROOT_SEEDS) {
+            return ROOT_SEEDS.split().nextLong();
+        }
+    }
+
+    /**
+     * Per-scenario generator pairing a {@link Random} with a {@link Faker} that uses it.
+     */
+    private static final class Generator {
+
+        private final Random random;
+        private final Faker faker;
+
+        private Generator(long seed) {
+            this.random = new Random(seed);
+            this.faker = new Faker(random);
+        }
+    }
+
+    /**
+     * Fixed-size ring of pre-generated values with a lock-free cursor.
+     */
+    private static final class Pool {
+
+        private final String[] values;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        private Pool(String[] values) {
+            this.values = values;
+        }
+
+        private String next() {
+            return values[Math.floorMod(cursor.getAndIncrement(), values.length)];
+        }
+    }
+
+    /**
+     * Lazily initialized holder for the value pools, generated once on first use
+     * from a dedicated seeded generator.
+     */
+    private static final class Pools {
+
+        private static final Pools INSTANCE = new Pools();
+
+        private final Pool emails;
+        private final Pool names;
+        private final Pool phones;
+
+        private Pools() {
+            int size = EnvironmentConfig.getInstance().getDataPoolSize();
+            if (size < 1) {
+                size = DEFAULT_POOL_SIZE;
+            }
+            Faker faker = new Generator(nextThreadSeed()).faker;
+            String[] emailValues = new String[size];
+            String[] nameValues = new String[size];
+            String[] phoneValues = new String[size];
+            for (int i = 0; i < size; i++) {
+                emailValues[i] = faker.internet().emailAddress();
+                nameValues[i] = faker.name().fullName();
+                phoneValues[i] = faker.phoneNumber().cellPhone();
+            }
+            this.emails = new Pool(emailValues);
+            this.names = new Pool(nameValues);
+            this.phones = new Pool(phoneValues);
+        }
     }
 }
@@ -0,0 +1,169 @@
+package com.company.qa.core.data;
+
+import com.company.qa.core.api.ApiClient;
+import com.company.qa.core.exception.FrameworkException;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Companion to {@link TestDataFactory} that creates batches of typed records
+ * through an {@link ApiClient} before the suite starts, so scenarios can lease
+ * ready-made data instead of building it through the UI.
+ *
+ * <p>Records are generated locally, posted in parallel via
+ * {@link ApiClient#batch(List, int)}, and only those the API accepted (2xx
+ * status) become leasable. Leasing and releasing are lock-free
+ * operations on a per-type concurrent queue, so parallel scenarios can draw
+ * records without coordination.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * try (ApiClient client = new ApiClient("https://api.example.com")) {
+ *     TestDataSeeder seeder = new TestDataSeeder(client);
+ *     seeder.seed(UserRecord.class, "/users", 50, TestDataFactory::randomUser);
+ * }
+ *
+ * // later, inside a scenario
+ * UserRecord user = seeder.lease(UserRecord.class);
+ * }</pre>
+ */
+public class TestDataSeeder {
+
+    private static final int DEFAULT_PARALLELISM = 8;
+
+    private final ApiClient apiClient;
+    private final int parallelism;
+    private final Map<Class<?>, Queue<Object>> records = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a seeder that posts up to {@code 8} records concurrently.
+     *
+     * @param apiClient the client used to create records
+     */
+    public TestDataSeeder(ApiClient apiClient) {
+        this(apiClient, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a seeder with a custom level of parallelism.
+     *
+     * @param apiClient   the client used to create records
+     * @param parallelism the maximum number of concurrent create requests
+     */
+    public TestDataSeeder(ApiClient apiClient, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.apiClient = apiClient;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Generates {@code count} records and posts each one to {@code path}.
+     *
+     * <p>Blocks until all requests have completed. Records rejected by the API
+     * or failing with an exception are logged and discarded.</p>
+     *
+     * @param type      the record type, used as the lease key
+     * @param path      the creation endpoint path relative to the client's base URL
+     * @param count     the number of records to create
+     * @param generator the supplier producing new records
+     * @param <T>       the record type
+     * @return the number of records successfully created and now leasable
+     */
+    public <T> int seed(Class<T> type, String path, int count, Supplier<T> generator) {
+        if (count <= 0) {
+            return 0;
+        }
+        Queue<Object> queue = queueFor(type);
+        long start = System.currentTimeMillis();
+
+        List<T> batch = new ArrayList<>(count);
+        List<Function<ApiClient, Response>> calls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            T record = generator.get();
+            batch.add(record);
+            calls.add(client -> {
+                try {
+                    return client.post(path, record);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Seeding {} via [{}] failed: {}", record, path, e.getMessage());
+                    return null;
+                }
+            });
+        }
+
+        List<Response> responses = apiClient.batch(calls, parallelism);
+        int created = 0;
+        for (int i = 0; i < count; i++) {
+            Response response = responses.get(i);
+            if (response == null) {
+                continue;
+            }
+            int status = response.getStatusCode();
+            if (status >= 200 && status < 300) {
+                queue.offer(batch.get(i));
+                created++;
+            } else {
+                LOGGER.warn("Seeding {} via [{}] rejected with status {}", batch.get(i), path, status);
+            }
+        }
+
+        LOGGER.info("Seeded {}/{} {} records via [{}] in {} ms",
+                created, count, type.getSimpleName(), path, System.currentTimeMillis() - start);
+        return created;
+    }
+
+    /**
+     * Leases a seeded record of the given type, removing it from the pool.
+     *
+     * @param type the record type
+     * @param <T>  the record type
+     * @return a seeded record that no other scenario holds
+     * @throws FrameworkException if no records of this type are left
+     */
+    public <T> T lease(Class<T> type) {
+        Object record = queueFor(type).poll();
+        if (record == null) {
+            throw new FrameworkException("No seeded " + type.getSimpleName()
+                    + " records left to lease; increase the seed count");
+        }
+        return type.cast(record);
+    }
+
+    /**
+     * Returns a previously leased record to the pool so another scenario can use it.
+     *
+     * <p>Only release records whose server-side state the scenario left unchanged.</p>
+     *
+     * @param record the record to return
+     */
+    public void release(Object record) {
+        queueFor(record.getClass()).offer(record);
+    }
+
+    /**
+     * Returns the number of records of the given type currently available for lease.
+     *
+     * @param type the record type
+     * @return the number of leasable records
+     */
+    public int available(Class<?> type) {
+        Queue<Object> queue = records.get(type);
+        return queue != null ? queue.size() : 0;
+    }
+
+    private Queue<Object> queueFor(Class<?> type) {
+        return records.computeIfAbsent(type, t -> new ConcurrentLinkedQueue<>());
+    }
+}
@@ -0,0 +1,53 @@
+package com.company.qa.core.data;
+
+/**
+ * Immutable user account record used for API-based test data seeding.
+ *
+ * <p>Field names match the JSON body sent to the user creation endpoint.</p>
+ *
+ * @see TestDataFactory#randomUser()
+ * @see TestDataSeeder
+ */
+public class UserRecord {
+
+    private final String name;
+    private final String email;
+    private final String phone;
+    private final String password;
+
+    /**
+     * Creates a new user record.
+     *
+     * @param name     the full name
+     * @param email    the email address
+     * @param phone    the phone number
+     * @param password the account password
+     */
+    public UserRecord(String name, String email, String phone, String password) {
+        this.name = name;
+        this.email = email;
+        this.phone = phone;
+        this.password = password;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String toString() {
+        return "UserRecord[" + email + "]";
+    }
+}
@@ -1,5 +1,6 @@
 package com.company.qa.core.driver;
 
+import com.company.qa.core.context.ScenarioLocal;
 import com.company.qa.core.exception.DriverInitializationException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -13,8 +14,9 @@ import static com.company.qa.core.util.LogManager.LOGGER;
  * Thread-safe browser driver manager for web automation.
  *
  * <p>Uses Selenium 4 with Selenium Manager, which handles driver binary
- * resolution automatically. Each thread maintains its own isolated
- * {@link WebDriver} instance via {@link ThreadLocal} storage.</p>
+ * resolution automatically. Each scenario (or, outside a {@code ScenarioScope},
+ * each thread) maintains its own isolated {@link WebDriver} instance via
+ * {@link ScenarioLocal} storage.</p>
  *
  * <p>Supported browsers:</p>
  * <ul>
@@ -24,7 +26,7 @@ import static com.company.qa.core.util.LogManager.LOGGER;
  */
 public class BrowserManager {
 
-    private static final ThreadLocal<WebDriver> driverThread = new ThreadLocal<>();
+    private static final ScenarioLocal<WebDriver> driverThread = ScenarioLocal.create();
 
     /**
      * Returns the {@link WebDriver} instance bound to the current thread.
@@ -1,13 +1,28 @@
 package com.company.qa.core.driver;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 import io.appium.java_client.android.options.UiAutomator2Options;
 import io.appium.java_client.ios.options.XCUITestOptions;
 import io.appium.java_client.remote.options.BaseOptions;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
 
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Fluent builder for Appium capability options.
@@ -28,14 +43,25 @@ import java.util.Map;
  *
  * <p>Capabilities can also be loaded from a {@link JsonObject} via {@link #fromJson(JsonObject)},
  * which is typically sourced from a platform section in {@code apps.json}.</p>
+ *
+ * <p>{@link #fingerprint()} identifies the resolved capability set, and
+ * {@link #buildCached()} returns one shared immutable {@link Capabilities}
+ * instance per capability set, so repeated driver creation with the same settings
+ * skips building and amending a new options object. The canonical set behind
+ * both is computed once per builder and again only after a setter changes it.</p>
  */
 public class CapabilityBuilder {
 
+    private static final Gson CANONICAL_JSON = new Gson();
+    private static final Map<Map<String, Object>, Capabilities> BUILT = new ConcurrentHashMap<>();
+
     private String platform;
     private String deviceName;
     private String platformVersion;
     private String app;
     private final Map<String, Object> extras = new HashMap<>();
+    private Map<String, Object> canonical;
+    private String fingerprint;
 
     /**
      * Sets the target platform.
@@ -45,6 +71,7 @@ public class CapabilityBuilder {
      */
     public CapabilityBuilder platform(String platform) {
         this.platform = platform;
+        changed();
         return this;
     }
 
@@ -56,6 +83,7 @@ public class CapabilityBuilder {
      */
     public CapabilityBuilder device(String deviceName) {
         this.deviceName = deviceName;
+        changed();
         return this;
     }
 
@@ -67,6 +95,7 @@ public class CapabilityBuilder {
      */
     public CapabilityBuilder version(String platformVersion) {
         this.platformVersion = platformVersion;
+        changed();
         return this;
     }
 
@@ -78,6 +107,7 @@ public class CapabilityBuilder {
      */
     public CapabilityBuilder app(String app) {
         this.app = app;
+        changed();
         return this;
     }
 
@@ -90,6 +120,7 @@ public class CapabilityBuilder {
      */
     public CapabilityBuilder capability(String key, Object value) {
         this.extras.put(key, value);
+        changed();
         return this;
     }
 
@@ -99,8 +130,9 @@ public class CapabilityBuilder {
      *
      * <p>Recognized keys ({@code deviceName}, {@code platformVersion}, {@code app})
      * are mapped to their respective builder fields. All other keys are added as
-     * extra capabilities. Non-primitive JSON values (objects, arrays) are stored
-     * using their {@code toString()} representation.</p>
+     * extra capabilities with their JSON types preserved: booleans and numbers stay
+     * {@link Boolean} and {@link Long}/{@link Double}, objects become maps and
+     * arrays become lists, so Appium receives them without re-coercion.</p>
      *
      * @param platformConfig the JSON configuration object, or {@code null} (no-op)
      * @return this builder for method chaining
@@ -109,36 +141,64 @@ public class CapabilityBuilder {
         if (platformConfig == null) {
             return this;
         }
+        changed();
         for (Map.Entry<String, JsonElement> entry : platformConfig.entrySet()) {
             String key = entry.getKey();
             JsonElement jsonValue = entry.getValue();
-
-            // Safely extract the value: use getAsString for primitives, toString for others
-            String value;
-            if (jsonValue.isJsonPrimitive()) {
-                value = jsonValue.getAsString();
-            } else {
-                value = jsonValue.toString();
+            if (jsonValue.isJsonNull()) {
+                continue;
             }
 
             switch (key) {
                 case "deviceName":
-                    this.deviceName = value;
+                    this.deviceName = jsonValue.getAsString();
                     break;
                 case "platformVersion":
-                    this.platformVersion = value;
+                    this.platformVersion = jsonValue.getAsString();
                     break;
                 case "app":
-                    this.app = value;
+                    this.app = jsonValue.getAsString();
                     break;
                 default:
-                    this.extras.put(key, value);
+                    this.extras.put(key, toJava(jsonValue));
                     break;
             }
         }
         return this;
     }
 
+    /**
+     * Returns a stable fingerprint of the resolved capability set.
+     *
+     * <p>Builders with the same platform, device, version, app and extras produce
+     * the same fingerprint regardless of the order capabilities were added in.
+     * Value types count: {@code true} and {@code "true"} differ.</p>
+     *
+     * @return a SHA-256 hex digest of the canonical capability set
+     * @throws IllegalArgumentException if the platform has not been set
+     */
+    public String fingerprint() {
+        if (fingerprint == null) {
+            fingerprint = sha256(CANONICAL_JSON.toJson(canonical()));
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns immutable capabilities for the current settings, building them only
+     * the first time an equal capability set is seen.
+     *
+     * <p>The lookup compares the canonical capability set itself, so it costs no
+     * serialization or hashing beyond the map's own. The result is shared between
+     * callers and safe to pass to several drivers.</p>
+     *
+     * @return the cached capabilities, equal to {@link #build()}'s options
+     * @throws IllegalArgumentException if the platform has not been set or is unsupported
+     */
+    public Capabilities buildCached() {
+        return BUILT.computeIfAbsent(canonical(), key -> new ImmutableCapabilities(build()));
+    }
+
     /**
      * Builds the appropriate options object based on the configured platform.
      *
@@ -186,4 +246,108 @@ public class CapabilityBuilder {
             throw new IllegalArgumentException("Unsupported platform: " + platform);
         }
     }
+
+    /**
+     * Returns the capability set sorted by key with nested maps sorted too,
+     * computing it on first use after a change.
+     */
+    private Map<String, Object> canonical() {
+        if (canonical == null) {
+            if (platform == null || platform.isEmpty()) {
+                throw new IllegalArgumentException("Platform must be specified (android|ios)");
+            }
+            Map<String, Object> sorted = new TreeMap<>();
+            for (Map.Entry<String, Object> entry : extras.entrySet()) {
+                sorted.put(entry.getKey(), canonicalize(entry.getValue()));
+            }
+            sorted.put("@platform", platform.toLowerCase(Locale.ROOT));
+            sorted.put("@deviceName", deviceName);
+            sorted.put("@platformVersion", platformVersion);
+            sorted.put("@app", app);
+            canonical = Collections.unmodifiableMap(sorted);
+        }
+        return canonical;
+    }
+
+    /**
+     * Forgets the canonical set and fingerprint after a setting changed.
+     */
+    private void changed() {
+        canonical = null;
+        fingerprint = null;
+    }
+
+    /**
+     * Converts a JSON value to the Java type Appium expects for it.
+     */
+    private static Object toJava(JsonElement element) {
+        if (element.isJsonObject()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                if (!entry.getValue().isJsonNull()) {
+                    map.put(entry.getKey(), toJava(entry.getValue()));
+                }
+            }
+            return map;
+        }
+        if (element.isJsonArray()) {
+            List<Object> list = new ArrayList<>();
+            for (JsonElement item : element.getAsJsonArray()) {
+                list.add(item.isJsonNull() ? null : toJava(item));
+            }
+            return list;
+        }
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+        if (primitive.isNumber()) {
+            String number = primitive.getAsString();
+            boolean integral = number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0;
+            return integral ? (Object) primitive.getAsLong() : (Object) primitive.getAsDouble();
+        }
+        return primitive.getAsString();
+    }
+
+    /**
+     * Sorts nested maps, and copies nested lists and arrays into lists, so equal
+     * capability sets compare and serialize identically.
+     */
+    private static Object canonicalize(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                sorted.put(String.valueOf(entry.getKey()), canonicalize(entry.getValue()));
+            }
+            return sorted;
+        }
+        if (value instanceof List) {
+            List<Object> items = new ArrayList<>();
+            for (Object item : (List<?>) value) {
+                items.add(canonicalize(item));
+            }
+            return items;
+        }
+        if (value != null && value.getClass().isArray()) {
+            List<Object> items = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                items.add(canonicalize(Array.get(value, i)));
+            }
+            return items;
+        }
+        return value;
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
@@ -1,13 +1,23 @@
 package com.company.qa.core.driver;
 
+import com.company.qa.core.app.AppArtifacts;
+import com.company.qa.core.app.AppResetter;
+import com.company.qa.core.app.AppTarget;
+import com.company.qa.core.concurrent.DeviceSlot;
+import com.company.qa.core.concurrent.DeviceSlotAllocator;
+import com.company.qa.core.context.ScenarioLocal;
+import com.company.qa.core.context.ScenarioScope;
+import com.company.qa.core.driver.SessionPool.PooledSession;
 import com.company.qa.core.exception.DriverInitializationException;
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.metrics.FrameworkMetrics;
 import com.google.gson.JsonObject;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
-import io.appium.java_client.remote.options.BaseOptions;
 import com.company.qa.core.config.EnvironmentConfig;
 import com.company.qa.core.util.JsonParser;
+import org.openqa.selenium.Capabilities;
 
 import static com.company.qa.core.util.LogManager.LOGGER;
 
@@ -18,9 +28,10 @@ import java.util.Map;
 /**
  * Thread-safe mobile driver manager for Appium-based automation.
  *
- * <p>Manages the lifecycle of {@link AppiumDriver} instances using {@link ThreadLocal}
- * storage, ensuring each test thread operates with its own isolated driver. Supports
- * both Android ({@link AndroidDriver}) and iOS ({@link IOSDriver}) platforms.</p>
+ * <p>Manages the lifecycle of {@link AppiumDriver} instances using {@link ScenarioLocal}
+ * storage, ensuring each scenario (or, outside a {@link ScenarioScope}, each test
+ * thread) operates with its own isolated driver. Supports both Android
+ * ({@link AndroidDriver}) and iOS ({@link IOSDriver}) platforms.</p>
  *
  * <p>Driver creation can be configured via:</p>
  * <ul>
@@ -29,12 +40,28 @@ import java.util.Map;
  *   <li>Explicit parameters passed to the various {@code createDriver} methods</li>
  *   <li>Custom capability maps for advanced scenarios</li>
  * </ul>
+ *
+ * <p>Every session is tracked by the {@link SessionHealthMonitor}. With
+ * {@code session.reuse} enabled, sessions created from config are parked when
+ * the scenario ends and leased to the next scenario with the same
+ * {@link CapabilityBuilder#fingerprint() capability fingerprint}; parked
+ * sessions that fail a health check are quit and replaced instead. A reused
+ * session's app is reset with the cheapest strategy the app allows (see
+ * {@link AppResetter}).</p>
+ *
+ * <p>With {@code artifacts.manage} enabled, {@link #preinstallApp()} installs the
+ * app onto every configured device before the suite starts, and sessions on a
+ * device slot with a UDID are created without the {@code app} capability after
+ * {@link AppArtifacts} has made sure the device holds the current build.</p>
  */
 public class MobileDriverManager {
 
-    private static final ThreadLocal<AppiumDriver> driverThread = new ThreadLocal<>();
-    private static final ThreadLocal<String> appIdThread = new ThreadLocal<>();
-    private static final ThreadLocal<String> platformThread = new ThreadLocal<>();
+    private static final ScenarioLocal<AppiumDriver> driverThread = ScenarioLocal.create();
+    private static final ScenarioLocal<String> appIdThread = ScenarioLocal.create();
+    private static final ScenarioLocal<String> platformThread = ScenarioLocal.create();
+    private static final ScenarioLocal<String> appiumUrlThread = ScenarioLocal.create();
+    private static final ScenarioLocal<String> poolKeyThread = ScenarioLocal.create();
+    private static final ScenarioLocal<AppTarget> appTargetThread = ScenarioLocal.create();
 
     /**
      * Returns the {@link AppiumDriver} instance bound to the current thread.
@@ -54,6 +81,17 @@ public class MobileDriverManager {
         return appIdThread.get();
     }
 
+    /**
+     * Returns the app under test as resolved from {@code apps.json} by
+     * {@link #createDriverFromConfig()}.
+     *
+     * @return the current scenario's app target, or {@code null} if the driver
+     *         was not created from config
+     */
+    public static AppTarget getAppTarget() {
+        return appTargetThread.get();
+    }
+
     /**
      * Returns the platform name for the current thread's driver.
      *
@@ -68,23 +106,59 @@ public class MobileDriverManager {
      * Quits and removes the {@link AppiumDriver} and associated metadata for the
      * current thread.
      *
+     * <p>With {@code session.reuse} enabled, a healthy session created by
+     * {@link #createDriverFromConfig()} is parked for the next scenario instead
+     * of being quit.</p>
+     *
      * <p>If no driver exists for the current thread, this method is a no-op
      * (aside from clearing the thread-local references).</p>
      */
     public static void removeDriver() {
         AppiumDriver driver = driverThread.get();
-        if (driver != null) {
-            driver.quit();
-            LOGGER.info("Mobile driver quit and removed from thread");
+        String poolKey = poolKeyThread.get();
+        try {
+            if (driver != null) {
+                PooledSession session = new PooledSession(driver, sessionIdOf(driver), appiumUrlThread.get());
+                if (poolKey != null && Sessions.POOL.park(poolKey, session)) {
+                    LOGGER.info("Mobile driver parked for reuse: session [{}]", session.getSessionId());
+                } else {
+                    quit(session);
+                    LOGGER.info("Mobile driver quit and removed from thread");
+                }
+            }
+        } finally {
+            driverThread.remove();
+            appIdThread.remove();
+            platformThread.remove();
+            appiumUrlThread.remove();
+            poolKeyThread.remove();
+            appTargetThread.remove();
+        }
+    }
+
+    /**
+     * Quits every session parked for reuse. Call once after the last scenario.
+     */
+    public static void closePooledSessions() {
+        if (!EnvironmentConfig.getInstance().getSession().isReuse()) {
+            return;
+        }
+        for (PooledSession session : Sessions.POOL.drain()) {
+            try {
+                quit(session);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to quit pooled session [{}]: {}", session.getSessionId(), e.toString());
+            }
         }
-        driverThread.remove();
-        appIdThread.remove();
-        platformThread.remove();
     }
 
     /**
      * Creates a driver from {@code -D} system properties and {@code apps.json} config.
      *
+     * <p>Settings are read through {@link EnvironmentConfig}, so each of them can
+     * also come from the YAML config or a {@code QA_*} environment variable;
+     * {@code -D} properties take precedence.</p>
+     *
      * <p><b>Required system properties:</b></p>
      * <ul>
      *   <li>{@code -Dplatform=android|ios}</li>
@@ -96,17 +170,21 @@ public class MobileDriverManager {
      *   <li>{@code -DdeviceName=Pixel 6} - overrides the device name from {@code apps.json}</li>
      *   <li>{@code -DplatformVersion=13.0} - overrides the platform version</li>
      *   <li>{@code -DappPath=/path/to/app} - overrides the app path</li>
-     *   <li>{@code -DappiumUrl=http://...} - overrides the default Appium server URL</li>
+     *   <li>{@code -DappiumUrl=http://...} - overrides {@code appium.url} (alias of {@code -Dappium.url})</li>
      * </ul>
      *
+     * <p>If the scenario leased a {@link DeviceSlot}, its UDID and local ports are
+     * added to the capabilities.</p>
+     *
      * @return the newly created {@link AppiumDriver} bound to the current thread
      * @throws IllegalArgumentException      if required system properties are missing or
      *                                       the app/platform is not found in {@code apps.json}
      * @throws DriverInitializationException if the driver cannot be created
      */
     public static AppiumDriver createDriverFromConfig() {
-        String platform = System.getProperty("platform");
-        String appName = System.getProperty("app");
+        EnvironmentConfig config = EnvironmentConfig.getInstance();
+        String platform = config.get("platform");
+        String appName = config.get("app");
 
         if (platform == null || platform.isEmpty()) {
             throw new IllegalArgumentException("System property -Dplatform is required (android|ios)");
@@ -115,16 +193,7 @@ public class MobileDriverManager {
             throw new IllegalArgumentException("System property -Dapp is required (e.g. -Dapp=cloneai)");
         }
 
-        JsonObject appsConfig = JsonParser.parse("apps");
-        if (appsConfig == null) {
-            throw new DriverInitializationException("Failed to load apps.json configuration");
-        }
-
-        JsonObject appConfig = appsConfig.getAsJsonObject(appName);
-        if (appConfig == null) {
-            throw new IllegalArgumentException("App [" + appName + "] not found in apps.json. " +
-                    "Available: " + appsConfig.keySet());
-        }
+        JsonObject appConfig = appConfig(appName);
 
         JsonObject platformConfig = appConfig.getAsJsonObject(platform.toLowerCase());
         if (platformConfig == null) {
@@ -137,28 +206,60 @@ public class MobileDriverManager {
                 .fromJson(platformConfig);
 
         // System property overrides
-        String deviceNameOverride = System.getProperty("deviceName");
+        String deviceNameOverride = config.get("deviceName");
         if (deviceNameOverride != null && !deviceNameOverride.isEmpty()) {
             builder.device(deviceNameOverride);
         }
 
-        String versionOverride = System.getProperty("platformVersion");
+        String versionOverride = config.get("platformVersion");
         if (versionOverride != null && !versionOverride.isEmpty()) {
             builder.version(versionOverride);
         }
 
-        String appPathOverride = System.getProperty("appPath");
+        String appPathOverride = config.get("appPath");
         if (appPathOverride != null && !appPathOverride.isEmpty()) {
             builder.app(appPathOverride);
         }
+        AppTarget target = appTarget(config, appName, platform, appConfig);
 
-        String appiumUrl = System.getProperty("appiumUrl",
-                EnvironmentConfig.getInstance().getAppiumUrl());
+        // Device slot leased by the scenario keeps parallel sessions on separate devices and ports
+        DeviceSlot slot = DeviceSlotAllocator.current();
+        if (slot != null) {
+            for (Map.Entry<String, Object> capability : slot.capabilities(platform).entrySet()) {
+                builder.capability(capability.getKey(), capability.getValue());
+            }
+            if (config.getArtifacts().isManage() && slot.getUdid() != null && target.getAppPath() != null) {
+                // The build is installed once per device; the session only launches it
+                AppArtifacts.shared().ensureInstalled(slot.getUdid(), target);
+                builder.app(null);
+            }
+        }
+
+        String appiumUrl = config.getAppiumUrl();
 
         LOGGER.info("[Thread-{}] Creating driver from config: app=[{}] platform=[{}]",
                 Thread.currentThread().getId(), appName, platform);
 
-        AppiumDriver driver = initDriver(platform, builder.build(), appiumUrl);
+        Capabilities options = builder.buildCached();
+        String poolKey = config.getSession().isReuse() ? appiumUrl + "|" + builder.fingerprint() : null;
+        PooledSession pooled = poolKey != null ? Sessions.POOL.lease(poolKey) : null;
+        if (pooled != null && !resetApp(pooled, target)) {
+            pooled = null;
+        }
+
+        AppiumDriver driver;
+        if (pooled != null) {
+            driver = pooled.getDriver();
+            driverThread.set(driver);
+            appiumUrlThread.set(pooled.getAppiumUrl());
+            FrameworkMetrics.sessionsReused(platform.toLowerCase()).increment();
+            LOGGER.info("[Thread-{}] Reusing pooled session [{}]",
+                    Thread.currentThread().getId(), pooled.getSessionId());
+        } else {
+            driver = initDriver(platform, options, appiumUrl);
+        }
+        poolKeyThread.set(poolKey);
+        appTargetThread.set(target);
 
         // Extract and store appId (appPackage for Android, bundleId for iOS)
         String appId = extractAppId(platformConfig, platform);
@@ -168,6 +269,28 @@ public class MobileDriverManager {
         return driver;
     }
 
+    /**
+     * Installs the app under test onto every device listed in {@code devices.udids},
+     * in parallel, skipping devices that already hold the current build. Call once
+     * before the first scenario.
+     *
+     * <p>No-op unless {@code artifacts.manage} is enabled and {@code -Dapp},
+     * {@code -Dplatform} and {@code devices.udids} are set.</p>
+     *
+     * @throws FrameworkException if the install failed on any device
+     */
+    public static void preinstallApp() {
+        EnvironmentConfig config = EnvironmentConfig.getInstance();
+        String platform = config.get("platform");
+        String appName = config.get("app");
+        if (!config.getArtifacts().isManage() || config.getDevices().getUdids().isEmpty()
+                || platform == null || platform.isEmpty() || appName == null || appName.isEmpty()) {
+            return;
+        }
+        AppTarget target = appTarget(config, appName, platform, appConfig(appName));
+        AppArtifacts.shared().installAll(config.getDevices().getUdids(), target);
+    }
+
     /**
      * Creates a driver with the specified platform, device, version, and Appium server URL.
      *
@@ -181,11 +304,11 @@ public class MobileDriverManager {
     public static AppiumDriver createDriver(String platform, String deviceName,
             String platformVersion, String appiumUrl) {
 
-        BaseOptions<?> options = new CapabilityBuilder()
+        Capabilities options = new CapabilityBuilder()
                 .platform(platform)
                 .device(deviceName)
                 .version(platformVersion)
-                .build();
+                .buildCached();
 
         AppiumDriver driver = initDriver(platform, options, appiumUrl);
         platformThread.set(platform.toLowerCase());
@@ -221,12 +344,12 @@ public class MobileDriverManager {
     public static AppiumDriver createDriverWithApp(String platform, String deviceName,
             String platformVersion, String app, String appiumUrl) {
 
-        BaseOptions<?> options = new CapabilityBuilder()
+        Capabilities options = new CapabilityBuilder()
                 .platform(platform)
                 .device(deviceName)
                 .version(platformVersion)
                 .app(app)
-                .build();
+                .buildCached();
 
         AppiumDriver driver = initDriver(platform, options, appiumUrl);
         platformThread.set(platform.toLowerCase());
@@ -266,7 +389,7 @@ public class MobileDriverManager {
             builder.capability(entry.getKey(), entry.getValue());
         }
 
-        AppiumDriver driver = initDriver(platform, builder.build(), appiumUrl);
+        AppiumDriver driver = initDriver(platform, builder.buildCached(), appiumUrl);
         platformThread.set(platform.toLowerCase());
         return driver;
     }
@@ -295,8 +418,10 @@ public class MobileDriverManager {
      * @throws DriverInitializationException if the URL is malformed or the platform
      *                                       is unsupported
      */
-    private static AppiumDriver initDriver(String platform, BaseOptions<?> options, String appiumUrl) {
+    private static AppiumDriver initDriver(String platform, Capabilities options, String appiumUrl) {
         AppiumDriver driver;
+        String platformName = platform.toLowerCase();
+        long start = System.nanoTime();
 
         try {
             URL url = new URL(appiumUrl);
@@ -313,13 +438,98 @@ public class MobileDriverManager {
                 throw new DriverInitializationException("Unsupported platform: " + platform);
             }
         } catch (MalformedURLException e) {
+            FrameworkMetrics.sessionFailures(platformName).increment();
             throw new DriverInitializationException("Invalid Appium server URL: " + appiumUrl, e);
+        } catch (RuntimeException e) {
+            FrameworkMetrics.sessionFailures(platformName).increment();
+            throw e;
         }
 
+        FrameworkMetrics.sessionCreation(platformName).recordNanos(System.nanoTime() - start);
+        FrameworkMetrics.sessionsCreated(platformName).increment();
+        FrameworkMetrics.activeSessions(appiumUrl).increment();
+        appiumUrlThread.set(appiumUrl);
         driverThread.set(driver);
+
+        // Window size is proxied to UiAutomator2 / WebDriverAgent, so a hung server fails the ping
+        AppiumDriver session = driver;
+        SessionHealthMonitor.shared().track(sessionIdOf(driver), () -> session.manage().window().getSize());
         return driver;
     }
 
+    /**
+     * Returns a pooled session's app to a clean start state before it is leased.
+     *
+     * @return {@code true} if the app was reset; {@code false} if every strategy
+     *         failed and the session was quit, so a fresh one must be created
+     */
+    private static boolean resetApp(PooledSession session, AppTarget target) {
+        try {
+            // The next scenario must not see the previous one's data, so deepLink never qualifies here
+            AppiumDriver driver = session.getDriver();
+            AppResetter.shared().reset(driver, driver.getCapabilities(), target, true);
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Discarding pooled session [{}]: {}", session.getSessionId(), e.getMessage());
+            try {
+                quit(session);
+            } catch (RuntimeException quitFailure) {
+                LOGGER.warn("Failed to quit pooled session [{}]: {}", session.getSessionId(), quitFailure.toString());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Quits a session and stops tracking it.
+     *
+     * @param session the session to quit
+     */
+    private static void quit(PooledSession session) {
+        try {
+            session.getDriver().quit();
+        } finally {
+            SessionHealthMonitor.shared().untrack(session.getSessionId());
+            if (session.getAppiumUrl() != null) {
+                FrameworkMetrics.activeSessions(session.getAppiumUrl()).decrement();
+            }
+        }
+    }
+
+    private static String sessionIdOf(AppiumDriver driver) {
+        return String.valueOf(driver.getSessionId());
+    }
+
+    /**
+     * Returns an app's entry in {@code apps.json}.
+     *
+     * @throws DriverInitializationException if {@code apps.json} cannot be loaded
+     * @throws IllegalArgumentException      if the app is not in {@code apps.json}
+     */
+    private static JsonObject appConfig(String appName) {
+        JsonObject appsConfig = JsonParser.parse("apps");
+        if (appsConfig == null) {
+            throw new DriverInitializationException("Failed to load apps.json configuration");
+        }
+
+        JsonObject appConfig = appsConfig.getAsJsonObject(appName);
+        if (appConfig == null) {
+            throw new IllegalArgumentException("App [" + appName + "] not found in apps.json. " +
+                    "Available: " + appsConfig.keySet());
+        }
+        return appConfig;
+    }
+
+    /**
+     * Resolves the app target, applying the {@code -DappPath} override.
+     */
+    private static AppTarget appTarget(EnvironmentConfig config, String appName, String platform,
+                                       JsonObject appConfig) {
+        AppTarget target = AppTarget.from(appName, platform, appConfig);
+        String appPathOverride = config.get("appPath");
+        return appPathOverride != null && !appPathOverride.isEmpty() ? target.withAppPath(appPathOverride) : target;
+    }
+
     /**
      * Extracts the application identifier from a platform configuration block.
      *
@@ -343,4 +553,12 @@ public class MobileDriverManager {
         }
         return null;
     }
+
+    /**
+     * Lazily created pool of idle sessions, used only when {@code session.reuse} is enabled.
+     */
+    private static final class Sessions {
+        private static final SessionPool POOL =
+                new SessionPool(SessionHealthMonitor.shared(), MobileDriverManager::quit);
+    }
 }
@@ -1,20 +1,40 @@
 package com.company.qa.core.driver;
 
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.exception.ConfigurationException;
+import com.company.qa.core.locator.LocatorAnalyzer;
+import com.company.qa.core.locator.LocatorPlatform;
 import io.appium.java_client.AppiumBy;
 import org.openqa.selenium.By;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Resolves a selector type string into a Selenium/Appium {@link By} locator.
  *
  * <p>Supports standard Selenium selectors ({@code id}, {@code name}, {@code xpath},
  * {@code className}, {@code cssSelector}, {@code tagName}, {@code linkText},
- * {@code partialLinkText}) and the Appium-specific {@code accessibilityId}.</p>
+ * {@code partialLinkText}) and the Appium-specific {@code accessibilityId},
+ * {@code androidUIAutomator}, {@code iOSNsPredicateString}, {@code iOSClassChain},
+ * {@code androidViewTag} and {@code image}. An {@code image} value is either a
+ * classpath resource (e.g. {@code images/login.png}) or a Base64-encoded template.</p>
+ *
+ * <p>Simple attribute XPaths are rewritten to an equivalent native strategy for
+ * the current thread's platform (see {@link LocatorAnalyzer}); set
+ * {@code locator.rewriteXpath: false} to always evaluate them as XPath.</p>
  *
  * <p>This is typically used when locator strategies are defined externally
  * (e.g. in JSON element repositories) and need to be converted at runtime.</p>
  */
 public class SelectDecision {
 
+    private static final Map<String, String> IMAGE_TEMPLATES = new ConcurrentHashMap<>();
+
     /**
      * Converts a selector type and value pair into a {@link By} locator.
      *
@@ -31,7 +51,7 @@ public class SelectDecision {
             case "name":
                 return By.name(value);
             case "xpath":
-                return By.xpath(value);
+                return xpath(value);
             case "className":
                 return By.className(value);
             case "cssSelector":
@@ -44,8 +64,47 @@ public class SelectDecision {
                 return By.partialLinkText(value);
             case "accessibilityId":
                 return AppiumBy.accessibilityId(value);
+            case "androidUIAutomator":
+                return AppiumBy.androidUIAutomator(value);
+            case "iOSNsPredicateString":
+                return AppiumBy.iOSNsPredicateString(value);
+            case "iOSClassChain":
+                return AppiumBy.iOSClassChain(value);
+            case "androidViewTag":
+                return AppiumBy.androidViewTag(value);
+            case "image":
+                return AppiumBy.image(IMAGE_TEMPLATES.computeIfAbsent(value, SelectDecision::imageTemplate));
             default:
                 throw new IllegalArgumentException("Not a valid selector type: " + selectorType);
         }
     }
+
+    private static By xpath(String value) {
+        if (!EnvironmentConfig.getInstance().isLocatorRewriteEnabled()) {
+            return By.xpath(value);
+        }
+        return LocatorAnalyzer.optimizeXpath(value, LocatorPlatform.from(MobileDriverManager.getPlatform()));
+    }
+
+    /**
+     * Loads an image template from the classpath as Base64, or returns the
+     * value unchanged if no such resource exists.
+     */
+    private static String imageTemplate(String value) {
+        InputStream is = SelectDecision.class.getClassLoader().getResourceAsStream(value);
+        if (is == null) {
+            return value;
+        }
+        try (InputStream in = is) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return Base64.getEncoder().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to read image template: " + value, e);
+        }
+    }
 }
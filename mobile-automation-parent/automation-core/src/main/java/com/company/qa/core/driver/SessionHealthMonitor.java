@@ -0,0 +1,317 @@
+package com.company.qa.core.driver;
+
+import com.company.qa.core.concurrent.VirtualThreads;
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.config.SessionConfig;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Pings tracked Appium sessions and remembers which ones have degraded.
+ *
+ * <p>Long-lived sessions go bad in ways that only surface at the next command:
+ * the UiAutomator2 server crashes, WebDriverAgent hangs, the device runs out of
+ * memory. The monitor sends each session a lightweight {@link Probe} and marks
+ * it {@link Health#SLOW slow} when the reply takes longer than the slow
+ * threshold, or {@link Health#UNRESPONSIVE unresponsive} when it fails or
+ * times out. A bad session stays bad until it is untracked; the session pool
+ * quits it instead of handing it to the next scenario.</p>
+ *
+ * <p>The background check runs every {@code session.healthCheck.intervalSeconds}
+ * and only pings idle sessions. A session leased by a running scenario is left
+ * alone: Appium serializes commands per session, so a ping would queue behind
+ * the scenario's own commands and read as slow.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * SessionHealthMonitor monitor = SessionHealthMonitor.shared();
+ * monitor.track(sessionId, () -> driver.manage().window().getSize());
+ * monitor.setLeased(sessionId, false);      // idle: background checks apply
+ * if (!monitor.checkIfDue(sessionId).isHealthy()) {
+ *     driver.quit();
+ * }
+ * }</pre>
+ */
+public class SessionHealthMonitor implements AutoCloseable {
+
+    /**
+     * Result of the most recent health check of a session.
+     */
+    public enum Health {
+
+        /** Replied within the slow threshold, or not checked yet. */
+        HEALTHY,
+
+        /** Replied, but slower than the slow threshold. */
+        SLOW,
+
+        /** Failed, or did not reply within the check timeout. */
+        UNRESPONSIVE;
+
+        /**
+         * Returns whether the session may be handed to a scenario.
+         *
+         * @return {@code true} only for {@link #HEALTHY}
+         */
+        public boolean isHealthy() {
+            return this == HEALTHY;
+        }
+
+        /**
+         * Returns the lowercase name used in logs and metric labels.
+         *
+         * @return e.g. {@code "unresponsive"}
+         */
+        public String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Lightweight command sent to a session to prove it still responds.
+     */
+    @FunctionalInterface
+    public interface Probe {
+
+        /**
+         * Sends the command and waits for the reply.
+         *
+         * @throws Exception if the session did not respond successfully
+         */
+        void ping() throws Exception;
+    }
+
+    private final long intervalMs;
+    private final long timeoutMs;
+    private final long slowThresholdMs;
+    private final Map<String, Tracked> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService pings = VirtualThreads.newExecutor("session-ping");
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a monitor.
+     *
+     * @param intervalMs      how often idle sessions are pinged in the background;
+     *                        {@code 0} disables background checks
+     * @param timeoutMs       how long a ping may take before the session is unresponsive
+     * @param slowThresholdMs the ping latency above which the session is slow
+     */
+    public SessionHealthMonitor(long intervalMs, long timeoutMs, long slowThresholdMs) {
+        if (intervalMs < 0 || timeoutMs < 1 || slowThresholdMs < 1) {
+            throw new IllegalArgumentException("Invalid health check settings: interval=" + intervalMs
+                    + " ms, timeout=" + timeoutMs + " ms, slow=" + slowThresholdMs + " ms");
+        }
+        this.intervalMs = intervalMs;
+        this.timeoutMs = timeoutMs;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    /**
+     * Returns the process-wide monitor configured from the {@code session}
+     * section of {@link EnvironmentConfig}.
+     *
+     * @return the shared monitor
+     */
+    public static SessionHealthMonitor shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Starts tracking a session. New sessions count as healthy and leased.
+     *
+     * @param sessionId the Appium session ID
+     * @param probe     the command used to ping the session
+     */
+    public void track(String sessionId, Probe probe) {
+        sessions.put(sessionId, new Tracked(probe));
+        startScheduler();
+    }
+
+    /**
+     * Stops tracking a session, typically right before it is quit.
+     *
+     * @param sessionId the Appium session ID
+     */
+    public void untrack(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * Marks a session as leased by a scenario or idle in the pool. Background
+     * checks skip leased sessions.
+     *
+     * @param sessionId the Appium session ID
+     * @param leased    {@code true} while a scenario uses the session
+     */
+    public void setLeased(String sessionId, boolean leased) {
+        Tracked tracked = sessions.get(sessionId);
+        if (tracked != null) {
+            tracked.leased = leased;
+        }
+    }
+
+    /**
+     * Returns the result of the session's most recent check.
+     *
+     * @param sessionId the Appium session ID
+     * @return the last known health; {@link Health#UNRESPONSIVE} if the session is not tracked
+     */
+    public Health getHealth(String sessionId) {
+        Tracked tracked = sessions.get(sessionId);
+        return tracked != null ? tracked.health : Health.UNRESPONSIVE;
+    }
+
+    /**
+     * Pings a session now and records the result. A session already marked bad
+     * is not pinged again.
+     *
+     * @param sessionId the Appium session ID
+     * @return the session's health; {@link Health#UNRESPONSIVE} if it is not tracked
+     */
+    public Health check(String sessionId) {
+        Tracked tracked = sessions.get(sessionId);
+        if (tracked == null) {
+            return Health.UNRESPONSIVE;
+        }
+        if (!tracked.health.isHealthy()) {
+            return tracked.health;
+        }
+        Health health = ping(sessionId, tracked.probe);
+        tracked.lastCheckedNanos = System.nanoTime();
+        if (!health.isHealthy()) {
+            tracked.health = health;
+        }
+        return health;
+    }
+
+    /**
+     * Returns the last known health if the session was checked within the check
+     * interval, and pings it now otherwise. With background checks disabled
+     * every call pings.
+     *
+     * @param sessionId the Appium session ID
+     * @return the session's health
+     */
+    public Health checkIfDue(String sessionId) {
+        Tracked tracked = sessions.get(sessionId);
+        if (tracked == null) {
+            return Health.UNRESPONSIVE;
+        }
+        long sinceLastCheckMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tracked.lastCheckedNanos);
+        if (intervalMs > 0 && sinceLastCheckMs < intervalMs) {
+            return tracked.health;
+        }
+        return check(sessionId);
+    }
+
+    /**
+     * Pings every idle, still healthy session once. Called by the background
+     * check; exposed for callers that want a check outside the schedule.
+     */
+    public void checkIdleSessions() {
+        for (Map.Entry<String, Tracked> entry : sessions.entrySet()) {
+            Tracked tracked = entry.getValue();
+            if (!tracked.leased && tracked.health.isHealthy()) {
+                check(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Stops the background check. Tracked sessions are not quit.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        pings.shutdownNow();
+    }
+
+    private Health ping(String sessionId, Probe probe) {
+        long start = System.nanoTime();
+        Future<?> reply = pings.submit(() -> {
+            probe.ping();
+            return null;
+        });
+        try {
+            reply.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            reply.cancel(true);
+            LOGGER.warn("Session [{}] did not answer a health check within {} ms", sessionId, timeoutMs);
+            return Health.UNRESPONSIVE;
+        } catch (ExecutionException e) {
+            LOGGER.warn("Session [{}] failed a health check: {}", sessionId, e.getCause().toString());
+            return Health.UNRESPONSIVE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reply.cancel(true);
+            return Health.UNRESPONSIVE;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (elapsedMs > slowThresholdMs) {
+            LOGGER.warn("Session [{}] answered a health check in {} ms (slow above {} ms)",
+                    sessionId, elapsedMs, slowThresholdMs);
+            return Health.SLOW;
+        }
+        return Health.HEALTHY;
+    }
+
+    private synchronized void startScheduler() {
+        if (scheduler != null || intervalMs == 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkIdleSessions();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Session health check failed: {}", e.toString());
+            }
+        }, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Health state of one tracked session.
+     */
+    private static final class Tracked {
+
+        private final Probe probe;
+        private volatile Health health = Health.HEALTHY;
+        private volatile boolean leased = true;
+        private volatile long lastCheckedNanos = System.nanoTime();
+
+        private Tracked(Probe probe) {
+            this.probe = probe;
+        }
+    }
+
+    /**
+     * Lazily created monitor shared by all driver managers.
+     */
+    private static final class Shared {
+        private static final SessionHealthMonitor INSTANCE = createFromConfig();
+
+        private static SessionHealthMonitor createFromConfig() {
+            SessionConfig config = EnvironmentConfig.getInstance().getSession();
+            return new SessionHealthMonitor(TimeUnit.SECONDS.toMillis(config.getHealthCheckIntervalSeconds()),
+                    config.getHealthCheckTimeoutMs(), config.getSlowThresholdMs());
+        }
+    }
+}
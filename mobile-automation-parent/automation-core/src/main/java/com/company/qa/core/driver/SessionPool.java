@@ -0,0 +1,136 @@
+package com.company.qa.core.driver;
+
+import com.company.qa.core.metrics.FrameworkMetrics;
+import io.appium.java_client.AppiumDriver;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Idle Appium sessions kept open between scenarios, keyed by the Appium server
+ * and the {@link CapabilityBuilder#fingerprint() capability fingerprint} they
+ * were created with.
+ *
+ * <p>A session is parked only while its last health check passed, and is
+ * checked again (if due) before it is leased; sessions that turned out slow or
+ * unresponsive are handed to the recycler and quit instead, so the next
+ * scenario gets a fresh one.</p>
+ */
+final class SessionPool {
+
+    private final SessionHealthMonitor monitor;
+    private final Consumer<PooledSession> recycler;
+    private final Map<String, Deque<PooledSession>> idle = new HashMap<>();
+
+    /**
+     * Creates a pool.
+     *
+     * @param monitor  the monitor tracking every pooled session
+     * @param recycler quits sessions that failed a health check
+     */
+    SessionPool(SessionHealthMonitor monitor, Consumer<PooledSession> recycler) {
+        this.monitor = monitor;
+        this.recycler = recycler;
+    }
+
+    /**
+     * Takes a healthy idle session created with the given key. Bad sessions
+     * found on the way are recycled.
+     *
+     * @param key the capability key
+     * @return a healthy session, now marked leased, or {@code null} if none is idle
+     */
+    PooledSession lease(String key) {
+        PooledSession session;
+        while ((session = poll(key)) != null) {
+            SessionHealthMonitor.Health health = monitor.checkIfDue(session.getSessionId());
+            if (health.isHealthy()) {
+                monitor.setLeased(session.getSessionId(), true);
+                return session;
+            }
+            LOGGER.info("Recycling {} session [{}] instead of leasing it",
+                    health.label(), session.getSessionId());
+            FrameworkMetrics.sessionsRecycled(health.label()).increment();
+            recycler.accept(session);
+        }
+        return null;
+    }
+
+    /**
+     * Parks a session for reuse if its last health check passed.
+     *
+     * @param key     the capability key the session was created with
+     * @param session the session to park
+     * @return {@code true} if parked; {@code false} if the caller must quit it
+     */
+    boolean park(String key, PooledSession session) {
+        SessionHealthMonitor.Health health = monitor.getHealth(session.getSessionId());
+        if (!health.isHealthy()) {
+            FrameworkMetrics.sessionsRecycled(health.label()).increment();
+            return false;
+        }
+        monitor.setLeased(session.getSessionId(), false);
+        synchronized (idle) {
+            idle.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(session);
+        }
+        return true;
+    }
+
+    /**
+     * Removes every idle session from the pool.
+     *
+     * @return the removed sessions, which the caller must quit
+     */
+    List<PooledSession> drain() {
+        List<PooledSession> drained = new ArrayList<>();
+        synchronized (idle) {
+            for (Deque<PooledSession> sessions : idle.values()) {
+                drained.addAll(sessions);
+            }
+            idle.clear();
+        }
+        return drained;
+    }
+
+    private PooledSession poll(String key) {
+        synchronized (idle) {
+            Deque<PooledSession> sessions = idle.get(key);
+            return sessions != null ? sessions.pollFirst() : null;
+        }
+    }
+
+    /**
+     * An open session together with the metadata needed to rebind or quit it.
+     */
+    static final class PooledSession {
+
+        private final AppiumDriver driver;
+        private final String sessionId;
+        private final String appiumUrl;
+
+        PooledSession(AppiumDriver driver, String sessionId, String appiumUrl) {
+            this.driver = driver;
+            this.sessionId = sessionId;
+            this.appiumUrl = appiumUrl;
+        }
+
+        AppiumDriver getDriver() {
+            return driver;
+        }
+
+        String getSessionId() {
+            return sessionId;
+        }
+
+        String getAppiumUrl() {
+            return appiumUrl;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.company.qa.core.locator;
+
+import com.company.qa.core.driver.SelectDecision;
+import org.openqa.selenium.By;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of analyzing one locator: its estimated lookup cost, an equivalent
+ * cheaper native locator where one exists, and the reasons it could not be
+ * rewritten otherwise.
+ *
+ * <p>Costs are relative units (an id lookup is {@code 1}); they rank locators
+ * rather than predict milliseconds.</p>
+ */
+public final class LocatorAnalysis {
+
+    private final String strategy;
+    private final String value;
+    private final int cost;
+    private final String rewrittenStrategy;
+    private final String rewrittenValue;
+    private final int rewrittenCost;
+    private final List<String> issues;
+
+    LocatorAnalysis(String strategy, String value, int cost, String rewrittenStrategy,
+                    String rewrittenValue, int rewrittenCost, List<String> issues) {
+        this.strategy = strategy;
+        this.value = value;
+        this.cost = cost;
+        this.rewrittenStrategy = rewrittenStrategy;
+        this.rewrittenValue = rewrittenValue;
+        this.rewrittenCost = rewrittenCost;
+        this.issues = Collections.unmodifiableList(issues);
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the estimated cost of the original locator.
+     *
+     * @return the relative cost, {@code 1} for the cheapest strategies
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns whether an equivalent cheaper locator was found.
+     *
+     * @return {@code true} if {@link #getRewrittenStrategy()} is set
+     */
+    public boolean isRewritten() {
+        return rewrittenStrategy != null;
+    }
+
+    public String getRewrittenStrategy() {
+        return rewrittenStrategy;
+    }
+
+    public String getRewrittenValue() {
+        return rewrittenValue;
+    }
+
+    /**
+     * Returns the cost of the locator that will actually be used.
+     *
+     * @return the rewritten cost, or the original cost if not rewritten
+     */
+    public int getEffectiveCost() {
+        return isRewritten() ? rewrittenCost : cost;
+    }
+
+    /**
+     * Returns why the locator stays expensive, e.g. positional predicates or
+     * multi-step paths.
+     *
+     * @return human-readable issues; empty if nothing is left to improve
+     */
+    public List<String> getIssues() {
+        return issues;
+    }
+
+    /**
+     * Returns whether the locator should be reviewed by hand: an XPath that
+     * could not be rewritten to a native strategy.
+     *
+     * @return {@code true} if manual attention is recommended
+     */
+    public boolean needsAttention() {
+        return !isRewritten() && "xpath".equals(strategy);
+    }
+
+    /**
+     * Creates the cheapest equivalent {@link By}.
+     *
+     * @return the rewritten locator, or {@code null} if the locator was not rewritten
+     */
+    public By toRewrittenBy() {
+        if (!isRewritten()) {
+            return null;
+        }
+        return SelectDecision.resolve(rewrittenStrategy, rewrittenValue);
+    }
+
+    @Override
+    public String toString() {
+        return strategy + "=" + value + " (cost " + cost + ")"
+                + (isRewritten() ? " -> " + rewrittenStrategy + "=" + rewrittenValue + " (cost " + rewrittenCost + ")" : "");
+    }
+}
@@ -0,0 +1,382 @@
+package com.company.qa.core.locator;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Scores locators by expected lookup cost and rewrites simple XPaths to
+ * equivalent native strategies.
+ *
+ * <p>XPath is the slowest strategy on Appium: the driver serializes the whole
+ * view hierarchy to XML and evaluates the expression against it. A single-step
+ * XPath whose predicates only compare element attributes can be expressed
+ * exactly by a native query instead:</p>
+ * <ul>
+ *   <li>web: {@code //*[@id='x']} → {@code id}, {@code //*[@name='x']} → {@code name}</li>
+ *   <li>Android: a full {@code @resource-id} ({@code pkg:id/name}) → {@code id}, {@code @content-desc} →
+ *       {@code accessibilityId}, other attribute and {@code contains()} tests →
+ *       {@code -android uiautomator}</li>
+ *   <li>iOS: {@code @name} → {@code accessibilityId}, typed elements →
+ *       {@code -ios class chain}, untyped ones → {@code -ios predicate string}</li>
+ * </ul>
+ *
+ * <p>Anything else (positional indexes, multi-step paths, axes, {@code text()})
+ * is left unchanged and reported as needing manual attention.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath",
+ *         "//*[@resource-id='com.app:id/login']", LocatorPlatform.ANDROID);
+ * analysis.getRewrittenStrategy(); // "id"
+ * }</pre>
+ */
+public class LocatorAnalyzer {
+
+    private static final Map<String, Integer> STRATEGY_COSTS = new HashMap<>();
+
+    static {
+        STRATEGY_COSTS.put("id", 1);
+        STRATEGY_COSTS.put("accessibilityId", 1);
+        STRATEGY_COSTS.put("androidUIAutomator", 2);
+        STRATEGY_COSTS.put("iOSNsPredicateString", 2);
+        STRATEGY_COSTS.put("iOSClassChain", 2);
+        STRATEGY_COSTS.put("androidViewTag", 2);
+        STRATEGY_COSTS.put("name", 3);
+        STRATEGY_COSTS.put("className", 4);
+        STRATEGY_COSTS.put("cssSelector", 4);
+        STRATEGY_COSTS.put("linkText", 5);
+        STRATEGY_COSTS.put("partialLinkText", 5);
+        STRATEGY_COSTS.put("tagName", 6);
+        STRATEGY_COSTS.put("image", 20);
+    }
+
+    private static final int XPATH_BASE_COST = 10;
+    private static final int UNKNOWN_COST = 10;
+
+    private static final Pattern SINGLE_STEP = Pattern.compile("^//([A-Za-z_][\\w.\\-]*|\\*)\\[(.+)]$");
+    private static final Pattern PREDICATE = Pattern.compile(
+            "\\G\\s*(?:@([\\w\\-]+)\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\")"
+                    + "|contains\\(\\s*@([\\w\\-]+)\\s*,\\s*(?:'([^']*)'|\"([^\"]*)\")\\s*\\))"
+                    + "\\s*(and\\b|$)");
+    private static final Pattern POSITIONAL = Pattern.compile("\\[\\s*(\\d+|last\\(\\)|position\\(\\)[^]]*)\\s*]");
+    private static final Pattern ANDROID_ID = Pattern.compile("^[\\w.]+:id/[\\w.]+$");
+
+    private static final Set<String> ANDROID_BOOLEANS = new HashSet<>(Arrays.asList(
+            "checkable", "checked", "clickable", "enabled", "focusable", "focused",
+            "long-clickable", "scrollable", "selected"));
+    private static final Set<String> IOS_ATTRIBUTES = new HashSet<>(Arrays.asList(
+            "name", "label", "value", "type"));
+    private static final Set<String> IOS_BOOLEANS = new HashSet<>(Arrays.asList(
+            "enabled", "visible", "accessible", "selected"));
+
+    private static final Map<LocatorPlatform, Map<String, By>> OPTIMIZED = new EnumMap<>(LocatorPlatform.class);
+
+    static {
+        for (LocatorPlatform platform : LocatorPlatform.values()) {
+            OPTIMIZED.put(platform, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Analyzes a locator.
+     *
+     * @param strategy the strategy name as used by {@code SelectDecision}
+     * @param value    the locator value
+     * @param platform the platform the locator is used on
+     * @return the analysis, with a rewrite if a cheaper equivalent exists
+     */
+    public static LocatorAnalysis analyze(String strategy, String value, LocatorPlatform platform) {
+        if (!"xpath".equals(strategy)) {
+            int cost = STRATEGY_COSTS.getOrDefault(strategy, UNKNOWN_COST);
+            return new LocatorAnalysis(strategy, value, cost, null, null, 0, new ArrayList<>());
+        }
+
+        List<String> issues = new ArrayList<>();
+        int cost = xpathCost(value, issues);
+        String[] rewrite = rewrite(value, platform, issues);
+        if (rewrite != null) {
+            return new LocatorAnalysis(strategy, value, cost, rewrite[0], rewrite[1],
+                    STRATEGY_COSTS.get(rewrite[0]), new ArrayList<>());
+        }
+        return new LocatorAnalysis(strategy, value, cost, null, null, 0, issues);
+    }
+
+    /**
+     * Returns the cheapest locator equivalent to an XPath, caching the result
+     * per platform so each expression is analyzed once.
+     *
+     * @param xpath    the XPath expression
+     * @param platform the platform the locator is used on
+     * @return a native locator if the XPath could be rewritten, otherwise {@link By#xpath(String)}
+     */
+    public static By optimizeXpath(String xpath, LocatorPlatform platform) {
+        return OPTIMIZED.get(platform).computeIfAbsent(xpath, expression -> {
+            By rewritten = analyze("xpath", expression, platform).toRewrittenBy();
+            return rewritten != null ? rewritten : By.xpath(expression);
+        });
+    }
+
+    /**
+     * Guesses the strategy of a bare locator value, as stored in {@code pages.json}.
+     *
+     * @param value the locator value
+     * @return {@code "xpath"}, {@code "id"} or {@code "cssSelector"}
+     */
+    public static String inferStrategy(String value) {
+        String trimmed = value.trim();
+        if (trimmed.startsWith("/") || trimmed.startsWith("(")) {
+            return "xpath";
+        }
+        if (ANDROID_ID.matcher(trimmed).matches()) {
+            return "id";
+        }
+        if (trimmed.startsWith("#") || trimmed.startsWith(".") || trimmed.contains("[") || trimmed.contains(">")) {
+            return "cssSelector";
+        }
+        return "id";
+    }
+
+    /**
+     * Estimates the cost of an XPath and records what makes it expensive.
+     */
+    private static int xpathCost(String xpath, List<String> issues) {
+        int cost = XPATH_BASE_COST;
+        int descendantSteps = count(xpath, "//");
+        if (descendantSteps > 1) {
+            cost += 4 * (descendantSteps - 1);
+            issues.add(descendantSteps + " descendant (//) steps");
+        }
+        int childSteps = count(xpath.replace("//", ""), "/");
+        if (childSteps > 0) {
+            cost += 2 * childSteps;
+            issues.add("multi-step path");
+        }
+        Matcher positional = POSITIONAL.matcher(xpath);
+        int positions = 0;
+        while (positional.find()) {
+            positions++;
+        }
+        if (positions > 0) {
+            cost += 3 * positions;
+            issues.add("positional predicate breaks when the layout changes");
+        }
+        if (xpath.contains("::") || xpath.contains("..")) {
+            cost += 4;
+            issues.add("axis navigation");
+        }
+        if (xpath.contains("text()") || xpath.contains("normalize-space(") || xpath.contains("starts-with(")) {
+            cost += 2;
+            issues.add("text/string function");
+        }
+        if (xpath.contains("|")) {
+            cost += 5;
+            issues.add("union expression");
+        }
+        if (xpath.startsWith("//*")) {
+            cost += 2;
+        }
+        return cost;
+    }
+
+    /**
+     * Rewrites a single-step attribute-only XPath for the platform.
+     *
+     * @return {@code {strategy, value}}, or {@code null} if no equivalent exists
+     */
+    private static String[] rewrite(String xpath, LocatorPlatform platform, List<String> issues) {
+        Matcher step = SINGLE_STEP.matcher(xpath.trim());
+        if (!step.matches()) {
+            return null;
+        }
+        String tag = step.group(1);
+        List<Predicate> predicates = parsePredicates(step.group(2));
+        if (predicates == null) {
+            issues.add("predicates beyond attribute comparisons");
+            return null;
+        }
+
+        String[] rewrite;
+        switch (platform) {
+            case ANDROID:
+                rewrite = rewriteAndroid(tag, predicates);
+                break;
+            case IOS:
+                rewrite = rewriteIos(tag, predicates);
+                break;
+            default:
+                rewrite = rewriteWeb(tag, predicates);
+                break;
+        }
+        if (rewrite == null) {
+            issues.add("attributes have no native " + platform.name().toLowerCase() + " equivalent");
+        }
+        return rewrite;
+    }
+
+    private static String[] rewriteWeb(String tag, List<Predicate> predicates) {
+        if (!"*".equals(tag) || predicates.size() != 1 || predicates.get(0).contains) {
+            return null;
+        }
+        Predicate predicate = predicates.get(0);
+        if (predicate.attribute.equals("id") || predicate.attribute.equals("name")) {
+            return new String[]{predicate.attribute, predicate.value};
+        }
+        return null;
+    }
+
+    private static String[] rewriteAndroid(String tag, List<Predicate> predicates) {
+        if ("*".equals(tag) && predicates.size() == 1 && !predicates.get(0).contains) {
+            Predicate predicate = predicates.get(0);
+            // UiAutomator2 prefixes a bare id with the app package, so only a full pkg:id/name is equivalent
+            if (predicate.attribute.equals("resource-id") && ANDROID_ID.matcher(predicate.value).matches()) {
+                return new String[]{"id", predicate.value};
+            }
+            if (predicate.attribute.equals("content-desc")) {
+                return new String[]{"accessibilityId", predicate.value};
+            }
+        }
+
+        StringBuilder selector = new StringBuilder("new UiSelector()");
+        if (!"*".equals(tag)) {
+            selector.append(".className(").append(quote(tag)).append(')');
+        }
+        for (Predicate predicate : predicates) {
+            String method;
+            switch (predicate.attribute) {
+                case "text":
+                    method = predicate.contains ? "textContains" : "text";
+                    break;
+                case "content-desc":
+                    method = predicate.contains ? "descriptionContains" : "description";
+                    break;
+                case "resource-id":
+                    method = predicate.contains ? null : "resourceId";
+                    break;
+                case "class":
+                    method = predicate.contains ? null : "className";
+                    break;
+                case "package":
+                    method = predicate.contains ? null : "packageName";
+                    break;
+                default:
+                    method = null;
+                    break;
+            }
+            if (method != null) {
+                selector.append('.').append(method).append('(').append(quote(predicate.value)).append(')');
+            } else if (ANDROID_BOOLEANS.contains(predicate.attribute) && !predicate.contains
+                    && (predicate.value.equals("true") || predicate.value.equals("false"))) {
+                selector.append('.').append(camelCase(predicate.attribute)).append('(').append(predicate.value).append(')');
+            } else {
+                return null;
+            }
+        }
+        return new String[]{"androidUIAutomator", selector.toString()};
+    }
+
+    private static String[] rewriteIos(String tag, List<Predicate> predicates) {
+        if ("*".equals(tag) && predicates.size() == 1 && !predicates.get(0).contains
+                && predicates.get(0).attribute.equals("name")) {
+            return new String[]{"accessibilityId", predicates.get(0).value};
+        }
+        if (!"*".equals(tag) && !tag.startsWith("XCUIElementType")) {
+            return null;
+        }
+
+        List<String> conditions = new ArrayList<>();
+        for (Predicate predicate : predicates) {
+            if (IOS_ATTRIBUTES.contains(predicate.attribute)) {
+                conditions.add(predicate.attribute + (predicate.contains ? " CONTAINS " : " == ")
+                        + quote(predicate.value));
+            } else if (IOS_BOOLEANS.contains(predicate.attribute) && !predicate.contains
+                    && (predicate.value.equals("true") || predicate.value.equals("false"))) {
+                conditions.add(predicate.attribute + " == " + (predicate.value.equals("true") ? "1" : "0"));
+            } else {
+                return null;
+            }
+        }
+        String predicateString = String.join(" AND ", conditions);
+
+        if ("*".equals(tag)) {
+            return new String[]{"iOSNsPredicateString", predicateString};
+        }
+        if (predicateString.contains("`")) {
+            return null;
+        }
+        return new String[]{"iOSClassChain", "**/" + tag + "[`" + predicateString + "`]"};
+    }
+
+    private static List<Predicate> parsePredicates(String body) {
+        List<Predicate> predicates = new ArrayList<>();
+        Matcher matcher = PREDICATE.matcher(body);
+        int end = 0;
+        while (end < body.length() && matcher.find() && matcher.start() == end) {
+            if (matcher.group(1) != null) {
+                predicates.add(new Predicate(matcher.group(1),
+                        matcher.group(2) != null ? matcher.group(2) : matcher.group(3), false));
+            } else {
+                predicates.add(new Predicate(matcher.group(4),
+                        matcher.group(5) != null ? matcher.group(5) : matcher.group(6), true));
+            }
+            end = matcher.end();
+            if (matcher.group(7).isEmpty()) {
+                break;
+            }
+        }
+        return end == body.length() && !predicates.isEmpty() ? predicates : null;
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        int index = text.indexOf(token);
+        while (index >= 0) {
+            count++;
+            index = text.indexOf(token, index + token.length());
+        }
+        return count;
+    }
+
+    /**
+     * Quotes a value as a double-quoted string literal, which UiSelector
+     * (Java syntax) and NSPredicate both accept.
+     */
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static String camelCase(String attribute) {
+        int dash = attribute.indexOf('-');
+        if (dash < 0) {
+            return attribute;
+        }
+        return attribute.substring(0, dash) + Character.toUpperCase(attribute.charAt(dash + 1))
+                + attribute.substring(dash + 2);
+    }
+
+    /**
+     * One {@code @attr='value'} or {@code contains(@attr, 'value')} test.
+     */
+    private static final class Predicate {
+
+        private final String attribute;
+        private final String value;
+        private final boolean contains;
+
+        private Predicate(String attribute, String value, boolean contains) {
+            this.attribute = attribute;
+            this.value = value;
+            this.contains = contains;
+        }
+    }
+}
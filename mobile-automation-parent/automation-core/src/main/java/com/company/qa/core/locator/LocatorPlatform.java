@@ -0,0 +1,39 @@
+package com.company.qa.core.locator;
+
+import java.util.Locale;
+
+/**
+ * Target a locator is evaluated against. Native rewrites differ per platform
+ * because the element attributes (and the native query languages) differ.
+ */
+public enum LocatorPlatform {
+
+    /** Browser DOM via Selenium. */
+    WEB,
+
+    /** Android view hierarchy via UiAutomator2. */
+    ANDROID,
+
+    /** iOS accessibility hierarchy via XCUITest. */
+    IOS;
+
+    /**
+     * Maps a platform name as returned by {@code MobileDriverManager.getPlatform()}.
+     *
+     * @param platformName {@code "android"}, {@code "ios"}, or {@code null} for web
+     * @return the matching platform, {@link #WEB} for anything else
+     */
+    public static LocatorPlatform from(String platformName) {
+        if (platformName == null) {
+            return WEB;
+        }
+        switch (platformName.trim().toLowerCase(Locale.ROOT)) {
+            case "android":
+                return ANDROID;
+            case "ios":
+                return IOS;
+            default:
+                return WEB;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.company.qa.core.locator;
+
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.util.JsonParser;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Cost report for the element repository in {@code dictionary/pages.json}.
+ *
+ * <p>Every element locator is analyzed with {@link LocatorAnalyzer}, using the
+ * platform's variant where {@link PageRepository} defines one; the report
+ * lists the total estimated cost before and after XPath rewriting and the
+ * locators that stay expensive and should be replaced by hand, most expensive
+ * first.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * mvn -pl automation-tests exec:java \
+ *     -Dexec.mainClass=com.company.qa.core.locator.LocatorReport \
+ *     -Dexec.classpathScope=test -Dexec.args="android target/locator-report.txt"
+ * }</pre>
+ */
+public class LocatorReport {
+
+    private final LocatorPlatform platform;
+    private final List<Entry> entries = new ArrayList<>();
+
+    private LocatorReport(LocatorPlatform platform) {
+        this.platform = platform;
+    }
+
+    /**
+     * Analyzes every element of a pages document.
+     *
+     * @param pages    the parsed {@code pages.json}: page name to {@code {"elements": {name: locator}}}
+     * @param platform the platform the locators are evaluated on
+     * @return the report
+     */
+    public static LocatorReport analyze(JsonObject pages, LocatorPlatform platform) {
+        LocatorReport report = new LocatorReport(platform);
+        for (Map.Entry<String, JsonElement> page : PageRepository.resolvePages(pages, platform).entrySet()) {
+            if (!page.getValue().isJsonObject() || !page.getValue().getAsJsonObject().has("elements")) {
+                continue;
+            }
+            JsonObject elements = page.getValue().getAsJsonObject().getAsJsonObject("elements");
+            for (Map.Entry<String, JsonElement> element : elements.entrySet()) {
+                String[] locator = element.getValue().isJsonPrimitive()
+                        ? new String[]{LocatorAnalyzer.inferStrategy(element.getValue().getAsString()),
+                                element.getValue().getAsString()}
+                        : PageRepository.strategyAndValue(element.getValue(), null);
+                report.entries.add(new Entry(page.getKey() + "." + element.getKey(),
+                        LocatorAnalyzer.analyze(locator[0], locator[1], platform)));
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Returns the analyzed locators in document order.
+     *
+     * @return the analyses
+     */
+    public List<LocatorAnalysis> getAnalyses() {
+        List<LocatorAnalysis> analyses = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            analyses.add(entry.analysis);
+        }
+        return analyses;
+    }
+
+    public int getTotalCost() {
+        int total = 0;
+        for (Entry entry : entries) {
+            total += entry.analysis.getCost();
+        }
+        return total;
+    }
+
+    public int getEffectiveCost() {
+        int total = 0;
+        for (Entry entry : entries) {
+            total += entry.analysis.getEffectiveCost();
+        }
+        return total;
+    }
+
+    /**
+     * Renders the report as plain text.
+     *
+     * @return the report text
+     */
+    public String render() {
+        StringBuilder out = new StringBuilder();
+        int rewritten = 0;
+        List<Entry> attention = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.analysis.isRewritten()) {
+                rewritten++;
+            }
+            if (entry.analysis.needsAttention()) {
+                attention.add(entry);
+            }
+        }
+        attention.sort((a, b) -> Integer.compare(b.analysis.getCost(), a.analysis.getCost()));
+
+        out.append("Locator report (").append(platform.name().toLowerCase()).append(")\n");
+        out.append("  locators: ").append(entries.size())
+                .append(", rewritten: ").append(rewritten)
+                .append(", needing attention: ").append(attention.size()).append('\n');
+        out.append("  total cost: ").append(getTotalCost())
+                .append(" -> ").append(getEffectiveCost()).append("\n\n");
+
+        out.append("Rewritten:\n");
+        for (Entry entry : entries) {
+            if (entry.analysis.isRewritten()) {
+                out.append("  ").append(entry.key).append(": ").append(entry.analysis).append('\n');
+            }
+        }
+
+        out.append("\nNeeds attention:\n");
+        for (Entry entry : attention) {
+            out.append("  ").append(entry.key).append(": ").append(entry.analysis.getValue())
+                    .append(" (cost ").append(entry.analysis.getCost()).append(")\n");
+            for (String issue : entry.analysis.getIssues()) {
+                out.append("    - ").append(issue).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the rendered report, creating parent directories as needed.
+     *
+     * @param file the target file
+     * @throws FrameworkException if the file cannot be written
+     */
+    public void writeTo(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, render().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to write locator report to " + file, e);
+        }
+    }
+
+    /**
+     * Analyzes {@code dictionary/pages.json} from the classpath.
+     *
+     * @param args optional platform ({@code web}, {@code android}, {@code ios}; default
+     *             {@code android}) and output file (default: print to the log)
+     */
+    public static void main(String[] args) {
+        LocatorPlatform platform = LocatorPlatform.from(args.length > 0 ? args[0] : "android");
+        LocatorReport report = analyze(JsonParser.parse("pages"), platform);
+        if (args.length > 1) {
+            Path file = Paths.get(args[1]);
+            report.writeTo(file);
+            LOGGER.info("Locator report written to {}", file.toAbsolutePath());
+        } else {
+            LOGGER.info("\n{}", report.render());
+        }
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final LocatorAnalysis analysis;
+
+        private Entry(String key, LocatorAnalysis analysis) {
+            this.key = key;
+            this.analysis = analysis;
+        }
+    }
+}
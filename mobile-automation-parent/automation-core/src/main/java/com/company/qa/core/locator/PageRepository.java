@@ -0,0 +1,249 @@
+package com.company.qa.core.locator;
+
+import com.company.qa.core.config.ConfigReader;
+import com.company.qa.core.driver.MobileDriverManager;
+import com.company.qa.core.driver.SelectDecision;
+import com.company.qa.core.exception.ConfigurationException;
+import com.company.qa.core.util.JsonParser;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Element repository backed by {@code dictionary/pages.json}, with each
+ * element's locator already resolved for one platform.
+ *
+ * <p>An element is either a plain locator value, used with the strategy named
+ * by the step, or an object of per-platform variants. A variant is a plain
+ * value or a single {@code {"<strategy>": "<value>"}} pair that fixes the
+ * strategy, so each OS can use its fastest native query:</p>
+ * <pre>{@code
+ * "loginButton": {
+ *   "android": {"androidUIAutomator": "new UiSelector().text(\"Login\")"},
+ *   "ios":     {"iOSNsPredicateString": "type == 'XCUIElementTypeButton' AND name == 'Login'"},
+ *   "default": "com.app:id/login"
+ * }
+ * }</pre>
+ *
+ * <p>Variants are picked once per platform, the first time that platform's
+ * repository is requested; elements without a variant for the platform (and
+ * no {@code default}) are left out of its pages. The resolved pages are kept
+ * until {@code pages.json} on disk changes size or modification time, as
+ * {@link com.company.qa.core.config.ConfigBundle} checks its sources, so an
+ * edit during a long local run is picked up on the next lookup; a
+ * {@code pages.json} inside a JAR is read once per JVM.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * JsonObject page = PageRepository.current().getPage("cloneai_home");
+ * By searchField = PageRepository.locate(page, "searchField", "id");
+ * }</pre>
+ */
+public final class PageRepository {
+
+    private static final String DEFAULT_VARIANT = "default";
+    private static final String SOURCE = "dictionary/pages.json";
+    private static final Map<LocatorPlatform, PageRepository> REPOSITORIES = new EnumMap<>(LocatorPlatform.class);
+
+    private final LocatorPlatform platform;
+    private final JsonObject pages;
+    private final Path source;
+    private final long sourceLength;
+    private final long sourceModified;
+
+    private PageRepository(LocatorPlatform platform, JsonObject pages, Path source, long sourceLength,
+                           long sourceModified) {
+        this.platform = platform;
+        this.pages = pages;
+        this.source = source;
+        this.sourceLength = sourceLength;
+        this.sourceModified = sourceModified;
+    }
+
+    /**
+     * Returns the repository for the current thread's platform, as reported by
+     * {@link MobileDriverManager#getPlatform()}; web when no mobile driver is active.
+     *
+     * @return the repository for the current platform
+     */
+    public static PageRepository current() {
+        return forPlatform(LocatorPlatform.from(MobileDriverManager.getPlatform()));
+    }
+
+    /**
+     * Returns the repository for a platform, resolving {@code pages.json} on first
+     * use and again after the file has changed on disk.
+     *
+     * @param platform the target platform
+     * @return the shared repository for that platform
+     * @throws ConfigurationException if {@code pages.json} cannot be loaded
+     */
+    public static PageRepository forPlatform(LocatorPlatform platform) {
+        synchronized (REPOSITORIES) {
+            PageRepository repository = REPOSITORIES.get(platform);
+            if (repository == null || repository.isStale()) {
+                // Stamp before parsing, so an edit made while parsing is seen on the next lookup
+                Path source = ConfigReader.locate(SOURCE);
+                long length = -1;
+                long modified = -1;
+                if (source != null) {
+                    try {
+                        length = Files.size(source);
+                        modified = Files.getLastModifiedTime(source).toMillis();
+                    } catch (IOException e) {
+                        source = null;
+                    }
+                }
+                repository = new PageRepository(platform, resolvePages(JsonParser.parse("pages"), platform),
+                        source, length, modified);
+                REPOSITORIES.put(platform, repository);
+            }
+            return repository;
+        }
+    }
+
+    /**
+     * Resolves every element of a pages document to its variant for a platform.
+     *
+     * @param pages    the parsed {@code pages.json}
+     * @param platform the target platform
+     * @return a copy of {@code pages} whose element values are plain values or
+     *         single {@code {"<strategy>": "<value>"}} pairs
+     */
+    public static JsonObject resolvePages(JsonObject pages, LocatorPlatform platform) {
+        JsonObject resolved = new JsonObject();
+        for (Map.Entry<String, JsonElement> page : pages.entrySet()) {
+            if (!page.getValue().isJsonObject()) {
+                resolved.add(page.getKey(), page.getValue());
+                continue;
+            }
+            JsonObject source = page.getValue().getAsJsonObject();
+            JsonObject target = new JsonObject();
+            for (Map.Entry<String, JsonElement> field : source.entrySet()) {
+                if (field.getKey().equals("elements") && field.getValue().isJsonObject()) {
+                    target.add("elements", resolveElements(field.getValue().getAsJsonObject(), platform));
+                } else {
+                    target.add(field.getKey(), field.getValue());
+                }
+            }
+            resolved.add(page.getKey(), target);
+        }
+        return resolved;
+    }
+
+    /**
+     * Creates the locator for an element of a resolved page.
+     *
+     * @param page            a page returned by {@link #getPage(String)}
+     * @param elementKey      the element name in the page's {@code elements} section
+     * @param defaultStrategy the strategy used when the element does not fix one
+     * @return the element's locator
+     * @throws IllegalArgumentException if the page has no such element
+     */
+    public static By locate(JsonObject page, String elementKey, String defaultStrategy) {
+        JsonObject elements = page.getAsJsonObject("elements");
+        if (elements == null || !elements.has(elementKey)) {
+            throw new IllegalArgumentException("Element [" + elementKey + "] not found in page object");
+        }
+        String[] locator = strategyAndValue(elements.get(elementKey), defaultStrategy);
+        return SelectDecision.resolve(locator[0], locator[1]);
+    }
+
+    /**
+     * Returns the strategy and value of a resolved element.
+     *
+     * @param element         a resolved element value
+     * @param defaultStrategy the strategy used when the element does not fix one
+     * @return {@code {strategy, value}}
+     */
+    static String[] strategyAndValue(JsonElement element, String defaultStrategy) {
+        if (element.isJsonObject()) {
+            Map.Entry<String, JsonElement> pinned = element.getAsJsonObject().entrySet().iterator().next();
+            return new String[]{pinned.getKey(), pinned.getValue().getAsString()};
+        }
+        return new String[]{defaultStrategy, element.getAsString()};
+    }
+
+    public LocatorPlatform getPlatform() {
+        return platform;
+    }
+
+    /**
+     * Returns a page with its elements resolved for this repository's platform.
+     *
+     * @param name the page name in {@code pages.json}
+     * @return the page object
+     * @throws ConfigurationException if no page has that name
+     */
+    public JsonObject getPage(String name) {
+        JsonElement page = pages.get(name);
+        if (page == null || !page.isJsonObject()) {
+            throw new ConfigurationException("Page [" + name + "] not found in pages.json");
+        }
+        return page.getAsJsonObject();
+    }
+
+    /**
+     * Returns whether {@code pages.json} on disk no longer matches the size and
+     * modification time it had when this repository was resolved.
+     *
+     * @return {@code true} if the file changed or can no longer be read
+     */
+    private boolean isStale() {
+        if (source == null) {
+            return false;
+        }
+        try {
+            return Files.size(source) != sourceLength
+                    || Files.getLastModifiedTime(source).toMillis() != sourceModified;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static JsonObject resolveElements(JsonObject elements, LocatorPlatform platform) {
+        String platformKey = platform.name().toLowerCase(Locale.ROOT);
+        JsonObject resolved = new JsonObject();
+        for (Map.Entry<String, JsonElement> element : elements.entrySet()) {
+            JsonElement value = element.getValue();
+            if (value.isJsonObject() && isVariantMap(value.getAsJsonObject())) {
+                JsonObject variants = value.getAsJsonObject();
+                JsonElement variant = variants.has(platformKey) ? variants.get(platformKey) : variants.get(DEFAULT_VARIANT);
+                if (variant != null) {
+                    resolved.add(element.getKey(), checked(element.getKey(), variant));
+                }
+            } else {
+                resolved.add(element.getKey(), checked(element.getKey(), value));
+            }
+        }
+        return resolved;
+    }
+
+    private static boolean isVariantMap(JsonObject value) {
+        for (LocatorPlatform platform : LocatorPlatform.values()) {
+            if (value.has(platform.name().toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return value.has(DEFAULT_VARIANT);
+    }
+
+    private static JsonElement checked(String elementKey, JsonElement value) {
+        if (value.isJsonPrimitive()) {
+            return value;
+        }
+        if (value.isJsonObject() && value.getAsJsonObject().size() == 1
+                && value.getAsJsonObject().entrySet().iterator().next().getValue().isJsonPrimitive()) {
+            return value;
+        }
+        throw new ConfigurationException("Element [" + elementKey
+                + "] must be a locator value or a single {\"<strategy>\": \"<value>\"} pair: " + value);
+    }
+}
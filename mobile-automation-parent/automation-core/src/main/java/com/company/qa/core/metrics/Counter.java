@@ -0,0 +1,45 @@
+package com.company.qa.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonically increasing count, backed by a striped {@link LongAdder} so
+ * concurrent increments never contend on a single memory location.
+ *
+ * @see MetricsRegistry#counter(String, String, String...)
+ */
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    Counter() {
+    }
+
+    /**
+     * Increments the counter by one.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Increments the counter by the given amount.
+     *
+     * @param amount the non-negative amount to add
+     */
+    public void increment(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Counters can only increase: " + amount);
+        }
+        value.add(amount);
+    }
+
+    /**
+     * Returns the current count.
+     *
+     * @return the sum of all increments
+     */
+    public long get() {
+        return value.sum();
+    }
+}
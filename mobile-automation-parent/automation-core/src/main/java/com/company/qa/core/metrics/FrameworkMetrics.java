@@ -0,0 +1,244 @@
+package com.company.qa.core.metrics;
+
+/**
+ * Names and accessors for the metrics recorded by the framework itself, all in
+ * the {@link MetricsRegistry#global() global registry}.
+ *
+ * <table>
+ *   <caption>Exported metrics</caption>
+ *   <tr><td>{@code qa_driver_sessions_created_total{platform}}</td><td>Appium sessions created</td></tr>
+ *   <tr><td>{@code qa_driver_session_failures_total{platform}}</td><td>Appium sessions that failed to start</td></tr>
+ *   <tr><td>{@code qa_driver_session_creation_seconds{platform}}</td><td>Session creation latency</td></tr>
+ *   <tr><td>{@code qa_driver_sessions_active{appium_url}}</td><td>Open sessions per Appium server</td></tr>
+ *   <tr><td>{@code qa_driver_sessions_reused_total{platform}}</td><td>Pooled sessions handed to another scenario</td></tr>
+ *   <tr><td>{@code qa_driver_sessions_recycled_total{health}}</td><td>Sessions quit after failing a health check</td></tr>
+ *   <tr><td>{@code qa_app_reset_seconds{strategy}}</td><td>App reset latency by strategy</td></tr>
+ *   <tr><td>{@code qa_app_reset_failures_total{strategy}}</td><td>App resets that failed and fell back</td></tr>
+ *   <tr><td>{@code qa_app_install_seconds{app}}</td><td>App installs onto a device, by app</td></tr>
+ *   <tr><td>{@code qa_app_installs_skipped_total{app}}</td><td>Installs skipped because the device had the build</td></tr>
+ *   <tr><td>{@code qa_navigation_seconds{via}}</td><td>Time to reach a screen by deep link or UI route</td></tr>
+ *   <tr><td>{@code qa_wait_timeouts_total{condition}}</td><td>Explicit waits that timed out</td></tr>
+ *   <tr><td>{@code qa_test_retries_total}</td><td>Test retries granted</td></tr>
+ *   <tr><td>{@code qa_screenshots_total}</td><td>Screenshots captured</td></tr>
+ *   <tr><td>{@code qa_api_calls_total{method,status}}</td><td>API calls by method and status class</td></tr>
+ *   <tr><td>{@code qa_api_call_seconds{method}}</td><td>API call latency</td></tr>
+ *   <tr><td>{@code qa_device_slot_wait_seconds}</td><td>Time scenarios waited for a device slot</td></tr>
+ *   <tr><td>{@code qa_device_slots_in_use}</td><td>Device slots leased by running scenarios</td></tr>
+ *   <tr><td>{@code qa_device_provision_seconds{mode}}</td><td>Time to bring up an emulator, by boot or reuse</td></tr>
+ * </table>
+ */
+public class FrameworkMetrics {
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.global();
+
+    private static final Counter TEST_RETRIES =
+            REGISTRY.counter("qa_test_retries", "Test retries granted by the retry analyzer");
+    private static final Counter SCREENSHOTS =
+            REGISTRY.counter("qa_screenshots", "Screenshots captured");
+    private static final Timer DEVICE_SLOT_WAIT =
+            REGISTRY.timer("qa_device_slot_wait_seconds", "Time scenarios waited for a device slot");
+    private static final Gauge DEVICE_SLOTS_IN_USE =
+            REGISTRY.gauge("qa_device_slots_in_use", "Device slots leased by running scenarios");
+
+    /**
+     * Returns the counter of created Appium sessions.
+     *
+     * @param platform the platform name
+     * @return the counter
+     */
+    public static Counter sessionsCreated(String platform) {
+        return REGISTRY.counter("qa_driver_sessions_created", "Appium sessions created",
+                "platform", platform);
+    }
+
+    /**
+     * Returns the counter of Appium sessions that failed to start.
+     *
+     * @param platform the platform name
+     * @return the counter
+     */
+    public static Counter sessionFailures(String platform) {
+        return REGISTRY.counter("qa_driver_session_failures", "Appium sessions that failed to start",
+                "platform", platform);
+    }
+
+    /**
+     * Returns the timer of Appium session creation latency.
+     *
+     * @param platform the platform name
+     * @return the timer
+     */
+    public static Timer sessionCreation(String platform) {
+        return REGISTRY.timer("qa_driver_session_creation_seconds", "Time to create an Appium session",
+                "platform", platform);
+    }
+
+    /**
+     * Returns the gauge of open sessions on an Appium server.
+     *
+     * @param appiumUrl the Appium server URL
+     * @return the gauge
+     */
+    public static Gauge activeSessions(String appiumUrl) {
+        return REGISTRY.gauge("qa_driver_sessions_active", "Open Appium sessions per server",
+                "appium_url", appiumUrl);
+    }
+
+    /**
+     * Returns the counter of pooled sessions handed to another scenario.
+     *
+     * @param platform the platform name
+     * @return the counter
+     */
+    public static Counter sessionsReused(String platform) {
+        return REGISTRY.counter("qa_driver_sessions_reused", "Pooled Appium sessions handed to another scenario",
+                "platform", platform);
+    }
+
+    /**
+     * Returns the counter of sessions quit after failing a health check.
+     *
+     * @param health the failed health state, e.g. {@code "unresponsive"}
+     * @return the counter
+     */
+    public static Counter sessionsRecycled(String health) {
+        return REGISTRY.counter("qa_driver_sessions_recycled", "Appium sessions quit after failing a health check",
+                "health", health);
+    }
+
+    /**
+     * Returns the timer of app resets performed with a strategy.
+     *
+     * @param strategy the reset strategy name, e.g. {@code "clearApp"}
+     * @return the timer
+     */
+    public static Timer appReset(String strategy) {
+        return REGISTRY.timer("qa_app_reset_seconds", "Time to reset the app under test",
+                "strategy", strategy);
+    }
+
+    /**
+     * Returns the counter of app resets that failed with a strategy.
+     *
+     * @param strategy the reset strategy name
+     * @return the counter
+     */
+    public static Counter appResetFailures(String strategy) {
+        return REGISTRY.counter("qa_app_reset_failures", "App resets that failed and fell back to the next strategy",
+                "strategy", strategy);
+    }
+
+    /**
+     * Returns the timer of app installs onto a device.
+     *
+     * @param app the app name, or the binary's file name for installs by path
+     * @return the timer
+     */
+    public static Timer appInstall(String app) {
+        return REGISTRY.timer("qa_app_install_seconds", "Time to install an app build onto a device",
+                "app", app);
+    }
+
+    /**
+     * Returns the counter of installs skipped because the device already held the build.
+     *
+     * @param app the app name, or the binary's file name for installs by path
+     * @return the counter
+     */
+    public static Counter appInstallsSkipped(String app) {
+        return REGISTRY.counter("qa_app_installs_skipped", "App installs skipped because the device had the build",
+                "app", app);
+    }
+
+    /**
+     * Returns the timer of flow navigation to a screen, until the screen is ready.
+     *
+     * @param via {@code "deeplink"} or {@code "ui"}
+     * @return the timer
+     */
+    public static Timer navigation(String via) {
+        return REGISTRY.timer("qa_navigation_seconds", "Time to reach a screen and see its ready markers",
+                "via", via);
+    }
+
+    /**
+     * Returns the counter of explicit waits that timed out.
+     *
+     * @param condition the waited-for condition, e.g. {@code "visible"}
+     * @return the counter
+     */
+    public static Counter waitTimeouts(String condition) {
+        return REGISTRY.counter("qa_wait_timeouts", "Explicit waits that timed out",
+                "condition", condition);
+    }
+
+    /**
+     * Returns the counter of test retries.
+     *
+     * @return the counter
+     */
+    public static Counter testRetries() {
+        return TEST_RETRIES;
+    }
+
+    /**
+     * Returns the counter of captured screenshots.
+     *
+     * @return the counter
+     */
+    public static Counter screenshots() {
+        return SCREENSHOTS;
+    }
+
+    /**
+     * Returns the counter of API calls.
+     *
+     * @param method the HTTP method
+     * @param status the response status code, grouped by class (e.g. {@code "2xx"})
+     * @return the counter
+     */
+    public static Counter apiCalls(String method, int status) {
+        return REGISTRY.counter("qa_api_calls", "API calls sent through ApiClient",
+                "method", method, "status", status / 100 + "xx");
+    }
+
+    /**
+     * Returns the timer of API call latency.
+     *
+     * @param method the HTTP method
+     * @return the timer
+     */
+    public static Timer apiLatency(String method) {
+        return REGISTRY.timer("qa_api_call_seconds", "API call latency", "method", method);
+    }
+
+    /**
+     * Returns the timer of how long scenarios waited for a device slot.
+     *
+     * @return the timer
+     */
+    public static Timer deviceSlotWait() {
+        return DEVICE_SLOT_WAIT;
+    }
+
+    /**
+     * Returns the gauge of leased device slots.
+     *
+     * @return the gauge
+     */
+    public static Gauge deviceSlotsInUse() {
+        return DEVICE_SLOTS_IN_USE;
+    }
+
+    /**
+     * Returns the timer of emulators brought up for a device slot.
+     *
+     * @param mode {@code "boot"} for a newly started emulator, {@code "reuse"} for
+     *             a running one reset to its snapshot
+     * @return the timer
+     */
+    public static Timer deviceProvisioning(String mode) {
+        return REGISTRY.timer("qa_device_provision_seconds", "Time to bring up an emulator for a device slot",
+                "mode", mode);
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.qa.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Value that goes up and down, such as the number of active sessions. Backed
+ * by a striped {@link LongAdder}.
+ *
+ * @see MetricsRegistry#gauge(String, String, String...)
+ */
+public final class Gauge {
+
+    private final LongAdder value = new LongAdder();
+
+    Gauge() {
+    }
+
+    /**
+     * Increments the gauge by one.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Decrements the gauge by one.
+     */
+    public void decrement() {
+        value.decrement();
+    }
+
+    /**
+     * Returns the current value.
+     *
+     * @return the sum of all increments minus all decrements
+     */
+    public long get() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,155 @@
+package com.company.qa.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of named counters, gauges and timers, optionally split by labels.
+ *
+ * <p>Metrics are created on first use and then returned from a concurrent map,
+ * so instrumented code can look them up on every call. Values are backed by
+ * striped lock-free adders; recording never blocks. Use {@link #global()} for
+ * the suite-wide registry exported by {@link OpenMetricsExporter}.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * MetricsRegistry.global()
+ *         .counter("qa_api_calls", "API calls sent", "method", "GET", "status", "2xx")
+ *         .increment();
+ * }</pre>
+ *
+ * @see FrameworkMetrics
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the suite-wide registry used by framework instrumentation.
+     *
+     * @return the global registry
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the counter with the given name and labels, creating it on first use.
+     *
+     * @param name   the metric family name, without the {@code _total} suffix
+     * @param help   a one-line description of the metric
+     * @param labels alternating label names and values
+     * @return the counter
+     * @throws IllegalArgumentException if {@code name} is already registered with another type
+     *                                  or {@code labels} has an odd length
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) series(name, help, Type.COUNTER, labels, Counter::new);
+    }
+
+    /**
+     * Returns the gauge with the given name and labels, creating it on first use.
+     *
+     * @param name   the metric family name
+     * @param help   a one-line description of the metric
+     * @param labels alternating label names and values
+     * @return the gauge
+     * @throws IllegalArgumentException if {@code name} is already registered with another type
+     *                                  or {@code labels} has an odd length
+     */
+    public Gauge gauge(String name, String help, String... labels) {
+        return (Gauge) series(name, help, Type.GAUGE, labels, Gauge::new);
+    }
+
+    /**
+     * Returns the timer with the given name and labels, creating it on first use.
+     *
+     * @param name   the metric family name, conventionally ending in {@code _seconds}
+     * @param help   a one-line description of the metric
+     * @param labels alternating label names and values
+     * @return the timer
+     * @throws IllegalArgumentException if {@code name} is already registered with another type
+     *                                  or {@code labels} has an odd length
+     */
+    public Timer timer(String name, String help, String... labels) {
+        return (Timer) series(name, help, Type.TIMER, labels, Timer::new);
+    }
+
+    /**
+     * Returns a snapshot of all registered families, sorted by name.
+     *
+     * @return the registered metric families
+     */
+    List<Family> families() {
+        List<Family> snapshot = new ArrayList<>(families.values());
+        snapshot.sort((a, b) -> a.name.compareTo(b.name));
+        return snapshot;
+    }
+
+    private Object series(String name, String help, Type type, String[] labels, Supplier<Object> factory) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs: " + String.join(",", labels));
+        }
+        Family family = families.computeIfAbsent(name, n -> new Family(n, help, type));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric [" + name + "] is already registered as a "
+                    + family.type.name().toLowerCase(Locale.ROOT));
+        }
+        String key = labels.length == 0 ? "" : String.join("\u0000", labels);
+        Series existing = family.series.get(key);
+        if (existing != null) {
+            return existing.metric;
+        }
+        return family.series.computeIfAbsent(key, k -> new Series(labels, factory.get())).metric;
+    }
+
+    /**
+     * Kind of metric, determining how a family is exported.
+     */
+    enum Type {
+        COUNTER, GAUGE, TIMER
+    }
+
+    /**
+     * All series sharing a metric name.
+     */
+    static final class Family {
+
+        final String name;
+        final String help;
+        final Type type;
+        final Map<String, Series> series = new ConcurrentHashMap<>();
+
+        private Family(String name, String help, Type type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    /**
+     * A single labelled metric within a family.
+     */
+    static final class Series {
+
+        final Map<String, String> labels;
+        final Object metric;
+
+        private Series(String[] labelPairs, Object metric) {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < labelPairs.length; i += 2) {
+                map.put(labelPairs[i], labelPairs[i + 1]);
+            }
+            this.labels = Collections.unmodifiableMap(map);
+            this.metric = metric;
+        }
+    }
+}
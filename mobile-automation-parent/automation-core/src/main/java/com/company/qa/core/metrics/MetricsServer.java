@@ -0,0 +1,107 @@
+package com.company.qa.core.metrics;
+
+import com.company.qa.core.exception.FrameworkException;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Local HTTP endpoint serving a registry at {@code /metrics} in the OpenMetrics
+ * text format, so a collector can scrape a running suite.
+ *
+ * <p>The endpoint listens on the loopback interface unless a bind address is
+ * given, so a suite on a shared machine does not expose its metrics to the
+ * network by default.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * try (MetricsServer server = MetricsServer.start(MetricsRegistry.global(), 9464)) {
+ *     // run the suite; scrape http://localhost:9464/metrics
+ * }
+ * }</pre>
+ */
+public class MetricsServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private MetricsServer(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts serving the registry on the loopback interface.
+     *
+     * @param registry the registry to expose
+     * @param port     the port to listen on, or {@code 0} for a random free port
+     * @return the running server
+     * @throws FrameworkException if the port cannot be bound
+     */
+    public static MetricsServer start(MetricsRegistry registry, int port) {
+        return start(registry, null, port);
+    }
+
+    /**
+     * Starts serving the registry on the given address.
+     *
+     * @param registry    the registry to expose
+     * @param bindAddress the address to listen on, e.g. {@code "0.0.0.0"} for every
+     *                    interface; {@code null} or empty for the loopback interface
+     * @param port        the port to listen on, or {@code 0} for a random free port
+     * @return the running server
+     * @throws FrameworkException if the address cannot be resolved or the port cannot be bound
+     */
+    public static MetricsServer start(MetricsRegistry registry, String bindAddress, int port) {
+        HttpServer server;
+        try {
+            InetAddress address = bindAddress == null || bindAddress.isEmpty()
+                    ? InetAddress.getLoopbackAddress()
+                    : InetAddress.getByName(bindAddress);
+            server = HttpServer.create(new InetSocketAddress(address, port), 0);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to start metrics endpoint on "
+                    + (bindAddress == null || bindAddress.isEmpty() ? "loopback" : bindAddress)
+                    + " port " + port, e);
+        }
+        server.createContext("/metrics", exchange -> {
+            byte[] body = OpenMetricsExporter.scrape(registry).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", OpenMetricsExporter.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        MetricsServer metricsServer = new MetricsServer(server);
+        LOGGER.info("Metrics endpoint listening on {}", metricsServer.getUrl());
+        return metricsServer;
+    }
+
+    /**
+     * Returns the URL of the metrics endpoint.
+     *
+     * @return the endpoint URL, e.g. {@code "http://localhost:9464/metrics"}
+     */
+    public String getUrl() {
+        InetSocketAddress bound = server.getAddress();
+        InetAddress address = bound.getAddress();
+        String host = address.isLoopbackAddress() || address.isAnyLocalAddress() ? "localhost"
+                : address instanceof Inet6Address ? "[" + address.getHostAddress() + "]"
+                : address.getHostAddress();
+        return "http://" + host + ":" + bound.getPort() + "/metrics";
+    }
+
+    /**
+     * Stops the endpoint.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.company.qa.core.metrics;
+
+import com.company.qa.core.exception.FrameworkException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Renders a {@link MetricsRegistry} in the OpenMetrics text format, which
+ * Prometheus and compatible collectors can scrape or import.
+ *
+ * <p>Counters are exported with a {@code _total} sample, gauges as-is, and timers
+ * as a summary ({@code _count}, {@code _sum} in seconds) plus a {@code _max}
+ * gauge.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * OpenMetricsExporter.writeTo(MetricsRegistry.global(), Paths.get("target/metrics/openmetrics.txt"));
+ * }</pre>
+ *
+ * @see MetricsServer
+ */
+public class OpenMetricsExporter {
+
+    /** HTTP content type of the OpenMetrics text format. */
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /**
+     * Renders all metrics of a registry.
+     *
+     * @param registry the registry to export
+     * @return the OpenMetrics text exposition, terminated by {@code # EOF}
+     */
+    public static String scrape(MetricsRegistry registry) {
+        StringBuilder out = new StringBuilder();
+        for (MetricsRegistry.Family family : registry.families()) {
+            switch (family.type) {
+                case COUNTER:
+                    header(out, family.name, "counter", family.help);
+                    for (MetricsRegistry.Series series : family.series.values()) {
+                        sample(out, family.name + "_total", series.labels, ((Counter) series.metric).get());
+                    }
+                    break;
+                case GAUGE:
+                    header(out, family.name, "gauge", family.help);
+                    for (MetricsRegistry.Series series : family.series.values()) {
+                        sample(out, family.name, series.labels, ((Gauge) series.metric).get());
+                    }
+                    break;
+                case TIMER:
+                    header(out, family.name, "summary", family.help);
+                    for (MetricsRegistry.Series series : family.series.values()) {
+                        Timer timer = (Timer) series.metric;
+                        sample(out, family.name + "_count", series.labels, timer.getCount());
+                        sample(out, family.name + "_sum", series.labels, timer.getTotalNanos() / NANOS_PER_SECOND);
+                    }
+                    header(out, family.name + "_max", "gauge", family.help + " (maximum)");
+                    for (MetricsRegistry.Series series : family.series.values()) {
+                        sample(out, family.name + "_max", series.labels,
+                                ((Timer) series.metric).getMaxNanos() / NANOS_PER_SECOND);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return out.append("# EOF\n").toString();
+    }
+
+    /**
+     * Writes all metrics of a registry to a file, creating parent directories.
+     *
+     * @param registry the registry to export
+     * @param file     the target file; replaced if it exists
+     * @return the written file
+     * @throws FrameworkException if the file cannot be written
+     */
+    public static Path writeTo(MetricsRegistry registry, Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, scrape(registry).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to write metrics to " + file, e);
+        }
+        LOGGER.info("Metrics written to [{}]", file.toAbsolutePath());
+        return file;
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        out.append("# HELP ").append(name).append(' ').append(escape(help)).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, Map<String, String> labels, Object value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                out.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+                first = false;
+            }
+            out.append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
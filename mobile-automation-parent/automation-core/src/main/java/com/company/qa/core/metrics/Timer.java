@@ -0,0 +1,76 @@
+package com.company.qa.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the count, total and maximum of observed durations. Exported as an
+ * OpenMetrics summary plus a {@code _max} gauge.
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * long start = System.nanoTime();
+ * createSession();
+ * timer.recordNanos(System.nanoTime() - start);
+ * }</pre>
+ *
+ * @see MetricsRegistry#timer(String, String, String...)
+ */
+public final class Timer {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    Timer() {
+    }
+
+    /**
+     * Records one observation.
+     *
+     * @param nanos the observed duration in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Records one observation.
+     *
+     * @param duration the observed duration
+     * @param unit     the unit of {@code duration}
+     */
+    public void record(long duration, TimeUnit unit) {
+        recordNanos(unit.toNanos(duration));
+    }
+
+    /**
+     * Returns the number of observations.
+     *
+     * @return the observation count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of all observations in nanoseconds.
+     *
+     * @return the total duration in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns the longest observation in nanoseconds.
+     *
+     * @return the maximum duration in nanoseconds, or {@code 0} if nothing was recorded
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+}
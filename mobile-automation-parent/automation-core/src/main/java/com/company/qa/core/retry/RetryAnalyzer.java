@@ -1,5 +1,7 @@
 package com.company.qa.core.retry;
 
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.metrics.FrameworkMetrics;
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
 
@@ -7,8 +9,9 @@ import org.testng.ITestResult;
  * TestNG retry analyzer that automatically retries failed tests up to a
  * configurable maximum number of times.
  *
- * <p>The maximum retry count can be configured via the {@code -Dretry.max}
- * system property. If not set, it defaults to {@code 2}.</p>
+ * <p>The maximum retry count comes from {@link EnvironmentConfig#getRetry()}:
+ * {@code retry.max} in the YAML config, overridable with {@code QA_RETRY_MAX}
+ * or {@code -Dretry.max}. If not set, it defaults to {@code 2}.</p>
  *
  * <p>Each test method receives its own instance of this analyzer, so the
  * retry counter is isolated per test.</p>
@@ -22,10 +25,10 @@ public class RetryAnalyzer implements IRetryAnalyzer {
 
     /**
      * Creates a new retry analyzer, reading the maximum retry count from the
-     * {@code retry.max} system property (defaults to {@code 2}).
+     * {@code retry.max} configuration setting (defaults to {@code 2}).
      */
     public RetryAnalyzer() {
-        this.maxRetry = Integer.parseInt(System.getProperty("retry.max", "2"));
+        this.maxRetry = EnvironmentConfig.getInstance().getRetry().getMax();
     }
 
     /**
@@ -39,6 +42,7 @@ public class RetryAnalyzer implements IRetryAnalyzer {
     public boolean retry(ITestResult result) {
         if (counter < maxRetry) {
             counter++;
+            FrameworkMetrics.testRetries().increment();
             return true;
         }
         return false;
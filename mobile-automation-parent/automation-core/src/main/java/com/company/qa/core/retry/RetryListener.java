@@ -34,6 +34,6 @@ public class RetryListener implements IAnnotationTransformer {
     @Override
     public void transform(ITestAnnotation annotation, Class testClass,
                           Constructor testConstructor, Method testMethod) {
-        annotation.setRetryAnalyzerClass(RetryAnalyzer.class);
+        annotation.setRetryAnalyzer(RetryAnalyzer.class);
     }
 }
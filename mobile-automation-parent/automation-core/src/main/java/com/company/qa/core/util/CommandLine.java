@@ -0,0 +1,144 @@
+package com.company.qa.core.util;
+
+import com.company.qa.core.exception.FrameworkException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs local device tools such as {@code adb}, {@code emulator} and
+ * {@code xcrun simctl} with a timeout.
+ *
+ * <p>Output and error streams are merged and captured in a temporary file, so a
+ * chatty tool never blocks on a full pipe and the timeout always applies.</p>
+ */
+public final class CommandLine {
+
+    private CommandLine() {
+    }
+
+    /**
+     * Runs a command and waits for it to exit.
+     *
+     * @param timeoutMs how long the command may run before it is killed
+     * @param command   the executable and its arguments
+     * @return the exit code and combined output
+     * @throws FrameworkException if the command cannot be started, times out or
+     *                            the thread is interrupted while waiting
+     */
+    public static Result run(long timeoutMs, String... command) {
+        return run(timeoutMs, Arrays.asList(command));
+    }
+
+    /**
+     * Runs a command and waits for it to exit.
+     *
+     * @param timeoutMs how long the command may run before it is killed
+     * @param command   the executable and its arguments
+     * @return the exit code and combined output
+     * @throws FrameworkException if the command cannot be started, times out or
+     *                            the thread is interrupted while waiting
+     */
+    public static Result run(long timeoutMs, List<String> command) {
+        Path output = null;
+        try {
+            output = Files.createTempFile("qa-command-", ".log");
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (!process.waitFor(timeoutMs, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new FrameworkException("Command timed out after " + timeoutMs + " ms: " + command);
+            }
+            String text = new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+            return new Result(process.exitValue(), text);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to run " + command + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while running " + command, e);
+        } finally {
+            if (output != null) {
+                output.toFile().delete();
+            }
+        }
+    }
+
+    /**
+     * Runs a command and fails unless it exits with {@code 0}.
+     *
+     * @param timeoutMs how long the command may run before it is killed
+     * @param command   the executable and its arguments
+     * @return the combined output
+     * @throws FrameworkException if the command fails to run or exits with another code
+     */
+    public static String check(long timeoutMs, String... command) {
+        Result result = run(timeoutMs, command);
+        if (!result.isSuccess()) {
+            throw new FrameworkException("Command exited with " + result.getExitCode() + ": "
+                    + Arrays.asList(command) + "\n" + result.getOutput().trim());
+        }
+        return result.getOutput();
+    }
+
+    /**
+     * Returns the path of an Android SDK tool, preferring {@code $ANDROID_HOME}
+     * (or {@code $ANDROID_SDK_ROOT}) over the {@code PATH}.
+     *
+     * @param subdirectory the SDK directory holding the tool, e.g. {@code "platform-tools"}
+     * @param tool         the tool name, e.g. {@code "adb"}
+     * @return the tool's absolute path inside the SDK, or the bare name to look it up on the {@code PATH}
+     */
+    public static String androidTool(String subdirectory, String tool) {
+        for (String variable : new String[]{"ANDROID_HOME", "ANDROID_SDK_ROOT"}) {
+            String sdk = System.getenv(variable);
+            if (sdk != null && !sdk.isEmpty()) {
+                File executable = Paths.get(sdk, subdirectory, tool).toFile();
+                if (executable.canExecute()) {
+                    return executable.getAbsolutePath();
+                }
+            }
+        }
+        return tool;
+    }
+
+    /**
+     * Exit code and combined output of a finished command.
+     */
+    public static final class Result {
+
+        private final int exitCode;
+        private final String output;
+
+        /**
+         * Creates a result.
+         *
+         * @param exitCode the process exit code
+         * @param output   the combined standard output and error
+         */
+        public Result(int exitCode, String output) {
+            this.exitCode = exitCode;
+            this.output = output;
+        }
+
+        public int getExitCode() {
+            return exitCode;
+        }
+
+        public String getOutput() {
+            return output;
+        }
+
+        public boolean isSuccess() {
+            return exitCode == 0;
+        }
+    }
+}
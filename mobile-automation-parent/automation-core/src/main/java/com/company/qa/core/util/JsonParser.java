@@ -1,5 +1,6 @@
 package com.company.qa.core.util;
 
+import com.company.qa.core.config.ConfigBundle;
 import com.company.qa.core.exception.ConfigurationException;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -13,8 +14,9 @@ import java.io.Reader;
 /**
  * Utility class for parsing JSON configuration files.
  *
- * <p>Looks up JSON files in two locations (in order):</p>
+ * <p>Looks up JSON files in three locations (in order):</p>
  * <ol>
+ *   <li>The precompiled {@link ConfigBundle}, when present and up to date</li>
  *   <li>Classpath: {@code dictionary/<name>.json} (e.g. from {@code src/main/resources}
  *       or {@code src/test/resources})</li>
  *   <li>File system: {@code <project.dir>/src/test/java/resources/dictionary/<name>.json}
@@ -41,7 +43,13 @@ public class JsonParser {
             throw new ConfigurationException("JSON file name must not be null or empty");
         }
 
-        // Try classpath first
+        // Try the precompiled bundle first
+        JsonElement bundled = ConfigBundle.classpath().json("dictionary/" + jsonFile + ".json");
+        if (bundled != null) {
+            return bundled.getAsJsonObject();
+        }
+
+        // Then the classpath source
         InputStream is = JsonParser.class.getClassLoader()
                 .getResourceAsStream("dictionary/" + jsonFile + ".json");
         if (is != null) {
@@ -0,0 +1,175 @@
+package com.company.qa.core.util;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Tags log events with the running scenario and step, and collects each
+ * scenario's events into an in-memory buffer.
+ *
+ * <p>The scenario name and current step are stored in the Log4j2
+ * {@link ThreadContext} under {@value #SCENARIO_KEY} and {@value #STEP_KEY}, so
+ * layouts can emit them (see the JSON layout in {@code log4j2.xml}). The
+ * {@link ScenarioLogAppender} copies every event carrying a scenario id into
+ * that scenario's buffer; {@link #drain()} returns the buffered text so it can
+ * be attached to the report as a single block instead of being interleaved
+ * with other threads' output.</p>
+ *
+ * <p>Loggers are asynchronous, so {@link #drain()} first logs a marker event and
+ * waits until the appender has seen it. Because events from one thread are
+ * processed in order, every earlier event of the scenario is then buffered.</p>
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * ScenarioLog.start(testCase.getId().toString(), testCase.getName());
+ * ScenarioLog.step("When I tap login");
+ * ...
+ * Allure.addAttachment("scenario-log", "text/plain", ScenarioLog.drain(), ".log");
+ * ScenarioLog.clear();
+ * }</pre>
+ */
+public class ScenarioLog {
+
+    /** Thread context key holding the scenario name. */
+    public static final String SCENARIO_KEY = "scenario";
+
+    /** Thread context key holding the unique scenario id used to route buffered events. */
+    public static final String SCENARIO_ID_KEY = "scenarioId";
+
+    /** Thread context key holding the text of the running step. */
+    public static final String STEP_KEY = "step";
+
+    /** Marker of the internal event that signals a buffer can be drained. */
+    static final Marker DRAIN_MARKER = MarkerManager.getMarker("SCENARIO_LOG_DRAIN");
+
+    private static final long DRAIN_TIMEOUT_MS = 2000;
+
+    private static final Map<String, Buffer> BUFFERS = new ConcurrentHashMap<>();
+
+    /**
+     * Starts buffering log events of the current thread for a scenario.
+     *
+     * @param scenarioId   a unique id for this scenario execution
+     * @param scenarioName the human-readable scenario name
+     */
+    public static void start(String scenarioId, String scenarioName) {
+        ThreadContext.put(SCENARIO_ID_KEY, scenarioId);
+        ThreadContext.put(SCENARIO_KEY, scenarioName);
+        ThreadContext.remove(STEP_KEY);
+        BUFFERS.put(scenarioId, new Buffer(ScenarioLogAppender.maxLines()));
+    }
+
+    /**
+     * Records the step the current thread is executing.
+     *
+     * @param stepText the step keyword and text
+     */
+    public static void step(String stepText) {
+        ThreadContext.put(STEP_KEY, stepText);
+    }
+
+    /**
+     * Stops buffering for the current thread's scenario and returns what was collected.
+     *
+     * <p>The thread context keeps the scenario and step so later events are still
+     * tagged; call {@link #clear()} when the scenario has fully finished.</p>
+     *
+     * @return the buffered log text, or an empty string if no scenario is active
+     */
+    public static String drain() {
+        String scenarioId = ThreadContext.get(SCENARIO_ID_KEY);
+        Buffer buffer = scenarioId != null ? BUFFERS.get(scenarioId) : null;
+        if (buffer == null) {
+            return "";
+        }
+        if (ScenarioLogAppender.isActive()) {
+            LOGGER.info(DRAIN_MARKER, "Collecting log of scenario [{}]", ThreadContext.get(SCENARIO_KEY));
+            try {
+                buffer.drained.get(DRAIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                // return what has been buffered so far
+            }
+        }
+        BUFFERS.remove(scenarioId);
+        return buffer.text();
+    }
+
+    /**
+     * Removes the scenario and step from the current thread's context and discards
+     * any buffer that was not drained.
+     */
+    public static void clear() {
+        String scenarioId = ThreadContext.get(SCENARIO_ID_KEY);
+        if (scenarioId != null) {
+            BUFFERS.remove(scenarioId);
+        }
+        ThreadContext.remove(SCENARIO_ID_KEY);
+        ThreadContext.remove(SCENARIO_KEY);
+        ThreadContext.remove(STEP_KEY);
+    }
+
+    /**
+     * Adds a formatted event to a scenario's buffer. Called by {@link ScenarioLogAppender}.
+     */
+    static void append(String scenarioId, String line) {
+        Buffer buffer = BUFFERS.get(scenarioId);
+        if (buffer != null) {
+            buffer.append(line);
+        }
+    }
+
+    /**
+     * Signals that all events logged before a drain request have been buffered.
+     * Called by {@link ScenarioLogAppender}.
+     */
+    static void drained(String scenarioId) {
+        Buffer buffer = BUFFERS.get(scenarioId);
+        if (buffer != null) {
+            buffer.drained.complete(null);
+        }
+    }
+
+    /**
+     * Line-capped text buffer for one scenario.
+     */
+    private static final class Buffer {
+
+        private final int maxLines;
+        private final StringBuilder text = new StringBuilder();
+        private final CompletableFuture<Void> drained = new CompletableFuture<>();
+        private int lines;
+        private int truncated;
+
+        private Buffer(int maxLines) {
+            this.maxLines = maxLines;
+        }
+
+        private synchronized void append(String line) {
+            if (lines >= maxLines) {
+                truncated++;
+                return;
+            }
+            text.append(line);
+            lines++;
+        }
+
+        private synchronized String text() {
+            if (truncated == 0) {
+                return text.toString();
+            }
+            return text + "... " + truncated + " more lines truncated" + System.lineSeparator();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.company.qa.core.util;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Log4j2 appender that routes events into per-scenario buffers managed by
+ * {@link ScenarioLog}. Events without a scenario id in their context data are
+ * ignored.
+ *
+ * <p>Configured in {@code log4j2.xml} as:</p>
+ * <pre>{@code
+ * <ScenarioBuffer name="ScenarioBuffer" maxLines="5000">
+ *     <PatternLayout pattern="%d{HH:mm:ss.SSS} %-5level %msg%n"/>
+ * </ScenarioBuffer>
+ * }</pre>
+ */
+@Plugin(name = "ScenarioBuffer", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class ScenarioLogAppender extends AbstractAppender {
+
+    private static final int DEFAULT_MAX_LINES = 5000;
+
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+    private static volatile int maxLines = DEFAULT_MAX_LINES;
+
+    private final int configuredMaxLines;
+
+    private ScenarioLogAppender(String name, Filter filter, Layout<? extends Serializable> layout, int maxLines) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+        this.configuredMaxLines = maxLines;
+    }
+
+    /**
+     * Creates the appender from configuration.
+     *
+     * @param name     the appender name
+     * @param maxLines the maximum number of lines kept per scenario
+     * @param layout   the layout for buffered lines; defaults to a time/level/message pattern
+     * @param filter   an optional filter
+     * @return the appender
+     */
+    @PluginFactory
+    public static ScenarioLogAppender createAppender(
+            @PluginAttribute("name") String name,
+            @PluginAttribute(value = "maxLines", defaultInt = DEFAULT_MAX_LINES) int maxLines,
+            @PluginElement("Layout") Layout<? extends Serializable> layout,
+            @PluginElement("Filter") Filter filter) {
+        Layout<? extends Serializable> effectiveLayout = layout != null
+                ? layout
+                : PatternLayout.newBuilder().withPattern("%d{HH:mm:ss.SSS} %-5level %msg%n%throwable").build();
+        return new ScenarioLogAppender(name != null ? name : "ScenarioBuffer", filter, effectiveLayout, maxLines);
+    }
+
+    /**
+     * Returns whether an appender instance is currently started.
+     *
+     * @return {@code true} if scenario events are being buffered
+     */
+    static boolean isActive() {
+        return ACTIVE.get() > 0;
+    }
+
+    /**
+     * Returns the per-scenario line cap of the active configuration.
+     *
+     * @return the maximum number of buffered lines per scenario
+     */
+    static int maxLines() {
+        return maxLines;
+    }
+
+    @Override
+    public void start() {
+        maxLines = configuredMaxLines;
+        ACTIVE.incrementAndGet();
+        super.start();
+    }
+
+    @Override
+    protected boolean stop(long timeout, TimeUnit timeUnit, boolean changeLifeCycleState) {
+        ACTIVE.decrementAndGet();
+        return super.stop(timeout, timeUnit, changeLifeCycleState);
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        String scenarioId = event.getContextData().getValue(ScenarioLog.SCENARIO_ID_KEY);
+        if (scenarioId == null) {
+            return;
+        }
+        if (event.getMarker() != null && event.getMarker().isInstanceOf(ScenarioLog.DRAIN_MARKER)) {
+            ScenarioLog.drained(scenarioId);
+            return;
+        }
+        ScenarioLog.append(scenarioId, getLayout().toSerializable(event).toString());
+    }
+}
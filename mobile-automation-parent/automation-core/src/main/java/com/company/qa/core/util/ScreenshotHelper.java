@@ -1,5 +1,6 @@
 package com.company.qa.core.util;
 
+import com.company.qa.core.metrics.FrameworkMetrics;
 import io.qameta.allure.Attachment;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -25,7 +26,9 @@ public class ScreenshotHelper {
      */
     public static byte[] takeScreenshot(WebDriver driver) {
         if (driver instanceof TakesScreenshot) {
-            return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            FrameworkMetrics.screenshots().increment();
+            return screenshot;
         }
         LogManager.LOGGER.warn("Driver does not support screenshots");
         return new byte[0];
@@ -1,22 +1,31 @@
 package com.company.qa.core.wait;
 
 import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.metrics.FrameworkMetrics;
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Instance-based explicit wait helper for Selenium/Appium elements.
  *
  * <p>Default timeout is sourced from {@link EnvironmentConfig#getExplicitTimeout()},
- * but can be overridden per-instance or per-call.</p>
+ * but can be overridden per-instance or per-call. Helpers using the configured
+ * default pick up a new value as soon as the configuration is reloaded.</p>
  */
 public class WaitHelper {
 
+    private static final int CONFIGURED = -1;
+
     private final WebDriver driver;
     private final int defaultTimeout;
 
@@ -27,7 +36,7 @@ public class WaitHelper {
      */
     public WaitHelper(WebDriver driver) {
         this.driver = driver;
-        this.defaultTimeout = EnvironmentConfig.getInstance().getExplicitTimeout();
+        this.defaultTimeout = CONFIGURED;
     }
 
     /**
@@ -50,7 +59,7 @@ public class WaitHelper {
      *         within the timeout
      */
     public WebElement waitForVisible(By locator) {
-        return waitForVisible(locator, defaultTimeout);
+        return waitForVisible(locator, defaultTimeout());
     }
 
     /**
@@ -63,8 +72,34 @@ public class WaitHelper {
      *         within the timeout
      */
     public WebElement waitForVisible(By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return until(ExpectedConditions.visibilityOfElementLocated(locator), timeoutSeconds, "visible");
+    }
+
+    /**
+     * Waits until every locator matches a visible element, using the default timeout.
+     *
+     * @param locators the element locators
+     * @return the first visible element of each locator, in locator order
+     * @throws org.openqa.selenium.TimeoutException if any element is not visible
+     *         within the timeout
+     * @see #allVisible(List)
+     */
+    public List<WebElement> waitForAllVisible(List<By> locators) {
+        return waitForAllVisible(locators, defaultTimeout());
+    }
+
+    /**
+     * Waits until every locator matches a visible element, using a custom timeout.
+     *
+     * @param locators       the element locators
+     * @param timeoutSeconds the maximum time to wait in seconds
+     * @return the first visible element of each locator, in locator order
+     * @throws org.openqa.selenium.TimeoutException if any element is not visible
+     *         within the timeout
+     * @see #allVisible(List)
+     */
+    public List<WebElement> waitForAllVisible(List<By> locators, int timeoutSeconds) {
+        return until(allVisible(locators), timeoutSeconds, "allVisible");
     }
 
     /**
@@ -76,7 +111,7 @@ public class WaitHelper {
      *         within the timeout
      */
     public WebElement waitForClickable(By locator) {
-        return waitForClickable(locator, defaultTimeout);
+        return waitForClickable(locator, defaultTimeout());
     }
 
     /**
@@ -89,8 +124,7 @@ public class WaitHelper {
      *         within the timeout
      */
     public WebElement waitForClickable(By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return until(ExpectedConditions.elementToBeClickable(locator), timeoutSeconds, "clickable");
     }
 
     /**
@@ -102,7 +136,7 @@ public class WaitHelper {
      *         after the timeout
      */
     public boolean waitForInvisible(By locator) {
-        return waitForInvisible(locator, defaultTimeout);
+        return waitForInvisible(locator, defaultTimeout());
     }
 
     /**
@@ -115,8 +149,7 @@ public class WaitHelper {
      *         after the timeout
      */
     public boolean waitForInvisible(By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return until(ExpectedConditions.invisibilityOfElementLocated(locator), timeoutSeconds, "invisible");
     }
 
     /**
@@ -131,7 +164,7 @@ public class WaitHelper {
      *         within the timeout
      */
     public WebElement waitForPresence(By locator) {
-        return waitForPresence(locator, defaultTimeout);
+        return waitForPresence(locator, defaultTimeout());
     }
 
     /**
@@ -144,8 +177,7 @@ public class WaitHelper {
      *         within the timeout
      */
     public WebElement waitForPresence(By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return until(ExpectedConditions.presenceOfElementLocated(locator), timeoutSeconds, "present");
     }
 
     /**
@@ -158,7 +190,7 @@ public class WaitHelper {
      *         within the timeout
      */
     public boolean waitForTextPresent(By locator, String text) {
-        return waitForTextPresent(locator, text, defaultTimeout);
+        return waitForTextPresent(locator, text, defaultTimeout());
     }
 
     /**
@@ -172,7 +204,100 @@ public class WaitHelper {
      *         within the timeout
      */
     public boolean waitForTextPresent(By locator, String text, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return until(ExpectedConditions.textToBePresentInElementLocated(locator, text), timeoutSeconds, "textPresent");
+    }
+
+    /**
+     * Condition that is met once every locator matches a visible element.
+     *
+     * <p>All locators are checked within a single poll, so waiting for several
+     * elements costs one timeout instead of one per element. A poll stops at
+     * the first locator without a visible element; the condition's description
+     * names that locator when the wait times out.</p>
+     *
+     * @param locators the element locators
+     * @return the condition, yielding the first visible element of each locator
+     */
+    static ExpectedCondition<List<WebElement>> allVisible(List<By> locators) {
+        return new ExpectedCondition<List<WebElement>>() {
+
+            private By missing;
+
+            @Override
+            public List<WebElement> apply(WebDriver driver) {
+                List<WebElement> visible = new ArrayList<>(locators.size());
+                for (By locator : locators) {
+                    WebElement element = firstVisible(driver, locator);
+                    if (element == null) {
+                        missing = locator;
+                        return null;
+                    }
+                    visible.add(element);
+                }
+                return visible;
+            }
+
+            @Override
+            public String toString() {
+                return "visibility of all elements located by " + locators
+                        + (missing != null ? "; still missing " + missing : "");
+            }
+        };
+    }
+
+    private static WebElement firstVisible(WebDriver driver, By locator) {
+        try {
+            for (WebElement element : driver.findElements(locator)) {
+                if (element.isDisplayed()) {
+                    return element;
+                }
+            }
+        } catch (StaleElementReferenceException e) {
+            // the screen changed mid-poll; the next poll looks again
+        }
+        return null;
+    }
+
+    /**
+     * Returns the timeout used when none is passed per call.
+     *
+     * @return the per-instance timeout, or the currently configured explicit timeout
+     */
+    private int defaultTimeout() {
+        return defaultTimeout != CONFIGURED ? defaultTimeout : ConfiguredTimeout.explicitSeconds;
+    }
+
+    /**
+     * Waits for a condition, counting timeouts in {@link FrameworkMetrics#waitTimeouts(String)}.
+     *
+     * @param condition      the condition to wait for
+     * @param timeoutSeconds the maximum time to wait in seconds
+     * @param conditionName  the metric label describing the condition
+     * @param <T>            the condition result type
+     * @return the condition result
+     * @throws TimeoutException if the condition is not met within the timeout
+     */
+    private <T> T until(ExpectedCondition<T> condition, int timeoutSeconds, String conditionName) {
+        try {
+            return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds)).until(condition);
+        } catch (TimeoutException e) {
+            FrameworkMetrics.waitTimeouts(conditionName).increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Explicit timeout from {@link EnvironmentConfig}, read once and refreshed by a
+     * change listener rather than looked up on every wait.
+     */
+    private static final class ConfiguredTimeout {
+
+        private static volatile int explicitSeconds;
+
+        static {
+            EnvironmentConfig config = EnvironmentConfig.getInstance();
+            explicitSeconds = config.getTimeouts().getExplicitSeconds();
+            config.addChangeListener(changed -> explicitSeconds = changed.getTimeouts().getExplicitSeconds());
+        }
     }
 }
@@ -0,0 +1,197 @@
+package com.company.qa.core.api;
+
+import com.company.qa.core.exception.FrameworkException;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ApiClientTest {
+
+    private static final int STREAMED_ITEMS = 50_000;
+
+    static class Item {
+        int id;
+        String name;
+    }
+
+    private HttpServer server;
+    private ApiClient client;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            String body = "{\"method\":\"" + exchange.getRequestMethod() + "\",\"body\":"
+                    + (requestBody.length > 0 ? new String(requestBody, StandardCharsets.UTF_8) : "null") + "}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        server.createContext("/items", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write("{\"data\":{\"items\":[".getBytes(StandardCharsets.UTF_8));
+                for (int i = 0; i < STREAMED_ITEMS; i++) {
+                    String item = (i > 0 ? "," : "") + "{\"id\":" + i + ",\"name\":\"item-" + i + "\"}";
+                    os.write(item.getBytes(StandardCharsets.UTF_8));
+                }
+                os.write("]}}".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.createContext("/endless", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            byte[] chunk = new byte[8192];
+            try (OutputStream os = exchange.getResponseBody()) {
+                while (true) {
+                    os.write(chunk);
+                }
+            } catch (IOException e) {
+                // client went away
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        client = new ApiClient("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        client.close();
+        server.stop(0);
+    }
+
+    @BeforeMethod
+    public void resetPorts() {
+        clientPorts.clear();
+    }
+
+    @Test
+    public void get_returnsResponseFromServer() {
+        Response response = client.get("/echo");
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.jsonPath().getString("method")).isEqualTo("GET");
+    }
+
+    @Test
+    public void post_sendsJsonBody() {
+        Response response = client.post("/echo", Collections.singletonMap("name", "test"));
+        assertThat(response.jsonPath().getString("method")).isEqualTo("POST");
+        assertThat(response.jsonPath().getString("body.name")).isEqualTo("test");
+    }
+
+    @Test
+    public void putAndDelete_useMatchingMethods() {
+        assertThat(client.put("/echo", "{}").jsonPath().getString("method")).isEqualTo("PUT");
+        assertThat(client.delete("/echo").jsonPath().getString("method")).isEqualTo("DELETE");
+    }
+
+    @Test
+    public void sequentialRequests_reusePooledConnection() {
+        for (int i = 0; i < 5; i++) {
+            client.get("/echo").asString();
+        }
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    public void unreadResponses_releasePooledConnections() {
+        for (int i = 0; i < 30; i++) {
+            assertThat(client.get("/echo").getStatusCode()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    public void getAsync_completesWithResponse() {
+        Response response = client.getAsync("/echo").join();
+        assertThat(response.jsonPath().getString("method")).isEqualTo("GET");
+    }
+
+    @Test
+    public void batch_returnsResponsesInCallOrder() {
+        List<Function<ApiClient, Response>> calls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int index = i;
+            calls.add(c -> c.post("/echo", Collections.singletonMap("index", index)));
+        }
+
+        List<Response> responses = client.batch(calls, 4);
+
+        assertThat(responses).hasSize(20);
+        for (int i = 0; i < 20; i++) {
+            assertThat(responses.get(i).jsonPath().getInt("body.index")).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void batch_failingCall_throwsFrameworkException() {
+        List<Function<ApiClient, Response>> calls = new ArrayList<>();
+        calls.add(c -> c.get("/echo"));
+        calls.add(c -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> client.batch(calls, 2))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("boom");
+    }
+
+    @Test
+    public void streamItems_processesLargeArrayIncrementally() {
+        AtomicLong idSum = new AtomicLong();
+
+        int count = client.streamItems("/items", "data.items", Item.class, item -> idSum.addAndGet(item.id));
+
+        assertThat(count).isEqualTo(STREAMED_ITEMS);
+        assertThat(idSum.get()).isEqualTo((long) STREAMED_ITEMS * (STREAMED_ITEMS - 1) / 2);
+    }
+
+    @Test
+    public void stream_errorStatus_throwsAndReleasesConnection() {
+        for (int i = 0; i < 30; i++) {
+            assertThatThrownBy(() -> client.stream("/missing", body -> body.read()))
+                    .isInstanceOf(FrameworkException.class)
+                    .hasMessageContaining("404");
+        }
+        assertThat(client.get("/echo").getStatusCode()).isEqualTo(200);
+    }
+
+    @Test(timeOut = 10_000)
+    public void stream_handlerFailure_abortsWithoutReadingRestOfBody() {
+        assertThatThrownBy(() -> client.stream("/endless", body -> {
+            body.read(new byte[1024]);
+            throw new IOException("boom");
+        }))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("boom");
+
+        assertThat(client.get("/echo").getStatusCode()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,118 @@
+package com.company.qa.core.api;
+
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApiRecordReplayTest {
+
+    private HttpServer liveServer;
+    private String liveUrl;
+    private Path archiveFile;
+    private final AtomicInteger liveCalls = new AtomicInteger();
+
+    @BeforeClass
+    public void recordAgainstLiveServer() throws Exception {
+        liveServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        liveServer.createContext("/", exchange -> {
+            int call = liveCalls.incrementAndGet();
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            String body = "{\"path\":\"" + exchange.getRequestURI() + "\",\"call\":" + call
+                    + ",\"echo\":" + (requestBody.length > 0 ? new String(requestBody, StandardCharsets.UTF_8) : "null") + "}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("X-Live", "true");
+            exchange.sendResponseHeaders(201, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        liveServer.start();
+        liveUrl = "http://127.0.0.1:" + liveServer.getAddress().getPort();
+
+        archiveFile = Files.createTempDirectory("api-recordings").resolve("live.json.gz");
+        ApiArchive recording = ApiArchive.forRecording(archiveFile);
+        RecordingFilter recorder = new RecordingFilter(recording);
+        RestAssured.given().baseUri(liveUrl).filter(recorder).get("/users?page=1").asString();
+        RestAssured.given().baseUri(liveUrl).filter(recorder).get("/users?page=1").asString();
+        RestAssured.given().baseUri(liveUrl).filter(recorder).contentType("application/json")
+                .body("{\"name\":\"a\"}").post("/users").asString();
+        RestAssured.given().baseUri(liveUrl).filter(recorder).contentType("application/json")
+                .body("{\"name\":\"b\"}").post("/users").asString();
+        recording.save();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopLiveServer() {
+        liveServer.stop(0);
+    }
+
+    @Test
+    public void save_writesCompressedArchive() {
+        ApiArchive loaded = ApiArchive.load(archiveFile);
+
+        assertThat(loaded.size()).isEqualTo(4);
+        assertThat(archiveFile.toFile().length()).isPositive();
+    }
+
+    @Test
+    public void replay_servesRecordedResponsesInOrderWithoutLiveServer() {
+        int liveCallsBefore = liveCalls.get();
+        try (ReplayServer replay = ReplayServer.start(ApiArchive.load(archiveFile), 0);
+             ApiClient client = new ApiClient(replay.getBaseUrl())) {
+            Response first = client.get("/users?page=1");
+            Response second = client.get("/users?page=1");
+            Response third = client.get("/users?page=1");
+
+            assertThat(first.getStatusCode()).isEqualTo(201);
+            assertThat(first.getHeader("X-Live")).isEqualTo("true");
+            assertThat(first.jsonPath().getInt("call")).isEqualTo(1);
+            assertThat(second.jsonPath().getInt("call")).isEqualTo(2);
+            assertThat(third.jsonPath().getInt("call")).isEqualTo(2);
+        }
+        assertThat(liveCalls.get()).isEqualTo(liveCallsBefore);
+    }
+
+    @Test
+    public void replay_prefersInteractionWithMatchingBody() {
+        try (ReplayServer replay = ReplayServer.start(ApiArchive.load(archiveFile), 0);
+             ApiClient client = new ApiClient(replay.getBaseUrl())) {
+            Response response = client.post("/users", Collections.singletonMap("name", "b"));
+
+            assertThat(response.jsonPath().getString("echo.name")).isEqualTo("b");
+        }
+    }
+
+    @Test
+    public void replay_unrecordedRequest_returns501() {
+        try (ReplayServer replay = ReplayServer.start(ApiArchive.load(archiveFile), 0);
+             ApiClient client = new ApiClient(replay.getBaseUrl())) {
+            assertThat(client.get("/unknown").getStatusCode()).isEqualTo(501);
+        }
+    }
+
+    @Test
+    public void replay_appliesConfiguredLatency() {
+        try (ReplayServer replay = ReplayServer.start(ApiArchive.load(archiveFile), 200);
+             ApiClient client = new ApiClient(replay.getBaseUrl())) {
+            long start = System.nanoTime();
+            client.get("/users?page=1");
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(elapsedMs).isGreaterThanOrEqualTo(200);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.company.qa.core.api;
+
+import com.company.qa.core.exception.FrameworkException;
+import com.google.gson.stream.JsonReader;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonStreamExtractorTest {
+
+    static class Item {
+        int id;
+        String name;
+    }
+
+    @Test
+    public void forEach_nestedPath_skipsUnrelatedFields() throws Exception {
+        String json = "{\"meta\":{\"total\":2,\"tags\":[1,2]},"
+                + "\"data\":{\"page\":1,\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]}}";
+        List<Item> items = new ArrayList<>();
+
+        int count = JsonStreamExtractor.forEach(new JsonReader(new StringReader(json)), "data.items", Item.class, items::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(items).extracting(item -> item.name).containsExactly("a", "b");
+    }
+
+    @Test
+    public void forEach_rootArray_readsAllElements() throws Exception {
+        List<Item> items = new ArrayList<>();
+
+        int count = JsonStreamExtractor.forEach(new JsonReader(new StringReader("[{\"id\":7}]")), null, Item.class, items::add);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(items.get(0).id).isEqualTo(7);
+    }
+
+    @Test
+    public void forEach_missingPath_throwsFrameworkException() {
+        assertThatThrownBy(() -> JsonStreamExtractor.forEach(
+                new JsonReader(new StringReader("{\"data\":{}}")), "data.items", Item.class, item -> { }))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("data.items");
+    }
+
+    @Test
+    public void forEach_pathNotArray_throwsFrameworkException() {
+        assertThatThrownBy(() -> JsonStreamExtractor.forEach(
+                new JsonReader(new StringReader("{\"items\":{}}")), "items", Item.class, item -> { }))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("Expected a JSON array");
+    }
+}
@@ -0,0 +1,138 @@
+package com.company.qa.core.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseCacheTest {
+
+    private HttpServer server;
+    private ApiClient client;
+    private final Map<String, AtomicInteger> serverCalls = new ConcurrentHashMap<>();
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            int call = serverCalls.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            if (path.startsWith("/fresh")) {
+                exchange.getResponseHeaders().add("Cache-Control", "max-age=60");
+            } else if (path.equals("/etag")) {
+                exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+                exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    exchange.sendResponseHeaders(304, -1);
+                    exchange.close();
+                    return;
+                }
+            } else if (path.equals("/nostore")) {
+                exchange.getResponseHeaders().add("Cache-Control", "no-store, max-age=60");
+            }
+            respond(exchange, "{\"path\":\"" + path + "\",\"call\":" + call + "}");
+        });
+        server.start();
+        client = new ApiClient("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        client.close();
+        server.stop(0);
+    }
+
+    @BeforeMethod
+    public void resetCalls() {
+        serverCalls.clear();
+        client.withResponseCache(new ResponseCache(16, -1, Collections.singletonList("Accept")));
+    }
+
+    @Test
+    public void freshResponse_servedFromCache() {
+        client.get("/fresh");
+        Response cached = client.get("/fresh");
+
+        assertThat(cached.jsonPath().getInt("call")).isEqualTo(1);
+        assertThat(serverCalls.get("/fresh").get()).isEqualTo(1);
+        assertThat(client.getResponseCache().getStats().getHits()).isEqualTo(1);
+        assertThat(client.getResponseCache().getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void staleResponseWithEtag_revalidatedWithIfNoneMatch() {
+        client.get("/etag");
+        Response revalidated = client.get("/etag");
+
+        assertThat(revalidated.getStatusCode()).isEqualTo(200);
+        assertThat(revalidated.jsonPath().getInt("call")).isEqualTo(1);
+        assertThat(serverCalls.get("/etag").get()).isEqualTo(2);
+        assertThat(client.getResponseCache().getStats().getRevalidations()).isEqualTo(1);
+    }
+
+    @Test
+    public void noStoreResponse_neverCached() {
+        client.get("/nostore");
+        client.get("/nostore");
+
+        assertThat(serverCalls.get("/nostore").get()).isEqualTo(2);
+        assertThat(client.getResponseCache().getStats().getSize()).isZero();
+    }
+
+    @Test
+    public void maxAgeOverride_cachesResponsesWithoutCacheControl() {
+        client.withResponseCache(new ResponseCache(16, 60_000, Collections.emptyList()));
+
+        client.get("/plain");
+        client.get("/plain");
+
+        assertThat(serverCalls.get("/plain").get()).isEqualTo(1);
+    }
+
+    @Test
+    public void postRequests_bypassCache() {
+        client.post("/fresh", "{}");
+        client.post("/fresh", "{}");
+
+        assertThat(serverCalls.get("/fresh").get()).isEqualTo(2);
+    }
+
+    @Test
+    public void leastRecentlyUsedEntry_evictedWhenFull() {
+        client.withResponseCache(new ResponseCache(2, -1, Collections.emptyList()));
+
+        client.get("/fresh/a");
+        client.get("/fresh/b");
+        client.get("/fresh/a");
+        client.get("/fresh/c");
+        client.get("/fresh/a");
+        client.get("/fresh/b");
+
+        assertThat(serverCalls.get("/fresh/a").get()).isEqualTo(1);
+        assertThat(serverCalls.get("/fresh/b").get()).isEqualTo(2);
+        assertThat(client.getResponseCache().getStats().getEvictions()).isEqualTo(2);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
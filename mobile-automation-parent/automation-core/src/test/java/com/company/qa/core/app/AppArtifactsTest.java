@@ -0,0 +1,220 @@
+package com.company.qa.core.app;
+
+import com.company.qa.core.exception.ConfigurationException;
+import com.company.qa.core.exception.FrameworkException;
+import com.google.gson.JsonParser;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AppArtifactsTest {
+
+    private Path dir;
+    private Path apk;
+    private RecordingInstaller installer;
+    private AppArtifacts artifacts;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("artifacts");
+        apk = Files.write(dir.resolve("shop.apk"), "build-1".getBytes(StandardCharsets.UTF_8));
+        installer = new RecordingInstaller();
+        artifacts = new AppArtifacts(installer, 4);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Collections.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void hash_changesWithContentAndIsStableOtherwise() throws IOException {
+        String first = artifacts.hash(apk);
+
+        assertThat(artifacts.hash(apk)).isEqualTo(first).hasSize(64);
+
+        Files.write(apk, "build-2".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(apk, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+
+        assertThat(artifacts.hash(apk)).isNotEqualTo(first);
+    }
+
+    @Test
+    public void hash_ofBundleDirectory_coversFileNames() throws IOException {
+        Path bundle = Files.createDirectories(dir.resolve("Shop.app"));
+        Path binary = Files.write(bundle.resolve("Shop"), "code".getBytes(StandardCharsets.UTF_8));
+        String before = artifacts.hash(bundle);
+
+        Files.move(binary, bundle.resolve("Renamed"));
+
+        assertThat(new AppArtifacts(installer, 1).hash(bundle)).isNotEqualTo(before);
+    }
+
+    @Test
+    public void ensureInstalled_installsEachBuildOncePerDevice() {
+        AppTarget target = target(apk.toString());
+
+        assertThat(artifacts.ensureInstalled("emulator-5554", target)).isTrue();
+        assertThat(artifacts.ensureInstalled("emulator-5554", target)).isFalse();
+        assertThat(artifacts.ensureInstalled("emulator-5556", target)).isTrue();
+
+        assertThat(installer.installs).containsExactly("emulator-5554", "emulator-5556");
+    }
+
+    @Test
+    public void ensureInstalled_skipsDeviceThatAlreadyHoldsTheBuild() {
+        AppTarget target = target(apk.toString());
+        installer.onDevice.put("emulator-5554", artifacts.hash(apk));
+
+        assertThat(artifacts.ensureInstalled("emulator-5554", target)).isFalse();
+        assertThat(installer.installs).isEmpty();
+    }
+
+    @Test
+    public void forget_makesNextEnsureInstalledInstallAgain() {
+        AppTarget target = target(apk.toString());
+        artifacts.ensureInstalled("emulator-5554", target);
+        artifacts.ensureInstalled("emulator-5556", target);
+
+        artifacts.forget("emulator-5554");
+
+        assertThat(artifacts.ensureInstalled("emulator-5554", target)).isTrue();
+        assertThat(artifacts.ensureInstalled("emulator-5556", target)).isFalse();
+        assertThat(installer.installs).containsExactly("emulator-5554", "emulator-5556", "emulator-5554");
+    }
+
+    @Test
+    public void ensureInstalled_withRemoteBinary_isRejected() {
+        assertThatThrownBy(() -> artifacts.ensureInstalled("emulator-5554", target("https://ci/shop.apk")))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("needs a local binary");
+    }
+
+    @Test
+    public void installAll_installsDevicesInParallel() {
+        installer.barrier = new CountDownLatch(3);
+
+        artifacts.installAll(Arrays.asList("emulator-5554", "emulator-5556", "emulator-5558"), target(apk.toString()));
+
+        // Each install waits for all three to start, so a sequential run would time out in the installer
+        assertThat(installer.installs).containsExactlyInAnyOrder("emulator-5554", "emulator-5556", "emulator-5558");
+    }
+
+    @Test
+    public void installAll_reportsEveryFailedDevice() {
+        installer.failing.add("emulator-5556");
+
+        assertThatThrownBy(() -> artifacts.installAll(Arrays.asList("emulator-5554", "emulator-5556"),
+                target(apk.toString())))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("failed to install on [emulator-5556]");
+        assertThat(installer.installs).containsExactly("emulator-5554");
+    }
+
+    @Test
+    public void ensureInstalled_throughSession_skipsRepeatedInstall() {
+        RecordingSession session = new RecordingSession();
+        ImmutableCapabilities capabilities = new ImmutableCapabilities("platformName", "android",
+                "appium:udid", "emulator-5554", "appium:appPackage", "com.shop");
+
+        assertThat(artifacts.ensureInstalled(session, capabilities, apk.toString())).isTrue();
+        assertThat(artifacts.ensureInstalled(session, capabilities, apk.toString())).isFalse();
+
+        assertThat(session.commands).containsExactly("mobile: installApp {appPath=" + apk.toAbsolutePath() + "}");
+    }
+
+    @Test
+    public void ensureInstalled_throughSession_seesSuiteStartInstall() {
+        RecordingSession session = new RecordingSession();
+        artifacts.ensureInstalled("emulator-5554", target(apk.toString()));
+
+        boolean installed = artifacts.ensureInstalled(session, new ImmutableCapabilities("platformName", "android",
+                "appium:udid", "emulator-5554", "appium:appPackage", "com.shop"), apk.toString());
+
+        assertThat(installed).isFalse();
+        assertThat(session.commands).isEmpty();
+    }
+
+    private static AppTarget target(String appPath) {
+        return AppTarget.from("shop", "android", JsonParser.parseString(
+                "{\"android\": {\"appPackage\": \"com.shop\"}}").getAsJsonObject()).withAppPath(appPath);
+    }
+
+    /**
+     * Session that records the scripts it is asked to execute.
+     */
+    private static final class RecordingSession implements JavascriptExecutor {
+
+        private final List<Object> commands = new ArrayList<>();
+
+        @Override
+        public Object executeScript(String script, Object... args) {
+            commands.add(script + " " + args[0]);
+            return null;
+        }
+
+        @Override
+        public Object executeAsyncScript(String script, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Installer that records installs and answers hashes from {@link #onDevice}.
+     */
+    private static final class RecordingInstaller implements AppInstaller {
+
+        private final List<String> installs = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, String> onDevice = new HashMap<>();
+        private final Set<String> failing = new HashSet<>();
+        private CountDownLatch barrier;
+
+        @Override
+        public String installedHash(String udid, AppTarget target) {
+            return onDevice.get(udid);
+        }
+
+        @Override
+        public void install(String udid, AppTarget target, Path binary, String hash) {
+            if (barrier != null) {
+                barrier.countDown();
+                try {
+                    if (!barrier.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("installs did not run in parallel");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            if (failing.contains(udid)) {
+                throw new IllegalStateException("adb: device offline");
+            }
+            installs.add(udid);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.company.qa.core.app;
+
+import com.company.qa.core.exception.ConfigurationException;
+import com.company.qa.core.exception.FrameworkException;
+import com.google.gson.JsonObject;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AppResetterTest {
+
+    private static final Capabilities EMULATOR = new ImmutableCapabilities("appium:udid", "emulator-5554");
+    private static final Capabilities REAL_DEVICE = new ImmutableCapabilities("appium:udid", "R58M12ABC");
+
+    private RecordingDriver driver;
+    private AppResetter resetter;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new RecordingDriver();
+        resetter = new AppResetter();
+    }
+
+    @Test
+    public void from_readsPlatformBlockAndResetSettings() {
+        AppTarget target = AppTarget.from("shop", "iOS",
+                app("[\"deepLink\", \"reinstall\"]", "\"deepLink\": \"shop://home\","));
+
+        assertThat(target.getPlatform()).isEqualTo("ios");
+        assertThat(target.getAppId()).isEqualTo("com.shop.ios");
+        assertThat(target.getAppPath()).isEqualTo("/apps/shop.ipa");
+        assertThat(target.getDeepLink()).isEqualTo("shop://home");
+        assertThat(target.getResetStrategies()).containsExactly("deepLink", "reinstall");
+    }
+
+    @Test
+    public void from_withoutResetBlock_allowsClearAppAndReinstall() {
+        JsonObject appConfig = app(null, "");
+        appConfig.remove("reset");
+
+        assertThat(AppTarget.from("shop", "android", appConfig).getResetStrategies())
+                .containsExactly("clearApp", "reinstall");
+    }
+
+    @Test
+    public void reset_picksCheapestSupportedStrategy() {
+        AppTarget target = AppTarget.from("shop", "android",
+                app("[\"reinstall\", \"snapshot\", \"clearApp\"]", "\"snapshot\": \"qa-clean\","));
+
+        AppResetStrategy used = resetter.reset(driver, EMULATOR, target);
+
+        assertThat(used).isEqualTo(ResetStrategies.CLEAR_APP);
+        assertThat(driver.commands).containsExactly(
+                "mobile: terminateApp {appId=com.shop.android}",
+                "mobile: clearApp {appId=com.shop.android}",
+                "mobile: activateApp {appId=com.shop.android}");
+    }
+
+    @Test
+    public void reset_fallsBackToNextStrategyOnFailure() {
+        AppTarget target = AppTarget.from("shop", "android",
+                app("[\"clearApp\", \"snapshot\", \"reinstall\"]", "\"snapshot\": \"qa-clean\","));
+        driver.failing.add("mobile: clearApp");
+
+        AppResetStrategy used = resetter.reset(driver, EMULATOR, target);
+
+        assertThat(used).isEqualTo(ResetStrategies.SNAPSHOT);
+        assertThat(driver.commands).contains("mobile: execEmuConsoleCommand {command=avd snapshot load qa-clean}");
+    }
+
+    @Test
+    public void cleanStateReset_skipsDeepLinkThatKeepsAppData() {
+        AppTarget target = AppTarget.from("shop", "android",
+                app("[\"deepLink\", \"clearApp\"]", "\"deepLink\": \"shop://home\","));
+
+        assertThat(resetter.candidates(target, EMULATOR))
+                .containsExactly(ResetStrategies.DEEP_LINK, ResetStrategies.CLEAR_APP);
+        assertThat(resetter.reset(driver, EMULATOR, target, true)).isEqualTo(ResetStrategies.CLEAR_APP);
+        assertThat(driver.commands).noneMatch(command -> command.startsWith("mobile: deepLink"));
+    }
+
+    @Test
+    public void snapshot_isSkippedOnRealDevices() {
+        AppTarget target = AppTarget.from("shop", "android",
+                app("[\"snapshot\", \"reinstall\"]", "\"snapshot\": \"qa-clean\","));
+
+        assertThat(resetter.candidates(target, REAL_DEVICE)).containsExactly(ResetStrategies.REINSTALL);
+        assertThat(resetter.candidates(target, new ImmutableCapabilities("udid", "R58M12ABC")))
+                .as("session capabilities come back without the appium: prefix")
+                .containsExactly(ResetStrategies.REINSTALL);
+        assertThat(resetter.candidates(target, EMULATOR))
+                .containsExactly(ResetStrategies.SNAPSHOT, ResetStrategies.REINSTALL);
+    }
+
+    @Test
+    public void reset_whenEveryStrategyFails_throwsFrameworkException() {
+        AppTarget target = AppTarget.from("shop", "ios", app("[\"clearApp\"]", ""));
+        driver.failing.add("mobile: clearApp");
+
+        assertThatThrownBy(() -> resetter.reset(driver, EMULATOR, target))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("Every reset strategy failed for app [shop]");
+    }
+
+    @Test
+    public void unknownStrategy_isRejected() {
+        AppTarget target = AppTarget.from("shop", "android", app("[\"factoryReset\"]", ""));
+
+        assertThatThrownBy(() -> resetter.candidates(target, EMULATOR))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("Unknown reset strategy [factoryReset]");
+    }
+
+    @Test
+    public void registeredStrategy_takesPartInCostOrdering() {
+        AppResetStrategy relaunch = new AppResetStrategy() {
+            @Override
+            public String getName() {
+                return "relaunch";
+            }
+
+            @Override
+            public int getCost() {
+                return 1;
+            }
+
+            @Override
+            public boolean supports(AppTarget target, Capabilities capabilities) {
+                return true;
+            }
+
+            @Override
+            public void reset(JavascriptExecutor driver, AppTarget target) {
+                driver.executeScript("mobile: activateApp", ResetStrategies.appArgs(target));
+            }
+        };
+        AppTarget target = AppTarget.from("shop", "android", app("[\"clearApp\", \"relaunch\"]", ""));
+
+        assertThat(resetter.register(relaunch).reset(driver, EMULATOR, target)).isSameAs(relaunch);
+    }
+
+    private static JsonObject app(String strategies, String extraResetFields) {
+        String reset = strategies == null ? "{}" : "{" + extraResetFields + " \"strategies\": " + strategies + "}";
+        return com.google.gson.JsonParser.parseString("{"
+                + "\"reset\": " + reset + ","
+                + "\"android\": {\"appPackage\": \"com.shop.android\", \"app\": \"/apps/shop.apk\"},"
+                + "\"ios\": {\"bundleId\": \"com.shop.ios\", \"app\": \"/apps/shop.ipa\"}"
+                + "}").getAsJsonObject();
+    }
+
+    /**
+     * Records {@code mobile:} commands and fails the ones listed in {@link #failing}.
+     */
+    private static final class RecordingDriver implements JavascriptExecutor {
+
+        private final List<String> commands = new ArrayList<>();
+        private final Set<String> failing = new HashSet<>();
+
+        @Override
+        public Object executeScript(String script, Object... args) {
+            commands.add(script + " " + args[0]);
+            if (failing.contains(script)) {
+                throw new IllegalStateException(script + " is not supported");
+            }
+            return null;
+        }
+
+        @Override
+        public Object executeAsyncScript(String script, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
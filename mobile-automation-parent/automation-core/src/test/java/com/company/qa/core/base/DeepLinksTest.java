@@ -0,0 +1,61 @@
+package com.company.qa.core.base;
+
+import com.company.qa.core.exception.FrameworkException;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DeepLinksTest {
+
+    @DeepLink(value = "shop://search?q={query}", ios = "shop://search/{query}")
+    private static final class SearchScreen {
+    }
+
+    @DeepLink(value = "shop://home", android = "intent://home#Intent;scheme=shop;package=com.shop;end")
+    private static final class HomeScreen {
+    }
+
+    private static final class PlainScreen {
+    }
+
+    @Test
+    public void resolve_fillsAndEncodesPlaceholders() {
+        String url = DeepLinks.resolve(SearchScreen.class, "android",
+                Collections.singletonMap("query", "red shoes & socks"));
+
+        assertThat(url).isEqualTo("shop://search?q=red%20shoes%20%26%20socks");
+    }
+
+    @Test
+    public void resolve_percentEncodesPathSegments() {
+        String url = DeepLinks.resolve(SearchScreen.class, "ios",
+                Collections.singletonMap("query", "a b+c/é"));
+
+        assertThat(url).isEqualTo("shop://search/a%20b%2Bc%2F%C3%A9");
+    }
+
+    @Test
+    public void resolve_usesPlatformOverride() {
+        assertThat(DeepLinks.resolve(SearchScreen.class, "ios", Collections.singletonMap("query", "hat")))
+                .isEqualTo("shop://search/hat");
+        assertThat(DeepLinks.resolve(HomeScreen.class, "android", Collections.emptyMap()))
+                .startsWith("intent://home");
+        assertThat(DeepLinks.resolve(HomeScreen.class, "ios", Collections.emptyMap()))
+                .isEqualTo("shop://home");
+    }
+
+    @Test
+    public void resolve_withoutAnnotation_returnsNull() {
+        assertThat(DeepLinks.resolve(PlainScreen.class, "android", Collections.emptyMap())).isNull();
+    }
+
+    @Test
+    public void resolve_withMissingParameter_throws() {
+        assertThatThrownBy(() -> DeepLinks.resolve(SearchScreen.class, "android", Collections.emptyMap()))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("needs parameter [query]");
+    }
+}
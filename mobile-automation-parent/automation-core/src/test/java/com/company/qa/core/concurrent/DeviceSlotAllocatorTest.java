@@ -0,0 +1,163 @@
+package com.company.qa.core.concurrent;
+
+import com.company.qa.core.exception.FrameworkException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DeviceSlotAllocatorTest {
+
+    private DeviceSlotAllocator allocator;
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseSlot() {
+        if (allocator != null) {
+            allocator.releaseCurrent();
+        }
+    }
+
+    @Test
+    public void acquire_isIdempotentWithinScenario() {
+        allocator = new DeviceSlotAllocator(slots(2), 1000);
+
+        DeviceSlot first = allocator.acquire();
+
+        assertThat(allocator.acquire()).isSameAs(first);
+        assertThat(DeviceSlotAllocator.current()).isSameAs(first);
+        assertThat(allocator.available()).isEqualTo(1);
+
+        allocator.releaseCurrent();
+
+        assertThat(DeviceSlotAllocator.current()).isNull();
+        assertThat(allocator.available()).isEqualTo(2);
+    }
+
+    @Test
+    public void acquire_whenAllSlotsLeased_timesOut() throws Exception {
+        allocator = new DeviceSlotAllocator(slots(1), 50);
+        Thread holder = new Thread(allocator::acquire);
+        holder.start();
+        holder.join();
+
+        assertThatThrownBy(allocator::acquire)
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("all 1 slots are leased");
+    }
+
+    @Test
+    public void scenarios_neverExceedSlotCount() {
+        allocator = new DeviceSlotAllocator(slots(2), 5000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<ScenarioExecutor.Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> {
+                allocator.acquire();
+                try {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    running.decrementAndGet();
+                } finally {
+                    allocator.releaseCurrent();
+                }
+            });
+        }
+
+        List<Throwable> failures = new ScenarioExecutor(ScenarioExecutor.Mode.PLATFORM, 8).runAll(tasks);
+
+        assertThat(failures).isEmpty();
+        assertThat(peak.get()).isEqualTo(2);
+        assertThat(allocator.available()).isEqualTo(2);
+    }
+
+    @Test
+    public void acquire_whenProvisioningFails_returnsSlotToPool() {
+        allocator = new DeviceSlotAllocator(slots(1), 1000, slot -> {
+            throw new FrameworkException("emulator did not boot");
+        });
+
+        assertThatThrownBy(allocator::acquire)
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("emulator did not boot");
+        assertThat(DeviceSlotAllocator.current()).isNull();
+        assertThat(allocator.available()).isEqualTo(1);
+    }
+
+    @Test
+    public void slotCapabilities_dependOnPlatform() {
+        DeviceSlot slot = new DeviceSlot(1, "emulator-5556", 8201, 8101);
+
+        Map<String, Object> android = slot.capabilities("android");
+        Map<String, Object> ios = slot.capabilities("ios");
+
+        assertThat(android).containsEntry("udid", "emulator-5556")
+                .containsEntry("systemPort", 8201)
+                .doesNotContainKey("wdaLocalPort");
+        assertThat(ios).containsEntry("wdaLocalPort", 8101)
+                .doesNotContainKey("systemPort");
+    }
+
+    @Test
+    public void runAll_collectsFailuresInTaskOrder() {
+        IllegalStateException first = new IllegalStateException("first");
+        AssertionError second = new AssertionError("second");
+        List<ScenarioExecutor.Task> tasks = Arrays.asList(
+                () -> { throw first; },
+                () -> { },
+                () -> { throw second; });
+
+        List<Throwable> failures = new ScenarioExecutor(ScenarioExecutor.Mode.PLATFORM, 2).runAll(tasks);
+
+        assertThat(failures).containsExactly(first, second);
+    }
+
+    @Test
+    public void runAll_retriesOnlyFailedTasks() {
+        AtomicInteger passingRuns = new AtomicInteger();
+        AtomicInteger flakyRuns = new AtomicInteger();
+        AtomicInteger brokenRuns = new AtomicInteger();
+        AssertionError broken = new AssertionError("broken");
+        List<ScenarioExecutor.Task> tasks = Arrays.asList(
+                passingRuns::incrementAndGet,
+                () -> {
+                    if (flakyRuns.incrementAndGet() < 2) {
+                        throw new IllegalStateException("flaky");
+                    }
+                },
+                () -> {
+                    brokenRuns.incrementAndGet();
+                    throw broken;
+                });
+
+        List<Throwable> failures = new ScenarioExecutor(ScenarioExecutor.Mode.PLATFORM, 3).runAll(tasks, 2);
+
+        assertThat(failures).containsExactly(broken);
+        assertThat(passingRuns.get()).isEqualTo(1);
+        assertThat(flakyRuns.get()).isEqualTo(2);
+        assertThat(brokenRuns.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void virtualMode_fallsBackWhenUnavailable() {
+        ScenarioExecutor executor = new ScenarioExecutor(ScenarioExecutor.Mode.VIRTUAL, 2);
+
+        assertThat(executor.getMode()).isEqualTo(VirtualThreads.isAvailable()
+                ? ScenarioExecutor.Mode.VIRTUAL : ScenarioExecutor.Mode.PLATFORM);
+    }
+
+    private static List<DeviceSlot> slots(int count) {
+        List<DeviceSlot> slots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            slots.add(new DeviceSlot(i, null, 8200 + i, 8100 + i));
+        }
+        return slots;
+    }
+}
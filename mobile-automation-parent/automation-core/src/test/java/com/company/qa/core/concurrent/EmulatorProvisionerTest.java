@@ -0,0 +1,216 @@
+package com.company.qa.core.concurrent;
+
+import com.company.qa.core.config.EmulatorConfig;
+import com.company.qa.core.config.TestConfigs;
+import com.company.qa.core.exception.FrameworkException;
+import com.company.qa.core.util.CommandLine;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmulatorProvisionerTest {
+
+    private static final DeviceSlot SLOT = new DeviceSlot(1, "emulator-5556", 8201, 8101);
+
+    @Test
+    public void prepare_bootsEmulatorFromSnapshotOnItsOwnPort() {
+        ScriptedProvisioner provisioner = new ScriptedProvisioner(config("keepRunning: true"));
+        provisioner.bootPolls = 2;
+
+        provisioner.prepare(SLOT);
+
+        assertThat(provisioner.started).hasSize(1);
+        assertThat(provisioner.started.get(0)).containsSubsequence("-avd", "Pixel_6_API_33")
+                .containsSubsequence("-port", "5556")
+                .containsSubsequence("-snapshot", "qa-clean")
+                .contains("-read-only", "-no-snapshot-save", "-no-window");
+        assertThat(provisioner.commands).noneMatch(command -> command.contains("snapshot load"));
+    }
+
+    @Test
+    public void prepare_onReadyEmulator_onlyChecksItIsStillUp() {
+        ScriptedProvisioner provisioner = new ScriptedProvisioner(config("keepRunning: true"));
+        provisioner.prepare(SLOT);
+        provisioner.commands.clear();
+
+        provisioner.prepare(SLOT);
+
+        assertThat(provisioner.started).hasSize(1);
+        assertThat(provisioner.commands).containsExactly("-s emulator-5556 shell getprop sys.boot_completed");
+    }
+
+    @Test
+    public void prepare_reusesEmulatorLeftRunningByEarlierShard() {
+        ScriptedProvisioner provisioner = new ScriptedProvisioner(config("keepRunning: true"));
+        provisioner.running = true;
+
+        provisioner.prepare(SLOT);
+
+        assertThat(provisioner.started).isEmpty();
+        assertThat(provisioner.commands).contains("-s emulator-5556 emu avd snapshot load qa-clean");
+    }
+
+    @Test
+    public void prepare_reportsEveryRestoreFromSnapshot() {
+        ScriptedProvisioner provisioner = new ScriptedProvisioner(config("keepRunning: true"));
+        provisioner.prepare(SLOT);
+        provisioner.prepare(SLOT);
+        assertThat(provisioner.resets).containsExactly("emulator-5556");
+
+        provisioner.running = false;
+        provisioner.prepare(SLOT);
+
+        assertThat(provisioner.started).hasSize(2);
+        assertThat(provisioner.resets).containsExactly("emulator-5556", "emulator-5556");
+    }
+
+    @Test
+    public void prepare_leavesUnmanagedSlotsAlone() {
+        ScriptedProvisioner provisioner = new ScriptedProvisioner(config("keepRunning: true"));
+
+        provisioner.prepare(new DeviceSlot(0, "R58M12ABC", 8200, 8100));
+        provisioner.prepare(new DeviceSlot(2, null, 8202, 8102));
+
+        assertThat(provisioner.commands).isEmpty();
+        assertThat(provisioner.started).isEmpty();
+    }
+
+    @Test
+    public void prepare_whenEmulatorExitsDuringBoot_fails() {
+        ScriptedProvisioner provisioner = new ScriptedProvisioner(config("keepRunning: true"));
+        provisioner.bootPolls = Integer.MAX_VALUE;
+        provisioner.crashOnStart = true;
+
+        assertThatThrownBy(() -> provisioner.prepare(SLOT))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("Emulator [emulator-5556] exited with 1 while booting");
+    }
+
+    @Test
+    public void close_killsEmulatorsOnlyWhenNotKeptForNextShard() {
+        ScriptedProvisioner kept = new ScriptedProvisioner(config("keepRunning: true"));
+        kept.prepare(SLOT);
+        kept.close();
+
+        ScriptedProvisioner killed = new ScriptedProvisioner(config("keepRunning: false"));
+        killed.prepare(SLOT);
+        killed.close();
+
+        assertThat(kept.commands).doesNotContain("-s emulator-5556 emu kill");
+        assertThat(killed.commands).contains("-s emulator-5556 emu kill");
+    }
+
+    @Test
+    public void udidFor_usesEvenConsolePorts() {
+        EmulatorConfig config = config("keepRunning: true");
+
+        assertThat(EmulatorProvisioner.udidFor(config, 0)).isEqualTo("emulator-5554");
+        assertThat(EmulatorProvisioner.udidFor(config, 3)).isEqualTo("emulator-5560");
+    }
+
+    private static EmulatorConfig config(String extra) {
+        return TestConfigs.fromYaml("devices:\n  emulators:\n    avd: Pixel_6_API_33\n    snapshot: qa-clean\n"
+                + "    bootTimeoutSeconds: 5\n    " + extra + "\n").getDevices().getEmulators();
+    }
+
+    /**
+     * Provisioner whose adb answers come from a tiny emulator model instead of real processes.
+     */
+    private static final class ScriptedProvisioner extends EmulatorProvisioner {
+
+        private final List<String> commands = new ArrayList<>();
+        private final List<List<String>> started = new ArrayList<>();
+        private final List<String> resets;
+        private boolean running;
+        private boolean crashOnStart;
+        private int bootPolls;
+
+        ScriptedProvisioner(EmulatorConfig config) {
+            this(config, new ArrayList<>());
+        }
+
+        private ScriptedProvisioner(EmulatorConfig config, List<String> resets) {
+            super(config, Collections.singletonList("emulator-5556"), 1, resets::add);
+            this.resets = resets;
+        }
+
+        @Override
+        CommandLine.Result exec(List<String> command) {
+            String args = String.join(" ", command.subList(1, command.size()));
+            commands.add(args);
+            if (args.endsWith("getprop sys.boot_completed")) {
+                if (!running) {
+                    return new CommandLine.Result(1, "adb: device 'emulator-5556' not found");
+                }
+                return new CommandLine.Result(0, bootPolls-- > 0 ? "\n" : "1\n");
+            }
+            if (args.endsWith("emu kill")) {
+                running = false;
+            }
+            return new CommandLine.Result(0, "OK\n");
+        }
+
+        @Override
+        Process start(List<String> command, Path log) {
+            started.add(command);
+            running = !crashOnStart;
+            return new FakeProcess(!crashOnStart);
+        }
+    }
+
+    private static final class FakeProcess extends Process {
+
+        private final boolean alive;
+
+        FakeProcess(boolean alive) {
+            this.alive = alive;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return new ByteArrayOutputStream();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public InputStream getErrorStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public int waitFor() {
+            return exitValue();
+        }
+
+        @Override
+        public int exitValue() {
+            if (alive) {
+                throw new IllegalThreadStateException("running");
+            }
+            return 1;
+        }
+
+        @Override
+        public boolean isAlive() {
+            return alive;
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
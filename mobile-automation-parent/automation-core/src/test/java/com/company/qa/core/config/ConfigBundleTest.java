@@ -0,0 +1,108 @@
+package com.company.qa.core.config;
+
+import com.company.qa.core.exception.ConfigurationException;
+import com.google.gson.JsonElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConfigBundleTest {
+
+    private static final String YAML = "appium:\n  url: \"http://127.0.0.1:4723\"\n"
+            + "timeout:\n  implicit: 10\n  ratio: 1.5\n  big: 9999999999\n"
+            + "screenshot:\n  onFailure: true\n"
+            + "tags: [smoke, regression]\n"
+            + "empty:\n";
+    private static final String JSON = "{\"n11\":{\"url\":\"https://example.com\",\"weight\":1.50,"
+            + "\"elements\":{\"searchBox\":\"//*[@id='search']\"},\"flags\":[true,null,3]}}";
+
+    private Path resourceDir;
+    private Path bundleFile;
+
+    @BeforeMethod
+    public void createResources() throws Exception {
+        resourceDir = Files.createTempDirectory("resources");
+        write("config/default.yaml", YAML);
+        write("config/staging.yml", "retry:\n  max: 3\n");
+        write("dictionary/pages.json", JSON);
+        write("dictionary/readme.txt", "not bundled");
+        bundleFile = resourceDir.resolve(ConfigBundle.RESOURCE);
+    }
+
+    @Test
+    public void compile_bundlesYamlAndJsonSources() {
+        ConfigBundleCompiler.compile(resourceDir, bundleFile);
+
+        assertThat(ConfigBundle.load(bundleFile).names())
+                .containsExactlyInAnyOrder("config/default.yaml", "config/staging.yml", "dictionary/pages.json");
+    }
+
+    @Test
+    public void yaml_matchesSnakeYamlResult() {
+        ConfigBundleCompiler.compile(resourceDir, bundleFile);
+
+        Map<String, Object> bundled = ConfigBundle.load(bundleFile).yaml("config/default.yaml");
+
+        assertThat(bundled).isEqualTo(ConfigReader.load(resourceDir.resolve("config/default.yaml")));
+    }
+
+    @Test
+    public void json_matchesGsonResult() {
+        ConfigBundleCompiler.compile(resourceDir, bundleFile);
+
+        JsonElement bundled = ConfigBundle.load(bundleFile).json("dictionary/pages.json");
+
+        assertThat(bundled).isEqualTo(com.google.gson.JsonParser.parseString(JSON));
+        assertThat(bundled.getAsJsonObject().getAsJsonObject("n11").get("weight").getAsString())
+                .isEqualTo("1.50");
+    }
+
+    @Test
+    public void lookups_returnIndependentCopies() {
+        ConfigBundleCompiler.compile(resourceDir, bundleFile);
+        ConfigBundle bundle = ConfigBundle.load(bundleFile);
+
+        bundle.yaml("config/default.yaml").clear();
+
+        assertThat(bundle.yaml("config/default.yaml")).containsKey("appium");
+    }
+
+    @Test
+    public void unknownResource_returnsNull() {
+        ConfigBundleCompiler.compile(resourceDir, bundleFile);
+        ConfigBundle bundle = ConfigBundle.load(bundleFile);
+
+        assertThat(bundle.yaml("config/prod.yaml")).isNull();
+        assertThat(bundle.json("dictionary/apps.json")).isNull();
+    }
+
+    @Test
+    public void malformedSource_failsCompilation() throws Exception {
+        write("dictionary/broken.json", "{\"unclosed\": ");
+
+        assertThatThrownBy(() -> ConfigBundleCompiler.compile(resourceDir, bundleFile))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("broken.json");
+    }
+
+    @Test
+    public void nonBundleFile_rejected() throws Exception {
+        write("other.bin", "garbage!");
+
+        assertThatThrownBy(() -> ConfigBundle.load(resourceDir.resolve("other.bin")))
+                .isInstanceOf(ConfigurationException.class);
+    }
+
+    private void write(String relativePath, String content) throws Exception {
+        Path file = resourceDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,137 @@
+package com.company.qa.core.config;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigLayersTest {
+
+    private Path configDir;
+    private Map<String, String> environment;
+    private Properties systemProperties;
+
+    @BeforeMethod
+    public void createConfigFiles() throws Exception {
+        configDir = Files.createTempDirectory("config");
+        write("default.yaml", "appium:\n  url: \"http://default:4723\"\n"
+                + "retry:\n  max: 2\n  delayMs: 1000\n"
+                + "api:\n  pool:\n    maxConnections: 20\n");
+        write("staging.yaml", "retry:\n  max: 3\n");
+        environment = new HashMap<>();
+        systemProperties = new Properties();
+    }
+
+    @Test
+    public void envYaml_overridesDefaults() {
+        EnvironmentConfig config = load();
+
+        assertThat(config.getRetryMax()).isEqualTo(3);
+        assertThat(config.getRetryDelayMs()).isEqualTo(1000L);
+    }
+
+    @Test
+    public void envVariable_overridesYaml() {
+        environment.put("QA_RETRY_MAX", "5");
+        environment.put("QA_API_POOL_MAX_CONNECTIONS", "64");
+
+        EnvironmentConfig config = load();
+
+        assertThat(config.getRetryMax()).isEqualTo(5);
+        assertThat(config.getApiMaxConnections()).isEqualTo(64);
+    }
+
+    @Test
+    public void envVariableWithoutYamlKey_becomesDottedKey() {
+        environment.put("QA_METRICS_PORT", "9464");
+
+        assertThat(load().getMetricsPort()).isEqualTo(9464);
+    }
+
+    @Test
+    public void unprefixedEnvVariables_ignored() {
+        environment.put("RETRY_MAX", "9");
+
+        assertThat(load().getRetryMax()).isEqualTo(3);
+    }
+
+    @Test
+    public void systemProperty_overridesEnvVariable() {
+        environment.put("QA_RETRY_MAX", "5");
+        systemProperties.setProperty("retry.max", "7");
+
+        assertThat(load().getRetryMax()).isEqualTo(7);
+    }
+
+    @Test
+    public void systemProperties_onlyCopiedForConfigKeys() {
+        Properties properties = new Properties();
+        properties.setProperty("java.version", "17");
+        properties.setProperty("user.dir", "/work");
+        properties.setProperty("retry.max", "4");
+        properties.setProperty("data.seed", "42");
+        properties.setProperty("custom.flag", "on");
+        Map<String, Object> tree = Collections.singletonMap("custom",
+                Collections.singletonMap("other", "x"));
+
+        Map<String, String> values = ConfigLayers.resolve(tree, Collections.emptyMap(), properties);
+
+        assertThat(values).containsOnlyKeys("custom.other", "custom.flag", "retry.max", "data.seed");
+    }
+
+    @Test
+    public void legacyAppiumUrlProperty_overridesAppiumUrl() {
+        environment.put("QA_APPIUM_URL", "http://env:4723");
+        systemProperties.setProperty("appiumUrl", "http://property:4723");
+
+        assertThat(load().getAppiumUrl()).isEqualTo("http://property:4723");
+    }
+
+    @Test
+    public void blankOverrides_ignored() {
+        environment.put("QA_RETRY_MAX", "");
+        systemProperties.setProperty("retry.max", "");
+        systemProperties.setProperty("appiumUrl", " ");
+
+        EnvironmentConfig config = load();
+
+        assertThat(config.getRetryMax()).isEqualTo(3);
+        assertThat(config.getAppiumUrl()).isEqualTo("http://default:4723");
+    }
+
+    @Test
+    public void reload_picksUpChangedSystemProperties() {
+        EnvironmentConfig config = load();
+        systemProperties.setProperty("retry.max", "4");
+
+        assertThat(config.reload()).isTrue();
+        assertThat(config.getRetryMax()).isEqualTo(4);
+    }
+
+    @Test
+    public void nestedYamlKeys_areFlattened() {
+        Map<String, Object> pool = Collections.singletonMap("maxConnections", 8);
+        Map<String, Object> tree = Collections.singletonMap("api",
+                Collections.singletonMap("pool", pool));
+
+        Map<String, String> values = ConfigLayers.resolve(tree, Collections.emptyMap(), new Properties());
+
+        assertThat(values).containsExactly(Map.entry("api.pool.maxConnections", "8"));
+    }
+
+    private EnvironmentConfig load() {
+        return new EnvironmentConfig("staging", configDir, () -> environment, () -> systemProperties);
+    }
+
+    private void write(String fileName, String content) throws Exception {
+        Files.write(configDir.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.qa.core.config;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EnvironmentConfigReloadTest {
+
+    private Path configDir;
+    private EnvironmentConfig config;
+
+    @BeforeMethod
+    public void createConfig() throws Exception {
+        configDir = Files.createTempDirectory("config");
+        write("default.yaml", "timeout:\n  explicit: 15\napi:\n  pool:\n    maxConnections: 20\n");
+        write("soak.yaml", "timeout:\n  implicit: 3\n");
+        config = new EnvironmentConfig("soak", configDir);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopWatching() {
+        config.disableHotReload();
+    }
+
+    @Test
+    public void configDir_envFileOverridesDefaults() {
+        assertThat(config.getExplicitTimeout()).isEqualTo(15);
+        assertThat(config.getImplicitTimeout()).isEqualTo(3);
+        assertThat(config.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void reload_publishesChangedValuesAndNotifiesListeners() throws Exception {
+        List<Integer> notified = new CopyOnWriteArrayList<>();
+        config.addChangeListener(changed -> notified.add(changed.getExplicitTimeout()));
+
+        write("default.yaml", "timeout:\n  explicit: 30\n");
+
+        assertThat(config.reload()).isTrue();
+        assertThat(config.getExplicitTimeout()).isEqualTo(30);
+        assertThat(config.getImplicitTimeout()).isEqualTo(3);
+        assertThat(config.getVersion()).isEqualTo(2);
+        assertThat(notified).containsExactly(30);
+    }
+
+    @Test
+    public void reload_withoutChanges_keepsSnapshot() {
+        List<EnvironmentConfig> notified = new CopyOnWriteArrayList<>();
+        config.addChangeListener(notified::add);
+
+        assertThat(config.reload()).isFalse();
+        assertThat(config.getVersion()).isEqualTo(1);
+        assertThat(notified).isEmpty();
+    }
+
+    @Test
+    public void reload_withMalformedYaml_keepsCurrentValues() throws Exception {
+        write("soak.yaml", "timeout: [unclosed\n");
+
+        assertThat(config.reload()).isFalse();
+        assertThat(config.getImplicitTimeout()).isEqualTo(3);
+    }
+
+    @Test
+    public void removedListener_isNotNotified() throws Exception {
+        List<EnvironmentConfig> notified = new CopyOnWriteArrayList<>();
+        ConfigChangeListener listener = notified::add;
+        config.addChangeListener(listener);
+        config.removeChangeListener(listener);
+
+        write("soak.yaml", "timeout:\n  implicit: 4\n");
+
+        assertThat(config.reload()).isTrue();
+        assertThat(notified).isEmpty();
+    }
+
+    @Test
+    public void hotReload_appliesFileChangesWithoutExplicitReload() throws Exception {
+        config.enableHotReload();
+
+        write("soak.yaml", "api:\n  pool:\n    maxConnections: 4\n");
+
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (config.getApiMaxConnections() != 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(config.getApiMaxConnections()).isEqualTo(4);
+        assertThat(config.getVersion()).isGreaterThan(1);
+    }
+
+    private void write(String fileName, String content) throws Exception {
+        Files.write(configDir.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
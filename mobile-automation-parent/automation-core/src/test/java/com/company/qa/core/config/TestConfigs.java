@@ -0,0 +1,35 @@
+package com.company.qa.core.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Properties;
+
+/**
+ * Builds isolated {@link EnvironmentConfig}s for tests outside this package.
+ */
+public final class TestConfigs {
+
+    private TestConfigs() {
+    }
+
+    /**
+     * Loads a configuration from a {@code default.yaml} with the given content,
+     * ignoring the real environment and system properties.
+     *
+     * @param yaml the YAML content
+     * @return the bound configuration
+     */
+    public static EnvironmentConfig fromYaml(String yaml) {
+        try {
+            Path dir = Files.createTempDirectory("config");
+            Files.write(dir.resolve("default.yaml"), yaml.getBytes(StandardCharsets.UTF_8));
+            return new EnvironmentConfig("test", dir, Collections::emptyMap, Properties::new);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.company.qa.core.config;
+
+import com.company.qa.core.concurrent.DeviceSlot;
+import com.company.qa.core.concurrent.DeviceSlotAllocator;
+import com.company.qa.core.exception.ConfigurationException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TypedConfigTest {
+
+    private Path configDir;
+    private Map<String, String> environment;
+
+    @BeforeMethod
+    public void createConfigDir() throws Exception {
+        configDir = Files.createTempDirectory("config");
+        environment = new HashMap<>();
+    }
+
+    @Test
+    public void validConfig_bindsTypedSections() throws Exception {
+        write("timeout:\n  implicit: 5\n  explicit: 20\n"
+                + "retry:\n  max: 1\n  delayMs: 250\n"
+                + "appium:\n  url: \"http://grid:4723/wd/hub\"\n"
+                + "api:\n  pool:\n    maxConnections: 8\n    keepAliveMs: 1000\n");
+
+        EnvironmentConfig config = load();
+
+        assertThat(config.getTimeouts().getImplicitSeconds()).isEqualTo(5);
+        assertThat(config.getTimeouts().getExplicitSeconds()).isEqualTo(20);
+        assertThat(config.getRetry().getMax()).isEqualTo(1);
+        assertThat(config.getRetry().getDelayMs()).isEqualTo(250L);
+        assertThat(config.getAppium().getUrl()).isEqualTo("http://grid:4723/wd/hub");
+        assertThat(config.getApiPool().getMaxConnections()).isEqualTo(8);
+        assertThat(config.getApiPool().getKeepAliveMs()).isEqualTo(1000L);
+        assertThat(config.getExplicitTimeout()).isEqualTo(20);
+    }
+
+    @Test
+    public void missingSections_useDefaults() throws Exception {
+        write("reporting:\n  log_level: INFO\n");
+
+        EnvironmentConfig config = load();
+
+        assertThat(config.getTimeouts().getExplicitSeconds()).isEqualTo(15);
+        assertThat(config.getRetry().getMax()).isEqualTo(2);
+        assertThat(config.getAppium().getUrl()).isEqualTo("http://127.0.0.1:4723");
+        assertThat(config.getApiPool().getMaxConnections()).isEqualTo(20);
+    }
+
+    @Test
+    public void devicesSection_defaultsSlotsToUdidCount() throws Exception {
+        write("devices:\n  udids: [emulator-5554, emulator-5556]\n  executor: virtual\n");
+
+        DevicesConfig devices = load().getDevices();
+
+        assertThat(devices.getSlots()).isEqualTo(2);
+        assertThat(devices.getUdids()).containsExactly("emulator-5554", "emulator-5556");
+        assertThat(devices.getSystemPortBase()).isEqualTo(8200);
+        assertThat(devices.getExecutor()).isEqualTo("virtual");
+    }
+
+    @Test
+    public void devicesSection_withEmulators_givesExtraSlotsEmulatorUdids() throws Exception {
+        write("devices:\n  slots: 3\n  udids: [R58M12ABC]\n  emulators:\n    avd: Pixel_6_API_33\n");
+
+        DevicesConfig devices = load().getDevices();
+
+        assertThat(devices.getEmulators().isEnabled()).isTrue();
+        assertThat(devices.getEmulators().getSnapshot()).isEqualTo("default_boot");
+        assertThat(DeviceSlotAllocator.slotsFrom(devices)).extracting(DeviceSlot::getUdid)
+                .containsExactly("R58M12ABC", "emulator-5554", "emulator-5556");
+    }
+
+    @Test
+    public void devicesSection_withUnknownExecutor_isRejected() throws Exception {
+        write("devices:\n  executor: fibers\n");
+
+        assertThatThrownBy(this::load)
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("devices.executor");
+    }
+
+    @Test
+    public void invalidValues_failWithEveryBadKey() throws Exception {
+        write("timeout:\n  explicit: fifteen\n"
+                + "retry:\n  max: -1\n"
+                + "appium:\n  url: \"localhost:4723\"\n");
+
+        assertThatThrownBy(this::load)
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("timeout.explicit: expected an integer but was 'fifteen'")
+                .hasMessageContaining("retry.max: must be at least 0 but was -1")
+                .hasMessageContaining("appium.url: expected an http(s) URL but was 'localhost:4723'");
+    }
+
+    @Test
+    public void invalidEnvVariableOverride_isRejected() throws Exception {
+        write("api:\n  pool:\n    maxConnections: 8\n");
+        environment.put("QA_API_POOL_MAX_CONNECTIONS", "0");
+
+        assertThatThrownBy(this::load)
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("api.pool.maxConnections: must be at least 1 but was 0");
+    }
+
+    @Test
+    public void untypedGetter_withInvalidNumber_throwsInsteadOfDefaulting() throws Exception {
+        write("metrics:\n  port: http\n");
+
+        EnvironmentConfig config = load();
+
+        assertThatThrownBy(config::getMetricsPort)
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("metrics.port");
+    }
+
+    @Test
+    public void reload_withInvalidValue_keepsBoundSections() throws Exception {
+        write("retry:\n  max: 3\n");
+        EnvironmentConfig config = load();
+        RetryConfig before = config.getRetry();
+
+        write("retry:\n  max: lots\n");
+
+        assertThat(config.reload()).isFalse();
+        assertThat(config.getRetry()).isSameAs(before);
+    }
+
+    private EnvironmentConfig load() {
+        return new EnvironmentConfig("test", configDir, () -> environment, Properties::new);
+    }
+
+    private void write(String content) throws Exception {
+        Files.write(configDir.resolve("default.yaml"), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+package com.company.qa.core.context;
+
+import com.company.qa.core.concurrent.ContextPropagatingExecutor;
+import org.apache.logging.log4j.ThreadContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScenarioScopeTest {
+
+    private static final ScenarioLocal<String> DEVICE = ScenarioLocal.create();
+
+    private ExecutorService pool;
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setUp() {
+        pool = Executors.newSingleThreadExecutor();
+        executor = new ContextPropagatingExecutor(pool);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        ScenarioScope current = ScenarioScope.current();
+        if (current != null) {
+            current.detach();
+        }
+        TestContext.reset();
+        DEVICE.remove();
+        ThreadContext.clearMap();
+    }
+
+    @Test
+    public void attachedScope_visibleToExecutorTasks() throws Exception {
+        ScenarioScope scope = new ScenarioScope();
+        scope.attach();
+        DEVICE.set("pixel-6");
+        TestContext.put("user", "alice");
+
+        String seen = executor.submit(() -> DEVICE.get() + "/" + TestContext.get("user")).get();
+
+        assertThat(seen).isEqualTo("pixel-6/alice");
+    }
+
+    @Test
+    public void writesFromTasks_visibleToScenarioThread() throws Exception {
+        ScenarioScope scope = new ScenarioScope();
+        scope.attach();
+
+        executor.submit(() -> TestContext.put("orderId", 17)).get();
+
+        assertThat(TestContext.<Integer>get("orderId")).isEqualTo(17);
+    }
+
+    @Test
+    public void workerThread_restoredAfterTask() throws Exception {
+        ScenarioScope scope = new ScenarioScope();
+        scope.attach();
+        DEVICE.set("pixel-6");
+        executor.submit(() -> DEVICE.get()).get();
+
+        String afterwards = pool.submit(() -> ScenarioScope.current() + "/" + DEVICE.get()).get();
+
+        assertThat(afterwards).isEqualTo("null/null");
+    }
+
+    @Test
+    public void withoutScope_behavesLikeThreadLocal() throws Exception {
+        DEVICE.set("main");
+
+        String seen = executor.submit(() -> DEVICE.get()).get();
+
+        assertThat(DEVICE.get()).isEqualTo("main");
+        assertThat(seen).isNull();
+    }
+
+    @Test
+    public void logContext_propagatedToTasks() throws Exception {
+        ThreadContext.put("scenario", "Login works");
+
+        String seen = executor.submit(() -> ThreadContext.get("scenario")).get();
+        String afterwards = pool.submit(() -> ThreadContext.get("scenario")).get();
+
+        assertThat(seen).isEqualTo("Login works");
+        assertThat(afterwards).isNull();
+    }
+
+    @Test
+    public void detach_leavesOtherScopeAttached() {
+        ScenarioScope first = new ScenarioScope();
+        ScenarioScope second = new ScenarioScope();
+        first.attach();
+        second.attach();
+
+        first.detach();
+
+        assertThat(ScenarioScope.current()).isSameAs(second);
+    }
+}
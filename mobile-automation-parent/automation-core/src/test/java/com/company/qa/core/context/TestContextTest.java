@@ -8,9 +8,13 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestContextTest {
 
+    private static final ContextKey<Integer> USER_ID = ContextKey.of("test.userId", Integer.class);
+    private static final ContextKey<String> TOKEN = ContextKey.of("test.token", String.class);
+
     @BeforeMethod
     public void setUp() {
         TestContext.reset();
@@ -197,4 +201,63 @@ public class TestContextTest {
         // Main thread should NOT see other thread's key
         assertThat(TestContext.containsKey("threadKey")).isFalse();
     }
+
+    @Test
+    public void typedKey_putAndGetWithoutCasts() {
+        TestContext.put(USER_ID, 42);
+        TestContext.put(TOKEN, "abc");
+
+        int userId = TestContext.get(USER_ID);
+        assertThat(userId).isEqualTo(42);
+        assertThat(TestContext.get(TOKEN)).isEqualTo("abc");
+        assertThat(TestContext.containsKey(USER_ID)).isTrue();
+    }
+
+    @Test
+    public void typedKey_sharesSlotWithStringApi() {
+        TestContext.put("test.userId", 7);
+        assertThat(TestContext.get(USER_ID)).isEqualTo(7);
+
+        TestContext.remove(USER_ID);
+        assertThat(TestContext.containsKey("test.userId")).isFalse();
+        assertThat(TestContext.get(USER_ID, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    public void typedKey_clearedWithContext() {
+        TestContext.put(TOKEN, "abc");
+        TestContext.clear();
+
+        assertThat(TestContext.get(TOKEN)).isNull();
+    }
+
+    @Test
+    public void registeringSameNameWithOtherType_rejected() {
+        assertThat(ContextKey.of("test.userId", Integer.class)).isSameAs(USER_ID);
+        assertThatThrownBy(() -> ContextKey.of("test.userId", String.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Integer");
+    }
+
+    @Test
+    public void stringPutOfWrongTypeForTypedKey_rejected() {
+        assertThatThrownBy(() -> TestContext.put("test.token", 5))
+                .isInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    public void valuePutByNameBeforeKeyRegistered_visibleThroughKey() {
+        TestContext.put("test.lateKey", "early");
+        TestContext.put("test.lateMismatch", "early");
+
+        ContextKey<String> lateKey = ContextKey.of("test.lateKey", String.class);
+        ContextKey<Integer> lateMismatch = ContextKey.of("test.lateMismatch", Integer.class);
+
+        assertThat(TestContext.get(lateKey)).isEqualTo("early");
+        assertThat(TestContext.containsKey(lateKey)).isTrue();
+        TestContext.put(lateKey, "late");
+        assertThat(TestContext.<String>get("test.lateKey")).isEqualTo("late");
+        assertThatThrownBy(() -> TestContext.get(lateMismatch))
+                .isInstanceOf(ClassCastException.class);
+    }
 }
@@ -4,8 +4,10 @@ import org.testng.annotations.Test;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestDataFactoryTest {
 
@@ -72,6 +74,22 @@ public class TestDataFactoryTest {
         assertThat(number).isEqualTo(5);
     }
 
+    @Test
+    public void randomNumber_acrossWholeIntRange() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(TestDataFactory.randomNumber(Integer.MIN_VALUE, Integer.MAX_VALUE))
+                    .isLessThan(Integer.MAX_VALUE);
+        }
+        assertThat(TestDataFactory.randomNumber(7, 7)).isEqualTo(7);
+    }
+
+    @Test
+    public void randomNumber_minGreaterThanMax_rejected() {
+        assertThatThrownBy(() -> TestDataFactory.randomNumber(10, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("10 > 1");
+    }
+
     @Test
     public void multipleCalls_returnDifferentValues_email() {
         Set<String> emails = new HashSet<>();
@@ -108,4 +126,44 @@ public class TestDataFactoryTest {
             assertThat(email).contains("@");
         }
     }
+
+    @Test
+    public void reseed_sameSeed_producesSameSequence() {
+        TestDataFactory.reseed(42L);
+        String firstEmail = TestDataFactory.randomEmail();
+        String firstName = TestDataFactory.randomName();
+        int firstNumber = TestDataFactory.randomNumber(1, 10000);
+
+        TestDataFactory.reseed(42L);
+        assertThat(TestDataFactory.randomEmail()).isEqualTo(firstEmail);
+        assertThat(TestDataFactory.randomName()).isEqualTo(firstName);
+        assertThat(TestDataFactory.randomNumber(1, 10000)).isEqualTo(firstNumber);
+    }
+
+    @Test
+    public void pooledValues_returnNonEmptyStrings() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(TestDataFactory.pooledEmail()).contains("@");
+            assertThat(TestDataFactory.pooledName()).isNotEmpty();
+            assertThat(TestDataFactory.pooledPhone()).isNotEmpty();
+        }
+    }
+
+    @Test
+    public void pooledEmail_concurrentDraws_neverReturnNull() throws Exception {
+        Thread[] threads = new Thread[4];
+        Set<String> emails = ConcurrentHashMap.newKeySet();
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    emails.add(TestDataFactory.pooledEmail());
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(emails).isNotEmpty().doesNotContainNull();
+    }
 }
@@ -0,0 +1,88 @@
+package com.company.qa.core.data;
+
+import com.company.qa.core.api.ApiClient;
+import com.company.qa.core.exception.FrameworkException;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestDataSeederTest {
+
+    private HttpServer server;
+    private ApiClient apiClient;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/users", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(201, -1);
+            exchange.close();
+        });
+        server.createContext("/broken", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+        apiClient = new ApiClient("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void seed_postsEveryRecordAndMakesThemLeasable() {
+        TestDataSeeder seeder = new TestDataSeeder(apiClient, 4);
+        int before = requests.get();
+
+        int created = seeder.seed(UserRecord.class, "/users", 10, TestDataFactory::randomUser);
+
+        assertThat(created).isEqualTo(10);
+        assertThat(requests.get() - before).isEqualTo(10);
+        assertThat(seeder.available(UserRecord.class)).isEqualTo(10);
+        assertThat(seeder.lease(UserRecord.class).getEmail()).contains("@");
+        assertThat(seeder.available(UserRecord.class)).isEqualTo(9);
+    }
+
+    @Test
+    public void seed_rejectedRecords_areNotLeasable() {
+        TestDataSeeder seeder = new TestDataSeeder(apiClient);
+
+        int created = seeder.seed(FunnelRecord.class, "/broken", 3, TestDataFactory::randomFunnel);
+
+        assertThat(created).isZero();
+        assertThat(seeder.available(FunnelRecord.class)).isZero();
+    }
+
+    @Test
+    public void lease_whenExhausted_throwsFrameworkException() {
+        TestDataSeeder seeder = new TestDataSeeder(apiClient);
+
+        assertThatThrownBy(() -> seeder.lease(SearchQueryRecord.class))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("No seeded SearchQueryRecord records left");
+    }
+
+    @Test
+    public void release_makesRecordLeasableAgain() {
+        TestDataSeeder seeder = new TestDataSeeder(apiClient);
+        seeder.seed(UserRecord.class, "/users", 1, TestDataFactory::randomUser);
+
+        UserRecord user = seeder.lease(UserRecord.class);
+        seeder.release(user);
+
+        assertThat(seeder.lease(UserRecord.class)).isSameAs(user);
+    }
+}
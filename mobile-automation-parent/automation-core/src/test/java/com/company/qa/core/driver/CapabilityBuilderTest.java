@@ -1,12 +1,18 @@
 package com.company.qa.core.driver;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import io.appium.java_client.android.options.UiAutomator2Options;
 import io.appium.java_client.ios.options.XCUITestOptions;
 import io.appium.java_client.remote.options.BaseOptions;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.MutableCapabilities;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -145,4 +151,90 @@ public class CapabilityBuilderTest {
         BaseOptions<?> options = builder.platform("IOS").build();
         assertThat(options).isInstanceOf(XCUITestOptions.class);
     }
+
+    @Test
+    public void fromJson_keepsJsonValueTypes() {
+        JsonObject json = new JsonObject();
+        json.addProperty("platformVersion", 13);
+        json.addProperty("noReset", true);
+        json.addProperty("newCommandTimeout", 300);
+        json.addProperty("appWaitDuration", 1.5);
+        JsonArray permissions = new JsonArray();
+        permissions.add("camera");
+        json.add("permissions", permissions);
+        JsonObject settings = new JsonObject();
+        settings.addProperty("waitForIdleTimeout", 0);
+        json.add("settings", settings);
+
+        UiAutomator2Options options = (UiAutomator2Options) builder
+                .platform("android")
+                .fromJson(json)
+                .build();
+
+        assertThat(options.getPlatformVersion().orElse(null)).isEqualTo("13");
+        assertThat(options.getCapability("appium:noReset")).isEqualTo(Boolean.TRUE);
+        assertThat(options.getCapability("appium:newCommandTimeout")).isEqualTo(300L);
+        assertThat(options.getCapability("appium:appWaitDuration")).isEqualTo(1.5);
+        assertThat(options.getCapability("appium:permissions")).isEqualTo(Arrays.asList("camera"));
+        assertThat(options.getCapability("appium:settings"))
+                .isEqualTo(Collections.singletonMap("waitForIdleTimeout", 0L));
+    }
+
+    @Test
+    public void fingerprint_ignoresInsertionOrder() {
+        String first = new CapabilityBuilder().platform("android")
+                .capability("a", 1).capability("b", Collections.singletonMap("x", true)).fingerprint();
+        String second = new CapabilityBuilder().platform("ANDROID")
+                .capability("b", Collections.singletonMap("x", true)).capability("a", 1).fingerprint();
+
+        assertThat(first).isEqualTo(second).hasSize(64);
+    }
+
+    @Test
+    public void fingerprint_distinguishesValueTypesAndPlatforms() {
+        String typed = new CapabilityBuilder().platform("android").capability("noReset", true).fingerprint();
+        String stringly = new CapabilityBuilder().platform("android").capability("noReset", "true").fingerprint();
+        String ios = new CapabilityBuilder().platform("ios").capability("noReset", true).fingerprint();
+
+        assertThat(typed).isNotEqualTo(stringly).isNotEqualTo(ios);
+    }
+
+    @Test
+    public void buildCached_sharesOneImmutableInstancePerFingerprint() {
+        Capabilities first = new CapabilityBuilder().platform("android").device("Pixel 6")
+                .capability("udid", "emulator-5554").buildCached();
+        Capabilities second = new CapabilityBuilder().platform("android").device("Pixel 6")
+                .capability("udid", "emulator-5554").buildCached();
+        Capabilities otherDevice = new CapabilityBuilder().platform("android").device("Pixel 6")
+                .capability("udid", "emulator-5556").buildCached();
+
+        assertThat(second).isSameAs(first);
+        assertThat(otherDevice).isNotSameAs(first);
+        assertThat(first).isNotInstanceOf(MutableCapabilities.class);
+        assertThat(first.getCapability("appium:udid")).isEqualTo("emulator-5554");
+        assertThat(first.getPlatformName().toString()).isEqualToIgnoringCase("android");
+    }
+
+    @Test
+    public void fingerprintAndCache_followLaterChanges() {
+        CapabilityBuilder builder = new CapabilityBuilder().platform("android").capability("udid", "emulator-5554");
+        String before = builder.fingerprint();
+        Capabilities cachedBefore = builder.buildCached();
+
+        builder.capability("udid", "emulator-5558");
+
+        assertThat(builder.fingerprint()).isNotEqualTo(before);
+        assertThat(builder.buildCached()).isNotSameAs(cachedBefore);
+        assertThat(builder.buildCached().getCapability("appium:udid")).isEqualTo("emulator-5558");
+    }
+
+    @Test
+    public void buildCached_arrayValuesShareInstance() {
+        Capabilities first = new CapabilityBuilder().platform("android")
+                .capability("otherApps", new String[]{"a.apk", "b.apk"}).buildCached();
+        Capabilities second = new CapabilityBuilder().platform("android")
+                .capability("otherApps", new String[]{"a.apk", "b.apk"}).buildCached();
+
+        assertThat(second).isSameAs(first);
+    }
 }
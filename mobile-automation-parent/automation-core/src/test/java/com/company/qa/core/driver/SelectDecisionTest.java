@@ -63,6 +63,32 @@ public class SelectDecisionTest {
         assertThat(result).isEqualTo(AppiumBy.accessibilityId("loginButton"));
     }
 
+    @Test
+    public void resolve_androidUIAutomator_returnsAppiumByAndroidUIAutomator() {
+        By result = SelectDecision.resolve("androidUIAutomator", "new UiSelector().text(\"OK\")");
+        assertThat(result).isEqualTo(AppiumBy.androidUIAutomator("new UiSelector().text(\"OK\")"));
+    }
+
+    @Test
+    public void resolve_iOSStrategies_returnAppiumByIosLocators() {
+        assertThat(SelectDecision.resolve("iOSNsPredicateString", "name == 'OK'"))
+                .isEqualTo(AppiumBy.iOSNsPredicateString("name == 'OK'"));
+        assertThat(SelectDecision.resolve("iOSClassChain", "**/XCUIElementTypeButton"))
+                .isEqualTo(AppiumBy.iOSClassChain("**/XCUIElementTypeButton"));
+    }
+
+    @Test
+    public void resolve_androidViewTag_returnsAppiumByAndroidViewTag() {
+        By result = SelectDecision.resolve("androidViewTag", "submit");
+        assertThat(result).isEqualTo(AppiumBy.androidViewTag("submit"));
+    }
+
+    @Test
+    public void resolve_imageBase64_passedThrough() {
+        By result = SelectDecision.resolve("image", "iVBORw0KGgo=");
+        assertThat(result).isEqualTo(AppiumBy.image("iVBORw0KGgo="));
+    }
+
     @Test
     public void resolve_invalidSelectorType_throwsIllegalArgumentException() {
         assertThatThrownBy(() -> SelectDecision.resolve("invalid", "value"))
@@ -0,0 +1,101 @@
+package com.company.qa.core.driver;
+
+import com.company.qa.core.driver.SessionHealthMonitor.Health;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionHealthMonitorTest {
+
+    private SessionHealthMonitor monitor;
+
+    @AfterMethod(alwaysRun = true)
+    public void closeMonitor() {
+        if (monitor != null) {
+            monitor.close();
+        }
+    }
+
+    @Test
+    public void fastReply_isHealthy() {
+        monitor = new SessionHealthMonitor(0, 1000, 500);
+        monitor.track("s1", () -> { });
+
+        assertThat(monitor.check("s1")).isEqualTo(Health.HEALTHY);
+        assertThat(monitor.getHealth("s1").isHealthy()).isTrue();
+    }
+
+    @Test
+    public void slowReply_marksSessionSlow() {
+        monitor = new SessionHealthMonitor(0, 1000, 10);
+        monitor.track("s1", () -> Thread.sleep(50));
+
+        assertThat(monitor.check("s1")).isEqualTo(Health.SLOW);
+    }
+
+    @Test
+    public void failingOrHangingReply_marksSessionUnresponsive() {
+        monitor = new SessionHealthMonitor(0, 50, 10);
+        monitor.track("crashed", () -> {
+            throw new IllegalStateException("UiAutomator2 server is not running");
+        });
+        monitor.track("hung", () -> Thread.sleep(5_000));
+
+        assertThat(monitor.check("crashed")).isEqualTo(Health.UNRESPONSIVE);
+        assertThat(monitor.check("hung")).isEqualTo(Health.UNRESPONSIVE);
+    }
+
+    @Test
+    public void badSession_staysBadWithoutFurtherPings() {
+        AtomicInteger pings = new AtomicInteger();
+        monitor = new SessionHealthMonitor(0, 1000, 10);
+        monitor.track("s1", () -> {
+            pings.incrementAndGet();
+            Thread.sleep(50);
+        });
+
+        monitor.check("s1");
+        Health second = monitor.check("s1");
+
+        assertThat(second).isEqualTo(Health.SLOW);
+        assertThat(pings.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void checkIfDue_reusesRecentResultWithinInterval() {
+        AtomicInteger pings = new AtomicInteger();
+        monitor = new SessionHealthMonitor(60_000, 1000, 500);
+        monitor.track("s1", pings::incrementAndGet);
+
+        assertThat(monitor.checkIfDue("s1")).isEqualTo(Health.HEALTHY);
+        assertThat(pings.get()).isZero();
+    }
+
+    @Test
+    public void backgroundCheck_pingsOnlyIdleSessions() throws Exception {
+        CountDownLatch idlePinged = new CountDownLatch(1);
+        AtomicInteger leasedPings = new AtomicInteger();
+        monitor = new SessionHealthMonitor(20, 1000, 500);
+        monitor.track("leased", leasedPings::incrementAndGet);
+        monitor.track("idle", idlePinged::countDown);
+        monitor.setLeased("idle", false);
+
+        assertThat(idlePinged.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(leasedPings.get()).isZero();
+    }
+
+    @Test
+    public void untrackedSession_isUnresponsive() {
+        monitor = new SessionHealthMonitor(0, 1000, 500);
+        monitor.track("s1", () -> { });
+        monitor.untrack("s1");
+
+        assertThat(monitor.getHealth("s1")).isEqualTo(Health.UNRESPONSIVE);
+        assertThat(monitor.checkIfDue("s1")).isEqualTo(Health.UNRESPONSIVE);
+    }
+}
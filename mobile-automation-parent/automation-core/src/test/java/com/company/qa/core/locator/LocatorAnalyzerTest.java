@@ -0,0 +1,129 @@
+package com.company.qa.core.locator;
+
+import com.google.gson.JsonObject;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocatorAnalyzerTest {
+
+    @Test
+    public void androidResourceId_rewrittenToId() {
+        LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath",
+                "//*[@resource-id='com.app:id/login']", LocatorPlatform.ANDROID);
+
+        assertThat(analysis.getRewrittenStrategy()).isEqualTo("id");
+        assertThat(analysis.getRewrittenValue()).isEqualTo("com.app:id/login");
+        assertThat(analysis.getEffectiveCost()).isLessThan(analysis.getCost());
+    }
+
+    @Test
+    public void androidShortResourceId_rewrittenToUiSelector() {
+        LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath",
+                "//*[@resource-id='login']", LocatorPlatform.ANDROID);
+
+        assertThat(analysis.getRewrittenStrategy()).isEqualTo("androidUIAutomator");
+        assertThat(analysis.getRewrittenValue()).isEqualTo("new UiSelector().resourceId(\"login\")");
+    }
+
+    @Test
+    public void androidContentDesc_rewrittenToAccessibilityId() {
+        LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath",
+                "//*[@content-desc='Login']", LocatorPlatform.ANDROID);
+
+        assertThat(analysis.toRewrittenBy()).isEqualTo(AppiumBy.accessibilityId("Login"));
+    }
+
+    @Test
+    public void androidTypedTextPredicates_rewrittenToUiSelector() {
+        LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath",
+                "//android.widget.Button[@text='OK' and contains(@content-desc,\"conf\") and @enabled='true']",
+                LocatorPlatform.ANDROID);
+
+        assertThat(analysis.getRewrittenStrategy()).isEqualTo("androidUIAutomator");
+        assertThat(analysis.getRewrittenValue()).isEqualTo("new UiSelector().className(\"android.widget.Button\")"
+                + ".text(\"OK\").descriptionContains(\"conf\").enabled(true)");
+    }
+
+    @Test
+    public void iosName_rewrittenToAccessibilityId() {
+        LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath", "//*[@name='Login']", LocatorPlatform.IOS);
+
+        assertThat(analysis.getRewrittenStrategy()).isEqualTo("accessibilityId");
+    }
+
+    @Test
+    public void iosTypedElement_rewrittenToClassChain() {
+        LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath",
+                "//XCUIElementTypeButton[@label='Say \"hi\"' and @visible='true']", LocatorPlatform.IOS);
+
+        assertThat(analysis.getRewrittenStrategy()).isEqualTo("iOSClassChain");
+        assertThat(analysis.getRewrittenValue())
+                .isEqualTo("**/XCUIElementTypeButton[`label == \"Say \\\"hi\\\"\" AND visible == 1`]");
+    }
+
+    @Test
+    public void iosUntypedContains_rewrittenToPredicateString() {
+        LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath",
+                "//*[contains(@label,'Welcome')]", LocatorPlatform.IOS);
+
+        assertThat(analysis.toRewrittenBy()).isEqualTo(AppiumBy.iOSNsPredicateString("label CONTAINS \"Welcome\""));
+    }
+
+    @Test
+    public void webIdXpath_rewrittenToId_butTypedXpathKept() {
+        assertThat(LocatorAnalyzer.optimizeXpath("//*[@id='search']", LocatorPlatform.WEB))
+                .isEqualTo(By.id("search"));
+        assertThat(LocatorAnalyzer.optimizeXpath("//div[@id='test']", LocatorPlatform.WEB))
+                .isEqualTo(By.xpath("//div[@id='test']"));
+    }
+
+    @Test
+    public void positionalMultiStepXpath_notRewrittenAndFlagged() {
+        LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath",
+                "//div[@data-component-type='s-search-result'][1]//h2/a", LocatorPlatform.WEB);
+
+        assertThat(analysis.isRewritten()).isFalse();
+        assertThat(analysis.needsAttention()).isTrue();
+        assertThat(analysis.getIssues()).anyMatch(issue -> issue.contains("positional"));
+        assertThat(analysis.getCost()).isGreaterThan(LocatorAnalyzer.analyze("xpath",
+                "//*[@id='x']", LocatorPlatform.WEB).getCost());
+    }
+
+    @Test
+    public void textFunction_notRewritten() {
+        LocatorAnalysis analysis = LocatorAnalyzer.analyze("xpath",
+                "//*[text()='Login']", LocatorPlatform.ANDROID);
+
+        assertThat(analysis.isRewritten()).isFalse();
+        assertThat(analysis.getIssues()).isNotEmpty();
+    }
+
+    @Test
+    public void inferStrategy_recognizesRepositoryValues() {
+        assertThat(LocatorAnalyzer.inferStrategy("//*[@id='x']")).isEqualTo("xpath");
+        assertThat(LocatorAnalyzer.inferStrategy("com.app:id/searchField")).isEqualTo("id");
+        assertThat(LocatorAnalyzer.inferStrategy("#main .title")).isEqualTo("cssSelector");
+    }
+
+    @Test
+    public void report_summarizesRewritesAndAttention() {
+        JsonObject elements = new JsonObject();
+        elements.addProperty("searchBox", "//*[@id='searchBox']");
+        elements.addProperty("firstResult", "(//div[@class='result'])[1]");
+        elements.addProperty("profile", "com.app:id/profile");
+        JsonObject page = new JsonObject();
+        page.add("elements", elements);
+        JsonObject pages = new JsonObject();
+        pages.add("home", page);
+
+        LocatorReport report = LocatorReport.analyze(pages, LocatorPlatform.WEB);
+
+        assertThat(report.getAnalyses()).hasSize(3);
+        assertThat(report.getEffectiveCost()).isLessThan(report.getTotalCost());
+        assertThat(report.render())
+                .contains("rewritten: 1", "needing attention: 1", "home.firstResult");
+    }
+}
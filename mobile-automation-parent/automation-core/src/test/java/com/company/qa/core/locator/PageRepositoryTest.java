@@ -0,0 +1,62 @@
+package com.company.qa.core.locator;
+
+import com.company.qa.core.exception.ConfigurationException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PageRepositoryTest {
+
+    private static final JsonObject PAGES = JsonParser.parseString("{"
+            + "\"home\": {\"url\": \"\", \"elements\": {"
+            + "  \"search\": \"com.app:id/search\","
+            + "  \"login\": {\"android\": {\"androidUIAutomator\": \"new UiSelector().text(\\\"Login\\\")\"},"
+            + "            \"ios\": {\"iOSNsPredicateString\": \"name == 'Login'\"}},"
+            + "  \"menu\": {\"ios\": \"menu\", \"default\": \"com.app:id/menu\"}"
+            + "}}}").getAsJsonObject();
+
+    @Test
+    public void plainElement_usesStepStrategy() {
+        JsonObject page = PageRepository.resolvePages(PAGES, LocatorPlatform.ANDROID).getAsJsonObject("home");
+
+        assertThat(PageRepository.locate(page, "search", "id")).isEqualTo(By.id("com.app:id/search"));
+    }
+
+    @Test
+    public void platformVariant_pinsNativeStrategy() {
+        JsonObject android = PageRepository.resolvePages(PAGES, LocatorPlatform.ANDROID).getAsJsonObject("home");
+        JsonObject ios = PageRepository.resolvePages(PAGES, LocatorPlatform.IOS).getAsJsonObject("home");
+
+        assertThat(PageRepository.locate(android, "login", "id"))
+                .isEqualTo(AppiumBy.androidUIAutomator("new UiSelector().text(\"Login\")"));
+        assertThat(PageRepository.locate(ios, "login", "id"))
+                .isEqualTo(AppiumBy.iOSNsPredicateString("name == 'Login'"));
+    }
+
+    @Test
+    public void missingVariant_fallsBackToDefaultOrIsOmitted() {
+        JsonObject android = PageRepository.resolvePages(PAGES, LocatorPlatform.ANDROID).getAsJsonObject("home");
+        JsonObject web = PageRepository.resolvePages(PAGES, LocatorPlatform.WEB).getAsJsonObject("home");
+
+        assertThat(PageRepository.locate(android, "menu", "id")).isEqualTo(By.id("com.app:id/menu"));
+        assertThat(web.getAsJsonObject("elements").has("login")).isFalse();
+        assertThatThrownBy(() -> PageRepository.locate(web, "login", "id"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("login");
+    }
+
+    @Test
+    public void malformedVariant_rejected() {
+        JsonObject pages = JsonParser.parseString(
+                "{\"p\": {\"elements\": {\"x\": {\"android\": {\"id\": \"a\", \"name\": \"b\"}}}}}").getAsJsonObject();
+
+        assertThatThrownBy(() -> PageRepository.resolvePages(pages, LocatorPlatform.ANDROID))
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("[x]");
+    }
+}
@@ -0,0 +1,88 @@
+package com.company.qa.core.metrics;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void sameNameAndLabels_returnSameMetric() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        Counter first = registry.counter("qa_test_events", "Events", "kind", "a");
+        Counter second = registry.counter("qa_test_events", "Events", "kind", "a");
+        Counter other = registry.counter("qa_test_events", "Events", "kind", "b");
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+    }
+
+    @Test
+    public void concurrentIncrements_areNotLost() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        registry.counter("qa_test_concurrent", "Concurrent events").increment();
+                        registry.gauge("qa_test_active", "Active things").increment();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(registry.counter("qa_test_concurrent", "Concurrent events").get()).isEqualTo(80_000);
+        assertThat(registry.gauge("qa_test_active", "Active things").get()).isEqualTo(80_000);
+    }
+
+    @Test
+    public void timer_tracksCountTotalAndMax() {
+        Timer timer = new MetricsRegistry().timer("qa_test_seconds", "Durations");
+
+        timer.record(10, TimeUnit.MILLISECONDS);
+        timer.record(30, TimeUnit.MILLISECONDS);
+
+        assertThat(timer.getCount()).isEqualTo(2);
+        assertThat(timer.getTotalNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+        assertThat(timer.getMaxNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    public void nameRegisteredWithOtherType_rejected() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("qa_test_clash", "Clash");
+
+        assertThatThrownBy(() -> registry.gauge("qa_test_clash", "Clash"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("qa_test_clash");
+    }
+
+    @Test
+    public void oddLabelCount_rejected() {
+        assertThatThrownBy(() -> new MetricsRegistry().counter("qa_test_labels", "Labels", "kind"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void negativeCounterIncrement_rejected() {
+        Counter counter = new MetricsRegistry().counter("qa_test_negative", "Negative");
+
+        assertThatThrownBy(() -> counter.increment(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.company.qa.core.metrics;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OpenMetricsExporterTest {
+
+    @Test
+    public void scrape_rendersCountersGaugesAndTimers() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("qa_api_calls", "API calls", "method", "GET", "status", "2xx").increment(3);
+        registry.gauge("qa_sessions_active", "Active sessions", "appium_url", "http://localhost:4723").increment();
+        registry.timer("qa_session_seconds", "Session creation").record(1500, TimeUnit.MILLISECONDS);
+
+        String text = OpenMetricsExporter.scrape(registry);
+
+        assertThat(text)
+                .contains("# TYPE qa_api_calls counter\n")
+                .contains("qa_api_calls_total{method=\"GET\",status=\"2xx\"} 3\n")
+                .contains("# TYPE qa_sessions_active gauge\n")
+                .contains("qa_sessions_active{appium_url=\"http://localhost:4723\"} 1\n")
+                .contains("# TYPE qa_session_seconds summary\n")
+                .contains("qa_session_seconds_count 1\n")
+                .contains("qa_session_seconds_sum 1.5\n")
+                .contains("qa_session_seconds_max 1.5\n")
+                .endsWith("# EOF\n");
+    }
+
+    @Test
+    public void scrape_escapesLabelValues() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("qa_escaped", "Escaped", "value", "a\"b\\c\nd").increment();
+
+        assertThat(OpenMetricsExporter.scrape(registry))
+                .contains("qa_escaped_total{value=\"a\\\"b\\\\c\\nd\"} 1\n");
+    }
+
+    @Test
+    public void writeTo_createsParentDirectories() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("qa_written", "Written").increment();
+        Path file = Files.createTempDirectory("metrics").resolve("nested/openmetrics.txt");
+
+        OpenMetricsExporter.writeTo(registry, file);
+
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).contains("qa_written_total 1");
+    }
+
+    @Test
+    public void metricsServer_servesCurrentValues() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("qa_served", "Served");
+
+        try (MetricsServer server = MetricsServer.start(registry, 0)) {
+            counter.increment();
+            HttpURLConnection connection = (HttpURLConnection) new URL(server.getUrl()).openConnection();
+
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+            assertThat(connection.getContentType()).startsWith("application/openmetrics-text");
+            assertThat(read(connection.getInputStream())).contains("qa_served_total 1");
+        }
+    }
+
+    @Test
+    public void metricsServer_explicitBindAddress_servesThere() throws Exception {
+        try (MetricsServer server = MetricsServer.start(new MetricsRegistry(), "127.0.0.1", 0)) {
+            HttpURLConnection connection = (HttpURLConnection) new URL(server.getUrl()).openConnection();
+
+            assertThat(server.getUrl()).startsWith("http://localhost:");
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+        }
+    }
+
+    private static String read(InputStream in) throws Exception {
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.company.qa.core.util;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScenarioLogTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void clearContext() {
+        ScenarioLog.clear();
+    }
+
+    @Test
+    public void drain_returnsEventsLoggedDuringScenarioWithStep() {
+        ScenarioLog.start("scenario-1", "Login works");
+        LOGGER.info("Opening app {}", "demo");
+        ScenarioLog.step("When I tap login");
+        LOGGER.info("Tapped [{}]", "login");
+
+        String log = ScenarioLog.drain();
+
+        assertThat(log).contains("Opening app demo");
+        assertThat(log).contains("[When I tap login] Tapped [login]");
+        assertThat(log).doesNotContain("Collecting log of scenario");
+    }
+
+    @Test
+    public void drain_excludesEventsFromOtherThreads() throws Exception {
+        ScenarioLog.start("scenario-2", "Isolated");
+        Thread other = new Thread(() -> {
+            ScenarioLog.start("scenario-3", "Other");
+            LOGGER.info("from other scenario");
+            ScenarioLog.clear();
+        });
+        other.start();
+        other.join();
+        LOGGER.info("from this scenario");
+
+        String log = ScenarioLog.drain();
+
+        assertThat(log).contains("from this scenario").doesNotContain("from other scenario");
+    }
+
+    @Test
+    public void clear_removesScenarioFromContext() {
+        ScenarioLog.start("scenario-4", "Cleared");
+        ScenarioLog.step("Given something");
+
+        ScenarioLog.clear();
+
+        assertThat(ThreadContext.get(ScenarioLog.SCENARIO_KEY)).isNull();
+        assertThat(ThreadContext.get(ScenarioLog.STEP_KEY)).isNull();
+        assertThat(ScenarioLog.drain()).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package com.company.qa.core.wait;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WaitHelperTest {
+
+    private static final By TITLE = By.id("title");
+    private static final By LIST = By.id("list");
+
+    @Test
+    public void allVisible_isMetOnlyWhenEveryLocatorIsVisible() {
+        FakeScreen screen = new FakeScreen();
+        screen.show(TITLE, true);
+        screen.show(LIST, false);
+
+        assertThat(WaitHelper.allVisible(Arrays.asList(TITLE, LIST)).apply(screen.driver)).isNull();
+
+        screen.show(LIST, true);
+        List<WebElement> elements = WaitHelper.allVisible(Arrays.asList(TITLE, LIST)).apply(screen.driver);
+
+        assertThat(elements).hasSize(2);
+        assertThat(elements.get(0).getText()).isEqualTo(TITLE.toString());
+        assertThat(elements.get(1).getText()).isEqualTo(LIST.toString());
+    }
+
+    @Test
+    public void allVisible_stopsPollAtFirstMissingLocator() {
+        FakeScreen screen = new FakeScreen();
+        screen.show(LIST, true);
+
+        WaitHelper.allVisible(Arrays.asList(TITLE, LIST)).apply(screen.driver);
+
+        assertThat(screen.lookups).containsExactly(TITLE.toString());
+    }
+
+    @Test
+    public void waitForAllVisible_timeoutNamesMissingLocator() {
+        FakeScreen screen = new FakeScreen();
+        screen.show(TITLE, true);
+
+        assertThatThrownBy(() -> new WaitHelper(screen.driver, 1).waitForAllVisible(Arrays.asList(TITLE, LIST)))
+                .isInstanceOf(TimeoutException.class)
+                .hasMessageContaining("still missing " + LIST);
+    }
+
+    @Test
+    public void waitForAllVisible_withNoLocators_returnsImmediately() {
+        assertThat(new WaitHelper(new FakeScreen().driver, 1).waitForAllVisible(Collections.emptyList())).isEmpty();
+    }
+
+    /**
+     * Driver whose {@code findElements} answers from a map of locator to visibility.
+     */
+    private static final class FakeScreen {
+
+        private final Map<By, Boolean> visible = new HashMap<>();
+        private final List<String> lookups = new ArrayList<>();
+        private final WebDriver driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class}, (proxy, method, args) -> {
+                    if ("findElements".equals(method.getName())) {
+                        By locator = (By) args[0];
+                        lookups.add(locator.toString());
+                        Boolean shown = visible.get(locator);
+                        return shown == null ? Collections.emptyList()
+                                : Collections.singletonList(element(locator, shown));
+                    }
+                    if ("toString".equals(method.getName())) {
+                        return "FakeScreen";
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        void show(By locator, boolean shown) {
+            visible.put(locator, shown);
+        }
+
+        private static WebElement element(By locator, boolean shown) {
+            return (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(),
+                    new Class<?>[]{WebElement.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "isDisplayed":
+                                return shown;
+                            case "getText":
+                                return locator.toString();
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.qa.tests.hooks;
+
+import com.company.qa.core.api.ApiClient;
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.data.FunnelRecord;
+import com.company.qa.core.data.SearchQueryRecord;
+import com.company.qa.core.data.TestDataFactory;
+import com.company.qa.core.data.TestDataSeeder;
+import com.company.qa.core.data.UserRecord;
+import com.company.qa.core.exception.ConfigurationException;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.BeforeAll;
+
+import java.util.function.Supplier;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Pre-seeds test data through the backend API once, before any scenario runs.
+ *
+ * <p>Seeding is driven by the {@code seed} section of the environment config and
+ * only happens when {@code api.url} is set. Scenarios lease the created records
+ * via {@link #getSeeder()}.</p>
+ */
+public class DataSeedingHooks {
+
+    private static volatile ApiClient apiClient;
+    private static volatile TestDataSeeder seeder;
+
+    @BeforeAll
+    public static void seedTestData() {
+        EnvironmentConfig config = EnvironmentConfig.getInstance();
+        String apiUrl = config.getApiUrl();
+        if (apiUrl == null) {
+            LOGGER.info("api.url not configured, skipping test data seeding");
+            return;
+        }
+
+        int parallelism = config.getIntValue("seed.parallelism", 8);
+        apiClient = new ApiClient(apiUrl);
+        TestDataSeeder dataSeeder = new TestDataSeeder(apiClient, parallelism);
+        seed(dataSeeder, config, "users", UserRecord.class, TestDataFactory::randomUser);
+        seed(dataSeeder, config, "funnels", FunnelRecord.class, TestDataFactory::randomFunnel);
+        seed(dataSeeder, config, "searchQueries", SearchQueryRecord.class, TestDataFactory::randomSearchQuery);
+        seeder = dataSeeder;
+    }
+
+    /**
+     * Closes the seeding client, saving the API recording in record mode and
+     * stopping the replay server in replay mode.
+     */
+    @AfterAll
+    public static void closeApiClient() {
+        ApiClient client = apiClient;
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * Returns the seeder holding the pre-created records.
+     *
+     * @return the suite-wide seeder
+     * @throws ConfigurationException if seeding was not configured for this run
+     */
+    public static TestDataSeeder getSeeder() {
+        TestDataSeeder current = seeder;
+        if (current == null) {
+            throw new ConfigurationException("Test data was not seeded; set api.url and seed.<type>.count");
+        }
+        return current;
+    }
+
+    private static <T> void seed(TestDataSeeder dataSeeder, EnvironmentConfig config, String section,
+            Class<T> type, Supplier<T> generator) {
+        int count = config.getIntValue("seed." + section + ".count", 0);
+        String path = config.get("seed." + section + ".path");
+        if (count > 0 && path != null) {
+            dataSeeder.seed(type, path, count, generator);
+        }
+    }
+}
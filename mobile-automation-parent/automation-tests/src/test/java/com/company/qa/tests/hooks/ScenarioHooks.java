@@ -1,16 +1,27 @@
 package com.company.qa.tests.hooks;
 
+import com.company.qa.core.api.ResponseCache;
+import com.company.qa.core.config.EnvironmentConfig;
+import com.company.qa.core.context.ScenarioScope;
 import com.company.qa.core.context.TestContext;
+import com.company.qa.core.data.TestDataFactory;
 import com.company.qa.core.driver.BrowserManager;
 import com.company.qa.core.driver.MobileDriverManager;
+import com.company.qa.core.metrics.MetricsRegistry;
+import com.company.qa.core.metrics.MetricsServer;
+import com.company.qa.core.metrics.OpenMetricsExporter;
+import com.company.qa.core.util.ScenarioLog;
 import com.company.qa.core.util.ScreenshotHelper;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
 import io.qameta.allure.Allure;
 import org.openqa.selenium.WebDriver;
 
 import java.io.ByteArrayInputStream;
+import java.nio.file.Paths;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.company.qa.core.util.LogManager.LOGGER;
@@ -19,11 +30,42 @@ public class ScenarioHooks {
 
     private static final AtomicInteger scenarioCounter = new AtomicInteger(0);
     private static final AtomicInteger failedScenarioCounter = new AtomicInteger(0);
+    private static MetricsServer metricsServer;
+
+    private final ScenarioScope scope;
+
+    public ScenarioHooks(ScenarioScope scope) {
+        this.scope = scope;
+    }
+
+    @BeforeAll
+    public static void beforeAllScenarios() {
+        EnvironmentConfig config = EnvironmentConfig.getInstance();
+        if (config.getMetricsPort() > 0) {
+            metricsServer = MetricsServer.start(MetricsRegistry.global(), config.getMetricsBindAddress(),
+                    config.getMetricsPort());
+        }
+
+        // Installs the build onto every configured device at once, before scenarios lease them
+        MobileDriverManager.preinstallApp();
+    }
+
+    @Before(order = 0)
+    public void attachScenarioScope() {
+        // Runs first: drivers and context created by later hooks and steps live in this scope
+        scope.attach();
+    }
 
     @Before
     public void beforeScenario(Scenario scenario) {
         int count = scenarioCounter.incrementAndGet();
-        LOGGER.info(String.format("\n\n\t[%d] > Scenario [%s] started\t", count, scenario.getName()));
+        LOGGER.info("[{}] > Scenario [{}] started", count, scenario.getName());
+
+        // Deterministic test data per scenario when data.seed is set
+        Long dataSeed = TestDataFactory.configuredSeed();
+        if (dataSeed != null) {
+            TestDataFactory.reseed(dataSeed ^ (scenario.getUri() + ":" + scenario.getLine()).hashCode());
+        }
     }
 
     @After
@@ -63,10 +105,10 @@ public class ScenarioHooks {
         }
 
         String result = scenario.isFailed() ? "with errors" : "successfully";
-        LOGGER.info(String.format("\n\t[%d] > Scenario [%s] finished %s\t",
-                currentCount, scenario.getName(), result));
-        LOGGER.info(String.format("\n\t%d of %d scenarios failed so far\t",
-                failedScenarioCounter.get(), currentCount));
+        LOGGER.info("[{}] > Scenario [{}] finished {}",
+                currentCount, scenario.getName(), result);
+        LOGGER.info("{} of {} scenarios failed so far",
+                failedScenarioCounter.get(), currentCount);
 
         // Cleanup browser driver if it was used
         if (BrowserManager.getDriver() != null) {
@@ -81,4 +123,37 @@ public class ScenarioHooks {
     public void afterMobileScenario(Scenario scenario) {
         MobileDriverManager.removeDriver();
     }
+
+    @After(order = 1)
+    public void attachScenarioLog() {
+        // Runs after the driver and device slot are released, so their log lines are part of this scenario's log
+        String scenarioLog = ScenarioLog.drain();
+        if (!scenarioLog.isEmpty()) {
+            Allure.addAttachment("scenario-log", "text/plain", scenarioLog, ".log");
+        }
+    }
+
+    @After(order = 0)
+    public void detachScenarioScope() {
+        // Runs last, after every other @After hook has released the scenario's resources
+        scope.detach();
+    }
+
+    @AfterAll
+    public static void afterAllScenarios() {
+        EnvironmentConfig config = EnvironmentConfig.getInstance();
+        MobileDriverManager.closePooledSessions();
+
+        if (config.isApiCacheEnabled()) {
+            LOGGER.info("API response cache: {}", ResponseCache.shared().getStats());
+        }
+
+        String metricsFile = config.getMetricsFile();
+        if (metricsFile != null && !metricsFile.trim().isEmpty()) {
+            OpenMetricsExporter.writeTo(MetricsRegistry.global(), Paths.get(metricsFile.trim()));
+        }
+        if (metricsServer != null) {
+            metricsServer.close();
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.company.qa.tests.plugins;
+
+import com.company.qa.core.util.ScenarioLog;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Cucumber plugin that tags log events with the running scenario and step.
+ *
+ * <p>Concurrent listeners receive events on the thread executing the scenario,
+ * so the values land in that thread's logging context. The buffered scenario
+ * log is attached to the report by {@code ScenarioHooks}.</p>
+ */
+public class ScenarioLogPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestStepStarted.class, this::onTestStepStarted);
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> ScenarioLog.clear());
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        ScenarioLog.start(event.getTestCase().getId().toString(), event.getTestCase().getName());
+    }
+
+    private void onTestStepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            ScenarioLog.step(step.getStep().getKeyword() + step.getStep().getText());
+        }
+    }
+}
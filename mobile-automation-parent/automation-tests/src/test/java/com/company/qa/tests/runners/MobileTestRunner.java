@@ -10,7 +10,8 @@ import org.testng.annotations.DataProvider;
         tags = "@mobile",
         plugin = {
                 "pretty",
-                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+                "com.company.qa.tests.plugins.ScenarioLogPlugin"
         }
 )
 public class MobileTestRunner extends AbstractTestNGCucumberTests {
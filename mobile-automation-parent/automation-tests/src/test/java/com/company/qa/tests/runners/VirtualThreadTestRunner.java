@@ -0,0 +1,76 @@
+package com.company.qa.tests.runners;
+
+import com.company.qa.core.concurrent.ScenarioExecutor;
+import com.company.qa.core.config.EnvironmentConfig;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.PickleWrapper;
+import io.cucumber.testng.TestNGCucumberRunner;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the mobile scenarios through a {@link ScenarioExecutor} instead of
+ * TestNG's data provider thread pool.
+ *
+ * <p>With {@code devices.executor: virtual} (set by the {@code virtual-threads}
+ * Maven profile) each scenario runs on its own virtual thread and the
+ * {@code devices.slots} device slots cap how many run at once; only this runner
+ * adds the {@code slots} glue that leases them. Results are
+ * reported per scenario by the Cucumber plugins; this TestNG test fails if any
+ * scenario failed.</p>
+ *
+ * <p>A failed scenario is run again up to {@code retry.max} times on its own.
+ * The suite registers no {@code RetryListener}, which would retry this single
+ * TestNG test and so rerun every scenario, including those that passed.</p>
+ */
+@CucumberOptions(
+        features = "src/test/resources/features",
+        glue = {"com.company.qa.tests.steps", "com.company.qa.tests.hooks", "com.company.qa.tests.slots"},
+        tags = "@mobile",
+        plugin = {
+                "pretty",
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+                "com.company.qa.tests.plugins.ScenarioLogPlugin"
+        }
+)
+public class VirtualThreadTestRunner {
+
+    private TestNGCucumberRunner cucumberRunner;
+
+    @BeforeClass(alwaysRun = true)
+    public void setUpClass() {
+        cucumberRunner = new TestNGCucumberRunner(getClass());
+    }
+
+    @Test
+    public void runScenarios() {
+        List<ScenarioExecutor.Task> tasks = new ArrayList<>();
+        for (Object[] scenario : cucumberRunner.provideScenarios()) {
+            PickleWrapper pickle = (PickleWrapper) scenario[0];
+            tasks.add(() -> cucumberRunner.runScenario(pickle.getPickle()));
+        }
+
+        ScenarioExecutor executor = ScenarioExecutor.fromConfig();
+        LOGGER.info("Running {} scenarios in {} mode", tasks.size(), executor.getMode());
+        List<Throwable> failures = executor.runAll(tasks, EnvironmentConfig.getInstance().getRetry().getMax());
+
+        for (Throwable failure : failures) {
+            LOGGER.error("Scenario failed: {}", failure.getMessage());
+        }
+        assertThat(failures).as("%d of %d scenarios failed", failures.size(), tasks.size()).isEmpty();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass() {
+        if (cucumberRunner != null) {
+            cucumberRunner.finish();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.company.qa.tests.slots;
+
+import com.company.qa.core.concurrent.DeviceSlotAllocator;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+
+/**
+ * Leases a device slot to every {@code @mobile} scenario.
+ *
+ * <p>Only {@code VirtualThreadTestRunner} lists this package as glue: there the
+ * slots are what caps concurrency. The data-provider runners keep their own
+ * thread count and never block on a slot. Kept outside the {@code hooks}
+ * package because Cucumber scans glue packages recursively.</p>
+ */
+public class DeviceSlotHooks {
+
+    @Before(value = "@mobile", order = 1)
+    public void leaseDeviceSlot() {
+        // Runs right after the scenario scope is attached and before the driver starts
+        DeviceSlotAllocator.shared().acquire();
+    }
+
+    @After(value = "@mobile", order = 2)
+    public void releaseDeviceSlot() {
+        // After hooks run in descending order: the driver is already gone; the scenario log (order 1)
+        // and the scope (order 0) come after
+        DeviceSlotAllocator.shared().releaseCurrent();
+    }
+
+    @AfterAll
+    public static void closeDeviceSlots() {
+        DeviceSlotAllocator.shared().close();
+    }
+}
@@ -1,7 +1,6 @@
 package com.company.qa.tests.steps;
 
-import com.google.gson.JsonObject;
-import com.company.qa.core.driver.SelectDecision;
+import com.company.qa.core.locator.PageRepository;
 import org.openqa.selenium.By;
 
 /**
@@ -18,7 +17,8 @@ public abstract class BaseStepDefinition {
 
     /**
      * Resolves a page element locator from the current page object.
-     * Reads the element key from pages.json and creates a By locator.
+     * Reads the element key from pages.json and creates a By locator; elements
+     * that pin a native strategy for the current platform use it instead of {@code selectKey}.
      *
      * @param pageKey   element key in the page object's "elements" section
      * @param selectKey selector strategy (id, xpath, cssSelector, accessibilityId, etc.)
@@ -26,12 +26,7 @@ public abstract class BaseStepDefinition {
      * @throws IllegalArgumentException if pageKey is not found in page elements
      */
     protected By resolveElement(String pageKey, String selectKey) {
-        JsonObject elements = state.getPageObject().get("elements").getAsJsonObject();
-        if (!elements.has(pageKey)) {
-            throw new IllegalArgumentException("Element [" + pageKey + "] not found in page object");
-        }
-        String locatorValue = elements.get(pageKey).getAsString();
-        By by = SelectDecision.resolve(selectKey, locatorValue);
+        By by = PageRepository.locate(state.getPageObject(), pageKey, selectKey);
         state.setCurrentLocator(by);
         return by;
     }
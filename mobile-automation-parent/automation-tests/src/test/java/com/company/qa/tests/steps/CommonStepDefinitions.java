@@ -13,6 +13,6 @@ public class CommonStepDefinitions extends BaseStepDefinition {
     @When("^I wait for (\\d+) seconds$")
     public void waitForNSeconds(long seconds) throws Exception {
         Thread.sleep(seconds * 1000L);
-        LOGGER.info(String.format("\n\tWait for %d seconds\n\t", seconds));
+        LOGGER.info("Wait for {} seconds", seconds);
     }
 }
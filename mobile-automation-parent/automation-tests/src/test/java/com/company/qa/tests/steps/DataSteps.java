@@ -0,0 +1,44 @@
+package com.company.qa.tests.steps;
+
+import com.company.qa.core.context.TestContext;
+import com.company.qa.core.data.FunnelRecord;
+import com.company.qa.core.data.SearchQueryRecord;
+import com.company.qa.core.data.UserRecord;
+import com.company.qa.tests.hooks.DataSeedingHooks;
+import io.cucumber.java.en.Given;
+
+import static com.company.qa.core.util.LogManager.LOGGER;
+
+/**
+ * Step definitions for leasing test data pre-seeded through the API.
+ *
+ * <p>Leased records are stored in {@link TestContext} under the keys
+ * {@code "user"}, {@code "funnel"} and {@code "searchQuery"}.</p>
+ */
+public class DataSteps extends BaseStepDefinition {
+
+    public DataSteps(ScenarioState state) {
+        super(state);
+    }
+
+    @Given("^I lease a seeded user$")
+    public void iLeaseSeededUser() {
+        UserRecord user = DataSeedingHooks.getSeeder().lease(UserRecord.class);
+        TestContext.put("user", user);
+        LOGGER.info("Leased seeded user: [{}]", user.getEmail());
+    }
+
+    @Given("^I lease a seeded funnel$")
+    public void iLeaseSeededFunnel() {
+        FunnelRecord funnel = DataSeedingHooks.getSeeder().lease(FunnelRecord.class);
+        TestContext.put("funnel", funnel);
+        LOGGER.info("Leased seeded funnel: [{}]", funnel.getName());
+    }
+
+    @Given("^I lease a seeded search query$")
+    public void iLeaseSeededSearchQuery() {
+        SearchQueryRecord query = DataSeedingHooks.getSeeder().lease(SearchQueryRecord.class);
+        TestContext.put("searchQuery", query);
+        LOGGER.info("Leased seeded search query: [{}]", query.getQuery());
+    }
+}
@@ -1,5 +1,7 @@
 package com.company.qa.tests.steps.mobile;
 
+import com.company.qa.core.app.AppResetStrategy;
+import com.company.qa.core.app.AppResetter;
 import com.company.qa.core.driver.MobileDriverManager;
 import com.company.qa.tests.steps.BaseStepDefinition;
 import com.company.qa.tests.steps.ScenarioState;
@@ -27,26 +29,25 @@ public class MobileAppLifecycleSteps extends BaseStepDefinition {
     @When("^I launch the mobile app$")
     public void iLaunchApp() {
         getDriver().activateApp(MobileDriverManager.getAppId());
-        LOGGER.info("\n\tMobile app launched\n\t");
+        LOGGER.info("Mobile app launched");
     }
 
     @When("^I close the mobile app$")
     public void iCloseApp() {
         getDriver().terminateApp(MobileDriverManager.getAppId());
-        LOGGER.info("\n\tMobile app closed\n\t");
+        LOGGER.info("Mobile app closed");
     }
 
     @When("^I reset the mobile app$")
     public void iResetApp() {
-        String appId = MobileDriverManager.getAppId();
-        getDriver().terminateApp(appId);
-        getDriver().activateApp(appId);
-        LOGGER.info("\n\tMobile app reset\n\t");
+        // Cheapest strategy the app allows in apps.json: deep link, clear data, snapshot, reinstall
+        AppResetStrategy strategy = AppResetter.shared().reset(getDriver(), MobileDriverManager.getAppTarget());
+        LOGGER.info("Mobile app reset with [{}]", strategy.getName());
     }
 
     @When("^I send the mobile app to background for (\\d+) seconds$")
     public void iBackgroundApp(int seconds) {
         getDriver().runAppInBackground(Duration.ofSeconds(seconds));
-        LOGGER.info(String.format("\n\tMobile app sent to background for [%d] seconds\n\t", seconds));
+        LOGGER.info("Mobile app sent to background for [{}] seconds", seconds);
     }
 }
@@ -1,5 +1,6 @@
 package com.company.qa.tests.steps.mobile;
 
+import com.company.qa.core.app.AppArtifacts;
 import com.company.qa.core.driver.MobileDriverManager;
 import com.company.qa.tests.steps.BaseStepDefinition;
 import com.company.qa.tests.steps.ScenarioState;
@@ -35,7 +36,7 @@ public class MobileAssertionSteps extends BaseStepDefinition {
         assertThat(isDisplayed)
                 .as("Expected mobile element [%s] to be displayed", pageKey)
                 .isTrue();
-        LOGGER.info(String.format("\n\tMobile element [%s] is displayed\n\t", pageKey));
+        LOGGER.info("Mobile element [{}] is displayed", pageKey);
     }
 
     @Then("^I see mobile element (\\w+(?: \\w+)*) text equals \"([^\"]*)\" by (\\w+(?: \\w+)*)$")
@@ -46,7 +47,7 @@ public class MobileAssertionSteps extends BaseStepDefinition {
                 .as("Expected text [%s] but got [%s] for element [%s]",
                         expectedText, actualText, pageKey)
                 .isEqualTo(expectedText);
-        LOGGER.info(String.format("\n\tMobile element [%s] text equals [%s]\n\t", pageKey, expectedText));
+        LOGGER.info("Mobile element [{}] text equals [{}]", pageKey, expectedText);
     }
 
     @Then("^I see mobile element (\\w+(?: \\w+)*) text contains \"([^\"]*)\" by (\\w+(?: \\w+)*)$")
@@ -57,7 +58,7 @@ public class MobileAssertionSteps extends BaseStepDefinition {
                 .as("Expected text of element [%s] to contain [%s] but got [%s]",
                         pageKey, expectedText, actualText)
                 .contains(expectedText);
-        LOGGER.info(String.format("\n\tMobile element [%s] text contains [%s]\n\t", pageKey, expectedText));
+        LOGGER.info("Mobile element [{}] text contains [{}]", pageKey, expectedText);
     }
 
     @Then("^I see mobile element (\\w+(?: \\w+)*) attribute \"([^\"]*)\" equals \"([^\"]*)\" by (\\w+(?: \\w+)*)$")
@@ -68,8 +69,8 @@ public class MobileAssertionSteps extends BaseStepDefinition {
                 .as("Expected attribute [%s] of element [%s] to be [%s] but got [%s]",
                         attribute, pageKey, expectedValue, actualValue)
                 .isEqualTo(expectedValue);
-        LOGGER.info(String.format("\n\tMobile element [%s] attribute [%s] equals [%s]\n\t",
-                pageKey, attribute, expectedValue));
+        LOGGER.info("Mobile element [{}] attribute [{}] equals [{}]",
+                pageKey, attribute, expectedValue);
     }
 
     @Then("^I see mobile element with accessibility id \"([^\"]*)\" is displayed$")
@@ -78,19 +79,22 @@ public class MobileAssertionSteps extends BaseStepDefinition {
         assertThat(element.isDisplayed())
                 .as("Expected element with accessibility ID [%s] to be displayed", accessibilityId)
                 .isTrue();
-        LOGGER.info(String.format("\n\tMobile element with accessibility ID [%s] is displayed\n\t", accessibilityId));
+        LOGGER.info("Mobile element with accessibility ID [{}] is displayed", accessibilityId);
     }
 
     @Then("^I install app \"([^\"]*)\"$")
     public void iInstallApp(String appPath) {
-        getDriver().installApp(appPath);
-        LOGGER.info(String.format("\n\tInstalled app: [%s]\n\t", appPath));
+        if (AppArtifacts.shared().ensureInstalled(getDriver(), appPath)) {
+            LOGGER.info("Installed app: [{}]", appPath);
+        } else {
+            LOGGER.info("App [{}] already installed, same build", appPath);
+        }
     }
 
     @Then("^I remove app \"([^\"]*)\"$")
     public void iRemoveApp(String bundleId) {
         getDriver().removeApp(bundleId);
-        LOGGER.info(String.format("\n\tRemoved app: [%s]\n\t", bundleId));
+        LOGGER.info("Removed app: [{}]", bundleId);
     }
 
     @Then("^I see app \"([^\"]*)\" is installed$")
@@ -98,7 +102,7 @@ public class MobileAssertionSteps extends BaseStepDefinition {
         assertThat(getDriver().isAppInstalled(bundleId))
                 .as("Expected app [%s] to be installed", bundleId)
                 .isTrue();
-        LOGGER.info(String.format("\n\tApp [%s] is installed\n\t", bundleId));
+        LOGGER.info("App [{}] is installed", bundleId);
     }
 
     @Then("^I see app \"([^\"]*)\" is not installed$")
@@ -106,7 +110,7 @@ public class MobileAssertionSteps extends BaseStepDefinition {
         assertThat(getDriver().isAppInstalled(bundleId))
                 .as("Expected app [%s] to NOT be installed", bundleId)
                 .isFalse();
-        LOGGER.info(String.format("\n\tApp [%s] is not installed\n\t", bundleId));
+        LOGGER.info("App [{}] is not installed", bundleId);
     }
 
     @Then("^I see orientation is (landscape|portrait)$")
@@ -116,16 +120,16 @@ public class MobileAssertionSteps extends BaseStepDefinition {
                 .as("Expected orientation [%s] but got [%s]",
                         expectedOrientation, current.value())
                 .isEqualTo(expectedOrientation.toLowerCase());
-        LOGGER.info(String.format("\n\tOrientation is [%s] as expected\n\t", expectedOrientation));
+        LOGGER.info("Orientation is [{}] as expected", expectedOrientation);
     }
 
     @Then("^I open notifications$")
     public void iOpenNotifications() {
         if (getDriver() instanceof AndroidDriver) {
             ((AndroidDriver) getDriver()).openNotifications();
-            LOGGER.info("\n\tNotifications opened\n\t");
+            LOGGER.info("Notifications opened");
         } else {
-            LOGGER.info("\n\tOpen notifications is only available on Android\n\t");
+            LOGGER.info("Open notifications is only available on Android");
         }
     }
 
@@ -137,9 +141,9 @@ public class MobileAssertionSteps extends BaseStepDefinition {
                     .as("Expected activity [%s] but got [%s]",
                             expectedActivity, currentActivity)
                     .isEqualTo(expectedActivity);
-            LOGGER.info(String.format("\n\tCurrent activity is [%s] as expected\n\t", currentActivity));
+            LOGGER.info("Current activity is [{}] as expected", currentActivity);
         } else {
-            LOGGER.info("\n\tCurrent activity is only available on Android\n\t");
+            LOGGER.info("Current activity is only available on Android");
         }
     }
 }
@@ -32,7 +32,7 @@ public class MobileDeviceSteps extends BaseStepDefinition {
     @Then("^I hide the keyboard$")
     public void iHideKeyboard() {
         getDriver().hideKeyboard();
-        LOGGER.info("\n\tKeyboard hidden\n\t");
+        LOGGER.info("Keyboard hidden");
     }
 
     @Then("^I rotate to (landscape|portrait)$")
@@ -42,16 +42,16 @@ public class MobileDeviceSteps extends BaseStepDefinition {
         } else {
             getDriver().rotate(ScreenOrientation.PORTRAIT);
         }
-        LOGGER.info(String.format("\n\tRotated to [%s]\n\t", orientation));
+        LOGGER.info("Rotated to [{}]", orientation);
     }
 
     @Then("^I press the back button$")
     public void iPressBackButton() {
         if (getDriver() instanceof AndroidDriver) {
             ((AndroidDriver) getDriver()).pressKey(new KeyEvent(AndroidKey.BACK));
-            LOGGER.info("\n\tPressed back button\n\t");
+            LOGGER.info("Pressed back button");
         } else {
-            LOGGER.info("\n\tBack button is only available on Android\n\t");
+            LOGGER.info("Back button is only available on Android");
         }
     }
 
@@ -59,9 +59,9 @@ public class MobileDeviceSteps extends BaseStepDefinition {
     public void iPressHomeButton() {
         if (getDriver() instanceof AndroidDriver) {
             ((AndroidDriver) getDriver()).pressKey(new KeyEvent(AndroidKey.HOME));
-            LOGGER.info("\n\tPressed home button\n\t");
+            LOGGER.info("Pressed home button");
         } else {
-            LOGGER.info("\n\tHome button is only available on Android\n\t");
+            LOGGER.info("Home button is only available on Android");
         }
     }
 
@@ -69,9 +69,9 @@ public class MobileDeviceSteps extends BaseStepDefinition {
     public void iPressEnterKey() {
         if (getDriver() instanceof AndroidDriver) {
             ((AndroidDriver) getDriver()).pressKey(new KeyEvent(AndroidKey.ENTER));
-            LOGGER.info("\n\tPressed enter key\n\t");
+            LOGGER.info("Pressed enter key");
         } else {
-            LOGGER.info("\n\tAndroid key code is only available on Android\n\t");
+            LOGGER.info("Android key code is only available on Android");
         }
     }
 
@@ -80,7 +80,7 @@ public class MobileDeviceSteps extends BaseStepDefinition {
         if (getDriver() instanceof AndroidDriver) {
             ((AndroidDriver) getDriver()).lockDevice();
         }
-        LOGGER.info("\n\tDevice locked\n\t");
+        LOGGER.info("Device locked");
     }
 
     @Then("^I lock the device for (\\d+) seconds$")
@@ -88,13 +88,13 @@ public class MobileDeviceSteps extends BaseStepDefinition {
         if (getDriver() instanceof AndroidDriver) {
             ((AndroidDriver) getDriver()).lockDevice(Duration.ofSeconds(seconds));
         }
-        LOGGER.info(String.format("\n\tDevice locked for [%d] seconds\n\t", seconds));
+        LOGGER.info("Device locked for [{}] seconds", seconds);
     }
 
     @Then("^I switch to native context$")
     public void iSwitchToNativeContext() {
         getDriver().context("NATIVE_APP");
-        LOGGER.info("\n\tSwitched to NATIVE_APP context\n\t");
+        LOGGER.info("Switched to NATIVE_APP context");
     }
 
     @Then("^I switch to webview context$")
@@ -103,7 +103,7 @@ public class MobileDeviceSteps extends BaseStepDefinition {
         for (String context : contexts) {
             if (context.contains("WEBVIEW")) {
                 getDriver().context(context);
-                LOGGER.info(String.format("\n\tSwitched to context: [%s]\n\t", context));
+                LOGGER.info("Switched to context: [{}]", context);
                 return;
             }
         }
@@ -113,6 +113,6 @@ public class MobileDeviceSteps extends BaseStepDefinition {
     @Then("^I switch to context \"([^\"]*)\"$")
     public void iSwitchToContext(String contextName) {
         getDriver().context(contextName);
-        LOGGER.info(String.format("\n\tSwitched to context: [%s]\n\t", contextName));
+        LOGGER.info("Switched to context: [{}]", contextName);
     }
 }
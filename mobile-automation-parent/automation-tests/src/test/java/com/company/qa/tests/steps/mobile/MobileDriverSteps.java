@@ -1,8 +1,7 @@
 package com.company.qa.tests.steps.mobile;
 
-import com.google.gson.JsonObject;
 import com.company.qa.core.driver.MobileDriverManager;
-import com.company.qa.core.util.JsonParser;
+import com.company.qa.core.locator.PageRepository;
 import com.company.qa.tests.steps.BaseStepDefinition;
 import com.company.qa.tests.steps.ScenarioState;
 import io.appium.java_client.AppiumDriver;
@@ -37,22 +36,22 @@ public class MobileDriverSteps extends BaseStepDefinition {
     @Given("^I use (android|ios) mobile driver on device \"([^\"]*)\" version \"([^\"]*)\"$")
     public void useMobileDriver(String platform, String deviceName, String platformVersion) {
         MobileDriverManager.createDriver(platform, deviceName, platformVersion);
-        LOGGER.info(String.format("\n\t[Thread-%d] Mobile driver created: [%s] device [%s] version [%s]\n\t",
-                Thread.currentThread().getId(), platform, deviceName, platformVersion));
+        LOGGER.info("[Thread-{}] Mobile driver created: [{}] device [{}] version [{}]",
+                Thread.currentThread().getId(), platform, deviceName, platformVersion);
     }
 
     @Given("^I use (android|ios) mobile driver on device \"([^\"]*)\" version \"([^\"]*)\" with app \"([^\"]*)\"$")
     public void useMobileDriverWithApp(String platform, String deviceName, String platformVersion, String app) {
         MobileDriverManager.createDriverWithApp(platform, deviceName, platformVersion, app);
-        LOGGER.info(String.format("\n\t[Thread-%d] Mobile driver created: [%s] device [%s] app [%s]\n\t",
-                Thread.currentThread().getId(), platform, deviceName, app));
+        LOGGER.info("[Thread-{}] Mobile driver created: [{}] device [{}] app [{}]",
+                Thread.currentThread().getId(), platform, deviceName, app);
     }
 
     @Given("^I use (android|ios) mobile driver on device \"([^\"]*)\" version \"([^\"]*)\" at \"([^\"]*)\"$")
     public void useMobileDriverAtUrl(String platform, String deviceName, String platformVersion, String appiumUrl) {
         MobileDriverManager.createDriver(platform, deviceName, platformVersion, appiumUrl);
-        LOGGER.info(String.format("\n\t[Thread-%d] Mobile driver created: [%s] at [%s]\n\t",
-                Thread.currentThread().getId(), platform, appiumUrl));
+        LOGGER.info("[Thread-{}] Mobile driver created: [{}] at [{}]",
+                Thread.currentThread().getId(), platform, appiumUrl);
     }
 
     @Given("^I use (android|ios) mobile driver with capabilities$")
@@ -69,16 +68,15 @@ public class MobileDriverSteps extends BaseStepDefinition {
             MobileDriverManager.createDriverWithCapabilities(platform, capabilities);
         }
 
-        LOGGER.info(String.format("\n\t[Thread-%d] Mobile driver created: [%s] with capabilities %s\n\t",
-                Thread.currentThread().getId(), platform, capabilities));
+        LOGGER.info("[Thread-{}] Mobile driver created: [{}] with capabilities {}",
+                Thread.currentThread().getId(), platform, capabilities);
     }
 
     @When("^I open mobile (\\w+(?: \\w+)*) page$")
     public void iOpenMobilePage(String flowKey) {
-        JsonObject jsonObject = JsonParser.parse("pages");
-        state.setPageObject(jsonObject.get(flowKey).getAsJsonObject());
+        state.setPageObject(PageRepository.current().getPage(flowKey));
         String urlString = state.getPageObject().get("url").getAsString();
         getDriver().get(urlString);
-        LOGGER.info(String.format("\n\tMobile navigated to: %s\n\t", urlString));
+        LOGGER.info("Mobile navigated to: {}", urlString);
     }
 }
@@ -1,8 +1,6 @@
 package com.company.qa.tests.steps.mobile;
 
-import com.google.gson.JsonObject;
 import com.company.qa.core.driver.MobileDriverManager;
-import com.company.qa.core.driver.SelectDecision;
 import com.company.qa.core.action.MobileActions;
 import com.company.qa.tests.steps.BaseStepDefinition;
 import com.company.qa.tests.steps.ScenarioState;
@@ -35,14 +33,14 @@ public class MobileElementSteps extends BaseStepDefinition {
     public void iTypeOnMobileElement(String text, String pageKey, String selectKey) {
         By by = resolveElement(pageKey, selectKey);
         getDriver().findElement(by).sendKeys(text);
-        LOGGER.info(String.format("\n\tTyped [%s] on mobile element: [%s]\n\t", text, pageKey));
+        LOGGER.info("Typed [{}] on mobile element: [{}]", text, pageKey);
     }
 
     @Then("^I clear mobile element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
     public void iClearMobileElement(String pageKey, String selectKey) {
         By by = resolveElement(pageKey, selectKey);
         getDriver().findElement(by).clear();
-        LOGGER.info(String.format("\n\tCleared mobile element: [%s]\n\t", pageKey));
+        LOGGER.info("Cleared mobile element: [{}]", pageKey);
     }
 
     @Then("^I fill mobile by (\\w+(?: \\w+)*)$")
@@ -50,13 +48,10 @@ public class MobileElementSteps extends BaseStepDefinition {
         for (List<String> row : table.asLists(String.class)) {
             String key = row.get(0);
             String value = row.get(1);
-            JsonObject pageElementObject = state.getPageObject().get("elements").getAsJsonObject();
-            String pageElement = pageElementObject.get(key).getAsString();
-            By by = SelectDecision.resolve(selectKey, pageElement);
-            state.setCurrentLocator(by);
+            By by = resolveElement(key, selectKey);
             getDriver().findElement(by).clear();
             getDriver().findElement(by).sendKeys(value);
-            LOGGER.info(String.format("\n\tMobile filling key: [%s] with value: [%s]\n\t", key, value));
+            LOGGER.info("Mobile filling key: [{}] with value: [{}]", key, value);
         }
     }
 
@@ -64,13 +59,10 @@ public class MobileElementSteps extends BaseStepDefinition {
     public void iTapMobileBy(String selectKey, DataTable table) {
         for (List<String> row : table.asLists(String.class)) {
             String key = row.get(0);
-            JsonObject pageElementObject = state.getPageObject().get("elements").getAsJsonObject();
-            String pageElement = pageElementObject.get(key).getAsString();
-            By by = SelectDecision.resolve(selectKey, pageElement);
-            state.setCurrentLocator(by);
+            By by = resolveElement(key, selectKey);
             WebElement element = getDriver().findElement(by);
             new MobileActions(getDriver()).tap(element);
-            LOGGER.info(String.format("\n\tMobile tapped element: [%s]\n\t", key));
+            LOGGER.info("Mobile tapped element: [{}]", key);
         }
     }
 
@@ -78,12 +70,12 @@ public class MobileElementSteps extends BaseStepDefinition {
     public void iTapByAccessibilityId(String accessibilityId) {
         WebElement element = getDriver().findElement(AppiumBy.accessibilityId(accessibilityId));
         new MobileActions(getDriver()).tap(element);
-        LOGGER.info(String.format("\n\tTapped element with accessibility ID: [%s]\n\t", accessibilityId));
+        LOGGER.info("Tapped element with accessibility ID: [{}]", accessibilityId);
     }
 
     @Then("^I type \"([^\"]*)\" on element with accessibility id \"([^\"]*)\"$")
     public void iTypeByAccessibilityId(String text, String accessibilityId) {
         getDriver().findElement(AppiumBy.accessibilityId(accessibilityId)).sendKeys(text);
-        LOGGER.info(String.format("\n\tTyped [%s] on element with accessibility ID: [%s]\n\t", text, accessibilityId));
+        LOGGER.info("Typed [{}] on element with accessibility ID: [{}]", text, accessibilityId);
     }
 }
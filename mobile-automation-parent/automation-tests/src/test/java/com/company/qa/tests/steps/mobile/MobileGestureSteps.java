@@ -30,7 +30,7 @@ public class MobileGestureSteps extends BaseStepDefinition {
         By by = resolveElement(pageKey, selectKey);
         WebElement element = getDriver().findElement(by);
         new MobileActions(getDriver()).tap(element);
-        LOGGER.info(String.format("\n\tTapped element: [%s]\n\t", pageKey));
+        LOGGER.info("Tapped element: [{}]", pageKey);
     }
 
     @Then("^I long press element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
@@ -38,25 +38,25 @@ public class MobileGestureSteps extends BaseStepDefinition {
         By by = resolveElement(pageKey, selectKey);
         WebElement element = getDriver().findElement(by);
         new MobileActions(getDriver()).longPress(element);
-        LOGGER.info(String.format("\n\tLong pressed element: [%s]\n\t", pageKey));
+        LOGGER.info("Long pressed element: [{}]", pageKey);
     }
 
     @Then("^I tap on coordinates (\\d+) (\\d+)$")
     public void iTapOnCoordinates(int x, int y) {
         new MobileActions(getDriver()).tapCoordinates(x, y);
-        LOGGER.info(String.format("\n\tTapped on coordinates: [%d, %d]\n\t", x, y));
+        LOGGER.info("Tapped on coordinates: [{}, {}]", x, y);
     }
 
     @Then("^I long press on coordinates (\\d+) (\\d+)$")
     public void iLongPressOnCoordinates(int x, int y) {
         new MobileActions(getDriver()).longPressCoordinates(x, y);
-        LOGGER.info(String.format("\n\tLong pressed on coordinates: [%d, %d]\n\t", x, y));
+        LOGGER.info("Long pressed on coordinates: [{}, {}]", x, y);
     }
 
     @Then("^I swipe (up|down|left|right)$")
     public void iSwipe(String direction) {
         new MobileActions(getDriver()).swipe(direction);
-        LOGGER.info(String.format("\n\tSwiped [%s]\n\t", direction));
+        LOGGER.info("Swiped [{}]", direction);
     }
 
     @Then("^I swipe (up|down|left|right) (\\d+) times$")
@@ -65,7 +65,7 @@ public class MobileGestureSteps extends BaseStepDefinition {
         for (int i = 0; i < times; i++) {
             actions.swipe(direction);
         }
-        LOGGER.info(String.format("\n\tSwiped [%s] [%d] times\n\t", direction, times));
+        LOGGER.info("Swiped [{}] [{}] times", direction, times);
     }
 
     @Then("^I pinch element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
@@ -73,7 +73,7 @@ public class MobileGestureSteps extends BaseStepDefinition {
         By by = resolveElement(pageKey, selectKey);
         WebElement element = getDriver().findElement(by);
         new MobileActions(getDriver()).pinch(element);
-        LOGGER.info(String.format("\n\tPinched element: [%s]\n\t", pageKey));
+        LOGGER.info("Pinched element: [{}]", pageKey);
     }
 
     @Then("^I zoom element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
@@ -81,6 +81,6 @@ public class MobileGestureSteps extends BaseStepDefinition {
         By by = resolveElement(pageKey, selectKey);
         WebElement element = getDriver().findElement(by);
         new MobileActions(getDriver()).zoom(element);
-        LOGGER.info(String.format("\n\tZoomed element: [%s]\n\t", pageKey));
+        LOGGER.info("Zoomed element: [{}]", pageKey);
     }
 }
@@ -28,13 +28,13 @@ public class WebAlertSteps extends BaseStepDefinition {
     @Then("^I accept the alert$")
     public void iAcceptAlert() {
         getWebDriver().switchTo().alert().accept();
-        LOGGER.info("\n\tAlert accepted\n\t");
+        LOGGER.info("Alert accepted");
     }
 
     @Then("^I dismiss the alert$")
     public void iDismissAlert() {
         getWebDriver().switchTo().alert().dismiss();
-        LOGGER.info("\n\tAlert dismissed\n\t");
+        LOGGER.info("Alert dismissed");
     }
 
     @Then("^I see alert text equals \"([^\"]*)\"$")
@@ -43,32 +43,32 @@ public class WebAlertSteps extends BaseStepDefinition {
         assertThat(alertText)
                 .as("Expected alert text [%s] but got [%s]", expectedText, alertText)
                 .isEqualTo(expectedText);
-        LOGGER.info(String.format("\n\tAlert text is [%s] as expected\n\t", alertText));
+        LOGGER.info("Alert text is [{}] as expected", alertText);
     }
 
     @Then("^I type \"([^\"]*)\" into alert$")
     public void iTypeIntoAlert(String text) {
         getWebDriver().switchTo().alert().sendKeys(text);
-        LOGGER.info(String.format("\n\tTyped [%s] into alert\n\t", text));
+        LOGGER.info("Typed [{}] into alert", text);
     }
 
     @Then("^I press enter on element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
     public void iPressEnterOnElement(String pageKey, String selectKey) {
         By by = resolveElement(pageKey, selectKey);
         getWebDriver().findElement(by).sendKeys(Keys.ENTER);
-        LOGGER.info(String.format("\n\tPressed ENTER on element: [%s]\n\t", pageKey));
+        LOGGER.info("Pressed ENTER on element: [{}]", pageKey);
     }
 
     @Then("^I press escape$")
     public void iPressEscape() {
         new Actions(getWebDriver()).sendKeys(Keys.ESCAPE).perform();
-        LOGGER.info("\n\tPressed ESCAPE\n\t");
+        LOGGER.info("Pressed ESCAPE");
     }
 
     @Then("^I press tab on element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
     public void iPressTabOnElement(String pageKey, String selectKey) {
         By by = resolveElement(pageKey, selectKey);
         getWebDriver().findElement(by).sendKeys(Keys.TAB);
-        LOGGER.info(String.format("\n\tPressed TAB on element: [%s]\n\t", pageKey));
+        LOGGER.info("Pressed TAB on element: [{}]", pageKey);
     }
 }
@@ -1,7 +1,5 @@
 package com.company.qa.tests.steps.web;
 
-import com.google.gson.JsonObject;
-import com.company.qa.core.driver.SelectDecision;
 import com.company.qa.tests.steps.BaseStepDefinition;
 import com.company.qa.tests.steps.ScenarioState;
 import io.cucumber.datatable.DataTable;
@@ -36,7 +34,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(currentHeader)
                 .as("Expected webpage title [%s] but got [%s]", expectedHeader, currentHeader)
                 .isEqualTo(expectedHeader);
-        LOGGER.info(String.format("\n\tThe webpage title is [%s] as expected [%s]\n\t", currentHeader, expectedHeader));
+        LOGGER.info("The webpage title is [{}] as expected [{}]", currentHeader, expectedHeader);
     }
 
     @Then("^I see webpage title contains \"([^\"]*)\"$")
@@ -45,7 +43,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(currentHeader)
                 .as("Expected webpage title [%s] to contain [%s]", currentHeader, expectedHeader)
                 .contains(expectedHeader);
-        LOGGER.info(String.format("\n\tThe webpage title [%s] contains [%s]\n\t", currentHeader, expectedHeader));
+        LOGGER.info("The webpage title [{}] contains [{}]", currentHeader, expectedHeader);
     }
 
     @Then("^I see webpage title does not equal \"([^\"]*)\"$")
@@ -54,7 +52,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(currentHeader)
                 .as("Expected webpage title to NOT equal [%s] but it does", expectedHeader)
                 .isNotEqualTo(expectedHeader);
-        LOGGER.info(String.format("\n\tThe webpage title [%s] does not equal [%s] as expected\n\t", currentHeader, expectedHeader));
+        LOGGER.info("The webpage title [{}] does not equal [{}] as expected", currentHeader, expectedHeader);
     }
 
     @Then("^I see webpage title does not contain \"([^\"]*)\"$")
@@ -63,20 +61,18 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(currentHeader)
                 .as("Expected webpage title [%s] to NOT contain [%s] but it does", currentHeader, expectedHeader)
                 .doesNotContain(expectedHeader);
-        LOGGER.info(String.format("\n\tThe webpage title [%s] does not contain [%s] as expected\n\t", currentHeader, expectedHeader));
+        LOGGER.info("The webpage title [{}] does not contain [{}] as expected", currentHeader, expectedHeader);
     }
 
     @And("^I see text$")
     public void iSeeText(DataTable table) {
-        JsonObject pageElementObject = state.getPageObject().get("elements").getAsJsonObject();
-        String pageElement = pageElementObject.get("mainPanel").getAsString();
-        state.setCurrentLocator(SelectDecision.resolve("xpath", pageElement));
+        resolveElement("mainPanel", "xpath");
 
         for (List<String> row : table.asLists(String.class)) {
             String key = row.get(0);
             boolean isThere = getWebDriver().getPageSource().contains(key);
             if (isThere) {
-                LOGGER.info(String.format("\n\tThe text is in the page: %s\n\t", key));
+                LOGGER.info("The text is in the page: {}", key);
             } else {
                 throw new AssertionError(String.format("\n\tThe text is NOT in the page: %s\n\t", key));
             }
@@ -85,11 +81,9 @@ public class WebAssertionSteps extends BaseStepDefinition {
 
     @Then("^I see (\\w+(?: \\w+)*) equals to \"([^\"]*)\"$")
     public void iSeeElement(String pageKey, String valueKey) {
-        JsonObject pageElementObject = state.getPageObject().get("elements").getAsJsonObject();
-        String pageElement = pageElementObject.get(pageKey).getAsString();
-        String element = getWebDriver().findElement(By.xpath(pageElement)).getText();
+        String element = getWebDriver().findElement(resolveElement(pageKey, "xpath")).getText();
         assertThat(element).isEqualTo(valueKey);
-        LOGGER.info(String.format("\n\tCheck web element: %s\n\t", pageKey));
+        LOGGER.info("Check web element: {}", pageKey);
     }
 
     @Then("^I see current url equals \"([^\"]*)\"$")
@@ -98,7 +92,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(currentUrl)
                 .as("Expected URL [%s] but got [%s]", expectedUrl, currentUrl)
                 .isEqualTo(expectedUrl);
-        LOGGER.info(String.format("\n\tCurrent URL [%s] equals expected [%s]\n\t", currentUrl, expectedUrl));
+        LOGGER.info("Current URL [{}] equals expected [{}]", currentUrl, expectedUrl);
     }
 
     @Then("^I see current url contains \"([^\"]*)\"$")
@@ -107,7 +101,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(currentUrl)
                 .as("Expected URL [%s] to contain [%s]", currentUrl, expectedText)
                 .contains(expectedText);
-        LOGGER.info(String.format("\n\tCurrent URL [%s] contains [%s]\n\t", currentUrl, expectedText));
+        LOGGER.info("Current URL [{}] contains [{}]", currentUrl, expectedText);
     }
 
     @Then("^I see element (\\w+(?: \\w+)*) is displayed by (\\w+(?: \\w+)*)$")
@@ -117,7 +111,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(isDisplayed)
                 .as("Expected element [%s] to be displayed but it is not", pageKey)
                 .isTrue();
-        LOGGER.info(String.format("\n\tElement [%s] is displayed\n\t", pageKey));
+        LOGGER.info("Element [{}] is displayed", pageKey);
     }
 
     @Then("^I see element (\\w+(?: \\w+)*) is not displayed by (\\w+(?: \\w+)*)$")
@@ -128,7 +122,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(isNotDisplayed)
                 .as("Expected element [%s] to NOT be displayed but it is", pageKey)
                 .isTrue();
-        LOGGER.info(String.format("\n\tElement [%s] is not displayed\n\t", pageKey));
+        LOGGER.info("Element [{}] is not displayed", pageKey);
     }
 
     @Then("^I see element (\\w+(?: \\w+)*) is enabled by (\\w+(?: \\w+)*)$")
@@ -138,7 +132,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(isEnabled)
                 .as("Expected element [%s] to be enabled but it is not", pageKey)
                 .isTrue();
-        LOGGER.info(String.format("\n\tElement [%s] is enabled\n\t", pageKey));
+        LOGGER.info("Element [{}] is enabled", pageKey);
     }
 
     @Then("^I see element (\\w+(?: \\w+)*) is disabled by (\\w+(?: \\w+)*)$")
@@ -148,7 +142,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
         assertThat(isEnabled)
                 .as("Expected element [%s] to be disabled but it is enabled", pageKey)
                 .isFalse();
-        LOGGER.info(String.format("\n\tElement [%s] is disabled\n\t", pageKey));
+        LOGGER.info("Element [{}] is disabled", pageKey);
     }
 
     @Then("^I see element (\\w+(?: \\w+)*) attribute \"([^\"]*)\" equals \"([^\"]*)\" by (\\w+(?: \\w+)*)$")
@@ -159,7 +153,7 @@ public class WebAssertionSteps extends BaseStepDefinition {
                 .as("Expected attribute [%s] of element [%s] to be [%s] but got [%s]",
                         attribute, pageKey, expectedValue, actualValue)
                 .isEqualTo(expectedValue);
-        LOGGER.info(String.format("\n\tElement [%s] attribute [%s] equals [%s]\n\t", pageKey, attribute, expectedValue));
+        LOGGER.info("Element [{}] attribute [{}] equals [{}]", pageKey, attribute, expectedValue);
     }
 
     @Then("^I see element count (\\w+(?: \\w+)*) is (\\d+) by (\\w+(?: \\w+)*)$")
@@ -170,6 +164,6 @@ public class WebAssertionSteps extends BaseStepDefinition {
                 .as("Expected [%d] elements for [%s] but found [%d]",
                         expectedCount, pageKey, actualCount)
                 .isEqualTo(expectedCount);
-        LOGGER.info(String.format("\n\tElement [%s] count is [%d] as expected\n\t", pageKey, expectedCount));
+        LOGGER.info("Element [{}] count is [{}] as expected", pageKey, expectedCount);
     }
 }
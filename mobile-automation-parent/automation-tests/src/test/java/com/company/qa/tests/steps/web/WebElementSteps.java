@@ -1,7 +1,5 @@
 package com.company.qa.tests.steps.web;
 
-import com.google.gson.JsonObject;
-import com.company.qa.core.driver.SelectDecision;
 import com.company.qa.tests.steps.BaseStepDefinition;
 import com.company.qa.tests.steps.ScenarioState;
 import io.cucumber.datatable.DataTable;
@@ -35,7 +33,7 @@ public class WebElementSteps extends BaseStepDefinition {
             String key = row.get(0);
             By by = resolveElement(key, selectKey);
             getWebDriver().findElement(by).click();
-            LOGGER.info(String.format("\n\tClicked element: [%s]\n\t", key));
+            LOGGER.info("Clicked element: [{}]", key);
         }
     }
 
@@ -43,7 +41,7 @@ public class WebElementSteps extends BaseStepDefinition {
     public void iClickElement(String pageKey, String selectKey) {
         By by = resolveElement(pageKey, selectKey);
         getWebDriver().findElement(by).click();
-        LOGGER.info(String.format("\n\tClicked element: [%s]\n\t", pageKey));
+        LOGGER.info("Clicked element: [{}]", pageKey);
     }
 
     @Then("^I double click element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
@@ -51,7 +49,7 @@ public class WebElementSteps extends BaseStepDefinition {
         By by = resolveElement(pageKey, selectKey);
         WebElement element = getWebDriver().findElement(by);
         new Actions(getWebDriver()).doubleClick(element).perform();
-        LOGGER.info(String.format("\n\tDouble clicked element: [%s]\n\t", pageKey));
+        LOGGER.info("Double clicked element: [{}]", pageKey);
     }
 
     @Then("^I right click element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
@@ -59,7 +57,7 @@ public class WebElementSteps extends BaseStepDefinition {
         By by = resolveElement(pageKey, selectKey);
         WebElement element = getWebDriver().findElement(by);
         new Actions(getWebDriver()).contextClick(element).perform();
-        LOGGER.info(String.format("\n\tRight clicked element: [%s]\n\t", pageKey));
+        LOGGER.info("Right clicked element: [{}]", pageKey);
     }
 
     @When("^I click (\\w+(?: \\w+)*), link: (\\w+(?: \\w+)*) opened in new tab$")
@@ -68,7 +66,7 @@ public class WebElementSteps extends BaseStepDefinition {
         WebElement element = getWebDriver().findElement(by);
         Actions action = new Actions(getWebDriver());
         action.keyDown(Keys.COMMAND).keyDown(Keys.SHIFT).click(element).keyUp(Keys.CONTROL).keyUp(Keys.SHIFT).build().perform();
-        LOGGER.info(String.format("\n\tClicking link and opened in new tab %s\n\t", pageKey));
+        LOGGER.info("Clicking link and opened in new tab {}", pageKey);
     }
 
     @Then("^I fill by (\\w+(?: \\w+)*)$")
@@ -76,13 +74,10 @@ public class WebElementSteps extends BaseStepDefinition {
         for (List<String> row : table.asLists(String.class)) {
             String key = row.get(0);
             String value = row.get(1);
-            JsonObject pageElementObject = state.getPageObject().get("elements").getAsJsonObject();
-            String pageElement = pageElementObject.get(key).getAsString();
-            By by = SelectDecision.resolve(selectKey, pageElement);
-            state.setCurrentLocator(by);
+            By by = resolveElement(key, selectKey);
             getWebDriver().findElements(by).clear();
             getWebDriver().findElement(by).sendKeys(value);
-            LOGGER.info(String.format("\n\tFilling the key: [%s] \t with the value: [%s]\n\t", key, value));
+            LOGGER.info("Filling the key: [{}] with the value: [{}]", key, value);
         }
     }
 
@@ -90,7 +85,7 @@ public class WebElementSteps extends BaseStepDefinition {
     public void iClearElement(String pageKey, String selectKey) {
         By by = resolveElement(pageKey, selectKey);
         getWebDriver().findElement(by).clear();
-        LOGGER.info(String.format("\n\tCleared element: [%s]\n\t", pageKey));
+        LOGGER.info("Cleared element: [{}]", pageKey);
     }
 
     @Then("^I scroll to element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
@@ -98,28 +93,28 @@ public class WebElementSteps extends BaseStepDefinition {
         By by = resolveElement(pageKey, selectKey);
         WebElement element = getWebDriver().findElement(by);
         ((JavascriptExecutor) getWebDriver()).executeScript("arguments[0].scrollIntoView(true);", element);
-        LOGGER.info(String.format("\n\tScrolled to element: [%s]\n\t", pageKey));
+        LOGGER.info("Scrolled to element: [{}]", pageKey);
     }
 
     @Then("^I submit element (\\w+(?: \\w+)*) by (\\w+(?: \\w+)*)$")
     public void iSubmitElement(String pageKey, String selectKey) {
         By by = resolveElement(pageKey, selectKey);
         getWebDriver().findElement(by).submit();
-        LOGGER.info(String.format("\n\tSubmitted form via element: [%s]\n\t", pageKey));
+        LOGGER.info("Submitted form via element: [{}]", pageKey);
     }
 
     @Then("^I mouse hover to element (\\w+(?: \\w+)*)$")
     public void iMouseHover(WebElement element) {
         Actions action = new Actions(getWebDriver());
         action.moveToElement(element).perform();
-        LOGGER.info(String.format("\n\tMouse hover to element: %s\n\t", element));
+        LOGGER.info("Mouse hover to element: {}", element);
     }
 
     @Then("I mouse hover to element (\\w+(?: \\w+)*) and click")
     public void iMouseClick(WebElement element) {
         Actions action = new Actions(getWebDriver());
         action.moveToElement(element).click(element).build().perform();
-        LOGGER.info(String.format("\n\tMouse hover and click to element: %s\n\t", element));
+        LOGGER.info("Mouse hover and click to element: {}", element);
     }
 
     @Then("^I select (\\w+(?: \\w+)*) dropdown option on element (\\w+(?: \\w+)*)$")
@@ -1,8 +1,7 @@
 package com.company.qa.tests.steps.web;
 
-import com.google.gson.JsonObject;
 import com.company.qa.core.driver.BrowserManager;
-import com.company.qa.core.util.JsonParser;
+import com.company.qa.core.locator.PageRepository;
 import com.company.qa.tests.steps.BaseStepDefinition;
 import com.company.qa.tests.steps.ScenarioState;
 import io.cucumber.java.en.Given;
@@ -36,23 +35,22 @@ public class WebNavigationSteps extends BaseStepDefinition {
     public void useDriver(String browserKey) {
         WebDriver webDriver = BrowserManager.createBrowser(browserKey);
         state.setWebDriver(webDriver);
-        LOGGER.info(String.format("\n\tDriver is: %s\n\t", browserKey));
+        LOGGER.info("Driver is: {}", browserKey);
     }
 
     @When("^I open (\\w+(?: \\w+)*) page$")
     public void iOpenPage(String flowKey) {
-        JsonObject jsonObject = JsonParser.parse("pages");
-        state.setPageObject(jsonObject.get(flowKey).getAsJsonObject());
+        state.setPageObject(PageRepository.current().getPage(flowKey));
         String urlString = state.getPageObject().get("url").getAsString();
         getWebDriver().get(urlString);
-        LOGGER.info(String.format("\n\tNavigate to the website: %s\n\t", urlString));
+        LOGGER.info("Navigate to the website: {}", urlString);
     }
 
     @Then("^I refresh the page$")
     public void iRefreshThePage() {
         String url = getWebDriver().getCurrentUrl();
         getWebDriver().navigate().refresh();
-        LOGGER.info(String.format("\n\tThe page [%s] has been refreshed.\n\t", url));
+        LOGGER.info("The page [{}] has been refreshed.", url);
     }
 
     @Then("^I open new tab$")
@@ -60,13 +58,13 @@ public class WebNavigationSteps extends BaseStepDefinition {
         ((JavascriptExecutor) getWebDriver()).executeScript("window.open()");
         ArrayList<String> tabs = new ArrayList<>(getWebDriver().getWindowHandles());
         getWebDriver().switchTo().window(tabs.get(1));
-        LOGGER.info("\n\tThe new tab is opened\n\t");
+        LOGGER.info("The new tab is opened");
     }
 
     @Then("^I close the tab$")
     public void iCloseTheTab() {
         ((JavascriptExecutor) getWebDriver()).executeScript("window.close()");
-        LOGGER.info("\n\tThe tab is closed\n\t");
+        LOGGER.info("The tab is closed");
         ArrayList<String> tabs = new ArrayList<>(getWebDriver().getWindowHandles());
         getWebDriver().switchTo().window(tabs.get(tabs.size() - 1));
     }
@@ -74,19 +72,19 @@ public class WebNavigationSteps extends BaseStepDefinition {
     @When("^I navigate back$")
     public void iNavigateBack() {
         getWebDriver().navigate().back();
-        LOGGER.info("\n\tNavigated back\n\t");
+        LOGGER.info("Navigated back");
     }
 
     @When("^I navigate forward$")
     public void iNavigateForward() {
         getWebDriver().navigate().forward();
-        LOGGER.info("\n\tNavigated forward\n\t");
+        LOGGER.info("Navigated forward");
     }
 
     @When("^I navigate to url \"([^\"]*)\"$")
     public void iNavigateToUrl(String url) {
         getWebDriver().get(url);
-        LOGGER.info(String.format("\n\tNavigated to URL: [%s]\n\t", url));
+        LOGGER.info("Navigated to URL: [{}]", url);
     }
 
     @When("^I open the url \"([^\"]*)\" in new tab$")
@@ -95,25 +93,25 @@ public class WebNavigationSteps extends BaseStepDefinition {
         ArrayList<String> tabs = new ArrayList<>(getWebDriver().getWindowHandles());
         getWebDriver().switchTo().window(tabs.get(1));
         getWebDriver().get(pageKey);
-        LOGGER.info("\n\tThe URL [" + pageKey + "] opened in new tab\n\t");
+        LOGGER.info("The URL [{}] opened in new tab", pageKey);
     }
 
     @When("^I wait for page$")
     public void iWaitForPage() {
         getWebDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        LOGGER.info("\n\tWait for page\n\t");
+        LOGGER.info("Wait for page");
     }
 
     @Then("^I switch the iFrame \"([^\"]*)\"$")
     public void iSwitchFrame(String frameIdentifier) {
         WebElement iframe = getWebDriver().findElement(By.xpath(frameIdentifier));
         getWebDriver().switchTo().frame(iframe);
-        LOGGER.info(String.format("\n\tiFrame switched: %s\n\t", frameIdentifier));
+        LOGGER.info("iFrame switched: {}", frameIdentifier);
     }
 
     @Then("^I switch to default content$")
     public void iSwitchToDefaultContent() {
         getWebDriver().switchTo().defaultContent();
-        LOGGER.info("\n\tSwitched to default content\n\t");
+        LOGGER.info("Switched to default content");
     }
 }